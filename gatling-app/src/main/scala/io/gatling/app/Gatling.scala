@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit
 import scala.util.control.NonFatal
 
 import io.gatling.app.cli.GatlingArgsParser
+import io.gatling.commons.util.DefaultClock
 import io.gatling.core.actor.ActorSystem
 import io.gatling.core.cli.GatlingArgs
 import io.gatling.core.config.GatlingConfiguration
@@ -61,8 +62,9 @@ object Gatling extends StrictLogging {
 
       val configuration = loadConfiguration()
       val runResult = gatlingArgs.reportsOnly match {
-        case Some(runId) => new RunResult(runId, hasAssertions = true)
-        case _           =>
+        case Some(runId)                            => new RunResult(runId, hasAssertions = true)
+        case _ if gatlingArgs.mergeReports.nonEmpty => RunResult.merged(new DefaultClock, configuration.data.zoneId)
+        case _                                      =>
           // start actor system before creating simulation instance, some components might need it (e.g. shutdown hook)
           val system = new ActorSystem
           val eventLoopGroup = Transports.newEventLoopGroup(configuration.netty.useNativeTransport, configuration.netty.useIoUring, 0, "gatling")
@@ -16,4 +16,17 @@
 
 package io.gatling.app
 
+import java.time.{ Instant, ZoneId, ZonedDateTime }
+import java.time.format.DateTimeFormatter
+
+import io.gatling.commons.util.Clock
+
+private object RunResult {
+  def merged(clock: Clock, zoneId: ZoneId): RunResult =
+    new RunResult(
+      "merged-" + DateTimeFormatter.ofPattern("yyyyMMddHHmmssSSS").format(ZonedDateTime.ofInstant(Instant.ofEpochMilli(clock.nowMillis), zoneId)),
+      hasAssertions = true
+    )
+}
+
 final class RunResult(val runId: String, val hasAssertions: Boolean)
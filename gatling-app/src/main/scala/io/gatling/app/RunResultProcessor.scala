@@ -16,13 +16,13 @@
 
 package io.gatling.app
 
-import java.nio.file.Path
+import java.nio.file.{ Files, Path }
 
 import io.gatling.app.cli.StatusCode
 import io.gatling.charts.report.{ ReportsGenerationInputs, ReportsGenerator }
 import io.gatling.charts.stats.{ LogFileData, LogFileReader }
 import io.gatling.core.cli.GatlingArgs
-import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.config.{ GatlingConfiguration, GatlingFiles }
 import io.gatling.shared.model.assertion.{ AssertionMessage, AssertionResult, AssertionValidator }
 
 private final class RunResultProcessor(gatlingArgs: GatlingArgs, configuration: GatlingConfiguration) {
@@ -49,19 +49,26 @@ private final class RunResultProcessor(gatlingArgs: GatlingArgs, configuration:
     if (reportsGenerationEnabled || runResult.hasAssertions) {
       val start = System.currentTimeMillis()
       println("Parsing log file(s)...")
-      val logFileData = LogFileReader(runResult.runId, resultsDirectory, configuration).read()
+      val logFileData = LogFileReader(logRunIds(runResult), resultsDirectory, configuration).read()
       println(s"Parsing log file(s) done in ${(System.currentTimeMillis() - start) / 1000}s.")
       Some(logFileData)
     } else {
       None
     }
 
+  private def logRunIds(runResult: RunResult): Seq[String] =
+    if (gatlingArgs.mergeReports.nonEmpty) gatlingArgs.mergeReports else List(runResult.runId)
+
   private def reportsGenerationEnabled: Boolean =
-    gatlingArgs.reportsOnly.isDefined || (configuration.data.fileDataWriterEnabled && !gatlingArgs.noReports)
+    gatlingArgs.reportsOnly.isDefined || gatlingArgs.mergeReports.nonEmpty || (configuration.data.fileDataWriterEnabled && !gatlingArgs.noReports)
 
   private def generateReports(runId: String, logFileData: LogFileData, assertionResults: List[AssertionResult]): Unit =
     if (reportsGenerationEnabled) {
       println("Generating reports...")
+      if (gatlingArgs.mergeReports.nonEmpty) {
+        // a merged report doesn't have a run directory of its own yet
+        Files.createDirectories(GatlingFiles.resultDirectory(runId, resultsDirectory))
+      }
       val reportsGenerationInputs = new ReportsGenerationInputs(runId, logFileData, assertionResults)
       val indexFile = new ReportsGenerator(configuration.data.zoneId, configuration.core.charset, resultsDirectory, configuration.reports)
         .generateFor(reportsGenerationInputs)
@@ -22,9 +22,21 @@ import java.util.Base64
 
 import io.gatling.commons.util.StringHelper._
 import io.gatling.core.cli.{ CliOptionParser, GatlingArgs }
+import io.gatling.shared.cli.CliOption
 import io.gatling.shared.cli.GatlingCliOptions._
 
+private[app] object GatlingArgsParser {
+  val MergeReports: CliOption = new CliOption(
+    "merge-reports",
+    "mr",
+    "Generates a single report from the simulation.log files of several runs, typically one per load generator",
+    "<runId1,runId2,...>"
+  )
+}
+
 private[app] final class GatlingArgsParser(args: Array[String]) {
+  import GatlingArgsParser._
+
   private var gatlingArgs = GatlingArgs.Empty
 
   private val cliOptsParser = new CliOptionParser[Unit]("gatling") {
@@ -34,6 +46,9 @@ private[app] final class GatlingArgsParser(args: Array[String]) {
     opt[String](ReportsOnly)
       .foreach(value => gatlingArgs = gatlingArgs.copy(reportsOnly = value.trimToOption))
 
+    opt[Seq[String]](MergeReports)
+      .foreach(values => gatlingArgs = gatlingArgs.copy(mergeReports = values.flatMap(_.trimToOption)))
+
     opt[String](ResultsFolder)
       .foreach(value => gatlingArgs = gatlingArgs.copy(resultsDirectory = value.trimToOption.map(trimmed => Paths.get(trimmed))))
 
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.report
+
+import java.io.{ BufferedOutputStream, DataOutputStream }
+import java.nio.charset.StandardCharsets.{ ISO_8859_1, UTF_8 }
+import java.nio.file.{ Files, Path }
+import java.util.Comparator
+
+import scala.util.Using
+
+import io.gatling.charts.component.{ Component, ComponentLibrary }
+import io.gatling.charts.stats._
+import io.gatling.commons.util.GatlingVersion
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.stats.writer.{ LogFileDataWriter, RecordHeader }
+
+import org.openjdk.jmh.annotations._
+
+/**
+ * Generates the reports of a synthetic run with many distinct request names, where details pages dominate the generation time.
+ */
+object ReportsGeneratorBenchmark {
+  private val RunId = "synthetic"
+  private val RequestNames = 5000
+  private val RequestsPerName = 20
+  private val RunDurationMillis = 600000
+  private val RunStart = 1700000000000L
+
+  private final class TextComponent(override val html: String) extends Component {
+    override def js: String = ""
+    override def jsFiles: Seq[String] = Nil
+  }
+
+  // the actual charts library isn't available here, this one renders the series as plain text so the data still gets computed and written
+  private object PlainComponentLibrary extends ComponentLibrary {
+    override def getUserStartRateComponent(containerId: String, runStart: Long, allUsersSeries: UserSeries, scenarioSeries: Seq[UserSeries]): Component =
+      new TextComponent(allUsersSeries.data.mkString(containerId, ",", ""))
+    override def getMaxConcurrentUsersComponent(containerId: String, runStart: Long, allUsersSeries: UserSeries, scenarioSeries: Seq[UserSeries]): Component =
+      new TextComponent(allUsersSeries.data.mkString(containerId, ",", ""))
+    override def getRangesComponent(containerId: String, chartTitle: String, eventName: String, ranges: Ranges, large: Boolean): Component =
+      new TextComponent(s"$containerId ${ranges.lowCount} ${ranges.middleCount} ${ranges.highCount} ${ranges.koCount}")
+    override def getRequestCountPolarComponent(rootContainer: GroupContainer): Component =
+      new TextComponent(rootContainer.name)
+    override def getDistributionComponent(
+        containerId: String,
+        title: String,
+        yAxisName: String,
+        durationsSuccess: Seq[PercentVsTimePlot],
+        durationsFailure: Seq[PercentVsTimePlot]
+    ): Component =
+      new TextComponent(durationsSuccess.mkString(containerId, ",", durationsFailure.mkString(",")))
+    override def getPercentilesOverTimeComponent(
+        containerId: String,
+        title: String,
+        yAxisName: String,
+        runStart: Long,
+        data: Seq[PercentilesVsTimePlot]
+    ): Component =
+      new TextComponent(data.mkString(containerId, ",", ""))
+    override def getRequestsComponent(containerId: String, runStart: Long, counts: Seq[CountsVsTimePlot]): Component =
+      new TextComponent(counts.mkString(containerId, ",", ""))
+    override def getResponsesComponent(containerId: String, runStart: Long, counts: Seq[CountsVsTimePlot]): Component =
+      new TextComponent(counts.mkString(containerId, ",", ""))
+    override def getResponseTimeScatterComponent(containerId: String, successData: Seq[IntVsTimePlot], failuresData: Seq[IntVsTimePlot]): Component =
+      new TextComponent(successData.mkString(containerId, ",", failuresData.mkString(",")))
+  }
+
+  private def writeString(os: DataOutputStream, string: String): Unit = {
+    // ASCII only, so LATIN1 coder
+    val bytes = string.getBytes(ISO_8859_1)
+    os.writeInt(bytes.length)
+    if (bytes.nonEmpty) {
+      os.write(bytes)
+      os.writeByte(0)
+    }
+  }
+
+  private def writeSyntheticLogFile(resultsDirectory: Path): Unit = {
+    val random = new scala.util.Random(0)
+    Using.resource(new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(LogFileDataWriter.logFile(resultsDirectory, RunId, create = true))))) {
+      os =>
+        os.writeByte(RecordHeader.Run.value)
+        writeString(os, GatlingVersion.ThisVersion.fullVersion)
+        writeString(os, "computerdatabase.SyntheticSimulation")
+        os.writeLong(RunStart)
+        writeString(os, "")
+        os.writeInt(1)
+        writeString(os, "scenario")
+        os.writeInt(0)
+
+        def writeUser(start: Boolean, offset: Int): Unit = {
+          os.writeByte(RecordHeader.User.value)
+          os.writeInt(0)
+          os.writeBoolean(start)
+          os.writeInt(offset)
+        }
+
+        writeUser(start = true, 0)
+        for (round <- 0 until RequestsPerName; name <- 0 until RequestNames) {
+          val start = (round * RequestNames + name).toLong * RunDurationMillis / (RequestsPerName * RequestNames)
+          val ok = random.nextInt(100) != 0
+          os.writeByte(RecordHeader.Request.value)
+          // no group
+          os.writeInt(0)
+          // cached string index, -index once written
+          os.writeInt(if (round == 0) name + 1 else -(name + 1))
+          if (round == 0) writeString(os, s"request-$name")
+          os.writeInt(start.toInt)
+          os.writeInt(start.toInt + 20 + random.nextInt(500))
+          os.writeBoolean(ok)
+          // empty message, never cached
+          os.writeInt(0)
+          os.writeInt(0)
+        }
+        writeUser(start = false, RunDurationMillis)
+    }
+  }
+}
+
+@State(Scope.Benchmark)
+// LogFileReader accesses String internals
+@Fork(value = 1, jvmArgsAppend = Array("--add-opens=java.base/java.lang=ALL-UNNAMED"))
+@BenchmarkMode(Array(Mode.SingleShotTime))
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+class ReportsGeneratorBenchmark {
+  import ReportsGeneratorBenchmark._
+
+  @Param(Array("1", "4"))
+  var parallelism: Int = _
+
+  private var resultsDirectory: Path = _
+  private var configuration: GatlingConfiguration = _
+  private var logFileData: LogFileData = _
+  private var iteration = 0
+
+  @Setup
+  def setup(): Unit = {
+    resultsDirectory = Files.createTempDirectory("gatling-reports-benchmark")
+    writeSyntheticLogFile(resultsDirectory)
+    configuration = GatlingConfiguration.loadForTest()
+    logFileData = LogFileReader(RunId, resultsDirectory, configuration).read()
+  }
+
+  // assets can't be copied over existing ones, so each iteration writes into a new report folder
+  @Setup(Level.Iteration)
+  def newReportFolder(): Unit = {
+    iteration += 1
+    Files.createDirectories(resultsDirectory.resolve(reportFolderName))
+  }
+
+  private def reportFolderName: String = s"report-$iteration"
+
+  // every details page embeds the whole menu, so such a report weighs several GB
+  @TearDown(Level.Iteration)
+  def deleteReportFolder(): Unit =
+    delete(resultsDirectory.resolve(reportFolderName))
+
+  @TearDown
+  def tearDown(): Unit =
+    delete(resultsDirectory)
+
+  private def delete(directory: Path): Unit =
+    Using.resource(Files.walk(directory))(_.sorted(Comparator.reverseOrder[Path]).forEach(path => Files.delete(path)))
+
+  @Benchmark
+  def generateReports(): Path =
+    new ReportsGenerator(configuration.data.zoneId, UTF_8, resultsDirectory, configuration.reports)
+      .generateFor(new ReportsGenerationInputs(reportFolderName, logFileData, Nil), PlainComponentLibrary, parallelism)
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.action
+
+import java.util.concurrent.{ Callable, TimeUnit }
+
+import io.gatling.commons.stats.Status
+import io.gatling.commons.validation._
+import io.gatling.core.actor.ActorRef
+import io.gatling.core.controller.Controller
+import io.gatling.core.session.{ Expression, GroupBlock, Session }
+import io.gatling.core.stats.StatsEngine
+
+import io.netty.channel.DefaultEventLoop
+import org.openjdk.jmh.annotations._
+
+object ActionChainBenchmark {
+  // a chain of synchronous actions, such as exec functions, between 2 requests
+  private final val ChainLength = 50
+  private final val Users = 10000
+
+  private val SessionFunction: Expression[Session] = _.success
+
+  private object NoopStatsEngine extends StatsEngine {
+    override private[gatling] def start(): Unit = {}
+    override private[gatling] def stop(controller: ActorRef[Controller.Command], crash: Boolean): Unit = {}
+    override def logUserStart(scenario: String): Unit = {}
+    override def logUserEnd(scenario: String): Unit = {}
+    override def logResponse(
+        scenario: String,
+        groups: List[String],
+        requestName: String,
+        startTimestamp: Long,
+        endTimestamp: Long,
+        status: Status,
+        responseCode: Option[String],
+        message: Option[String]
+    ): Unit = {}
+    override def logGroupEnd(scenario: String, groupBlock: GroupBlock, exitTimestamp: Long): Unit = {}
+    override def logRequestCrash(scenario: String, groups: List[String], requestName: String, error: String): Unit = {}
+  }
+
+  private final class CountingAction extends Action {
+    var count = 0
+    override def name: String = "counting"
+    override protected def execute(session: Session): Unit = count += 1
+  }
+}
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+class ActionChainBenchmark {
+  import ActionChainBenchmark._
+
+  // run the chains on a real event loop thread, as the actions do in a simulation
+  private val eventLoop = new DefaultEventLoop
+  private val end = new CountingAction
+  private val chain = (1 to ChainLength).foldLeft[Action](end)((next, i) => new SessionHook(SessionFunction, s"hook-$i", NoopStatsEngine, next))
+  private val session = Session("Scenario", 0, eventLoop)
+
+  private val runChains: Callable[Integer] = () => {
+    var i = 0
+    while (i < Users) {
+      chain ! session
+      i += 1
+    }
+    end.count
+  }
+
+  @TearDown
+  def tearDown(): Unit =
+    eventLoop.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly()
+
+  @Benchmark
+  @OperationsPerInvocation(Users)
+  def testSynchronousChain(): Integer =
+    eventLoop.submit(runChains).get
+}
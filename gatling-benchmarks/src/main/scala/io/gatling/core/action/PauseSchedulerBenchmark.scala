@@ -0,0 +1,109 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.action
+
+import java.{ util => ju }
+import java.util.concurrent.TimeUnit
+
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.session.Session
+
+import io.netty.channel.{ Channel, ChannelFuture, ChannelPromise, EventLoop, EventLoopGroup }
+import io.netty.util.concurrent.{ AbstractScheduledEventExecutor, Future, MockTicker, Ticker }
+import org.openjdk.jmh.annotations._
+
+object PauseSchedulerBenchmark {
+  // concurrently sleeping users, with think times uniformly spread over 30 seconds
+  private final val Users = 1000000
+  private val MaxPauseMillis = 30000
+  private val Delays = {
+    val random = new ju.Random(0)
+    Array.fill(Users)(random.nextInt(MaxPauseMillis).toLong)
+  }
+
+  private val WakeUp: Session => Unit = _ => ()
+
+  /**
+   * An event loop driven by the benchmark thread, so that the gc profiler accounts for the scheduling allocations, and with a mock ticker so that the
+   * scheduled tasks can be run without waiting for their deadline.
+   */
+  private final class ManualEventLoop extends AbstractScheduledEventExecutor with EventLoop {
+    private val mockTicker: MockTicker = Ticker.newMockTicker()
+
+    override def ticker(): Ticker = mockTicker
+
+    def runScheduledTasks(elapsedMillis: Long): Unit = {
+      mockTicker.advanceMillis(elapsedMillis)
+      var task = pollScheduledTask()
+      while (task != null) {
+        task.run()
+        task = pollScheduledTask()
+      }
+    }
+
+    override def inEventLoop(thread: Thread): Boolean = true
+    override def execute(command: Runnable): Unit = command.run()
+    override def parent(): EventLoopGroup = null
+    override def next(): EventLoop = this
+    override def register(channel: Channel): ChannelFuture = throw new UnsupportedOperationException
+    override def register(promise: ChannelPromise): ChannelFuture = throw new UnsupportedOperationException
+    override def register(channel: Channel, promise: ChannelPromise): ChannelFuture = throw new UnsupportedOperationException
+    override def isShuttingDown: Boolean = false
+    override def shutdownGracefully(quietPeriod: Long, timeout: Long, unit: TimeUnit): Future[_] = throw new UnsupportedOperationException
+    override def terminationFuture(): Future[_] = throw new UnsupportedOperationException
+    override def shutdown(): Unit = throw new UnsupportedOperationException
+    override def isShutdown: Boolean = false
+    override def isTerminated: Boolean = false
+    override def awaitTermination(timeout: Long, unit: TimeUnit): Boolean = false
+  }
+}
+
+@State(Scope.Thread)
+@BenchmarkMode(Array(Mode.AverageTime))
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+class PauseSchedulerBenchmark {
+  import PauseSchedulerBenchmark._
+
+  private val eventLoop = new ManualEventLoop
+  private val clock = new DefaultClock
+  private val session = Session("Scenario", 0, eventLoop)
+
+  // what Pause used to do: one scheduled task per sleeping user
+  @Benchmark
+  @OperationsPerInvocation(Users)
+  def testEventLoopSchedule(): Unit = {
+    var i = 0
+    while (i < Users) {
+      val sleepingSession = session
+      eventLoop.schedule((() => WakeUp(sleepingSession)): Runnable, Delays(i), TimeUnit.MILLISECONDS)
+      i += 1
+    }
+    eventLoop.runScheduledTasks(MaxPauseMillis)
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Users)
+  def testPauseScheduler(): Unit = {
+    val scheduler = PauseScheduler(eventLoop, clock, tickMillis = 1)
+    var i = 0
+    while (i < Users) {
+      scheduler.sleep(session, Delays(i), WakeUp)
+      i += 1
+    }
+    eventLoop.runScheduledTasks(MaxPauseMillis)
+  }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.css
+
+import java.{ lang => jl, util => ju }
+
+import jodd.lagarto.dom.NodeSelector
+import org.openjdk.jmh.annotations._
+
+object CssSelectorsBenchmark {
+  private final val PageSize = 500 * 1024
+
+  private val Selectors = new CssSelectors(Long.MaxValue)
+
+  private def header(sb: jl.StringBuilder, title: String): Unit =
+    sb.append("<!DOCTYPE html>\n<html lang=\"en\">\n<head>\n<meta charset=\"utf-8\">\n<title>")
+      .append(title)
+      .append("</title>\n")
+      .append("<link rel=\"stylesheet\" href=\"/assets/main.css\">\n")
+      .append("<script src=\"/assets/vendor.js\"></script>\n")
+      .append("<script>window.dataLayer = window.dataLayer || []; function gtag(){ dataLayer.push(arguments); }</script>\n")
+      .append("</head>\n<body class=\"page\">\n")
+      .append("<header id=\"top\"><nav class=\"navbar\"><ul class=\"nav\">")
+      .append("<li class=\"nav-item\"><a href=\"/\">Home</a><li class=\"nav-item\"><a href=\"/shop\">Shop</a><li class=\"nav-item\"><a href=\"/blog\">Blog</a>")
+      .append("</ul>\n<form id=\"search\" action=\"/search\" method=\"get\"><input type=\"hidden\" name=\"csrf\" value=\"5f2b9c1e\">")
+      .append("<input type=\"search\" name=\"q\" placeholder=\"Search\"><button type=\"submit\">Go</button></form></nav></header>\n")
+
+  private def footer(sb: jl.StringBuilder): Unit =
+    sb.append("<footer class=\"footer\"><p>Follow us<ul class=\"social\"><li><a href=\"https://twitter.com/gatling\">Twitter</a>")
+      .append("<li><a href=\"https://github.com/gatling\">GitHub</a></ul>")
+      .append("<form id=\"newsletter\" action=\"/subscribe\" method=\"post\"><input type=\"hidden\" name=\"csrf\" value=\"8d41aa07\">")
+      .append("<input type=\"email\" name=\"email\"><input type=\"submit\" value=\"Subscribe\"></form></footer>\n</body>\n</html>\n")
+
+  // a product listing: many small cards, with images and links
+  private def listing(random: ju.Random): String = {
+    val sb = new jl.StringBuilder(PageSize + 4096)
+    header(sb, "Listing")
+    sb.append("<main id=\"content\"><div class=\"grid\">\n")
+    var i = 0
+    while (sb.length < PageSize) {
+      sb.append("<div class=\"card\" data-product-id=\"").append(i).append("\">")
+        .append("<a class=\"thumb\" href=\"/product/").append(i)
+        .append("\"><img src=\"/img/").append(i).append(".jpg\" alt=\"Product ").append(i).append("\"></a>")
+        .append("<div class=\"card-body\"><h3 class=\"card-title\"><a href=\"/product/").append(i).append("\">Product ").append(i).append("</a></h3>")
+        .append("<p class=\"desc\">Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt.")
+        .append("<span class=\"price\">").append(random.nextInt(10000) / 100.0).append(" &euro;</span>")
+        .append("<button class=\"btn add-to-cart\" data-sku=\"SKU-").append(random.nextInt(1000000)).append("\">Add</button></div></div>\n")
+      i += 1
+    }
+    sb.append("</div></main>\n")
+    footer(sb)
+    sb.toString
+  }
+
+  // an article: long paragraphs, unclosed p and li tags, inline links and tables
+  private def article(random: ju.Random): String = {
+    val sb = new jl.StringBuilder(PageSize + 4096)
+    header(sb, "Article")
+    sb.append("<main id=\"content\"><article class=\"post\">\n")
+    var i = 0
+    while (sb.length < PageSize) {
+      sb.append("<h2 id=\"section-").append(i).append("\">Section ").append(i).append("</h2>\n")
+      var p = 0
+      while (p < 4) {
+        sb.append("<p>Sed ut perspiciatis unde omnis iste natus error sit voluptatem <a href=\"/wiki/").append(random.nextInt(100000))
+          .append("\">accusantium</a> doloremque laudantium, totam rem aperiam, <em>eaque ipsa</em> quae ab illo inventore veritatis.<br>\n")
+        p += 1
+      }
+      sb.append("<ul class=\"notes\"><li>Nemo enim ipsam<li>voluptatem quia <a href=\"#section-").append(i).append("\">voluptas</a><li>sit aspernatur</ul>\n")
+      if (i % 5 == 0) {
+        sb.append("<table class=\"data\"><tr><th>Key<th>Value")
+        var r = 0
+        while (r < 10) {
+          sb.append("<tr><td>k").append(r).append("<td>").append(random.nextInt())
+          r += 1
+        }
+        sb.append("</table>\n")
+      }
+      i += 1
+    }
+    sb.append("</article></main>\n")
+    footer(sb)
+    sb.toString
+  }
+
+  // a back-office page: a large form with many fields
+  private def form(random: ju.Random): String = {
+    val sb = new jl.StringBuilder(PageSize + 4096)
+    header(sb, "Form")
+    sb.append("<main id=\"content\"><form id=\"edit\" action=\"/admin/save\" method=\"post\">\n")
+    var i = 0
+    while (sb.length < PageSize) {
+      sb.append("<fieldset class=\"row\"><label for=\"field").append(i).append("\">Field ").append(i).append("</label>")
+        .append("<input type=\"text\" id=\"field").append(i).append("\" name=\"field").append(i).append("\" value=\"").append(random.nextLong()).append("\">")
+        .append("<select name=\"choice").append(i).append("\"><option value=\"a\">A<option value=\"b\" selected>B<option value=\"c\">C</select>")
+        .append("<input type=\"checkbox\" name=\"flag").append(i).append("\" checked><span class=\"help\">Some help text</span></fieldset>\n")
+      i += 1
+    }
+    sb.append("<input type=\"hidden\" name=\"version\" value=\"42\"><input type=\"submit\" value=\"Save\"></form></main>\n")
+    footer(sb)
+    sb.toString
+  }
+}
+
+@State(Scope.Benchmark)
+class CssSelectorsBenchmark {
+  import CssSelectorsBenchmark._
+
+  @Param(Array("listing", "article", "form"))
+  var page: String = _
+
+  private var chars: Array[Char] = _
+
+  @Setup
+  def setup(): Unit = {
+    val random = new ju.Random(0)
+    chars = (page match {
+      case "listing" => listing(random)
+      case "article" => article(random)
+      case "form"    => form(random)
+    }).toCharArray
+  }
+
+  // what the checks used to do: build the full DOM, then select
+  private def dom: NodeSelector = new NodeSelector(Lagarto.newLagartoDomBuilder.parse(chars))
+
+  @Benchmark
+  def findCsrfDom(): Option[String] =
+    Selectors.extract[String](dom, ("input[name=csrf]", Some("value")), 1).headOption
+
+  @Benchmark
+  def findCsrfStreaming(): Option[String] =
+    Selectors.extract[String](Selectors.parse(chars), ("input[name=csrf]", Some("value")), 1).headOption
+
+  @Benchmark
+  def findAllLinksDom(): Vector[String] =
+    Selectors.extractAll[String](dom, ("#content a", Some("href")))
+
+  @Benchmark
+  def findAllLinksStreaming(): Vector[String] =
+    Selectors.extractAll[String](Selectors.parse(chars), ("#content a", Some("href")))
+
+  @Benchmark
+  def countDom(): Int =
+    Selectors.count(dom, ("main input", None))
+
+  @Benchmark
+  def countStreaming(): Int =
+    Selectors.count(Selectors.parse(chars), ("main input", None))
+}
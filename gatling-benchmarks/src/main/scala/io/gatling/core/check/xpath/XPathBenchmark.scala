@@ -0,0 +1,67 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.xpath
+
+import java.{ lang => jl }
+
+import scala.util.chaining._
+
+import org.openjdk.jmh.annotations._
+
+object XPathBenchmark {
+  private val Namespaces = Map("m" -> "http://example.com/orders")
+  private val XmlParsers = new XmlParsers(Long.MaxValue)
+
+  // a 4 MB SOAP envelope
+  private val Envelope: String = {
+    val sb = new jl.StringBuilder(4 * 1024 * 1024 + 4096)
+    sb.append("""<?xml version="1.0" encoding="UTF-8"?>""")
+      .append("""<soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/">""")
+      .append("""<soap:Header><sessionId>8f14e45fceea167a</sessionId></soap:Header><soap:Body>""")
+      .append("""<m:GetOrdersResponse xmlns:m="http://example.com/orders"><m:status code="OK"/>""")
+    var i = 0
+    while (sb.length < 4 * 1024 * 1024) {
+      sb.append("<m:order id=\"").append(i).append("\" state=\"").append(if (i % 10 == 0) "cancelled" else "shipped").append("\">")
+        .append("<m:customer><m:name>Customer ").append(i).append("</m:name><m:email>customer").append(i).append("@example.com</m:email></m:customer>")
+        .append("<m:lines><m:line sku=\"SKU-").append(i).append("\" qty=\"2\">19.99</m:line>")
+        .append("<m:line sku=\"SKU-").append(i + 1).append("\" qty=\"1\">5.00</m:line></m:lines>")
+        .append("<m:total currency=\"EUR\">44.98</m:total></m:order>")
+      i += 1
+    }
+    sb.append("</m:GetOrdersResponse></soap:Body></soap:Envelope>").toString
+  }
+}
+
+class XPathBenchmark {
+  import XPathBenchmark._
+
+  @Benchmark
+  def findStatusSaxon(): Vector[String] =
+    XmlParsers.extract("//m:status/@code", Namespaces, XmlDocument(Envelope).tap(_.node), 1)
+
+  @Benchmark
+  def findStatusStreaming(): Vector[String] =
+    XmlParsers.extract("//m:status/@code", Namespaces, XmlDocument(Envelope), 1)
+
+  @Benchmark
+  def findAllCancelledSaxon(): Vector[String] =
+    XmlParsers.extract("//m:order[@state='cancelled']/m:customer/m:name", Namespaces, XmlDocument(Envelope).tap(_.node), Int.MaxValue)
+
+  @Benchmark
+  def findAllCancelledStreaming(): Vector[String] =
+    XmlParsers.extract("//m:order[@state='cancelled']/m:customer/m:name", Namespaces, XmlDocument(Envelope), Int.MaxValue)
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2011-2024 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.util.cache
+
+import io.gatling.core.session.Session
+
+import org.openjdk.jmh.annotations._
+
+object SessionCacheHandlerBenchmark {
+  // number of distinct urls requested by a virtual user
+  private val KeySpace = 1000
+  private val Keys = Array.tabulate(KeySpace)(i => s"https://gatling.io/assets/resource-$i.js")
+}
+
+@State(Scope.Thread)
+class SessionCacheHandlerBenchmark {
+  import SessionCacheHandlerBenchmark._
+
+  // 200 is the default perUserCacheMaxCapacity
+  @Param(Array("20", "200", "2000"))
+  var capacity: Int = _
+
+  private var handler: SessionCacheHandler[String, String] = _
+  private var session: Session = _
+  private var i = 0
+
+  @Setup
+  def setup(): Unit = {
+    handler = new SessionCacheHandler[String, String]("cache", capacity)
+    session = Session("Scenario", 0, null)
+    Keys.take(capacity).foreach(key => session = handler.addEntry(session, key, key))
+  }
+
+  private def nextKey(): String = {
+    i = (i + 1) % KeySpace
+    Keys(i)
+  }
+
+  // a cached request: lookup, then store the (possibly new) entry, evicting when full
+  @Benchmark
+  def testCachedRequest(): Session = {
+    val key = nextKey()
+    handler.getEntry(session, key) match {
+      case Some(_) => session
+      case _ =>
+        session = handler.addEntry(session, key, key)
+        session
+    }
+  }
+
+  // e.g. permanent redirect invalidation
+  @Benchmark
+  def testRemoveAndAdd(): Session = {
+    val key = nextKey()
+    session = handler.addEntry(handler.removeEntry(session, key), key, key)
+    session
+  }
+}
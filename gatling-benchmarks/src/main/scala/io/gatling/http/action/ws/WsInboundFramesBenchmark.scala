@@ -0,0 +1,196 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.ws
+
+import java.net.InetSocketAddress
+import java.nio.charset.StandardCharsets.UTF_8
+import java.util.concurrent.{ CountDownLatch, TimeUnit }
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.locks.LockSupport
+
+import io.gatling.commons.stats.Status
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.CoreComponents
+import io.gatling.core.action.Action
+import io.gatling.core.actor.{ ActorRef, ActorSystem }
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.controller.Controller
+import io.gatling.core.pause.Constant
+import io.gatling.core.protocol.{ Protocol, ProtocolComponentsRegistries }
+import io.gatling.core.session.{ GroupBlock, Session }
+import io.gatling.core.session.el._
+import io.gatling.core.stats.StatsEngine
+import io.gatling.core.structure.ScenarioContext
+import io.gatling.http.cache.DnsCacheSupport
+import io.gatling.http.client.resolver.InetAddressNameResolver
+import io.gatling.http.protocol.HttpProtocolBuilder
+import io.gatling.netty.util.Transports
+
+import io.netty.bootstrap.ServerBootstrap
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import io.netty.channel._
+import io.netty.channel.group.DefaultChannelGroup
+import io.netty.channel.nio.NioIoHandler
+import io.netty.channel.socket.nio.NioServerSocketChannel
+import io.netty.handler.codec.http.{ HttpObjectAggregator, HttpServerCodec }
+import io.netty.handler.codec.http.websocketx.{ TextWebSocketFrame, WebSocketServerProtocolHandler }
+import io.netty.util.concurrent.GlobalEventExecutor
+import org.openjdk.jmh.annotations._
+
+object WsInboundFramesBenchmark {
+  // many users holding an idle WebSocket while the server pushes, eg market data or chat rooms
+  private final val Sockets = 1000
+  private final val FramesPerSocket = 100
+  private final val WsRequestName = "connect"
+
+  private val Payload: ByteBuf = Unpooled.unreleasableBuffer(
+    Unpooled.copiedBuffer(
+      """{"type":"quote","symbol":"GTLG","bid":101.25,"ask":101.5,"bidSize":1200,"askSize":800,""" +
+        """"venue":"XPAR","sequence":123456789,"timestamp":1700000000000}""",
+      UTF_8
+    )
+  )
+
+  // the server doesn't expect any reply, so it counts the unmatched messages the client processed instead
+  private final class CountingStatsEngine extends StatsEngine {
+    val unmatchedMessages = new AtomicLong
+    override private[gatling] def start(): Unit = {}
+    override private[gatling] def stop(controller: ActorRef[Controller.Command], crash: Boolean): Unit = {}
+    override def logUserStart(scenario: String): Unit = {}
+    override def logUserEnd(scenario: String): Unit = {}
+    override def logResponse(
+        scenario: String,
+        groups: List[String],
+        requestName: String,
+        startTimestamp: Long,
+        endTimestamp: Long,
+        status: Status,
+        responseCode: Option[String],
+        message: Option[String]
+    ): Unit =
+      if (endTimestamp == Long.MinValue) {
+        unmatchedMessages.incrementAndGet()
+      }
+    override def logGroupEnd(scenario: String, groupBlock: GroupBlock, exitTimestamp: Long): Unit = {}
+    override def logRequestCrash(scenario: String, groups: List[String], requestName: String, error: String): Unit = {}
+  }
+
+  // stand-in for a push server: upgrades every connection and floods it on demand
+  private final class PushServer {
+    private val group = new MultiThreadIoEventLoopGroup(2, NioIoHandler.newFactory)
+    val channels = new DefaultChannelGroup(GlobalEventExecutor.INSTANCE)
+
+    private val serverChannel = new ServerBootstrap()
+      .group(group)
+      .channel(classOf[NioServerSocketChannel])
+      .childHandler(new ChannelInitializer[Channel] {
+        override def initChannel(ch: Channel): Unit =
+          ch.pipeline
+            .addLast(new HttpServerCodec)
+            .addLast(new HttpObjectAggregator(8192))
+            .addLast(new WebSocketServerProtocolHandler("/ws"))
+            .addLast(new ChannelInboundHandlerAdapter {
+              override def userEventTriggered(ctx: ChannelHandlerContext, evt: AnyRef): Unit =
+                evt match {
+                  case _: WebSocketServerProtocolHandler.HandshakeComplete => channels.add(ctx.channel)
+                  case _                                                   => ctx.fireUserEventTriggered(evt)
+                }
+            })
+      })
+      .bind(0)
+      .syncUninterruptibly()
+      .channel()
+
+    def port: Int = serverChannel.localAddress.asInstanceOf[InetSocketAddress].getPort
+
+    def push(frames: Int): Unit =
+      channels.forEach { ch =>
+        ch.eventLoop.execute { () =>
+          var i = 0
+          while (i < frames) {
+            ch.write(new TextWebSocketFrame(Payload.duplicate()), ch.voidPromise())
+            i += 1
+          }
+          ch.flush()
+        }
+      }
+
+    def close(): Unit = {
+      channels.close().syncUninterruptibly()
+      serverChannel.close().syncUninterruptibly()
+      group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly()
+    }
+  }
+}
+
+/**
+ * Idle users receiving server pushed text frames they don't have any check for, the dominant case in push based simulations. Each invocation pushes
+ * 100k frames, so the score also tells if the client keeps up with 100k frames per second on a single event loop.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Array(Mode.Throughput))
+@OutputTimeUnit(TimeUnit.SECONDS)
+class WsInboundFramesBenchmark {
+  import WsInboundFramesBenchmark._
+
+  private val server = new PushServer
+  private val statsEngine = new CountingStatsEngine
+  private val eventLoopGroup = Transports.newEventLoopGroup(false, false, 1, "gatling")
+  private val actorSystem = new ActorSystem
+
+  @Setup
+  def setup(): Unit = {
+    val configuration = GatlingConfiguration.loadForTest()
+    val coreComponents = new CoreComponents(actorSystem, eventLoopGroup, null, None, statsEngine, new DefaultClock, null, configuration)
+    val httpProtocol = HttpProtocolBuilder(configuration).wsBaseUrl(s"ws://localhost:${server.port}").build
+    val registry = new ProtocolComponentsRegistries(coreComponents, Protocol.indexByType(Seq(httpProtocol))).scenarioRegistry(Map.empty)
+
+    val connected = new CountDownLatch(Sockets)
+    val next = new Action {
+      override def name: String = "connected"
+      override protected def execute(session: Session): Unit = connected.countDown()
+    }
+    val connect = Ws(WsRequestName.el[String]).connect("/ws".el[String]).build(new ScenarioContext(coreComponents, registry, Constant, throttled = false), next)
+
+    for (userId <- 0 until Sockets) {
+      connect ! Session("Scenario", userId, eventLoopGroup.next())
+        .set(DnsCacheSupport.DnsNameResolverAttributeName, InetAddressNameResolver.JAVA_RESOLVER)
+    }
+
+    if (!connected.await(1, TimeUnit.MINUTES) || server.channels.size != Sockets) {
+      throw new IllegalStateException(s"Only ${server.channels.size}/$Sockets WebSockets connected")
+    }
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    server.close()
+    eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly()
+    actorSystem.close()
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(Sockets * FramesPerSocket)
+  def testIdleSocketsPush(): Long = {
+    val expected = statsEngine.unmatchedMessages.get + Sockets * FramesPerSocket
+    server.push(FramesPerSocket)
+    while (statsEngine.unmatchedMessages.get < expected) {
+      LockSupport.parkNanos(10000)
+    }
+    expected
+  }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client
+
+import java.io.{ BufferedReader, InputStreamReader }
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.Paths
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicLong
+import java.util.concurrent.locks.LockSupport
+
+import io.gatling.http.client.impl.DefaultHttpClient
+import io.gatling.http.client.resolver.InetAddressNameResolver
+import io.gatling.http.client.uri.Uri
+import io.gatling.netty.util.Transports
+
+import io.netty.buffer.ByteBuf
+import io.netty.channel._
+import io.netty.channel.epoll.Epoll
+import io.netty.handler.codec.http._
+import io.netty.handler.ssl.SslContextBuilder
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory
+import org.openjdk.jmh.annotations._
+
+object HttpClientBenchmark {
+  private final val Concurrency = 8
+  private final val RequestTimeoutMillis = 60000L
+
+  private val ClientIds = new AtomicLong
+
+  /**
+   * The [[StandInServer]] running in a JVM of its own, so that its allocations, GC pauses and compilations don't show up in the client's scores.
+   */
+  private final class ForkedServer(useNativeTransport: Boolean) {
+    private val process = new ProcessBuilder(
+      Paths.get(System.getProperty("java.home"), "bin", "java").toString,
+      "-cp",
+      System.getProperty("java.class.path"),
+      classOf[StandInServer].getName,
+      useNativeTransport.toString
+    ).redirectError(ProcessBuilder.Redirect.INHERIT).start()
+
+    private val ports: Array[Int] = {
+      val reader = new BufferedReader(new InputStreamReader(process.getInputStream, UTF_8))
+      // skip whatever the logging might print before the ports
+      val line = Iterator.continually(reader.readLine()).find(line => line == null || line.startsWith(StandInServer.PortsPrefix)).orNull
+      if (line == null) {
+        process.destroyForcibly()
+        throw new IllegalStateException("Stand-in server exited before binding")
+      }
+      // keep draining the output so the server never blocks on a full pipe
+      val drainer = new Thread(() => reader.lines.forEach(line => System.err.println(line)), "stand-in-server-output")
+      drainer.setDaemon(true)
+      drainer.start()
+      line.split(' ').drop(1).map(_.toInt)
+    }
+
+    def clearTextPort: Int = ports(0)
+
+    def tlsPort: Int = ports(1)
+
+    def close(): Unit = {
+      // closing its standard input makes the server shut down
+      process.getOutputStream.close()
+      if (!process.waitFor(10, TimeUnit.SECONDS)) {
+        process.destroyForcibly()
+      }
+    }
+  }
+
+  /**
+   * A virtual user bound to an event loop, sending its requests one after the other and parking until the response is complete.
+   */
+  @State(Scope.Thread)
+  class User {
+    val clientId: Long = ClientIds.incrementAndGet()
+    private[HttpClientBenchmark] var eventLoop: EventLoop = _
+
+    @volatile private var done = false
+    @volatile private var error: Throwable = _
+    private var waiter: Thread = _
+
+    private[HttpClientBenchmark] val listener: HttpListener = new HttpListener {
+      override def onFinalClientRequest(request: Request): Unit = {}
+      override def onHttpResponse(status: HttpResponseStatus, headers: HttpHeaders): Unit = {}
+      override def onHttpResponseBodyChunk(chunk: ByteBuf, last: Boolean): Unit =
+        if (last) {
+          complete()
+        }
+      override def onThrowable(e: Throwable): Unit = {
+        error = e
+        complete()
+      }
+    }
+
+    @Setup
+    def setup(benchmark: HttpClientBenchmark): Unit =
+      eventLoop = benchmark.nextEventLoop()
+
+    private def complete(): Unit = {
+      done = true
+      LockSupport.unpark(waiter)
+    }
+
+    private[HttpClientBenchmark] def reset(): Unit = {
+      done = false
+      waiter = Thread.currentThread
+    }
+
+    private[HttpClientBenchmark] def await(): Unit = {
+      while (!done) {
+        LockSupport.park(this)
+      }
+      if (error != null) {
+        throw new IllegalStateException("Request failed", error)
+      }
+    }
+  }
+}
+
+/**
+ * Round trips between the client and a stand-in server, so that changes to the connection pooling, the request writing or the HTTP/2 path can be compared
+ * across commits:
+ *   - keepAlive: HTTP/1.1, each virtual user reuses its own connection
+ *   - connectionPerRequest: HTTP/1.1 with Connection: close, so every request pays for the connect
+ *   - multiplexed: HTTP/2 over TLS, all the virtual users share one connection
+ *
+ * All the virtual users share a single client event loop, so the scores are per event loop. The throughput benchmark runs 8 virtual users to exercise the
+ * pools and the multiplexing, the latency one a single virtual user so that its percentiles are those of one round trip at a time.
+ *
+ * The latency percentiles are the full round-trip latency, including the server's processing and the loopback network, not the client-side overhead alone.
+ * The server is forked in its own JVM, so the gc profiler's alloc.rate.norm does only account for the client. Typical run producing results that can be
+ * diffed: `-prof gc -rf json -rff http-client.json`.
+ */
+@State(Scope.Benchmark)
+class HttpClientBenchmark {
+  import HttpClientBenchmark._
+
+  @Param(Array("nio", "epoll"))
+  var transport: String = _
+
+  @Param(Array("keepAlive", "connectionPerRequest", "multiplexed"))
+  var mode: String = _
+
+  private var server: ForkedServer = _
+  private var eventLoopGroup: EventLoopGroup = _
+  private var client: DefaultHttpClient = _
+  private var sslContextsHolder: SslContextsHolder = _
+  private var request: Request = _
+  private var shared: Boolean = _
+
+  @Setup
+  def setup(): Unit = {
+    val useNativeTransport = transport == "epoll"
+    if (useNativeTransport && !Epoll.isAvailable) {
+      throw new IllegalStateException("epoll transport isn't available", Epoll.unavailabilityCause)
+    }
+
+    server = new ForkedServer(useNativeTransport)
+    eventLoopGroup = Transports.newEventLoopGroup(useNativeTransport, false, 1, "gatling-http")
+    client = new DefaultHttpClient(new HttpClientConfig().setUseNativeTransport(useNativeTransport))
+    sslContextsHolder = new SslContextsHolder.Default(
+      SslContextBuilder.forClient.trustManager(InsecureTrustManagerFactory.INSTANCE).build,
+      SslContextBuilder.forClient.trustManager(InsecureTrustManagerFactory.INSTANCE).applicationProtocolConfig(StandInServer.Alpn).build
+    )
+
+    val requestBuilder = mode match {
+      case "keepAlive" =>
+        new RequestBuilder("keepAlive", HttpMethod.GET, Uri.create(s"http://localhost:${server.clearTextPort}/"), InetAddressNameResolver.JAVA_RESOLVER)
+      case "connectionPerRequest" =>
+        new RequestBuilder(
+          "connectionPerRequest",
+          HttpMethod.GET,
+          Uri.create(s"http://localhost:${server.clearTextPort}/"),
+          InetAddressNameResolver.JAVA_RESOLVER
+        )
+          .setHeaders(new DefaultHttpHeaders().add(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE))
+      case "multiplexed" =>
+        new RequestBuilder("multiplexed", HttpMethod.GET, Uri.create(s"https://localhost:${server.tlsPort}/"), InetAddressNameResolver.JAVA_RESOLVER)
+          .setHttp2Enabled(true)
+      case _ =>
+        throw new IllegalArgumentException(s"Unknown mode $mode")
+    }
+
+    request = requestBuilder.setRequestTimeout(RequestTimeoutMillis).build
+    shared = mode == "multiplexed"
+
+    // open the shared connection upfront, otherwise the multiplexed users would race to open their own
+    val warmUpUser = new User
+    warmUpUser.eventLoop = nextEventLoop()
+    roundTrip(warmUpUser)
+  }
+
+  @TearDown
+  def tearDown(): Unit = {
+    client.close()
+    eventLoopGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly()
+    server.close()
+  }
+
+  private[client] def nextEventLoop(): EventLoop = eventLoopGroup.next()
+
+  private def roundTrip(user: User): Unit = {
+    user.reset()
+    client.sendRequest(request, if (shared) -1 else user.clientId, user.eventLoop, user.listener, sslContextsHolder)
+    user.await()
+  }
+
+  @Benchmark
+  @BenchmarkMode(Array(Mode.Throughput))
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(Concurrency)
+  def testRequestsPerSecond(user: User): Unit =
+    roundTrip(user)
+
+  @Benchmark
+  @BenchmarkMode(Array(Mode.SampleTime))
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  def testRoundTripLatency(user: User): Unit =
+    roundTrip(user)
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client
+
+import java.net.InetSocketAddress
+import java.nio.charset.StandardCharsets.UTF_8
+import java.security.KeyStore
+import java.util.concurrent.TimeUnit
+import javax.net.ssl.KeyManagerFactory
+
+import scala.util.Using
+
+import io.gatling.netty.util.Transports
+
+import io.netty.bootstrap.ServerBootstrap
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import io.netty.channel._
+import io.netty.channel.epoll.EpollServerSocketChannel
+import io.netty.channel.socket.nio.NioServerSocketChannel
+import io.netty.handler.codec.http._
+import io.netty.handler.codec.http2.{ DefaultHttp2DataFrame, DefaultHttp2Headers, DefaultHttp2HeadersFrame, Http2FrameCodecBuilder, Http2HeadersFrame }
+import io.netty.handler.ssl.{ ApplicationProtocolConfig, ApplicationProtocolNames, ApplicationProtocolNegotiationHandler, SslContextBuilder }
+import io.netty.util.ReferenceCountUtil
+
+object StandInServer {
+  // line the forked server prints once bound, followed by its clear text and TLS ports
+  private[client] val PortsPrefix = "stand-in-server-ports"
+
+  private[client] val Alpn = new ApplicationProtocolConfig(
+    ApplicationProtocolConfig.Protocol.ALPN,
+    ApplicationProtocolConfig.SelectorFailureBehavior.NO_ADVERTISE,
+    ApplicationProtocolConfig.SelectedListenerFailureBehavior.ACCEPT,
+    ApplicationProtocolNames.HTTP_2,
+    ApplicationProtocolNames.HTTP_1_1
+  )
+
+  // self-signed certificate for localhost, generated with:
+  // keytool -genkeypair -alias stand-in-server -keyalg RSA -keysize 2048 -dname "CN=localhost" -ext "SAN=dns:localhost" -validity 36500
+  //   -storetype PKCS12 -keystore stand-in-server.p12 -storepass changeit
+  private val KeyStoreResource = "stand-in-server.p12"
+  private val KeyStorePassword = "changeit".toCharArray
+
+  private def keyManagerFactory: KeyManagerFactory = {
+    val keyStore = KeyStore.getInstance("PKCS12")
+    Using.resource(getClass.getClassLoader.getResourceAsStream(KeyStoreResource))(keyStore.load(_, KeyStorePassword))
+    val factory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm)
+    factory.init(keyStore, KeyStorePassword)
+    factory
+  }
+
+  private val Payload: ByteBuf = Unpooled.unreleasableBuffer(
+    Unpooled.copiedBuffer(
+      """{"id":123456789,"name":"Gatling",""" +
+        """"description":"A small JSON document, so the score measures the client rather than the transfer of the body",""" +
+        """"tags":["load","test","http"]}""",
+      UTF_8
+    )
+  )
+
+  @ChannelHandler.Sharable
+  private object Http1Handler extends SimpleChannelInboundHandler[FullHttpRequest] {
+    override def channelRead0(ctx: ChannelHandlerContext, request: FullHttpRequest): Unit = {
+      val response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Payload.duplicate)
+      response.headers
+        .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+        .set(HttpHeaderNames.CONTENT_LENGTH, Payload.readableBytes)
+
+      if (HttpUtil.isKeepAlive(request)) {
+        ctx.writeAndFlush(response, ctx.voidPromise)
+      } else {
+        response.headers.set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE)
+        ctx.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE)
+      }
+    }
+  }
+
+  @ChannelHandler.Sharable
+  private object Http2Handler extends ChannelInboundHandlerAdapter {
+    override def channelRead(ctx: ChannelHandlerContext, msg: AnyRef): Unit =
+      msg match {
+        case headersFrame: Http2HeadersFrame if headersFrame.isEndStream =>
+          val headers = new DefaultHttp2Headers()
+            .status(HttpResponseStatus.OK.codeAsText)
+            .set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON)
+          ctx.write(new DefaultHttp2HeadersFrame(headers).stream(headersFrame.stream), ctx.voidPromise)
+          ctx.writeAndFlush(new DefaultHttp2DataFrame(Payload.duplicate, true).stream(headersFrame.stream), ctx.voidPromise)
+        case _ =>
+          ReferenceCountUtil.release(msg)
+      }
+  }
+
+  private def configureHttp1(pipeline: ChannelPipeline): Unit =
+    pipeline
+      .addLast(new HttpServerCodec)
+      .addLast(new HttpObjectAggregator(8192))
+      .addLast(Http1Handler)
+
+  /**
+   * Entry point of the JVM forked by [[HttpClientBenchmark]]: prints the ports once bound, then serves until its standard input is closed.
+   */
+  def main(args: Array[String]): Unit = {
+    val server = new StandInServer(args.headOption.exists(_.toBoolean))
+    try {
+      println(s"$PortsPrefix ${server.clearTextPort} ${server.tlsPort}")
+      System.out.flush()
+      while (System.in.read() != -1) {}
+    } finally {
+      server.close()
+    }
+  }
+}
+
+/**
+ * Stand-in server answering every request with the same small body: HTTP/1.1 in clear text, and HTTP/1.1 or HTTP/2 negotiated with ALPN over TLS with a
+ * self-signed certificate.
+ */
+final class StandInServer(useNativeTransport: Boolean) {
+  import StandInServer._
+
+  private val group = Transports.newEventLoopGroup(useNativeTransport, false, 2, "stand-in-server")
+  private val sslContext = SslContextBuilder.forServer(keyManagerFactory).applicationProtocolConfig(Alpn).build
+
+  private def bind(initializer: Channel => Unit): Channel =
+    new ServerBootstrap()
+      .group(group)
+      .channel(if (useNativeTransport) classOf[EpollServerSocketChannel] else classOf[NioServerSocketChannel])
+      .childOption[java.lang.Boolean](ChannelOption.TCP_NODELAY, true)
+      .childHandler(new ChannelInitializer[Channel] {
+        override def initChannel(ch: Channel): Unit = initializer(ch)
+      })
+      .bind(0)
+      .syncUninterruptibly()
+      .channel()
+
+  private val clearTextChannel = bind(ch => configureHttp1(ch.pipeline))
+
+  private val tlsChannel = bind { ch =>
+    ch.pipeline
+      .addLast(sslContext.newHandler(ch.alloc))
+      .addLast(new ApplicationProtocolNegotiationHandler(ApplicationProtocolNames.HTTP_1_1) {
+        override def configurePipeline(ctx: ChannelHandlerContext, protocol: String): Unit =
+          if (protocol == ApplicationProtocolNames.HTTP_2) {
+            ctx.pipeline.addLast(Http2FrameCodecBuilder.forServer.build, Http2Handler)
+          } else {
+            configureHttp1(ctx.pipeline)
+          }
+      })
+  }
+
+  private def port(channel: Channel): Int = channel.localAddress.asInstanceOf[InetSocketAddress].getPort
+
+  def clearTextPort: Int = port(clearTextChannel)
+
+  def tlsPort: Int = port(tlsChannel)
+
+  def close(): Unit = {
+    clearTextChannel.close().syncUninterruptibly()
+    tlsChannel.close().syncUninterruptibly()
+    group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly()
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.javaapi.core.internal
+
+import java.{ util => ju }
+
+import io.gatling.commons.validation._
+import io.gatling.core.session.{ Expression, Session => ScalaSession }
+
+import org.openjdk.jmh.annotations.Benchmark
+
+/**
+ * Compares the overhead of the functions Java DSL users write, bridged into Expressions, with their Scala DSL counterparts.
+ */
+object ExpressionsBenchmark {
+  private val Session1 = ScalaSession("Scenario", 0, null)
+    .set("name", "foo")
+    .set("count", 3)
+    .set("id", 42L)
+
+  private val JavaList = ju.List.of("a", "b", "c", "d", "e", "f", "g", "h")
+  private val ScalaList = List("a", "b", "c", "d", "e", "f", "g", "h")
+  private val JavaMap = ju.Map.of("k1", "v1", "k2", "v2", "k3", "v3", "k4", "v4")
+  private val ScalaMap = Map("k1" -> "v1", "k2" -> "v2", "k3" -> "v3", "k4" -> "v4")
+
+  private val ScalaString: Expression[String] = session => session("name").as[String].success
+  private val JavaString = Expressions.javaFunctionToExpression[String](session => session.getString("name"))
+
+  private val ScalaInt: Expression[Int] = session => session("count").as[Int].success
+  private val JavaInt = Expressions.javaIntegerFunctionToExpression(session => session.getInt("count"))
+
+  private val ScalaLong: Expression[Long] = session => session("id").as[Long].success
+  private val JavaLong = Expressions.javaLongFunctionToExpression(session => session.getLong("id"))
+
+  private val ScalaSessionUpdate: Expression[ScalaSession] = session => session.set("name", "bar").success
+  private val JavaSessionUpdate = Expressions.javaSessionFunctionToExpression(session => session.set("name", "bar"))
+
+  private val ScalaSeq: Expression[Seq[String]] = _ => ScalaList.success
+  private val JavaSeq = Expressions.javaListFunctionToExpression[String](_ => JavaList)
+
+  private val ScalaMapExpression: Expression[Map[String, String]] = _ => ScalaMap.success
+  private val JavaMapExpression = Expressions.javaMapFunctionToExpression[String, String](_ => JavaMap)
+}
+
+class ExpressionsBenchmark {
+  import ExpressionsBenchmark._
+
+  @Benchmark
+  def scalaString(): Validation[String] = ScalaString(Session1)
+
+  @Benchmark
+  def javaString(): Validation[String] = JavaString(Session1)
+
+  @Benchmark
+  def scalaInt(): Validation[Int] = ScalaInt(Session1)
+
+  @Benchmark
+  def javaInt(): Validation[Int] = JavaInt(Session1)
+
+  @Benchmark
+  def scalaLong(): Validation[Long] = ScalaLong(Session1)
+
+  @Benchmark
+  def javaLong(): Validation[Long] = JavaLong(Session1)
+
+  @Benchmark
+  def scalaSessionUpdate(): Validation[ScalaSession] = ScalaSessionUpdate(Session1)
+
+  @Benchmark
+  def javaSessionUpdate(): Validation[ScalaSession] = JavaSessionUpdate(Session1)
+
+  @Benchmark
+  def scalaSeq(): Validation[Seq[String]] = ScalaSeq(Session1)
+
+  @Benchmark
+  def javaSeq(): Validation[Seq[String]] = JavaSeq(Session1)
+
+  @Benchmark
+  def scalaMap(): Validation[Map[String, String]] = ScalaMapExpression(Session1)
+
+  @Benchmark
+  def javaMap(): Validation[Map[String, String]] = JavaMapExpression(Session1)
+}
@@ -104,7 +104,9 @@ private[charts] final class GlobalReportGenerator(
       logFileData.numberOfResponsesPerSecond(None, None).sortBy(_.time)
     )
 
-  def generate(): Unit = {
+  override def pages: Seq[() => Unit] = List(() => generate())
+
+  private def generate(): Unit = {
     val ranges = logFileData.numberOfRequestInResponseTimeRanges(None, None)
 
     val template = new GlobalPageTemplate(
@@ -126,6 +128,6 @@ private[charts] final class GlobalReportGenerator(
       responsesChartComponent(logFileData)
     )
 
-    new TemplateWriter(chartsFiles.globalFile).writeToFile(template.getOutput, charset)
+    new TemplateWriter(chartsFiles.globalFile).writeToFile(template, charset)
   }
 }
@@ -28,12 +28,13 @@ import io.gatling.core.config.ReportsConfiguration
 private[charts] class GroupDetailsReportGenerator(
     logFileData: LogFileData,
     rootContainer: GroupContainer,
+    menu: DetailsPageTemplate.Menu,
     chartsFiles: ChartsFiles,
     componentLibrary: ComponentLibrary,
     charset: Charset,
     configuration: ReportsConfiguration
 ) extends ReportGenerator {
-  def generate(): Unit = {
+  override def pages: Seq[() => Unit] = {
     def generateDetailPage(groupContainer: GroupContainer): Unit = {
       def cumulatedResponseTimeChartComponent: Component =
         componentLibrary.getPercentilesOverTimeComponent(
@@ -86,6 +87,7 @@ private[charts] class GroupDetailsReportGenerator(
         path,
         groupContainer,
         rootContainer,
+        menu,
         new SchemaContainerComponent(
           componentLibrary.getRangesComponent("RangesContainerId", "Group Duration Ranges", "groups", ranges, large = true),
           new DetailsStatsTableComponent(groupContainer.stats, configuration.indicators)
@@ -97,16 +99,13 @@ private[charts] class GroupDetailsReportGenerator(
         cumulatedResponseTimeChartComponent
       )
 
-      new TemplateWriter(chartsFiles.groupFile(path)).writeToFile(template.getOutput, charset)
+      new TemplateWriter(chartsFiles.groupFile(path)).writeToFile(template, charset)
     }
 
     @SuppressWarnings(Array("org.wartremover.warts.Recursion"))
-    def generateDetailPageRec(groupContainers: Iterable[GroupContainer]): Unit =
-      groupContainers.foreach { groupContainer =>
-        generateDetailPage(groupContainer)
-        generateDetailPageRec(groupContainer.groups.values)
-      }
+    def groupContainersRec(groupContainers: Iterable[GroupContainer]): Iterable[GroupContainer] =
+      groupContainers.flatMap(groupContainer => Iterable(groupContainer) ++ groupContainersRec(groupContainer.groups.values))
 
-    generateDetailPageRec(rootContainer.groups.values)
+    groupContainersRec(rootContainer.groups.values).map(groupContainer => () => generateDetailPage(groupContainer)).toList
   }
 }
@@ -17,5 +17,10 @@
 package io.gatling.charts.report
 
 private[charts] trait ReportGenerator {
-  def generate(): Unit
+
+  /**
+   * @return
+   *   one task per page, pages only read the LogFileData so they can be generated concurrently
+   */
+  def pages: Seq[() => Unit]
 }
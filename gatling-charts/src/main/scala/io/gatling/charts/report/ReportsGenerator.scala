@@ -19,11 +19,12 @@ package io.gatling.charts.report
 import java.nio.charset.Charset
 import java.nio.file.Path
 import java.time.ZoneId
+import java.util.concurrent.ForkJoinPool
 
 import io.gatling.charts.component.{ ComponentLibrary, RequestStatistics, Stats }
 import io.gatling.charts.config.ChartsFiles
 import io.gatling.charts.stats.{ GeneralStats, Group, GroupStatsPath, LogFileData, RequestStatsPath }
-import io.gatling.charts.template.ConsoleTemplate
+import io.gatling.charts.template.{ ConsoleTemplate, DetailsPageTemplate }
 import io.gatling.commons.stats.{ KO, OK, Status }
 import io.gatling.core.config.ReportsConfiguration
 import io.gatling.shared.util.NumberHelper.RichDouble
@@ -37,7 +38,10 @@ private[gatling] final class ReportsGenerator(
     resultsDirectory: Path,
     reportsConfiguration: ReportsConfiguration
 ) extends StrictLogging {
-  def generateFor(reportsGenerationInputs: ReportsGenerationInputs): Path = {
+  def generateFor(reportsGenerationInputs: ReportsGenerationInputs): Path =
+    generateFor(reportsGenerationInputs, ComponentLibrary.Instance, Runtime.getRuntime.availableProcessors)
+
+  private[charts] def generateFor(reportsGenerationInputs: ReportsGenerationInputs, componentLibrary: ComponentLibrary, parallelism: Int): Path = {
     val chartsFiles = new ChartsFiles(reportsGenerationInputs.reportFolderName, resultsDirectory)
 
     def hasAtLeastOneRequestReported: Boolean =
@@ -54,6 +58,8 @@ private[gatling] final class ReportsGenerator(
 
     val rootContainer = computeRootContainer(reportsGenerationInputs.logFileData, reportsConfiguration)
 
+    val detailsMenu = new DetailsPageTemplate.Menu(rootContainer)
+
     val reportGenerators =
       List(
         new GlobalReportGenerator(
@@ -61,7 +67,7 @@ private[gatling] final class ReportsGenerator(
           reportsGenerationInputs.assertionResults,
           rootContainer,
           chartsFiles,
-          ComponentLibrary.Instance,
+          componentLibrary,
           zoneId,
           charset,
           reportsConfiguration
@@ -69,29 +75,49 @@ private[gatling] final class ReportsGenerator(
         new RequestDetailsReportGenerator(
           reportsGenerationInputs.logFileData,
           rootContainer,
+          detailsMenu,
           chartsFiles,
-          ComponentLibrary.Instance,
+          componentLibrary,
           charset,
           reportsConfiguration
         ),
         new GroupDetailsReportGenerator(
           reportsGenerationInputs.logFileData,
           rootContainer,
+          detailsMenu,
           chartsFiles,
-          ComponentLibrary.Instance,
+          componentLibrary,
           charset,
           reportsConfiguration
         )
       )
 
     copyAssets()
-    reportGenerators.foreach(_.generate())
+    generatePages(reportGenerators.flatMap(_.pages), parallelism)
 
     println(new ConsoleTemplate(rootContainer.stats, reportsGenerationInputs.logFileData.errors(None, None)).getOutput)
 
     chartsFiles.globalFile
   }
 
+  private def generatePages(pages: Seq[() => Unit], parallelism: Int): Unit =
+    if (parallelism <= 1 || pages.sizeIs <= 1) {
+      pages.foreach(_.apply())
+    } else {
+      val pool = new ForkJoinPool(parallelism)
+      try {
+        // join rethrows the first failure
+        pages
+          .map { page =>
+            val task: Runnable = () => page()
+            pool.submit(task)
+          }
+          .foreach(_.join())
+      } finally {
+        pool.shutdownNow()
+      }
+    }
+
   private def percentiles(rank: Double, title: Double => String, total: Option[GeneralStats], ok: Option[GeneralStats], ko: Option[GeneralStats]) =
     new Stats(title(rank) + " (ms)", total.map(_.percentile(rank)), ok.map(_.percentile(rank)), ko.map(_.percentile(rank)))
 
@@ -28,12 +28,13 @@ import io.gatling.core.config.ReportsConfiguration
 private[charts] class RequestDetailsReportGenerator(
     logFileData: LogFileData,
     rootContainer: GroupContainer,
+    menu: DetailsPageTemplate.Menu,
     chartsFiles: ChartsFiles,
     componentLibrary: ComponentLibrary,
     charset: Charset,
     configuration: ReportsConfiguration
 ) extends ReportGenerator {
-  def generate(): Unit = {
+  override def pages: Seq[() => Unit] = {
     def generateDetailPage(requestContainer: RequestContainer): Unit = {
       def responseTimeDistributionChartComponent: Component = {
         val (okDistribution, koDistribution) = logFileData.responseTimeDistribution(100, Some(requestContainer.name), requestContainer.group)
@@ -90,6 +91,7 @@ private[charts] class RequestDetailsReportGenerator(
           path,
           requestContainer,
           rootContainer,
+          menu,
           new SchemaContainerComponent(
             componentLibrary.getRangesComponent("RangesContainerId", "Response Time Ranges", "requests", ranges, large = true),
             new DetailsStatsTableComponent(requestContainer.stats, configuration.indicators)
@@ -102,17 +104,13 @@ private[charts] class RequestDetailsReportGenerator(
           responseTimeScatterChartComponent
         )
 
-      new TemplateWriter(chartsFiles.requestFile(path)).writeToFile(template.getOutput, charset)
+      new TemplateWriter(chartsFiles.requestFile(path)).writeToFile(template, charset)
     }
 
     @SuppressWarnings(Array("org.wartremover.warts.Recursion"))
-    def generateDetailPageRec(groupContainer: GroupContainer): Unit = {
-      groupContainer.requests.values.foreach { requestContainer =>
-        generateDetailPage(requestContainer)
-      }
-      groupContainer.groups.values.foreach(generateDetailPageRec)
-    }
+    def requestContainersRec(groupContainer: GroupContainer): Iterable[RequestContainer] =
+      groupContainer.requests.values ++ groupContainer.groups.values.flatMap(requestContainersRec)
 
-    generateDetailPageRec(rootContainer)
+    requestContainersRec(rootContainer).map(requestContainer => () => generateDetailPage(requestContainer)).toList
   }
 }
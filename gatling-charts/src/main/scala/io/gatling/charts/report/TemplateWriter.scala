@@ -21,7 +21,9 @@ import java.nio.file.{ Files, Path }
 
 import scala.util.Using
 
+import io.gatling.charts.template.PageTemplate
+
 private[charts] class TemplateWriter(path: Path) {
-  def writeToFile(output: String, charset: Charset): Unit =
-    Using.resource(Files.newBufferedWriter(path, charset))(_.write(output))
+  def writeToFile(template: PageTemplate, charset: Charset): Unit =
+    Using.resource(Files.newBufferedWriter(path, charset))(template.write)
 }
@@ -39,7 +39,7 @@ private object LogFileParser {
   val LogStep = 100000
 }
 
-private abstract class LogFileParser[T](logFile: File) extends AutoCloseable {
+private abstract class LogFileParser(logFile: File) extends AutoCloseable {
   private val is = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFile.toPath)))
   private val skipBuffer = new Array[Byte](1024)
   private val stringCache = new ju.HashMap[Int, String]
@@ -102,11 +102,9 @@ private abstract class LogFileParser[T](logFile: File) extends AutoCloseable {
     }
 
   override def close(): Unit = is.close()
-
-  def parse(): T
 }
 
-private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFileParser[RunInfo](logFile) with StrictLogging {
+private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFileParser(logFile) with StrictLogging {
 
   private var injectStart = Long.MaxValue
   private var injectEnd = Long.MinValue
@@ -197,8 +195,8 @@ private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFi
     skipInt()
   }
 
-  override def parse(): RunInfo = {
-    logger.info("First pass")
+  def parse(): RunInfo = {
+    logger.info(s"First pass on $logFile")
     val (runMessage, scenarios, assertions) = readByte() match {
       case RecordHeader.Run.value => parseRunRecord()
       case _                      => throw new UnsupportedOperationException(s"The log file $logFile is malformed and doesn't start with a proper record")
@@ -226,7 +224,7 @@ private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFi
       }
     }
 
-    logger.info(s"First pass done: read $count records")
+    logger.info(s"First pass done on $logFile: read $count records")
     assert(injectStart != Long.MaxValue, "Undefined run start")
     assert(injectEnd != Long.MinValue, "Undefined run end")
     assert(injectEnd > injectStart, "Run didn't last")
@@ -234,20 +232,25 @@ private final class FirstPassParser(logFile: File, zoneId: ZoneId) extends LogFi
   }
 }
 
-private final class SecondPassParser(logFile: File, runInfo: RunInfo, step: Double, lowerBound: Int, higherBound: Int)
-    extends LogFileParser[ResultsHolder](logFile)
+/**
+ * Reads the records of one log file one at a time, so that several files can be interleaved by timestamp into the same [[ResultsHolder]].
+ * Timestamps are absolute, so records from generators that started at different times line up on the same time axis.
+ */
+private final class SecondPassParser(logFile: File, runStart: Long, scenarios: Array[String], bucketFunction: Long => Int)
+    extends LogFileParser(logFile)
     with StrictLogging {
 
-  private val buckets = StatsHelper.buckets(0, runInfo.injectEnd - runInfo.injectStart, step)
-  private val bucketFunction = StatsHelper.timeToBucketNumber(runInfo.injectStart, step, buckets.length)
-  private val resultsHolder =
-    new ResultsHolder(
-      runInfo.injectStart,
-      runInfo.injectEnd,
-      buckets,
-      lowerBound,
-      higherBound
-    )
+  private var count = 1
+  private var record: AnyRef = _
+  private var _recordTimestamp: Long = _
+
+  skipRunRecord()
+
+  /**
+   * @return
+   *   the time the current record was logged at, records of a given log file come in this order
+   */
+  def recordTimestamp: Long = _recordTimestamp
 
   private def skipRunRecord(): Unit = {
     // header
@@ -268,21 +271,25 @@ private final class SecondPassParser(logFile: File, runInfo: RunInfo, step: Doub
     cfor(0 until assertionsSize)(_ => skip(readInt()))
   }
 
-  private def parseUserRecord(): UserRecord =
-    UserRecord(
-      scenario = runInfo.scenarios(readInt()),
+  private def parseUserRecord(): UserRecord = {
+    val userRecord = UserRecord(
+      scenario = scenarios(readInt()),
       event = if (readBoolean()) MessageEvent.Start else MessageEvent.End,
-      timestamp = readInt() + runInfo.runStart
+      timestamp = readInt() + runStart
     )
+    _recordTimestamp = userRecord.timestamp
+    userRecord
+  }
 
   private def parseRequestRecord(): RequestRecord = {
     val groupsSize = readInt()
     val group = Option.when(groupsSize > 0)(Group(List.fill(groupsSize)(readCachedSanitizedString())))
     val name = readCachedSanitizedString()
-    val startTimestamp = readInt() + runInfo.runStart
-    val endTimestamp = readInt() + runInfo.runStart
+    val startTimestamp = readInt() + runStart
+    val endTimestamp = readInt() + runStart
     val status = if (readBoolean()) OK else KO
     val errorMessage = readCachedSanitizedString().trimToOption
+    _recordTimestamp = math.max(startTimestamp, endTimestamp)
 
     if (endTimestamp != Long.MinValue) {
       // regular request
@@ -306,75 +313,111 @@ private final class SecondPassParser(logFile: File, runInfo: RunInfo, step: Doub
   private def parseGroupRecord(): GroupRecord = {
     val groupsSize = readInt()
     val group = Group(List.fill(groupsSize)(readCachedSanitizedString()))
-    val startTimestamp = readInt() + runInfo.runStart
-    val endTimestamp = readInt() + runInfo.runStart
+    val startTimestamp = readInt() + runStart
+    val endTimestamp = readInt() + runStart
     val cumulatedResponseTime = readInt()
     val status = if (readBoolean()) OK else KO
+    _recordTimestamp = endTimestamp
 
     GroupRecord(group, (endTimestamp - startTimestamp).toInt, cumulatedResponseTime, status, startTimestamp, bucketFunction(startTimestamp))
   }
 
   private def parseErrorRecord(): ErrorRecord = {
     val message = readCachedSanitizedString()
-    val timestamp = readInt() + runInfo.runStart
+    val timestamp = readInt() + runStart
+    _recordTimestamp = timestamp
     ErrorRecord(message, timestamp)
   }
 
-  override def parse(): ResultsHolder = {
-    logger.info("Second pass")
-
-    skipRunRecord()
-
-    var count = 1
-    var continue = true
-    while (continue) {
-      count += 1
-      if (count % LogFileParser.LogStep == 0) logger.info(s"First pass, read $count records")
-      val headerValue = read().toByte
-
-      try {
-        headerValue match {
-          case RecordHeader.User.value    => resultsHolder.addUserRecord(parseUserRecord())
-          case RecordHeader.Request.value => resultsHolder.addRequestRecord(parseRequestRecord())
-          case RecordHeader.Group.value   => resultsHolder.addGroupRecord(parseGroupRecord())
-          case RecordHeader.Error.value   => resultsHolder.addErrorRecord(parseErrorRecord())
-          case -1                         => continue = false
-          case _                          => throw new UnsupportedOperationException(s"Unsupported header $headerValue for record $count")
-        }
-      } catch {
-        case e: EOFException =>
-          logger.error(s"Log file is truncated after record $count, can only generate partial results.", e)
-          continue = false
+  /**
+   * Reads the next record.
+   *
+   * @return
+   *   false if the log file is exhausted
+   */
+  def advance(): Boolean = {
+    count += 1
+    if (count % LogFileParser.LogStep == 0) logger.info(s"Second pass, read $count records from $logFile")
+    val headerValue = read().toByte
+
+    try {
+      headerValue match {
+        case RecordHeader.User.value    => record = parseUserRecord()
+        case RecordHeader.Request.value => record = parseRequestRecord()
+        case RecordHeader.Group.value   => record = parseGroupRecord()
+        case RecordHeader.Error.value   => record = parseErrorRecord()
+        case -1                         => record = null
+        case _                          => throw new UnsupportedOperationException(s"Unsupported header $headerValue for record $count")
       }
+    } catch {
+      case e: EOFException =>
+        logger.error(s"Log file $logFile is truncated after record $count, can only generate partial results.", e)
+        record = null
     }
 
-    resultsHolder.flushTrailingConcurrentUsers()
-
-    logger.info(s"Second pass: read $count records")
-
-    resultsHolder
+    if (record == null) {
+      logger.info(s"Second pass done on $logFile: read $count records")
+    }
+    record != null
   }
+
+  def addRecordTo(resultsHolder: ResultsHolder): Unit =
+    record match {
+      case userRecord: UserRecord       => resultsHolder.addUserRecord(userRecord)
+      case requestRecord: RequestRecord => resultsHolder.addRequestRecord(requestRecord)
+      case groupRecord: GroupRecord     => resultsHolder.addGroupRecord(groupRecord)
+      case errorRecord: ErrorRecord     => resultsHolder.addErrorRecord(errorRecord)
+      case _                            => throw new IllegalStateException(s"No current record for $logFile")
+    }
 }
 
 private[gatling] object LogFileReader extends StrictLogging {
   private val SecMillisecRatio: Double = 1000.0
 
-  def apply(runUuid: String, resultsDirectory: Path, configuration: GatlingConfiguration): LogFileReader = {
-    StringInternals.checkAvailability()
-    val logFile = LogFileDataWriter.logFile(resultsDirectory, runUuid, create = false).toFile
+  def apply(runUuid: String, resultsDirectory: Path, configuration: GatlingConfiguration): LogFileReader =
+    apply(List(runUuid), resultsDirectory, configuration)
 
-    logger.info(s"Collected $logFile from $runUuid")
-    require(logFile.exists(), s"Could not locate log file for $runUuid.")
+  /**
+   * Reads the log files of several runs, typically the ones of generators that ran the same simulation concurrently, as if they were a single run.
+   */
+  def apply(runUuids: Seq[String], resultsDirectory: Path, configuration: GatlingConfiguration): LogFileReader = {
+    require(runUuids.nonEmpty, "Expected at least one run")
+    StringInternals.checkAvailability()
+    val logFiles = runUuids.map { runUuid =>
+      val logFile = LogFileDataWriter.logFile(resultsDirectory, runUuid, create = false).toFile
+      logger.info(s"Collected $logFile from $runUuid")
+      require(logFile.exists(), s"Could not locate log file for $runUuid.")
+      logFile
+    }
 
-    new LogFileReader(logFile, configuration)
+    new LogFileReader(logFiles, configuration)
   }
+
+  private def mergeRunInfos(runInfos: Seq[RunInfo]): RunInfo =
+    runInfos match {
+      case Seq(runInfo) => runInfo
+      case _            =>
+        val simulationClassNames = runInfos.map(_.simulationClassName).distinct
+        require(simulationClassNames.sizeIs == 1, s"Can only merge runs of the same simulation, got ${simulationClassNames.mkString(", ")}")
+        val first = runInfos.head
+        new RunInfo(
+          runInfos.map(_.injectStart).min,
+          runInfos.map(_.injectEnd).max,
+          first.simulationClassName,
+          first.runDescription,
+          runInfos.map(_.runStart).min,
+          runInfos.flatMap(_.scenarios).distinct.toArray,
+          first.assertions
+        )
+    }
 }
 
-private[gatling] final class LogFileReader(logFile: File, configuration: GatlingConfiguration) extends StrictLogging {
+private[gatling] final class LogFileReader(logFiles: Seq[File], configuration: GatlingConfiguration) extends StrictLogging {
   import LogFileReader._
 
   def read(): LogFileData = {
-    val runInfo = Using.resource(new FirstPassParser(logFile, configuration.data.zoneId))(_.parse())
+    val runInfos = logFiles.map(logFile => Using.resource(new FirstPassParser(logFile, configuration.data.zoneId))(_.parse()))
+    val runInfo = mergeRunInfos(runInfos)
 
     val step = StatsHelper.step(
       math.floor(runInfo.injectStart / SecMillisecRatio).toInt,
@@ -382,15 +425,34 @@ private[gatling] final class LogFileReader(logFile: File, configuration: Gatling
       configuration.reports.maxPlotsPerSeries
     ) * SecMillisecRatio
 
-    val resultsHolder = Using.resource(
-      new SecondPassParser(
-        logFile,
-        runInfo,
-        step,
+    val buckets = StatsHelper.buckets(0, runInfo.injectEnd - runInfo.injectStart, step)
+    val bucketFunction = StatsHelper.timeToBucketNumber(runInfo.injectStart, step, buckets.length)
+    val resultsHolder =
+      new ResultsHolder(
+        runInfo.injectStart,
+        runInfo.injectEnd,
+        buckets,
         configuration.reports.indicators.lowerBound,
         configuration.reports.indicators.higherBound
       )
-    )(_.parse())
+
+    logger.info("Second pass")
+    Using.Manager { use =>
+      val parsers = logFiles.lazyZip(runInfos).map { (logFile, fileRunInfo) =>
+        use(new SecondPassParser(logFile, fileRunInfo.runStart, fileRunInfo.scenarios, bucketFunction))
+      }
+      // k-way merge on the record timestamps: concurrent users counting expects user records in chronological order
+      val pending = new ju.PriorityQueue[SecondPassParser](parsers.size, (p1, p2) => jl.Long.compare(p1.recordTimestamp, p2.recordTimestamp))
+      parsers.foreach(parser => if (parser.advance()) pending.add(parser))
+      while (!pending.isEmpty) {
+        val parser = pending.poll()
+        parser.addRecordTo(resultsHolder)
+        if (parser.advance()) {
+          pending.add(parser)
+        }
+      }
+    }.get
+    resultsHolder.flushTrailingConcurrentUsers()
 
     new LogFileData(runInfo, resultsHolder, step)
   }
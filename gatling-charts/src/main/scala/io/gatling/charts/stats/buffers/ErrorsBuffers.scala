@@ -23,23 +23,26 @@ import io.gatling.charts.stats.{ Group, RequestRecord }
 private[stats] trait ErrorsBuffers {
   private val errorsBuffers = mutable.Map.empty[BufferKey, mutable.Map[String, Int]]
 
-  def getErrorsBuffers(requestName: Option[String], group: Option[Group]): mutable.Map[String, Int] =
+  def getErrorsBuffers(requestName: Option[String], group: Option[Group]): collection.Map[String, Int] =
+    errorsBuffers.getOrElse(BufferKey(requestName, group, None), Map.empty[String, Int])
+
+  private def errorsBuffer(requestName: Option[String], group: Option[Group]): mutable.Map[String, Int] =
     errorsBuffers.getOrElseUpdate(BufferKey(requestName, group, None), mutable.Map.empty[String, Int])
 
   def updateGlobalError(errorMessage: String): Unit = {
-    val buffer = getErrorsBuffers(None, None)
+    val buffer = errorsBuffer(None, None)
     buffer += errorMessage -> (buffer.getOrElseUpdate(errorMessage, 0) + 1)
   }
 
   def updateErrorBuffers(record: RequestRecord): Unit = {
     def updateGroupError(errorMessage: String): Unit =
       record.group.foreach { group =>
-        val buffer = getErrorsBuffers(None, Some(group))
+        val buffer = errorsBuffer(None, Some(group))
         buffer += errorMessage -> (buffer.getOrElseUpdate(errorMessage, 0) + 1)
       }
 
     def updateRequestError(errorMessage: String): Unit = {
-      val buffer = getErrorsBuffers(Some(record.name), record.group)
+      val buffer = errorsBuffer(Some(record.name), record.group)
       buffer += errorMessage -> (buffer.getOrElseUpdate(errorMessage, 0) + 1)
     }
 
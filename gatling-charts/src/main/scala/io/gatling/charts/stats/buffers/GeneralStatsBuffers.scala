@@ -28,30 +28,42 @@ private[stats] abstract class GeneralStatsBuffers(durationInSec: Long) {
   private val groupDurationGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
   private val groupCumulatedResponseTimeGeneralStatsBuffers = mutable.Map.empty[BufferKey, GeneralStatsBuffer]
 
+  private lazy val emptyGeneralStatsBuffer = new GeneralStatsBuffer(durationInSec)
+
+  // getters don't insert missing keys so that reports pages can be generated concurrently once the log file is loaded
   def getRequestGeneralStatsBuffers(request: Option[String], group: Option[Group], status: Option[Status]): GeneralStatsBuffer =
-    requestGeneralStatsBuffers.getOrElseUpdate(BufferKey(request, group, status), new GeneralStatsBuffer(durationInSec))
+    requestGeneralStatsBuffers.getOrElse(BufferKey(request, group, status), emptyGeneralStatsBuffer)
 
   def getGroupDurationGeneralStatsBuffers(group: Group, status: Option[Status]): GeneralStatsBuffer =
-    groupDurationGeneralStatsBuffers.getOrElseUpdate(BufferKey(None, Some(group), status), new GeneralStatsBuffer(durationInSec))
+    groupDurationGeneralStatsBuffers.getOrElse(BufferKey(None, Some(group), status), emptyGeneralStatsBuffer)
 
   def getGroupCumulatedResponseTimeGeneralStatsBuffers(group: Group, status: Option[Status]): GeneralStatsBuffer =
+    groupCumulatedResponseTimeGeneralStatsBuffers.getOrElse(BufferKey(None, Some(group), status), emptyGeneralStatsBuffer)
+
+  private def requestGeneralStatsBuffer(request: Option[String], group: Option[Group], status: Option[Status]): GeneralStatsBuffer =
+    requestGeneralStatsBuffers.getOrElseUpdate(BufferKey(request, group, status), new GeneralStatsBuffer(durationInSec))
+
+  private def groupDurationGeneralStatsBuffer(group: Group, status: Option[Status]): GeneralStatsBuffer =
+    groupDurationGeneralStatsBuffers.getOrElseUpdate(BufferKey(None, Some(group), status), new GeneralStatsBuffer(durationInSec))
+
+  private def groupCumulatedResponseTimeGeneralStatsBuffer(group: Group, status: Option[Status]): GeneralStatsBuffer =
     groupCumulatedResponseTimeGeneralStatsBuffers.getOrElseUpdate(BufferKey(None, Some(group), status), new GeneralStatsBuffer(durationInSec))
 
   def updateRequestGeneralStatsBuffers(record: RequestRecord): Unit = {
     import record._
-    getRequestGeneralStatsBuffers(Some(name), group, None).update(responseTime)
-    getRequestGeneralStatsBuffers(Some(name), group, Some(status)).update(responseTime)
+    requestGeneralStatsBuffer(Some(name), group, None).update(responseTime)
+    requestGeneralStatsBuffer(Some(name), group, Some(status)).update(responseTime)
 
-    getRequestGeneralStatsBuffers(None, None, None).update(responseTime)
-    getRequestGeneralStatsBuffers(None, None, Some(status)).update(responseTime)
+    requestGeneralStatsBuffer(None, None, None).update(responseTime)
+    requestGeneralStatsBuffer(None, None, Some(status)).update(responseTime)
   }
 
   def updateGroupGeneralStatsBuffers(record: GroupRecord): Unit = {
     import record._
-    getGroupCumulatedResponseTimeGeneralStatsBuffers(group, None).update(cumulatedResponseTime)
-    getGroupCumulatedResponseTimeGeneralStatsBuffers(group, Some(status)).update(cumulatedResponseTime)
-    getGroupDurationGeneralStatsBuffers(group, None).update(duration)
-    getGroupDurationGeneralStatsBuffers(group, Some(status)).update(duration)
+    groupCumulatedResponseTimeGeneralStatsBuffer(group, None).update(cumulatedResponseTime)
+    groupCumulatedResponseTimeGeneralStatsBuffer(group, Some(status)).update(cumulatedResponseTime)
+    groupDurationGeneralStatsBuffer(group, None).update(duration)
+    groupDurationGeneralStatsBuffer(group, Some(status)).update(duration)
   }
 }
 
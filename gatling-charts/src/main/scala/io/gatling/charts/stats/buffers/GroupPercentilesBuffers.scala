@@ -26,14 +26,19 @@ private[stats] trait GroupPercentilesBuffers {
 
   private val groupPercentilesBuffers = mutable.Map.empty[BufferKey, (PercentilesBuffers, PercentilesBuffers)]
 
+  private lazy val emptyPercentilesBufferPair = (new PercentilesBuffers(buckets), new PercentilesBuffers(buckets))
+
   private def percentilesBufferPair(group: Group, status: Status): (PercentilesBuffers, PercentilesBuffers) =
     groupPercentilesBuffers.getOrElseUpdate(BufferKey(None, Some(group), Some(status)), (new PercentilesBuffers(buckets), new PercentilesBuffers(buckets)))
 
+  private def existingPercentilesBufferPair(group: Group, status: Status): (PercentilesBuffers, PercentilesBuffers) =
+    groupPercentilesBuffers.getOrElse(BufferKey(None, Some(group), Some(status)), emptyPercentilesBufferPair)
+
   def getGroupCumulatedResponseTimePercentilesBuffers(group: Group, status: Status): PercentilesBuffers =
-    percentilesBufferPair(group, status)._1
+    existingPercentilesBufferPair(group, status)._1
 
   def getGroupDurationPercentilesBuffers(group: Group, status: Status): PercentilesBuffers =
-    percentilesBufferPair(group, status)._2
+    existingPercentilesBufferPair(group, status)._2
 
   def updateGroupPercentilesBuffers(record: GroupRecord): Unit = {
     import record._
@@ -26,8 +26,10 @@ private[stats] trait RequestPercentilesBuffers {
 
   private val responseTimePercentilesBuffers = mutable.Map.empty[BufferKey, PercentilesBuffers]
 
+  private lazy val emptyPercentilesBuffers = new PercentilesBuffers(buckets)
+
   def getResponseTimePercentilesBuffers(requestName: Option[String], group: Option[Group], status: Status): PercentilesBuffers =
-    responseTimePercentilesBuffers.getOrElseUpdate(BufferKey(requestName, group, Some(status)), new PercentilesBuffers(buckets))
+    responseTimePercentilesBuffers.getOrElse(BufferKey(requestName, group, Some(status)), emptyPercentilesBuffers)
 
   private def updateRequestPercentilesBuffers(
       requestName: Option[String],
@@ -36,8 +38,9 @@ private[stats] trait RequestPercentilesBuffers {
       requestStartBucket: Int,
       responseTime: Int
   ): Unit = {
-    val responseTimePercentilesBuffers = getResponseTimePercentilesBuffers(requestName, group, status)
-    responseTimePercentilesBuffers.update(requestStartBucket, responseTime)
+    val percentilesBuffers =
+      responseTimePercentilesBuffers.getOrElseUpdate(BufferKey(requestName, group, Some(status)), new PercentilesBuffers(buckets))
+    percentilesBuffers.update(requestStartBucket, responseTime)
   }
 
   def updateRequestPercentilesBuffers(record: RequestRecord): Unit = {
@@ -25,11 +25,16 @@ private[stats] trait RequestsPerSecBuffers {
 
   private val requestsPerSecBuffers = mutable.Map.empty[BufferKey, CountsBuffer]
 
+  private lazy val emptyCountsBuffer = new CountsBuffer(buckets)
+
   def getRequestsPerSecBuffer(requestName: Option[String], group: Option[Group]): CountsBuffer =
+    requestsPerSecBuffers.getOrElse(BufferKey(requestName, group, None), emptyCountsBuffer)
+
+  private def requestsPerSecBuffer(requestName: Option[String], group: Option[Group]): CountsBuffer =
     requestsPerSecBuffers.getOrElseUpdate(BufferKey(requestName, group, None), new CountsBuffer(buckets))
 
   def updateRequestsPerSecBuffers(record: RequestRecord): Unit = {
-    getRequestsPerSecBuffer(Some(record.name), record.group).update(record.startBucket, record.status)
-    getRequestsPerSecBuffer(None, None).update(record.startBucket, record.status)
+    requestsPerSecBuffer(Some(record.name), record.group).update(record.startBucket, record.status)
+    requestsPerSecBuffer(None, None).update(record.startBucket, record.status)
   }
 }
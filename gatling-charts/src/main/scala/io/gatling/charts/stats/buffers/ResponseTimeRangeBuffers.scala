@@ -27,17 +27,22 @@ private[stats] trait ResponseTimeRangeBuffers {
 
   private val responseTimeRangeBuffers: mutable.Map[BufferKey, ResponseTimeRangeBuffer] = mutable.Map.empty
 
+  private lazy val emptyResponseTimeRangeBuffer = new ResponseTimeRangeBuffer
+
   def getResponseTimeRangeBuffers(requestName: Option[String], group: Option[Group]): ResponseTimeRangeBuffer =
+    responseTimeRangeBuffers.getOrElse(BufferKey(requestName, group, None), emptyResponseTimeRangeBuffer)
+
+  private def responseTimeRangeBuffer(requestName: Option[String], group: Option[Group]): ResponseTimeRangeBuffer =
     responseTimeRangeBuffers.getOrElseUpdate(BufferKey(requestName, group, None), new ResponseTimeRangeBuffer)
 
   def updateResponseTimeRangeBuffer(record: RequestRecord): Unit = {
     import record._
-    getResponseTimeRangeBuffers(Some(name), group).update(responseTime, status)
-    getResponseTimeRangeBuffers(None, None).update(responseTime, status)
+    responseTimeRangeBuffer(Some(name), group).update(responseTime, status)
+    responseTimeRangeBuffer(None, None).update(responseTime, status)
   }
 
   def updateGroupResponseTimeRangeBuffer(record: GroupRecord): Unit =
-    getResponseTimeRangeBuffers(None, Some(record.group)).update(record.duration, record.status)
+    responseTimeRangeBuffer(None, Some(record.group)).update(record.duration, record.status)
 
   final class ResponseTimeRangeBuffer {
     var low: Int = 0
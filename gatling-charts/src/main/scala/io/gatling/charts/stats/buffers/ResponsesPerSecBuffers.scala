@@ -25,11 +25,16 @@ private[stats] trait ResponsesPerSecBuffers {
 
   private val responsesPerSecBuffers = mutable.Map.empty[BufferKey, CountsBuffer]
 
+  private lazy val emptyCountsBuffer = new CountsBuffer(buckets)
+
   def getResponsesPerSecBuffer(requestName: Option[String], group: Option[Group]): CountsBuffer =
+    responsesPerSecBuffers.getOrElse(BufferKey(requestName, group, None), emptyCountsBuffer)
+
+  private def responsesPerSecBuffer(requestName: Option[String], group: Option[Group]): CountsBuffer =
     responsesPerSecBuffers.getOrElseUpdate(BufferKey(requestName, group, None), new CountsBuffer(buckets))
 
   def updateResponsesPerSecBuffers(record: RequestRecord): Unit = {
-    getResponsesPerSecBuffer(Some(record.name), record.group).update(record.endBucket, record.status)
-    getResponsesPerSecBuffer(None, None).update(record.endBucket, record.status)
+    responsesPerSecBuffer(Some(record.name), record.group).update(record.endBucket, record.status)
+    responsesPerSecBuffer(None, None).update(record.endBucket, record.status)
   }
 }
@@ -77,7 +77,12 @@ private[stats] trait SessionDeltaPerSecBuffers {
 
   private val sessionDeltaPerSecBuffers = mutable.Map.empty[Option[String], SessionCounters]
 
+  private lazy val emptySessionCounters = new SessionCounters(minTimestamp, maxTimestamp, buckets)
+
   def getSessionDeltaPerSecBuffers(scenarioName: Option[String]): SessionCounters =
+    sessionDeltaPerSecBuffers.getOrElse(scenarioName, emptySessionCounters)
+
+  private def sessionCounters(scenarioName: Option[String]): SessionCounters =
     sessionDeltaPerSecBuffers.getOrElseUpdate(scenarioName, new SessionCounters(minTimestamp, maxTimestamp, buckets))
 
   private def timestamp2SecondOffset(timestamp: Long) = {
@@ -97,14 +102,14 @@ private[stats] trait SessionDeltaPerSecBuffers {
       case MessageEvent.Start =>
         val startSecond = timestamp2SecondOffset(record.timestamp)
         sessionDeltaPerSecBuffers.values.foreach(_.updateCurrentBucket(startSecond))
-        getSessionDeltaPerSecBuffers(None).addStart()
-        getSessionDeltaPerSecBuffers(Some(record.scenario)).addStart()
+        sessionCounters(None).addStart()
+        sessionCounters(Some(record.scenario)).addStart()
 
       case MessageEvent.End =>
         val endSecond = timestamp2SecondOffset(record.timestamp)
         sessionDeltaPerSecBuffers.values.foreach(_.updateCurrentBucket(endSecond))
-        getSessionDeltaPerSecBuffers(None).addEnd()
-        getSessionDeltaPerSecBuffers(Some(record.scenario)).addEnd()
+        sessionCounters(None).addEnd()
+        sessionCounters(Some(record.scenario)).addEnd()
     }
 
   def flushTrailingConcurrentUsers(): Unit =
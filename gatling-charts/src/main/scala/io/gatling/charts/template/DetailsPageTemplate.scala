@@ -16,33 +16,21 @@
 
 package io.gatling.charts.template
 
-import java.{ lang => jl }
+import java.io.Writer
 
 import io.gatling.charts.component.Component
-import io.gatling.charts.report.{ Container, GroupContainer, RequestContainer }
+import io.gatling.charts.report.{ Container, GroupContainer }
 import io.gatling.charts.stats.RunInfo
 import io.gatling.charts.util.HtmlHelper.HtmlRichString
 
-private[charts] final class DetailsPageTemplate(
-    runInfo: RunInfo,
-    title: String,
-    selectedContainer: Container,
-    rootContainer: GroupContainer,
-    components: Component*
-) extends PageTemplate(runInfo, title, rootContainer, components: _*) {
-  override protected def getSubMenu: String =
-    s"""<div class="item"><a href="index.html">Global</a></div>
-       |<div class="item ouvert"><a id="details_link" href="$getFirstDetailPageUrl">Details</a></div>""".stripMargin
-
-  private def isSelected(container: Container): Boolean = (container, selectedContainer) match {
-    case (groupContainer: GroupContainer, selectedGroupContainer: GroupContainer) => groupContainer.group == selectedGroupContainer.group
-    case (requestContainer: RequestContainer, selectedRequestContainer: RequestContainer) =>
-      requestContainer.group == selectedRequestContainer.group && requestContainer.name == selectedRequestContainer.name
-    case _ => false
-  }
+private[charts] object DetailsPageTemplate {
+  /**
+   * The details menu lists every group and request, so it's rendered once and shared by all the details pages, only the selected item differs.
+   */
+  final class Menu(rootContainer: GroupContainer) {
+    private final class Item(val container: Container, val prefix: String, val suffix: String)
 
-  override protected def getMenu: String = {
-    def menuItem(container: Container, level: Int, parent: Option[String]): String = {
+    private def item(container: Container, level: Int, parent: Option[String]): Item = {
       val dataParent = parent match {
         case Some(p) => s"""data-parent="${if (level == 0) GroupContainer.RootId else s"menu-$p"}""""
         case _       => ""
@@ -53,41 +41,56 @@ private[charts] final class DetailsPageTemplate(
         case _                 => "hidden"
       }
 
-      val liClass = if (isSelected(container)) """class="on"""" else ""
-
-      s"""<li $dataParent $liClass>
-         |  <span id="menu-${container.id}" style="margin-left: ${level * 10}px;" class="expand-button $expandButtonStyle">&nbsp;</span>
-         |  <a href="${container.id}.html" class="item withTooltip">
-         |    <span class="nav-tooltip" id="parent-menu-label-${container.id}" data-toggle="popover" data-placement="right" data-container="body" data-content="">
-         |      <span onmouseover="isEllipsed('menu-label-${container.id}')" id="menu-label-${container.id}" class="nav-label ellipsed-name">${container.name.htmlEscape}</span>
-         |    </span>
-         |  </a>
-         |</li>""".stripMargin
+      new Item(
+        container,
+        s"""<li $dataParent """,
+        s""">
+           |  <span id="menu-${container.id}" style="margin-left: ${level * 10}px;" class="expand-button $expandButtonStyle">&nbsp;</span>
+           |  <a href="${container.id}.html" class="item withTooltip">
+           |    <span class="nav-tooltip" id="parent-menu-label-${container.id}" data-toggle="popover" data-placement="right" data-container="body" data-content="">
+           |      <span onmouseover="isEllipsed('menu-label-${container.id}')" id="menu-label-${container.id}" class="nav-label ellipsed-name">${container.name.htmlEscape}</span>
+           |    </span>
+           |  </a>
+           |</li>""".stripMargin
+      )
     }
 
     @SuppressWarnings(Array("org.wartremover.warts.Recursion"))
-    def menuItemsForGroup(group: GroupContainer, level: Int, parent: Option[String]): String = {
-      val buffer = new jl.StringBuilder
-
-      if (level > 0) {
-        buffer.append(menuItem(group, level - 1, parent))
-      }
-
+    private def itemsForGroup(group: GroupContainer, level: Int, parent: Option[String]): Vector[Item] = {
       val newParent = Some(group.id)
+      val groupItem = if (level > 0) Vector(item(group, level - 1, parent)) else Vector.empty
+      val subGroupsItems = group.groups.values.flatMap(itemsForGroup(_, level + 1, newParent))
+      val requestItems = group.requests.values.map(item(_, level, newParent))
+      groupItem ++ subGroupsItems ++ requestItems
+    }
 
-      group.groups.values.foreach { subGroup =>
-        buffer.append(menuItemsForGroup(subGroup, level + 1, newParent))
-      }
+    private val items = itemsForGroup(rootContainer, 0, None)
 
-      group.requests.values.foreach { request =>
-        buffer.append(menuItem(request, level, newParent))
+    def write(writer: Writer, selectedContainer: Container): Unit =
+      items.foreach { item =>
+        writer.write(item.prefix)
+        if (item.container eq selectedContainer) {
+          writer.write("""class="on"""")
+        }
+        writer.write(item.suffix)
       }
+  }
+}
 
-      buffer.toString
-    }
+private[charts] final class DetailsPageTemplate(
+    runInfo: RunInfo,
+    title: String,
+    selectedContainer: Container,
+    rootContainer: GroupContainer,
+    menu: DetailsPageTemplate.Menu,
+    components: Component*
+) extends PageTemplate(runInfo, title, rootContainer, components: _*) {
+  override protected def getSubMenu: String =
+    s"""<div class="item"><a href="index.html">Global</a></div>
+       |<div class="item ouvert"><a id="details_link" href="$getFirstDetailPageUrl">Details</a></div>""".stripMargin
 
-    menuItemsForGroup(rootContainer, 0, None)
-  }
+  override protected def writeMenu(writer: Writer): Unit =
+    menu.write(writer, selectedContainer)
 
   override protected def onDocumentReady: String =
     """$('.nav').expandable();
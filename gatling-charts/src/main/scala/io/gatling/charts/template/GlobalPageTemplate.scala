@@ -16,6 +16,8 @@
 
 package io.gatling.charts.template
 
+import java.io.Writer
+
 import io.gatling.charts.component.Component
 import io.gatling.charts.report.{ GlobalReportGenerator, GroupContainer }
 import io.gatling.charts.stats.RunInfo
@@ -26,15 +28,15 @@ private[charts] final class GlobalPageTemplate(runInfo: RunInfo, rootContainer:
     s"""<div class="item ouvert"><a href="index.html">Global</a></div>
        |<div class="item"><a id="details_link" href="$getFirstDetailPageUrl">Details</a></div>""".stripMargin
 
-  override protected def getMenu: String =
-    s"""<li><a class="item" href="#${GlobalReportGenerator.RangesContainerId}"><span class="nav-label">Ranges</span></a></li>
+  override protected def writeMenu(writer: Writer): Unit =
+    writer.write(s"""<li><a class="item" href="#${GlobalReportGenerator.RangesContainerId}"><span class="nav-label">Ranges</span></a></li>
        |<li><a class="item" href="#${GlobalReportGenerator.StatsContainerId}"><span class="nav-label">Stats</span></a></li>
        |<li><a class="item" href="#${GlobalReportGenerator.UserStartRateContainerId}"><span class="nav-label">Users start rate</span></a></li>
        |<li><a class="item" href="#${GlobalReportGenerator.MaxConcurrentUsersContainerId}"><span class="nav-label">Concurrent users</span></a></li>
        |<li><a class="item" href="#${GlobalReportGenerator.ResponseTimeDistributionContainerId}"><span class="nav-label">Response time distribution</span></a></li>
        |<li><a class="item" href="#${GlobalReportGenerator.ResponseTimeContainerId}"><span class="nav-label">Response time percentiles</span></a></li>
        |<li><a class="item" href="#${GlobalReportGenerator.RequestsContainerId}"><span class="nav-label">Requests / sec</span></a></li>
-       |<li><a class="item" href="#${GlobalReportGenerator.ResponsesContainerId}"><span class="nav-label">Responses / sec</span></a></li>""".stripMargin
+       |<li><a class="item" href="#${GlobalReportGenerator.ResponsesContainerId}"><span class="nav-label">Responses / sec</span></a></li>""".stripMargin)
 
   override protected def onDocumentReady: String = ""
 }
@@ -16,6 +16,7 @@
 
 package io.gatling.charts.template
 
+import java.io.Writer
 import java.time.{ ZoneOffset, ZonedDateTime }
 
 import io.gatling.charts.component.Component
@@ -35,7 +36,7 @@ private[charts] abstract class PageTemplate(
   def jsFiles: Seq[String] = (CommonJsFiles ++ components.flatMap(_.jsFiles)).distinct
 
   @SuppressWarnings(Array("org.wartremover.warts.ListAppend"))
-  def getOutput: String = {
+  def write(writer: Writer): Unit = {
     val simulationClassSimpleName = runInfo.simulationClassName.lastIndexOf(".") match {
       case -1 => runInfo.simulationClassName
       case i  => runInfo.simulationClassName.substring(i + 1)
@@ -70,7 +71,7 @@ private[charts] abstract class PageTemplate(
         .getOrElse("")
     }
 
-    s"""
+    writer.write(s"""
 <!DOCTYPE html>
 <html lang="en">
 <head>
@@ -114,7 +115,9 @@ ${jsFiles.map(jsFile => s"""<script src="js/$jsFile"></script>""").mkString(Eol)
 </div>
 <div class="container details">
   <div class="nav">
-    <ul>$getMenu</ul>
+    <ul>""")
+    writeMenu(writer)
+    writer.write(s"""</ul>
   </div>
   <div class="cadre">
     <div class="content">
@@ -132,7 +135,9 @@ ${jsFiles.map(jsFile => s"""<script src="js/$jsFile"></script>""").mkString(Eol)
         <div class="container-article">
           <div class="article">
             $deprecationWarning
-            ${components.map(_.html).mkString}
+            """)
+    components.foreach(component => writer.write(component.html))
+    writer.write(s"""
           </div>
         </div>
       </div>
@@ -144,18 +149,20 @@ ${jsFiles.map(jsFile => s"""<script src="js/$jsFile"></script>""").mkString(Eol)
         $$('.simulation-tooltip').popover({trigger:'hover', placement:'left'});
         $onDocumentReady
         setActiveMenu();
-        ${components.map(_.js).mkString}
+        """)
+    components.foreach(component => writer.write(component.js))
+    writer.write("""
     });
 </script>
 </div>
 </body>
 </html>
-"""
+""")
   }
 
   protected def getSubMenu: String
 
-  protected def getMenu: String
+  protected def writeMenu(writer: Writer): Unit
 
   protected def getFirstDetailPageUrl: String =
     rootContainer.groups.values.headOption.getOrElse(rootContainer.requests.values.head).id + ".html"
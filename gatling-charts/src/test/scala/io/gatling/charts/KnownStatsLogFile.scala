@@ -0,0 +1,63 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts
+
+import java.{ lang => jl }
+import java.io.{ BufferedOutputStream, DataOutputStream, File, FileOutputStream }
+import java.nio.ByteBuffer
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.{ Files, Path, Paths }
+
+import scala.util.Using
+
+import io.gatling.commons.util.GatlingVersion
+import io.gatling.core.stats.writer.LogFileDataWriter
+
+object KnownStatsLogFile {
+  private val runUuid = "known_stats"
+
+  def copyTo(resultsDirectory: Path, targetRunUuid: String, startShift: Long): Unit = {
+    // we need a log file whose version matches Gatling's
+    // the sample contains a static value while Gatling's is computed by sbt based on git
+    // so we need to replace it
+    val rawLogFile = Paths.get(Thread.currentThread().getContextClassLoader.getResource(s"$runUuid/${LogFileDataWriter.LogFileName}").toURI)
+
+    val runDirectory = resultsDirectory.resolve(targetRunUuid).toFile
+    runDirectory.mkdir()
+    val logFileWithMatchingLibraryVersion = new File(runDirectory, LogFileDataWriter.LogFileName)
+    logFileWithMatchingLibraryVersion.deleteOnExit()
+
+    Using.resource(new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFileWithMatchingLibraryVersion)))) { os =>
+      val sampleBytes = Files.readAllBytes(rawLogFile)
+      // run record header
+      os.write(sampleBytes, 0, jl.Byte.BYTES)
+      val gatlingFullVersionBytes = GatlingVersion.ThisVersion.fullVersion.getBytes(UTF_8)
+      // Gatling version length
+      os.writeInt(gatlingFullVersionBytes.length)
+      os.write(gatlingFullVersionBytes)
+      // rest of the original file, after skipping the original Gatling version in the file
+      val offset = jl.Byte.BYTES + jl.Integer.BYTES + "3.12.1".getBytes(UTF_8).length
+      // Gatling version coder + simulationClassName (length + value + coder)
+      val simulationClassNameLength = ByteBuffer.wrap(sampleBytes, offset + jl.Byte.BYTES, jl.Integer.BYTES).getInt
+      val runStartOffset = offset + jl.Byte.BYTES + jl.Integer.BYTES + simulationClassNameLength + jl.Byte.BYTES
+      os.write(sampleBytes, offset, runStartOffset - offset)
+      os.writeLong(ByteBuffer.wrap(sampleBytes, runStartOffset, jl.Long.BYTES).getLong + startShift)
+      val restOffset = runStartOffset + jl.Long.BYTES
+      os.write(sampleBytes, restOffset, sampleBytes.length - restOffset)
+    }
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.charts.report
+
+import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.{ Files, Path }
+
+import scala.jdk.CollectionConverters._
+import scala.util.Using
+
+import io.gatling.charts.KnownStatsLogFile
+import io.gatling.charts.component.{ Component, ComponentLibrary }
+import io.gatling.charts.stats._
+import io.gatling.core.config.GatlingConfiguration
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+object ReportsGeneratorSpec {
+  private final class TextComponent(override val html: String) extends Component {
+    override def js: String = ""
+    override def jsFiles: Seq[String] = Nil
+  }
+
+  private object PlainComponentLibrary extends ComponentLibrary {
+    override def getUserStartRateComponent(containerId: String, runStart: Long, allUsersSeries: UserSeries, scenarioSeries: Seq[UserSeries]): Component =
+      new TextComponent(allUsersSeries.data.map(_.value).mkString(containerId, ",", ""))
+    override def getMaxConcurrentUsersComponent(containerId: String, runStart: Long, allUsersSeries: UserSeries, scenarioSeries: Seq[UserSeries]): Component =
+      new TextComponent(allUsersSeries.data.map(_.value).mkString(containerId, ",", ""))
+    override def getRangesComponent(containerId: String, chartTitle: String, eventName: String, ranges: Ranges, large: Boolean): Component =
+      new TextComponent(s"$containerId ${ranges.lowCount} ${ranges.middleCount} ${ranges.highCount} ${ranges.koCount}")
+    override def getRequestCountPolarComponent(rootContainer: GroupContainer): Component =
+      new TextComponent(rootContainer.name)
+    override def getDistributionComponent(
+        containerId: String,
+        title: String,
+        yAxisName: String,
+        durationsSuccess: Seq[PercentVsTimePlot],
+        durationsFailure: Seq[PercentVsTimePlot]
+    ): Component =
+      new TextComponent((durationsSuccess ++ durationsFailure).map(plot => s"${plot.time}:${plot.value}").mkString(containerId, ",", ""))
+    override def getPercentilesOverTimeComponent(
+        containerId: String,
+        title: String,
+        yAxisName: String,
+        runStart: Long,
+        data: Seq[PercentilesVsTimePlot]
+    ): Component =
+      new TextComponent(data.map(_.percentiles.map(_.percentile50)).mkString(containerId, ",", ""))
+    override def getRequestsComponent(containerId: String, runStart: Long, counts: Seq[CountsVsTimePlot]): Component =
+      new TextComponent(counts.map(count => s"${count.time}:${count.oks}:${count.kos}").mkString(containerId, ",", ""))
+    override def getResponsesComponent(containerId: String, runStart: Long, counts: Seq[CountsVsTimePlot]): Component =
+      new TextComponent(counts.map(count => s"${count.time}:${count.oks}:${count.kos}").mkString(containerId, ",", ""))
+    override def getResponseTimeScatterComponent(containerId: String, successData: Seq[IntVsTimePlot], failuresData: Seq[IntVsTimePlot]): Component =
+      new TextComponent((successData ++ failuresData).map(plot => s"${plot.time}:${plot.value}").mkString(containerId, ",", ""))
+  }
+}
+
+class ReportsGeneratorSpec extends AnyFlatSpecLike with Matchers {
+  import ReportsGeneratorSpec._
+
+  private val runUuid = "known_stats"
+  private val resultsDirectory = Files.createTempDirectory("gatling")
+  KnownStatsLogFile.copyTo(resultsDirectory, runUuid, startShift = 0)
+
+  private val configuration = GatlingConfiguration.loadForTest()
+  private val logFileData = LogFileReader(runUuid, resultsDirectory, configuration).read()
+
+  private def generate(reportFolderName: String, parallelism: Int): Map[String, String] = {
+    val reportDirectory = Files.createDirectories(resultsDirectory.resolve(reportFolderName))
+    new ReportsGenerator(configuration.data.zoneId, UTF_8, resultsDirectory, configuration.reports)
+      .generateFor(new ReportsGenerationInputs(reportFolderName, logFileData, Nil), PlainComponentLibrary, parallelism)
+
+    Using.resource(Files.list(reportDirectory)) {
+      _.iterator.asScala
+        .filter(_.getFileName.toString.endsWith(".html"))
+        .map((path: Path) => path.getFileName.toString -> Files.readString(path, UTF_8))
+        .toMap
+    }
+  }
+
+  "ReportsGenerator" should "generate the same pages whether they're generated concurrently or not" in {
+    val sequential = generate("sequential", parallelism = 1)
+    val concurrent = generate("concurrent", parallelism = 4)
+
+    sequential.size should be > 1
+    concurrent shouldBe sequential
+  }
+
+  it should "only highlight the page's own entry in the details menu" in {
+    val pages = generate("menu", parallelism = 4)
+
+    pages.keys.filter(_ != "index.html").foreach { page =>
+      val onItems = """<li [^>]*class="on">\s*<span id="menu-([^"]+)"""".r.findAllMatchIn(pages(page)).map(_.group(1)).toList
+      onItems shouldBe List(page.stripSuffix(".html"))
+    }
+  }
+}
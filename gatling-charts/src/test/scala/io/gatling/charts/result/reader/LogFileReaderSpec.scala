@@ -16,18 +16,12 @@
 
 package io.gatling.charts.result.reader
 
-import java.{ lang => jl }
-import java.io.{ BufferedOutputStream, DataOutputStream, File, FileOutputStream }
-import java.nio.charset.StandardCharsets.UTF_8
-import java.nio.file.{ Files, Paths }
-
-import scala.util.Using
+import java.nio.file.Files
 
+import io.gatling.charts.KnownStatsLogFile
 import io.gatling.charts.stats.{ LogFileData, LogFileReader }
-import io.gatling.commons.util.GatlingVersion
 import io.gatling.core.config.ConfigKeys._
 import io.gatling.core.config.GatlingConfiguration
-import io.gatling.core.stats.writer.LogFileDataWriter
 
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
@@ -36,30 +30,8 @@ import org.scalatest.matchers.should.Matchers
 class LogFileReaderSpec extends AnyFlatSpecLike with Matchers {
   private val runUuid = "known_stats"
   private val resultsDirectory = {
-    // we need a log file whose version matches Gatling's
-    // the sample contains a static value while Gatling's is computed by sbt based on git
-    // so we need to replace it
-    val rawLogFile = Paths.get(Thread.currentThread().getContextClassLoader.getResource(s"$runUuid/${LogFileDataWriter.LogFileName}").toURI)
-
     val tmpResultsDirectory = Files.createTempDirectory("gatling")
-    val runDirectory = tmpResultsDirectory.resolve(runUuid).toFile
-    runDirectory.mkdir()
-    val logFileWithMatchingLibraryVersion = new File(runDirectory, LogFileDataWriter.LogFileName)
-    logFileWithMatchingLibraryVersion.deleteOnExit()
-
-    Using.resource(new DataOutputStream(new BufferedOutputStream(new FileOutputStream(logFileWithMatchingLibraryVersion)))) { os =>
-      val sampleBytes = Files.readAllBytes(rawLogFile)
-      // run record header
-      os.write(sampleBytes, 0, jl.Byte.BYTES)
-      val gatlingFullVersionBytes = GatlingVersion.ThisVersion.fullVersion.getBytes(UTF_8)
-      // Gatling version length
-      os.writeInt(gatlingFullVersionBytes.length)
-      os.write(gatlingFullVersionBytes)
-      // rest of the original file, after skipping the original Gatling version in the file
-      val offset = jl.Byte.BYTES + jl.Integer.BYTES + "3.12.1".getBytes(UTF_8).length
-      os.write(sampleBytes, offset, sampleBytes.length - offset)
-    }
-
+    KnownStatsLogFile.copyTo(tmpResultsDirectory, runUuid, startShift = 0)
     tmpResultsDirectory
   }
 
@@ -137,4 +109,39 @@ class LogFileReaderSpec extends AnyFlatSpecLike with Matchers {
     )
     fileData.numberOfRequestInResponseTimeRanges(None, None).highCount shouldBe 0
   }
+
+  "When merging the log files of several generators, FileDataReader" should "sum the statistics of all the runs" in {
+    val mergeResultsDirectory = Files.createTempDirectory("gatling")
+    KnownStatsLogFile.copyTo(mergeResultsDirectory, "generator1", startShift = 0)
+    KnownStatsLogFile.copyTo(mergeResultsDirectory, "generator2", startShift = 0)
+
+    val configuration = GatlingConfiguration.loadForTest(charting.indicators.LowerBound -> 0, charting.indicators.HigherBound -> 100000)
+    val single = LogFileReader(runUuid, resultsDirectory, configuration).read()
+    val merged = LogFileReader(List("generator1", "generator2"), mergeResultsDirectory, configuration).read()
+
+    val ranges = merged.numberOfRequestInResponseTimeRanges(None, None)
+    ranges.middleCount shouldBe 208
+    ranges.koCount shouldBe 2
+    merged.requestGeneralStats(None, None, None).map(_.min) shouldBe Some(87)
+    merged.requestGeneralStats(None, None, None).map(_.max) shouldBe Some(368)
+    merged.scenarioNames shouldBe single.scenarioNames
+    merged.userStartRatePerSecond(None).map(_.value).sum shouldBe 2 * single.userStartRatePerSecond(None).map(_.value).sum
+    merged.maxNumberOfConcurrentUsersPerSecond(None).map(_.value).max shouldBe 2 * single.maxNumberOfConcurrentUsersPerSecond(None).map(_.value).max
+  }
+
+  it should "align runs that started at different times on the same time axis" in {
+    val mergeResultsDirectory = Files.createTempDirectory("gatling")
+    KnownStatsLogFile.copyTo(mergeResultsDirectory, "generator1", startShift = 0)
+    KnownStatsLogFile.copyTo(mergeResultsDirectory, "generator2", startShift = 60000)
+
+    val configuration = GatlingConfiguration.loadForTest()
+    val single = LogFileReader(runUuid, resultsDirectory, configuration).read()
+    val merged = LogFileReader(List("generator1", "generator2"), mergeResultsDirectory, configuration).read()
+
+    merged.runInfo.runStart shouldBe single.runInfo.runStart
+    merged.runInfo.injectStart shouldBe single.runInfo.injectStart
+    merged.runInfo.injectEnd shouldBe single.runInfo.injectEnd + 60000
+    merged.requestGeneralStats(None, None, None).map(_.count) shouldBe single.requestGeneralStats(None, None, None).map(_.count * 2)
+    merged.userStartRatePerSecond(None).map(_.value).sum shouldBe 2 * single.userStartRatePerSecond(None).map(_.value).sum
+  }
 }
@@ -324,7 +324,7 @@ public final class Session {
    * @return a new instance with the new stored attributes
    */
   public @NonNull Session setAll(@NonNull Map<String, Object> newAttributes) {
-    return new Session(wrapped.setAll(toScalaMap(newAttributes)));
+    return new Session(wrapped.setAll(toScalaMapView(newAttributes)));
   }
 
   /**
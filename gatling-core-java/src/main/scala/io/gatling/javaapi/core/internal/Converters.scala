@@ -20,7 +20,8 @@ import java.{ util => ju }
 import java.time.Duration
 import java.util.{ function => juf }
 
-import scala.collection.immutable.{ ArraySeq, Seq }
+import scala.collection.AbstractIterator
+import scala.collection.immutable.{ AbstractMap, AbstractSeq, ArraySeq, HashMap, IndexedSeq, Seq }
 import scala.concurrent.duration.FiniteDuration
 import scala.jdk.CollectionConverters._
 import scala.jdk.DurationConverters._
@@ -35,6 +36,24 @@ object Converters {
 
   def toScalaSeq[T](list: ju.List[T]): Seq[T] = list.asScala.toSeq
 
+  // truly immutable, unlike Collections.unmodifiable* that are only read-only views over a collection that might still change
+  private val ImmutableListClasses: Set[Class[_]] =
+    Set(ju.List.of().getClass, ju.List.of("").getClass, ju.Collections.emptyList.getClass, ju.Collections.singletonList("").getClass)
+
+  private val ImmutableMapClasses: Set[Class[_]] =
+    Set(ju.Map.of().getClass, ju.Map.of("", "").getClass, ju.Collections.emptyMap.getClass, ju.Collections.singletonMap("", "").getClass)
+
+  /**
+   * No copy when the list is known to be immutable, eg built with List.of, as the returned Seq can then be a view over it. Other lists are copied as they
+   * might be mutated afterwards.
+   */
+  def toScalaSeqView[T](list: ju.List[T]): Seq[T] =
+    if (ImmutableListClasses.contains(list.getClass)) {
+      new JavaListView(list)
+    } else {
+      toScalaSeq(list)
+    }
+
   def toJavaList[T](seq: scala.collection.Seq[T]): ju.List[T] = new ju.ArrayList(seq.asJavaCollection)
 
   def toJavaList[T](t: (T, T)): ju.List[T] = ju.Arrays.asList(t._1, t._2)
@@ -53,6 +72,49 @@ object Converters {
 
   def toScalaMap[K, V](map: ju.Map[K, V]): Map[K, V] = map.asScala.toMap
 
+  /**
+   * No copy when the map is known to be immutable, eg built with Map.of, as the returned Map can then be a view over it. Other maps are copied as they might
+   * be mutated afterwards.
+   */
+  def toScalaMapView[K, V](map: ju.Map[K, V]): Map[K, V] =
+    if (ImmutableMapClasses.contains(map.getClass)) {
+      new JavaMapView(map)
+    } else {
+      toScalaMap(map)
+    }
+
   def toScalaTuple2Seq(list: ju.List[ju.Map.Entry[String, Object]]): Seq[(String, Object)] =
-    list.asScala.map(entry => entry.getKey -> entry.getValue).toSeq
+    list.asScala.view.map(entry => entry.getKey -> entry.getValue).toSeq
+}
+
+private final class JavaListView[T](underlying: ju.List[T]) extends AbstractSeq[T] with IndexedSeq[T] {
+  override def apply(i: Int): T = underlying.get(i)
+
+  override def length: Int = underlying.size
+}
+
+private final class JavaMapView[K, V](underlying: ju.Map[K, V]) extends AbstractMap[K, V] {
+  override def get(key: K): Option[V] = {
+    val value = underlying.get(key)
+    if (value != null || underlying.containsKey(key)) Some(value) else None
+  }
+
+  override def size: Int = underlying.size
+
+  override def knownSize: Int = underlying.size
+
+  override def iterator: Iterator[(K, V)] = new AbstractIterator[(K, V)] {
+    private val it = underlying.entrySet.iterator
+
+    override def hasNext: Boolean = it.hasNext
+
+    override def next(): (K, V) = {
+      val entry = it.next()
+      entry.getKey -> entry.getValue
+    }
+  }
+
+  override def updated[V1 >: V](key: K, value: V1): Map[K, V1] = HashMap.empty[K, V1] ++ this + (key -> value)
+
+  override def removed(key: K): Map[K, V] = HashMap.empty[K, V] ++ this - key
 }
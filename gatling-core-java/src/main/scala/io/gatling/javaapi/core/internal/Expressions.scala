@@ -22,7 +22,6 @@ import java.util.{ function => juf }
 import java.util.concurrent.TimeUnit
 
 import scala.concurrent.duration.FiniteDuration
-import scala.jdk.CollectionConverters._
 import scala.jdk.DurationConverters._
 
 import io.gatling.commons.validation._
@@ -30,7 +29,7 @@ import io.gatling.core.session.{ Session => ScalaSession, _ }
 import io.gatling.core.session.el.El
 import io.gatling.core.structure.Pauses
 import io.gatling.javaapi.core.Session
-import io.gatling.javaapi.core.internal.Converters.toScalaTuple2Seq
+import io.gatling.javaapi.core.internal.Converters.{ toScalaMapView, toScalaSeqView, toScalaTuple2Seq }
 
 object Expressions {
   def expressionToJavaFunction[T](f: Expression[T]): JavaExpression[T] =
@@ -71,10 +70,10 @@ object Expressions {
     session => safely()(f.apply(new Session(session)).toScala.success)
 
   def javaListFunctionToExpression[T](f: JavaExpression[ju.List[T]]): Expression[Seq[T]] =
-    session => safely()(f.apply(new Session(session)).asScala.toSeq.success)
+    session => safely()(toScalaSeqView(f.apply(new Session(session))).success)
 
   def javaMapFunctionToExpression[K, V](f: JavaExpression[ju.Map[K, V]]): Expression[Map[K, V]] =
-    session => safely()(f.apply(new Session(session)).asScala.toMap.success)
+    session => safely()(toScalaMapView(f.apply(new Session(session))).success)
 
   def javaPairListFunctionToTuple2SeqExpression(f: JavaExpression[ju.List[ju.Map.Entry[String, Object]]]): Expression[Seq[(String, Object)]] =
     session => safely()(toScalaTuple2Seq(f.apply(new Session(session))).success)
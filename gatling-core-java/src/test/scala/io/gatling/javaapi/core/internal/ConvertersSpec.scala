@@ -0,0 +1,87 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.javaapi.core.internal
+
+import java.{ util => ju }
+
+import io.gatling.javaapi.core.internal.Converters._
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class ConvertersSpec extends AnyFlatSpecLike with Matchers {
+  "toScalaSeqView" should "expose the elements of a random access list" in {
+    val seq = toScalaSeqView(ju.List.of("a", "b", "c"))
+    seq shouldBe Seq("a", "b", "c")
+    seq(1) shouldBe "b"
+    seq.length shouldBe 3
+  }
+
+  it should "copy a sequential access list" in {
+    toScalaSeqView(new ju.LinkedList(ju.List.of("a", "b"))) shouldBe Seq("a", "b")
+  }
+
+  it should "not change when a mutable source is mutated afterwards" in {
+    val javaList = new ju.ArrayList(ju.List.of("a", "b"))
+    val readOnly = ju.Collections.unmodifiableList(javaList)
+    val seq = toScalaSeqView(javaList)
+    val readOnlySeq = toScalaSeqView(readOnly)
+    javaList.add("c")
+    javaList.set(0, "z")
+    seq shouldBe Seq("a", "b")
+    readOnlySeq shouldBe Seq("a", "b")
+  }
+
+  it should "support immutable operations" in {
+    toScalaSeqView(ju.List.of("a", "b")) :+ "c" shouldBe Seq("a", "b", "c")
+  }
+
+  "toScalaMapView" should "expose the entries of a map" in {
+    val map = toScalaMapView(ju.Map.of("k1", "v1", "k2", "v2"))
+    map shouldBe Map("k1" -> "v1", "k2" -> "v2")
+    map.get("k1") shouldBe Some("v1")
+    map.get("k3") shouldBe None
+    map.size shouldBe 2
+  }
+
+  it should "not change when a mutable source is mutated afterwards" in {
+    val javaMap = new ju.HashMap[String, String](ju.Map.of("k1", "v1"))
+    val map = toScalaMapView(javaMap)
+    val readOnlyMap = toScalaMapView(ju.Collections.unmodifiableMap(javaMap))
+    javaMap.put("k2", "v2")
+    javaMap.remove("k1")
+    map shouldBe Map("k1" -> "v1")
+    readOnlyMap shouldBe Map("k1" -> "v1")
+  }
+
+  it should "support null values" in {
+    val javaMap = new ju.HashMap[String, String]
+    javaMap.put("k1", null)
+    val map = toScalaMapView(javaMap)
+    map.get("k1") shouldBe Some(null)
+    map.contains("k1") shouldBe true
+    map.contains("k2") shouldBe false
+  }
+
+  it should "not alter the underlying map on updates" in {
+    val javaMap = new ju.HashMap[String, String](ju.Map.of("k1", "v1", "k2", "v2"))
+    val map = toScalaMapView(javaMap)
+    map.updated("k3", "v3") shouldBe Map("k1" -> "v1", "k2" -> "v2", "k3" -> "v3")
+    map - "k1" shouldBe Map("k2" -> "v2")
+    javaMap shouldBe ju.Map.of("k1", "v1", "k2", "v2")
+  }
+}
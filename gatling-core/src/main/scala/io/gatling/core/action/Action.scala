@@ -39,12 +39,20 @@ trait Action extends StrictLogging {
   def !(session: Session): Unit = {
     val eventLoop = session.eventLoop
     if (eventLoop.inEventLoop) {
-      execute(session)
+      ActionTrampoline.current.run(this, session)
     } else if (!eventLoop.isShutdown) {
       eventLoop.execute(() => this ! session)
     }
   }
 
+  /**
+   * Runs this Action on the virtual user's event loop, called by the trampoline
+   *
+   * @param session
+   *   the session of the virtual user
+   */
+  private[action] def run(session: Session): Unit = execute(session)
+
   /**
    * Core method executed when the Action received a Session message
    *
@@ -70,9 +78,9 @@ trait ChainableAction extends Action {
    */
   def next: Action
 
-  override abstract def !(session: Session): Unit =
+  override abstract private[action] def run(session: Session): Unit =
     try {
-      super.!(session)
+      super.run(session)
     } catch {
       case reason: IllegalStateException if reason.getMessage == "cannot enqueue after timer shutdown" =>
         // EvenLoopGroup already closed
@@ -106,10 +114,10 @@ class ActorDelegatingAction(val name: String, actor: ActorRef[Session]) extends
 trait ExitableAction extends ChainableAction {
   def clock: Clock
 
-  override abstract def !(session: Session): Unit =
+  override abstract private[action] def run(session: Session): Unit =
     BlockExit.mustExit(session) match {
       case Some(blockExit) => blockExit.exitBlock(statsEngine, clock.nowMillis)
-      case _               => super.!(session)
+      case _               => super.run(session)
     }
 }
 
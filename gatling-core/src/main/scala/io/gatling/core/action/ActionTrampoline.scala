@@ -0,0 +1,144 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.action
+
+import io.gatling.core.session.Session
+
+import io.netty.util.concurrent.FastThreadLocal
+
+private[action] object ActionTrampoline {
+  // bounds the number of actions run inline by an event loop task,
+  // so that a user in a long, or even endless, synchronous chain can't starve the event loop
+  private[action] val MaxInlineSteps = 1024
+
+  private val Trampolines = new FastThreadLocal[ActionTrampoline] {
+    override def initialValue(): ActionTrampoline = new ActionTrampoline
+  }
+
+  /**
+   * @return
+   *   the trampoline of the current event loop thread
+   */
+  def current: ActionTrampoline = Trampolines.get
+}
+
+/**
+ * Runs the actions sent from the current event loop one after the other instead of nesting their calls, so that synchronous chains don't grow the stack.
+ *
+ * Not thread-safe, must only be used from its event loop thread.
+ */
+private[action] final class ActionTrampoline {
+  import ActionTrampoline._
+
+  // the oldest pending step, kept apart as there's most often a single one
+  private var nextAction: Action = _
+  private var nextSession: Session = _
+  // the other pending steps, as a ring buffer of parallel arrays
+  private var actions = new Array[Action](16)
+  private var sessions = new Array[Session](16)
+  private var head = 0
+  private var size = 0
+  private var running = false
+
+  def run(action: Action, session: Session): Unit =
+    if (running) {
+      enqueue(action, session)
+    } else {
+      running = true
+      try {
+        action.run(session)
+        var steps = 1
+        while (nextAction != null && steps < MaxInlineSteps) {
+          val currentAction = nextAction
+          val currentSession = nextSession
+          dequeue()
+          currentAction.run(currentSession)
+          steps += 1
+        }
+      } finally {
+        running = false
+        if (nextAction != null) {
+          deferPending()
+        }
+      }
+    }
+
+  private def enqueue(action: Action, session: Session): Unit =
+    if (nextAction == null) {
+      nextAction = action
+      nextSession = session
+    } else {
+      if (size == actions.length) {
+        grow()
+      }
+      val tail = (head + size) & (actions.length - 1)
+      actions(tail) = action
+      sessions(tail) = session
+      size += 1
+    }
+
+  private def dequeue(): Unit =
+    if (size == 0) {
+      nextAction = null
+      nextSession = null
+    } else {
+      nextAction = actions(head)
+      nextSession = sessions(head)
+      actions(head) = null
+      sessions(head) = null
+      head = (head + 1) & (actions.length - 1)
+      size -= 1
+    }
+
+  private def grow(): Unit = {
+    val newActions = new Array[Action](actions.length * 2)
+    val newSessions = new Array[Session](sessions.length * 2)
+    val firstPart = actions.length - head
+    System.arraycopy(actions, head, newActions, 0, firstPart)
+    System.arraycopy(actions, 0, newActions, firstPart, head)
+    System.arraycopy(sessions, head, newSessions, 0, firstPart)
+    System.arraycopy(sessions, 0, newSessions, firstPart, head)
+    actions = newActions
+    sessions = newSessions
+    head = 0
+  }
+
+  // hand the remaining steps over to the event loop so other tasks get a chance to run,
+  // draining them first as an inline executor would run them right away
+  private def deferPending(): Unit = {
+    val pendingActions = new Array[Action](size + 1)
+    val pendingSessions = new Array[Session](size + 1)
+    var i = 0
+    while (nextAction != null) {
+      pendingActions(i) = nextAction
+      pendingSessions(i) = nextSession
+      dequeue()
+      i += 1
+    }
+
+    i = 0
+    while (i < pendingActions.length) {
+      val action = pendingActions(i)
+      val session = pendingSessions(i)
+      val eventLoop = session.eventLoop
+      if (!eventLoop.isShutdown) {
+        eventLoop.execute(() => action ! session)
+      }
+      i += 1
+    }
+  }
+}
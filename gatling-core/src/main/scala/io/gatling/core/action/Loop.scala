@@ -16,8 +16,6 @@
 
 package io.gatling.core.action
 
-import scala.runtime.LongRef
-
 import io.gatling.commons.util.Clock
 import io.gatling.core.session.{ Expression, LoopBlock, Session }
 import io.gatling.core.stats.StatsEngine
@@ -62,15 +60,6 @@ final class InnerLoop(
     override val statsEngine: StatsEngine,
     override val next: Action
 ) extends ChainableAction {
-  private[this] val lastUserIdThreadLocal = ThreadLocal.withInitial(() => LongRef.zero())
-
-  private[this] def getAndSetLastUserId(session: Session): Long = {
-    val lastUserIdRef = lastUserIdThreadLocal.get()
-    val prev = lastUserIdRef.elem
-    lastUserIdRef.elem = session.userId
-    prev
-  }
-
   /**
    * Evaluates the condition and if true executes the first action of loopNext else it executes next
    *
@@ -79,19 +68,10 @@ final class InnerLoop(
    */
   override def execute(session: Session): Unit = {
     val incrementedSession = counterIncrement(session)
-    val lastUserId = getAndSetLastUserId(session)
 
     if (LoopBlock.continue(continueCondition, incrementedSession)) {
-      if (incrementedSession.userId == lastUserId) {
-        // except if we're running only one user per core, it's very likely we're hitting an empty loop
-        // let's dispatch so we don't spin
-        val eventLoop = session.eventLoop
-        if (!eventLoop.isShutdown) {
-          eventLoop.execute(() => loopNext ! incrementedSession)
-        }
-      } else {
-        loopNext ! incrementedSession
-      }
+      // empty loops don't spin forever as the trampoline hands long synchronous chains back to the event loop
+      loopNext ! incrementedSession
     } else {
       val newSession = incrementedSession.blockStack match {
         case LoopBlock(counterName) :: tail => incrementedSession.exitLoop(counterName, tail)
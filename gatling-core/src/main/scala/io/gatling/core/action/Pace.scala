@@ -16,8 +16,6 @@
 
 package io.gatling.core.action
 
-import java.util.concurrent.TimeUnit
-
 import scala.concurrent.duration.FiniteDuration
 
 import io.gatling.commons.util.Clock
@@ -40,6 +38,7 @@ private final class Pace(
     counter: String,
     override val statsEngine: StatsEngine,
     override val clock: Clock,
+    pauseTickMillis: Long,
     override val next: Action
 ) extends ExitableAction
     with NameGen {
@@ -60,13 +59,11 @@ private final class Pace(
       val intervalMillis = interval.toMillis
       session(counter).asOption[Long] match {
         case Some(timeLimit) if timeLimit > now =>
-          session.eventLoop.schedule(
-            (() => {
-              // clock.nowMillis will be evaluated when scheduled task will run
-              next ! session.set(counter, clock.nowMillis + intervalMillis)
-            }): Runnable,
+          PauseScheduler(session.eventLoop, clock, pauseTickMillis).sleep(
+            session,
             timeLimit - now,
-            TimeUnit.MILLISECONDS
+            // clock.nowMillis will be evaluated when the user wakes up
+            sleepingSession => next ! sleepingSession.set(counter, clock.nowMillis + intervalMillis)
           )
 
         case _ =>
@@ -16,8 +16,6 @@
 
 package io.gatling.core.action
 
-import java.util.concurrent.TimeUnit
-
 import io.gatling.commons.util.Clock
 import io.gatling.core.session.{ Expression, Session }
 import io.gatling.core.stats.StatsEngine
@@ -26,9 +24,11 @@ private final class Pause(
     pauseDuration: Expression[Long],
     override val statsEngine: StatsEngine,
     override val clock: Clock,
+    pauseTickMillis: Long,
     override val name: String,
     override val next: Action
 ) extends ExitableAction {
+  private val wakeUp: Session => Unit = next ! _
 
   /**
    * Generates a duration if required or use the one given and defer next actor execution of this duration
@@ -41,13 +41,7 @@ private final class Pause(
       // can make pause
       logger.debug(s"Pausing for ${durationInMillis}ms")
 
-      session.eventLoop.schedule(
-        (() => {
-          next ! session
-        }): Runnable,
-        durationInMillis,
-        TimeUnit.MILLISECONDS
-      )
+      PauseScheduler(session.eventLoop, clock, pauseTickMillis).sleep(session, durationInMillis, wakeUp)
     }
 
     pauseDuration(session).map(schedule)
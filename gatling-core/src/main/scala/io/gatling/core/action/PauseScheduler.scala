@@ -0,0 +1,112 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.action
+
+import java.{ util => ju }
+import java.util.concurrent.TimeUnit
+
+import scala.collection.mutable
+import scala.util.control.NonFatal
+
+import io.gatling.commons.util.Clock
+import io.gatling.core.session.Session
+
+import com.typesafe.scalalogging.StrictLogging
+import io.netty.channel.EventLoop
+import io.netty.util.concurrent.FastThreadLocal
+
+private[core] object PauseScheduler {
+  private val Schedulers = new FastThreadLocal[PauseScheduler]
+
+  /**
+   * @param eventLoop
+   *   the event loop of the sleeping users, must be the current one
+   * @param clock
+   *   the clock the wake-ups are computed with
+   * @param tickMillis
+   *   the granularity of the wake-ups
+   * @return
+   *   the scheduler of the event loop
+   */
+  def apply(eventLoop: EventLoop, clock: Clock, tickMillis: Long): PauseScheduler = {
+    val current = Schedulers.get
+    if (current != null && (current.eventLoop eq eventLoop) && (current.clock eq clock)) {
+      current
+    } else {
+      val scheduler = new PauseScheduler(eventLoop, clock, tickMillis)
+      Schedulers.set(scheduler)
+      scheduler
+    }
+  }
+}
+
+/**
+ * Coalesces the wake-ups of the users sleeping on an event loop: users whose wake-up falls in the same tick share a single scheduled task, instead of each
+ * of them inserting their own in the event loop's scheduled tasks queue.
+ *
+ * Not thread-safe, must only be used from its event loop.
+ */
+private[core] final class PauseScheduler(val eventLoop: EventLoop, val clock: Clock, tickMillis: Long) extends StrictLogging {
+  require(tickMillis > 0, "tickMillis must be > 0")
+
+  private val slots = mutable.LongMap.empty[Slot]
+
+  def sleep(session: Session, delayMillis: Long, wakeUp: Session => Unit): Unit = {
+    val nowMillis = clock.nowMillis
+    // round up so users never wake up early
+    val tick = (nowMillis + delayMillis + tickMillis - 1) / tickMillis
+
+    var slot = slots.getOrNull(tick)
+    if (slot == null) {
+      slot = new Slot(tick)
+      eventLoop.schedule(slot, tick * tickMillis - nowMillis, TimeUnit.MILLISECONDS)
+      slots.update(tick, slot)
+    }
+    slot.add(session, wakeUp)
+  }
+
+  private final class Slot(tick: Long) extends Runnable {
+    private var sessions = new Array[Session](4)
+    private var wakeUps = new Array[Session => Unit](4)
+    private var size = 0
+
+    def add(session: Session, wakeUp: Session => Unit): Unit = {
+      if (size == sessions.length) {
+        sessions = ju.Arrays.copyOf(sessions, size * 2)
+        wakeUps = ju.Arrays.copyOf(wakeUps, size * 2)
+      }
+      sessions(size) = session
+      wakeUps(size) = wakeUp
+      size += 1
+    }
+
+    override def run(): Unit = {
+      // users pausing again while waking up go into another slot
+      slots.remove(tick)
+      var i = 0
+      while (i < size) {
+        val session = sessions(i)
+        try {
+          wakeUps(i)(session)
+        } catch {
+          case NonFatal(e) => logger.error(s"Failed to wake up user ${session.userId}", e)
+        }
+        i += 1
+      }
+    }
+  }
+}
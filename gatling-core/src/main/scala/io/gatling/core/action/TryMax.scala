@@ -16,8 +16,6 @@
 
 package io.gatling.core.action
 
-import scala.runtime.LongRef
-
 import io.gatling.commons.stats.KO
 import io.gatling.commons.util.Clock
 import io.gatling.commons.validation._
@@ -54,15 +52,6 @@ class InnerTryMax(
     override val statsEngine: StatsEngine,
     override val next: Action
 ) extends ChainableAction {
-  private[this] val lastUserIdThreadLocal = ThreadLocal.withInitial(() => LongRef.zero())
-
-  private[this] def getAndSetLastUserId(session: Session): Long = {
-    val lastUserIdRef = lastUserIdThreadLocal.get()
-    val prev = lastUserIdRef.elem
-    lastUserIdRef.elem = session.userId
-    prev
-  }
-
   private def blockFailed(session: Session): Boolean = session.blockStack.headOption match {
     case Some(TryMaxBlock(_, _, KO)) => true
     case _                           => false
@@ -91,8 +80,6 @@ class InnerTryMax(
    *   the session of the virtual user
    */
   override def execute(session: Session): Unit = {
-    val lastUserId = getAndSetLastUserId(session)
-
     if (!session.contains(counterName)) {
       loopNext ! session.enterTryMax(counterName, this)
     } else {
@@ -100,18 +87,7 @@ class InnerTryMax(
 
       if (continue(incrementedSession)) {
         // reset status
-        val resetSession = incrementedSession.markAsSucceeded
-
-        if (session.userId == lastUserId) {
-          // except if we're running only one user per core, it's very likely we're hitting an empty loop
-          // let's dispatch so we don't spin
-          val eventLoop = session.eventLoop
-          if (!eventLoop.isShutdown) {
-            eventLoop.execute(() => loopNext ! resetSession)
-          }
-        } else {
-          loopNext ! resetSession
-        }
+        loopNext ! incrementedSession.markAsSucceeded
       } else {
         val newSession =
           session.blockStack match {
@@ -29,5 +29,5 @@ import io.gatling.core.structure.ScenarioContext
  */
 private[core] final class PaceBuilder(interval: Expression[FiniteDuration], counter: String) extends ActionBuilder {
   override def build(ctx: ScenarioContext, next: Action): Action =
-    new Pace(interval, counter, ctx.coreComponents.statsEngine, ctx.coreComponents.clock, next)
+    new Pace(interval, counter, ctx.coreComponents.statsEngine, ctx.coreComponents.clock, ctx.coreComponents.configuration.core.pauseTick, next)
 }
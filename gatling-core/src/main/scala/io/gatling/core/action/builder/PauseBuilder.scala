@@ -40,6 +40,13 @@ private[core] final class PauseBuilder(duration: Expression[FiniteDuration], for
       case Disabled => next
       case pauseType =>
         val generator = pauseType.generator(duration)
-        new Pause(generator, ctx.coreComponents.statsEngine, ctx.coreComponents.clock, genName("pause"), next)
+        new Pause(
+          generator,
+          ctx.coreComponents.statsEngine,
+          ctx.coreComponents.clock,
+          ctx.coreComponents.configuration.core.pauseTick,
+          genName("pause"),
+          next
+        )
     }
 }
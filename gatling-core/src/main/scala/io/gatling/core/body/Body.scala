@@ -95,13 +95,13 @@ final case class ElBody(partsE: Expression[List[ElBody.Part]]) extends BodyWithS
               for {
                 acc <- accV
                 string <- stringE(session)
-              } yield new StringWithCachedBytes(string, charset) :: acc
+              } yield StringWithCachedBytes.uncached(string, charset) :: acc
           }
         }
       } yield reversedBytes.reverse
 
   def asStream: Expression[InputStream] =
-    asStringWithCachedBytes.map(stringWithCachedBytes => new CompositeByteArrayInputStream(stringWithCachedBytes.map(_.bytes)))
+    asStringWithCachedBytes.map(stringWithCachedBytes => new CompositeByteArrayInputStream(stringWithCachedBytes.map(_.bytes())))
 }
 
 final case class InputStreamBody(is: Expression[InputStream]) extends Body
@@ -36,7 +36,6 @@ import io.gatling.core.stats.message.ResponseTimings
 import com.fasterxml.jackson.databind.JsonNode
 import io.burt.jmespath.function.{ Function => JmesPathFunction }
 import jodd.lagarto.dom.NodeSelector
-import net.sf.saxon.s9api.XdmNode
 
 trait CheckSupport {
   implicit def validate2Final[T, P, X](validatorCheckBuilder: CheckBuilder.Validate[T, P, X]): CheckBuilder.Final[T, P] =
@@ -65,11 +64,15 @@ trait CheckSupport {
 
   def substring(pattern: Expression[String]): CheckBuilder.MultipleFind[SubstringCheckType, String, Int] = new SubstringCheckBuilder(pattern)
 
-  def xpath(path: Expression[String])(implicit xmlParsers: XmlParsers): CheckBuilder.MultipleFind[XPathCheckType, XdmNode, String] =
+  /**
+   * xpath checks are prepared as an [[XmlDocument]], which used to be a Saxon XdmNode. Custom materializers for [[XPathCheckType]] have to prepare an
+   * XmlDocument instead, XmlDocument(node) wrapping the XdmNode they used to prepare, and code reading the prepared tree gets it from XmlDocument.node.
+   */
+  def xpath(path: Expression[String])(implicit xmlParsers: XmlParsers): CheckBuilder.MultipleFind[XPathCheckType, XmlDocument, String] =
     xpath(path, Map.empty[String, String])
   def xpath(path: Expression[String], namespaces: Map[String, String])(implicit
       xmlParsers: XmlParsers
-  ): CheckBuilder.MultipleFind[XPathCheckType, XdmNode, String] =
+  ): CheckBuilder.MultipleFind[XPathCheckType, XmlDocument, String] =
     new XPathCheckBuilder(path, namespaces, xmlParsers)
 
   def css(selector: Expression[String])(implicit selectors: CssSelectors): CheckBuilder.MultipleFind[CssCheckType, NodeSelector, String] with CssOfType =
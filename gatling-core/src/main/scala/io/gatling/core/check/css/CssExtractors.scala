@@ -32,7 +32,7 @@ private object CssExtractors {
       "css",
       (query, nodeAttribute),
       occurrence,
-      selectors.extractAll(_, (query, nodeAttribute)).lift(occurrence).success
+      selectors.extract(_, (query, nodeAttribute), occurrence + 1).lift(occurrence).success
     )
 
   def findAll[X: NodeConverter](
@@ -50,6 +50,6 @@ private object CssExtractors {
     new CountCriterionExtractor[NodeSelector, (String, Option[String])](
       "css",
       (query, nodeAttribute),
-      prepared => Some(selectors.extractAll[String](prepared, (query, nodeAttribute)).size).success
+      prepared => Some(selectors.count(prepared, (query, nodeAttribute))).success
     )
 }
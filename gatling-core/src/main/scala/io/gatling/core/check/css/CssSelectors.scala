@@ -24,24 +24,84 @@ import io.gatling.core.util.cache.Cache
 
 import com.github.benmanes.caffeine.cache.LoadingCache
 import jodd.csselly.{ CSSelly, CssSelector }
-import jodd.lagarto.dom.NodeSelector
+import jodd.lagarto.dom.{ LagartoDOMBuilder, Node, NodeFilter, NodeSelector }
 
 final class CssSelectors(cacheMaxCapacity: Long) {
   private val domBuilder = Lagarto.newLagartoDomBuilder
-  private val selectorCache: LoadingCache[String, ju.List[ju.List[CssSelector]]] =
-    Cache.newConcurrentLoadingCache(cacheMaxCapacity, CSSelly.parse)
+  private val selectorCache: LoadingCache[String, CompiledSelector] =
+    Cache.newConcurrentLoadingCache(
+      cacheMaxCapacity,
+      query => {
+        val selectors = CSSelly.parse(query)
+        new CompiledSelector(selectors, StreamingCssSelector.compile(selectors))
+      }
+    )
 
-  def parse(chars: Array[Char]): NodeSelector = new NodeSelector(domBuilder.parse(chars))
+  /**
+   * @param chars
+   *   the document
+   * @return
+   *   a NodeSelector that only builds the DOM if a selector can't be matched while streaming over the document
+   */
+  def parse(chars: Array[Char]): NodeSelector = new LazyNodeSelector(chars, domBuilder)
 
-  def extractAll[X: NodeConverter](selector: NodeSelector, criterion: (String, Option[String])): Vector[X] = {
+  def extractAll[X: NodeConverter](selector: NodeSelector, criterion: (String, Option[String])): Vector[X] =
+    extract(selector, criterion, Int.MaxValue)
+
+  /**
+   * @return
+   *   the first maxCount values, parsing stops after the last one when streaming over the document
+   */
+  def extract[X: NodeConverter](selector: NodeSelector, criterion: (String, Option[String]), maxCount: Int): Vector[X] = {
     val (query, nodeAttribute) = criterion
-    val selectors = selectorCache.get(query)
-
-    selector
-      .select(selectors)
-      .asScala
-      .view
-      .flatMap(node => NodeConverter[X].convert(node, nodeAttribute).toList)
-      .to(Vector)
+    val compiled = selectorCache.get(query)
+
+    (selector, compiled.streaming, nodeAttribute) match {
+      // only attribute values can be extracted without the DOM, and the DOM is faster to query again once built
+      case (lazySelector: LazyNodeSelector, Some(streaming), Some(attribute))
+          if (NodeConverter[X] eq NodeConverter.stringNodeConverter) && !lazySelector.isBuilt =>
+        streaming.extractAttributeValues(lazySelector.chars, attribute, maxCount).asInstanceOf[Vector[X]]
+      case _ =>
+        selector
+          .select(compiled.selectors)
+          .asScala
+          .view
+          .flatMap(node => NodeConverter[X].convert(node, nodeAttribute).toList)
+          .take(maxCount)
+          .to(Vector)
+    }
+  }
+
+  def count(selector: NodeSelector, criterion: (String, Option[String])): Int = {
+    val (query, nodeAttribute) = criterion
+
+    (selector, selectorCache.get(query).streaming, nodeAttribute) match {
+      case (lazySelector: LazyNodeSelector, Some(streaming), None) if !lazySelector.isBuilt => streaming.count(lazySelector.chars)
+      case _                                                                                 => extractAll[String](selector, criterion).size
+    }
+  }
+}
+
+private final class CompiledSelector(val selectors: ju.List[ju.List[CssSelector]], val streaming: Option[StreamingCssSelector])
+
+/**
+ * Builds the DOM on first use. Not thread-safe, like the checks of a given response.
+ */
+private final class LazyNodeSelector(val chars: Array[Char], domBuilder: LagartoDOMBuilder) extends NodeSelector(null) {
+  private var dom: NodeSelector = _
+
+  def isBuilt: Boolean = dom != null
+
+  private def built: NodeSelector = {
+    if (dom == null) {
+      dom = new NodeSelector(domBuilder.parse(chars))
+    }
+    dom
   }
+
+  override def select(query: String): ju.List[Node] = built.select(query)
+  override def select(selectors: ju.Collection[ju.List[CssSelector]]): ju.List[Node] = built.select(selectors)
+  override def selectFirst(query: String): Node = built.selectFirst(query)
+  override def select(nodeFilter: NodeFilter): ju.List[Node] = built.select(nodeFilter)
+  override def selectFirst(nodeFilter: NodeFilter): Node = built.selectFirst(nodeFilter)
 }
@@ -0,0 +1,255 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.css
+
+import java.{ util => ju }
+import java.util.Locale
+
+import scala.collection.immutable.VectorBuilder
+import scala.util.control.ControlThrowable
+
+import jodd.csselly.{ Combinator, CssSelector, Selector }
+import jodd.csselly.selector.AttributeSelector
+import jodd.lagarto.{ EmptyTagVisitor, Tag, TagType }
+import jodd.lagarto.dom.{ HtmlImplicitClosingRules, HtmlVoidRules }
+import jodd.util.CharSequenceUtil
+
+private[css] object StreamingCssSelector {
+  private val ImplicitClosingRules = new HtmlImplicitClosingRules
+  private val VoidRules = new HtmlVoidRules
+  private val MaxCompounds = 64
+
+  private object StopParsing extends ControlThrowable
+
+  /**
+   * @param selectors
+   *   a parsed selector query
+   * @return
+   *   a selector that can be matched while streaming over the document if the query only contains one group of tag, id, class and attribute selectors
+   *   combined with descendant combinators, None otherwise
+   */
+  def compile(selectors: ju.List[ju.List[CssSelector]]): Option[StreamingCssSelector] =
+    if (selectors.size != 1) {
+      None
+    } else {
+      val compounds = selectors.get(0)
+      val size = compounds.size
+      if (size == 0 || size > MaxCompounds) {
+        None
+      } else {
+        val streamingCompounds = new Array[Compound](size)
+        var supported = true
+        var i = 0
+        while (supported && i < size) {
+          val compound = compounds.get(i)
+          // combinator with the next compound, if any
+          supported = (i == size - 1 || compound.getCombinator == Combinator.DESCENDANT) && {
+            val attributeSelectors = new Array[AttributeSelector](compound.selectorsCount)
+            var j = 0
+            while (j < attributeSelectors.length && compound.getSelector(j).getType == Selector.Type.ATTRIBUTE) {
+              attributeSelectors(j) = compound.getSelector(j).asInstanceOf[AttributeSelector]
+              j += 1
+            }
+            streamingCompounds(i) = new Compound(compound.getElement, attributeSelectors)
+            j == attributeSelectors.length
+          }
+          i += 1
+        }
+
+        if (supported) Some(new StreamingCssSelector(streamingCompounds)) else None
+      }
+    }
+
+  // like the DOM, the first occurrence of an attribute wins
+  private def attributeIndex(tag: Tag, name: String): Int = {
+    val count = tag.getAttributeCount
+    var i = 0
+    while (i < count && !CharSequenceUtil.equalsIgnoreCase(tag.getAttributeName(i), name)) {
+      i += 1
+    }
+    if (i < count) i else -1
+  }
+
+  private def attributeValue(tag: Tag, name: String): String = {
+    val i = attributeIndex(tag, name)
+    if (i < 0) {
+      null
+    } else {
+      val value = tag.getAttributeValue(i)
+      if (value == null) null else value.toString
+    }
+  }
+
+  private[css] final class Compound(element: String, attributeSelectors: Array[AttributeSelector]) {
+    // the DOM is case-insensitive and lower cases the element names
+    private val anyElement = element == "*"
+    private val matchableElement = element == element.toLowerCase(Locale.ROOT)
+
+    def matches(tag: Tag): Boolean =
+      (anyElement || (matchableElement && CharSequenceUtil.equalsIgnoreCase(tag.getName, element))) && {
+        var i = 0
+        while (i < attributeSelectors.length && matches(tag, attributeSelectors(i))) {
+          i += 1
+        }
+        i == attributeSelectors.length
+      }
+
+    private def matches(tag: Tag, selector: AttributeSelector): Boolean =
+      if (selector.getValue == null) {
+        attributeIndex(tag, selector.getName) >= 0
+      } else {
+        val value = attributeValue(tag, selector.getName)
+        value != null && selector.getMatch.compare(value, selector.getValue)
+      }
+  }
+}
+
+/**
+ * Matches a CSS selector against the tags of a document as Lagarto parses them, without building a DOM.
+ *
+ * Open elements are tracked the way the Lagarto DOM builder nests them in HTML mode, with its implicit closing and void tags rules, so the matched elements
+ * and their order are the same as with the DOM.
+ */
+private[css] final class StreamingCssSelector(compounds: Array[StreamingCssSelector.Compound]) {
+  import StreamingCssSelector._
+
+  private val last = compounds.length - 1
+  // ancestors only matter with combinators
+  private val nested = last > 0
+
+  /**
+   * @param chars
+   *   the document
+   * @param attribute
+   *   the attribute to extract from the matched elements
+   * @param maxCount
+   *   the number of values after which parsing stops
+   * @return
+   *   the values of the attribute for the matched elements that have it, in document order
+   */
+  def extractAttributeValues(chars: Array[Char], attribute: String, maxCount: Int): Vector[String] = {
+    val values = new VectorBuilder[String]
+    var count = 0
+    foreachMatch(chars) { tag =>
+      val value = attributeValue(tag, attribute)
+      if (value != null) {
+        values += value
+        count += 1
+      }
+      count < maxCount
+    }
+    values.result()
+  }
+
+  def count(chars: Array[Char]): Int = {
+    var count = 0
+    foreachMatch(chars) { _ =>
+      count += 1
+      true
+    }
+    count
+  }
+
+  // onMatch returns false to stop parsing
+  private def foreachMatch(chars: Array[Char])(onMatch: Tag => Boolean): Unit = {
+    val visitor = new EmptyTagVisitor {
+      // the open elements, each with the bit mask of the compounds it matches
+      private var names = new Array[String](16)
+      private var masks = new Array[Long](16)
+      private var depth = 0
+
+      private def push(name: String, mask: Long): Unit = {
+        if (depth == names.length) {
+          names = ju.Arrays.copyOf(names, depth * 2)
+          masks = ju.Arrays.copyOf(masks, depth * 2)
+        }
+        names(depth) = name
+        masks(depth) = mask
+        depth += 1
+      }
+
+      private def compoundsMask(tag: Tag): Long = {
+        var mask = 0L
+        var i = 0
+        while (i < compounds.length) {
+          if (compounds(i).matches(tag)) {
+            mask |= 1L << i
+          }
+          i += 1
+        }
+        mask
+      }
+
+      // descendant combinators only, so matching the nearest ancestors first is enough
+      private def ancestorsMatch: Boolean = {
+        var compound = last - 1
+        var i = depth - 1
+        while (compound >= 0 && i >= 0) {
+          if ((masks(i) & (1L << compound)) != 0) {
+            compound -= 1
+          }
+          i -= 1
+        }
+        compound < 0
+      }
+
+      private def element(tag: Tag, mask: Long): Unit =
+        if ((mask & (1L << last)) != 0 && ancestorsMatch && !onMatch(tag)) {
+          throw StopParsing
+        }
+
+      override def tag(tag: Tag): Unit =
+        tag.getType match {
+          case TagType.START if nested =>
+            val name = tag.getName.toString.toLowerCase(Locale.ROOT)
+            while (depth > 0 && ImplicitClosingRules.implicitlyCloseParentTagOnNewTag(names(depth - 1), name)) {
+              depth -= 1
+            }
+            val mask = compoundsMask(tag)
+            element(tag, mask)
+            if (!VoidRules.isVoidTag(name)) {
+              push(name, mask)
+            }
+
+          case TagType.START | TagType.SELF_CLOSING =>
+            element(tag, compoundsMask(tag))
+
+          case TagType.END if nested =>
+            // like the DOM, close up to the matching open element, if any, otherwise ignore
+            val name = tag.getName.toString.toLowerCase(Locale.ROOT)
+            var i = depth - 1
+            while (i >= 0 && names(i) != name) {
+              i -= 1
+            }
+            if (i >= 0) {
+              depth = i
+            }
+
+          case _ =>
+        }
+
+      override def script(tag: Tag, body: CharSequence): Unit =
+        element(tag, compoundsMask(tag))
+    }
+
+    try {
+      Lagarto.newLagartoParser(chars).parse(visitor)
+    } catch {
+      case StopParsing =>
+    }
+  }
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.xpath
+
+import java.{ lang => jl, util => ju }
+import javax.xml.stream.{ XMLInputFactory, XMLStreamConstants, XMLStreamException, XMLStreamReader }
+
+import scala.collection.mutable
+import scala.util.control.ControlThrowable
+
+private[xpath] object StreamingXPath {
+  // Long masks, with one bit for the document node
+  private val MaxSteps = 63
+
+  // XMLInputFactory implementations aren't guaranteed to be thread-safe
+  private val InputFactories: ThreadLocal[XMLInputFactory] = ThreadLocal.withInitial { () =>
+    val factory = XMLInputFactory.newFactory()
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true)
+    factory.setProperty(XMLInputFactory.IS_COALESCING, false)
+    factory.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true)
+    // documents with a DTD are handed over to Saxon
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, false)
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false)
+    factory
+  }
+
+  private object Fallback extends ControlThrowable
+
+  private def nonNullNamespace(namespace: String): String = if (namespace == null) "" else namespace
+
+  private def attributeValue(reader: XMLStreamReader, namespace: String, localName: String): String = {
+    val count = reader.getAttributeCount
+    var i = 0
+    while (i < count && !(reader.getAttributeLocalName(i) == localName && nonNullNamespace(reader.getAttributeNamespace(i)) == namespace)) {
+      i += 1
+    }
+    if (i < count) reader.getAttributeValue(i) else null
+  }
+
+  private[xpath] final class AttributeTest(namespace: String, localName: String, value: String) {
+    def matches(reader: XMLStreamReader): Boolean = {
+      val actual = attributeValue(reader, namespace, localName)
+      actual != null && (value == null || actual == value)
+    }
+  }
+
+  private[xpath] final class Step(val descendant: Boolean, namespace: String, localName: String, attributeTests: Array[AttributeTest]) {
+    private def attributesMatch(reader: XMLStreamReader): Boolean = {
+      var i = 0
+      while (i < attributeTests.length && attributeTests(i).matches(reader)) {
+        i += 1
+      }
+      i == attributeTests.length
+    }
+
+    // a null localName stands for *
+    def matches(reader: XMLStreamReader): Boolean =
+      (localName == null || (localName == reader.getLocalName && namespace == nonNullNamespace(reader.getNamespaceURI))) && attributesMatch(reader)
+  }
+
+  private[xpath] sealed abstract class Selection extends Product with Serializable
+  private[xpath] case object ElementSelection extends Selection
+  private[xpath] case object TextSelection extends Selection
+  private[xpath] final case class AttributeSelection(namespace: String, localName: String) extends Selection
+
+  private final class Parser(expression: String, namespaces: Map[String, String]) {
+    private var pos = 0
+
+    private def skipWhitespace(): Unit =
+      while (pos < expression.length && Character.isWhitespace(expression.charAt(pos))) {
+        pos += 1
+      }
+
+    private def accept(token: String): Boolean = {
+      skipWhitespace()
+      val accepted = expression.startsWith(token, pos)
+      if (accepted) {
+        pos += token.length
+      }
+      accepted
+    }
+
+    private def atEnd: Boolean = {
+      skipWhitespace()
+      pos == expression.length
+    }
+
+    private def ncName(): String = {
+      val start = pos
+      if (pos < expression.length && (Character.isLetter(expression.charAt(pos)) || expression.charAt(pos) == '_')) {
+        pos += 1
+        while (
+          pos < expression.length && {
+            val c = expression.charAt(pos)
+            Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.'
+          }
+        ) {
+          pos += 1
+        }
+        expression.substring(start, pos)
+      } else {
+        null
+      }
+    }
+
+    // (namespace, localName), None for axes, unknown prefixes and wildcard local names
+    private def qName(): Option[(String, String)] = {
+      skipWhitespace()
+      val prefixOrLocalName = ncName()
+      if (prefixOrLocalName == null) {
+        None
+      } else if (pos < expression.length && expression.charAt(pos) == ':') {
+        pos += 1
+        val localName = ncName()
+        if (localName == null) None else namespaces.get(prefixOrLocalName).map(_ -> localName)
+      } else {
+        Some("" -> prefixOrLocalName)
+      }
+    }
+
+    private def literal(): Option[String] = {
+      skipWhitespace()
+      if (pos < expression.length && (expression.charAt(pos) == '\'' || expression.charAt(pos) == '"')) {
+        val quote = expression.charAt(pos)
+        val end = expression.indexOf(quote, pos + 1)
+        // doubled quotes are escaped quotes
+        if (end < 0 || expression.startsWith(quote.toString, end + 1)) {
+          None
+        } else {
+          val value = expression.substring(pos + 1, end)
+          pos = end + 1
+          Some(value)
+        }
+      } else {
+        None
+      }
+    }
+
+    private def attributeTest(): Option[AttributeTest] =
+      if (accept("@")) {
+        qName().flatMap { case (namespace, localName) =>
+          if (accept("]")) {
+            Some(new AttributeTest(namespace, localName, null))
+          } else if (accept("=")) {
+            literal().filter(_ => accept("]")).map(new AttributeTest(namespace, localName, _))
+          } else {
+            None
+          }
+        }
+      } else {
+        None
+      }
+
+    def parse(): Option[StreamingXPath] = {
+      val steps = mutable.ArrayBuffer.empty[Step]
+      // relative paths are evaluated against the document node, just like absolute ones
+      var descendant = accept("//")
+      if (!descendant) {
+        accept("/")
+      }
+      var selection: Selection = null
+      var failed = false
+
+      while (!failed && selection == null) {
+        if (accept("@")) {
+          qName() match {
+            case Some((namespace, localName)) if steps.nonEmpty && !descendant && atEnd => selection = AttributeSelection(namespace, localName)
+            case _                                                                        => failed = true
+          }
+        } else if (accept("text()")) {
+          if (steps.nonEmpty && !descendant && atEnd) selection = TextSelection else failed = true
+        } else {
+          val nameTest = if (accept("*")) Some((null, null)) else qName()
+          nameTest match {
+            case Some((namespace, localName)) =>
+              val attributeTests = mutable.ArrayBuffer.empty[AttributeTest]
+              while (!failed && accept("[")) {
+                attributeTest() match {
+                  case Some(test) => attributeTests += test
+                  case _          => failed = true
+                }
+              }
+              if (!failed) {
+                steps += new Step(descendant, namespace, localName, attributeTests.toArray)
+                if (atEnd) {
+                  selection = ElementSelection
+                } else if (accept("//")) {
+                  descendant = true
+                } else if (accept("/")) {
+                  descendant = false
+                } else {
+                  failed = true
+                }
+              }
+
+            case _ => failed = true
+          }
+        }
+      }
+
+      if (failed || steps.sizeIs > MaxSteps) None else Some(new StreamingXPath(steps.toArray, selection))
+    }
+  }
+
+  /**
+   * @param expression
+   *   the xpath expression
+   * @param namespaces
+   *   the prefixes the expression can use
+   * @return
+   *   a streaming evaluation of the expression if it only contains absolute or relative child and descendant steps, with name tests, attribute existence or
+   *   string equality predicates, and optionally ends with text() or an attribute, None otherwise
+   */
+  def compile(expression: String, namespaces: Map[String, String]): Option[StreamingXPath] =
+    new Parser(expression, namespaces).parse()
+}
+
+/**
+ * Evaluates a subset of xpath while reading the document with StAX, without building a tree, and stops as soon as enough results are found.
+ *
+ * Results are the same as Saxon's: in document order, elements' values are the concatenation of their descendant text, and adjacent text and CDATA make one
+ * text node.
+ */
+private[xpath] final class StreamingXPath(steps: Array[StreamingXPath.Step], selection: StreamingXPath.Selection) {
+  import StreamingXPath._
+
+  private val lastBit = 1L << steps.length
+
+  /**
+   * @return
+   *   up to maxCount results, or None if the document has to be parsed by Saxon, eg because it has a DTD
+   */
+  def extract(document: XmlDocument, maxCount: Int): Option[Vector[String]] = {
+    val evaluation = new Evaluation(maxCount, values = true)
+    if (evaluation.run(document)) Some(evaluation.values) else None
+  }
+
+  /**
+   * @return
+   *   the number of results, or None if the document has to be parsed by Saxon, eg because it has a DTD
+   */
+  def count(document: XmlDocument): Option[Int] = {
+    val evaluation = new Evaluation(Int.MaxValue, values = false)
+    if (evaluation.run(document)) Some(evaluation.count) else None
+  }
+
+  private final class Evaluation(maxCount: Int, values: Boolean) {
+    // bit 0 for the document node, bit i + 1 for step i
+    private var masks = new Array[Long](16)
+    private var ancestorMasks = new Array[Long](16)
+    private var depth = 0
+    masks(0) = 1L
+    ancestorMasks(0) = 1L
+
+    private val results = mutable.ArrayBuffer.empty[String]
+    var count = 0
+
+    // values of open matching elements are substrings of the text read since the outermost one started
+    private val text = new jl.StringBuilder
+    private var openDepths = new Array[Int](16)
+    private var openStarts = new Array[Int](16)
+    private var openIndexes = new Array[Int](16)
+    private var openCount = 0
+
+    def values: Vector[String] = results.view.take(maxCount).toVector
+
+    private def done: Boolean = {
+      val completed = if (openCount == 0) results.size else openIndexes(0)
+      completed >= maxCount
+    }
+
+    private def emit(value: String): Unit = {
+      count += 1
+      if (values) {
+        results += value
+      }
+    }
+
+    private def startElement(reader: XMLStreamReader): Unit = {
+      val parentMask = masks(depth)
+      val ancestorMask = ancestorMasks(depth)
+      var mask = 0L
+      var i = 0
+      while (i < steps.length) {
+        val step = steps(i)
+        if (((if (step.descendant) ancestorMask else parentMask) & (1L << i)) != 0 && step.matches(reader)) {
+          mask |= 1L << (i + 1)
+        }
+        i += 1
+      }
+
+      depth += 1
+      if (depth == masks.length) {
+        masks = ju.Arrays.copyOf(masks, depth * 2)
+        ancestorMasks = ju.Arrays.copyOf(ancestorMasks, depth * 2)
+      }
+      masks(depth) = mask
+      ancestorMasks(depth) = ancestorMask | mask
+
+      if ((mask & lastBit) != 0) {
+        selection match {
+          case AttributeSelection(namespace, localName) =>
+            val value = attributeValue(reader, namespace, localName)
+            if (value != null) {
+              emit(value)
+            }
+
+          case ElementSelection if values =>
+            if (openCount == openDepths.length) {
+              openDepths = ju.Arrays.copyOf(openDepths, openCount * 2)
+              openStarts = ju.Arrays.copyOf(openStarts, openCount * 2)
+              openIndexes = ju.Arrays.copyOf(openIndexes, openCount * 2)
+            }
+            openDepths(openCount) = depth
+            openStarts(openCount) = text.length
+            openIndexes(openCount) = results.size
+            openCount += 1
+            count += 1
+            results += null
+
+          case ElementSelection => count += 1
+
+          case TextSelection =>
+        }
+      }
+    }
+
+    private def endElement(): Unit = {
+      if (openCount > 0 && openDepths(openCount - 1) == depth) {
+        openCount -= 1
+        results(openIndexes(openCount)) = text.substring(openStarts(openCount))
+        if (openCount == 0) {
+          text.setLength(0)
+        }
+      }
+      depth -= 1
+    }
+
+    private def characters(reader: XMLStreamReader): Unit =
+      if (openCount > 0 || (selection == TextSelection && (masks(depth) & lastBit) != 0)) {
+        text.append(reader.getTextCharacters, reader.getTextStart, reader.getTextLength)
+      }
+
+    // text nodes end with any other node
+    private def endTextNode(): Unit =
+      if (selection == TextSelection && text.length > 0) {
+        emit(text.toString)
+        text.setLength(0)
+      }
+
+    /**
+     * @return
+     *   false if the document has to be parsed by Saxon
+     */
+    def run(document: XmlDocument): Boolean = {
+      val reader =
+        try {
+          document.newStreamReader(InputFactories.get)
+        } catch {
+          case e: XMLStreamException => throw new XmlDocumentParseException(e)
+        }
+      try {
+        while (!done && reader.hasNext) {
+          reader.next() match {
+            case XMLStreamConstants.START_ELEMENT =>
+              endTextNode()
+              startElement(reader)
+            case XMLStreamConstants.END_ELEMENT =>
+              endTextNode()
+              endElement()
+            case XMLStreamConstants.CHARACTERS | XMLStreamConstants.CDATA | XMLStreamConstants.SPACE =>
+              characters(reader)
+            case XMLStreamConstants.COMMENT | XMLStreamConstants.PROCESSING_INSTRUCTION =>
+              endTextNode()
+            case XMLStreamConstants.DTD =>
+              throw Fallback
+            case _ =>
+          }
+        }
+        true
+      } catch {
+        case Fallback               => false
+        case e: XMLStreamException => throw new XmlDocumentParseException(e)
+      } finally {
+        reader.close()
+      }
+    }
+  }
+}
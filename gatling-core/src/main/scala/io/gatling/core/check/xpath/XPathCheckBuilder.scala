@@ -19,17 +19,15 @@ package io.gatling.core.check.xpath
 import io.gatling.core.check.{ CheckBuilder, Extractor }
 import io.gatling.core.session._
 
-import net.sf.saxon.s9api.XdmNode
-
 sealed trait XPathCheckType
 
 final class XPathCheckBuilder(
     path: Expression[String],
     namespaces: Map[String, String],
     xmlParsers: XmlParsers
-) extends CheckBuilder.MultipleFind.Default[XPathCheckType, XdmNode, String](logActualValueInError = true) {
-  override protected def findExtractor(occurrence: Int): Expression[Extractor[XdmNode, String]] =
+) extends CheckBuilder.MultipleFind.Default[XPathCheckType, XmlDocument, String](logActualValueInError = true) {
+  override protected def findExtractor(occurrence: Int): Expression[Extractor[XmlDocument, String]] =
     path.map(XPathExtractors.find(_, namespaces, occurrence, xmlParsers))
-  override protected def findAllExtractor: Expression[Extractor[XdmNode, Seq[String]]] = path.map(XPathExtractors.findAll(_, namespaces, xmlParsers))
-  override protected def countExtractor: Expression[Extractor[XdmNode, Int]] = path.map(XPathExtractors.count(_, namespaces, xmlParsers))
+  override protected def findAllExtractor: Expression[Extractor[XmlDocument, Seq[String]]] = path.map(XPathExtractors.findAll(_, namespaces, xmlParsers))
+  override protected def countExtractor: Expression[Extractor[XmlDocument, Int]] = path.map(XPathExtractors.count(_, namespaces, xmlParsers))
 }
@@ -16,58 +16,55 @@
 
 package io.gatling.core.check.xpath
 
-import scala.jdk.CollectionConverters._
-
 import io.gatling.commons.validation._
 import io.gatling.commons.validation.Validation.NoneSuccess
 import io.gatling.core.check._
 
-import net.sf.saxon.s9api.XdmNode
-
 object XPathExtractors {
+  private val ParseErrorMapper: String => String = "Could not parse response into a DOM Document: " + _
+
+  // documents are only parsed when first evaluated, so parse errors come up here rather than in the preparers
+  private def safelyExtract[T](f: => Validation[T]): Validation[T] =
+    safely() {
+      try {
+        f
+      } catch {
+        case e: XmlDocumentParseException => safely(ParseErrorMapper)(throw e.getCause)
+      }
+    }
+
   def find(
       path: String,
       namespaces: Map[String, String],
       occurrence: Int,
       xmlParsers: XmlParsers
-  ): FindCriterionExtractor[XdmNode, (String, Map[String, String]), String] =
-    new FindCriterionExtractor[XdmNode, (String, Map[String, String]), String](
+  ): FindCriterionExtractor[XmlDocument, (String, Map[String, String]), String] =
+    new FindCriterionExtractor[XmlDocument, (String, Map[String, String]), String](
       "xpath",
       (path, namespaces),
       occurrence,
-      document => {
-        val xdmValue = xmlParsers.evaluateXPath(path, namespaces, document)
-        if (occurrence < xdmValue.size)
-          Some(xdmValue.itemAt(occurrence).getStringValue).success
-        else
-          NoneSuccess
-      }
+      document => safelyExtract(xmlParsers.extract(path, namespaces, document, occurrence + 1).lift(occurrence).success)
     )
 
   def findAll(
       path: String,
       namespaces: Map[String, String],
       xmlParsers: XmlParsers
-  ): FindAllCriterionExtractor[XdmNode, (String, Map[String, String]), String] =
-    new FindAllCriterionExtractor[XdmNode, (String, Map[String, String]), String](
+  ): FindAllCriterionExtractor[XmlDocument, (String, Map[String, String]), String] =
+    new FindAllCriterionExtractor[XmlDocument, (String, Map[String, String]), String](
       "xpath",
       (path, namespaces),
-      document => {
-        val xdmValue = xmlParsers.evaluateXPath(path, namespaces, document).asScala
-
-        if (xdmValue.nonEmpty)
-          // beware: we use toVector because xdmValue is an Iterable, so the Scala wrapper is a Stream
-          // we don't want it to lazy load and hold a reference to the underlying DOM
-          Some(xdmValue.map(_.getStringValue).toVector).success
-        else
-          NoneSuccess
-      }
+      document =>
+        safelyExtract {
+          val values = xmlParsers.extract(path, namespaces, document, Int.MaxValue)
+          if (values.nonEmpty) Some(values).success else NoneSuccess
+        }
     )
 
-  def count(path: String, namespaces: Map[String, String], xmlParsers: XmlParsers): CountCriterionExtractor[XdmNode, (String, Map[String, String])] =
-    new CountCriterionExtractor[XdmNode, (String, Map[String, String])](
+  def count(path: String, namespaces: Map[String, String], xmlParsers: XmlParsers): CountCriterionExtractor[XmlDocument, (String, Map[String, String])] =
+    new CountCriterionExtractor[XmlDocument, (String, Map[String, String])](
       "xpath",
       (path, namespaces),
-      document => Some(xmlParsers.evaluateXPath(path, namespaces, document).size).success
+      document => safelyExtract(Some(xmlParsers.count(path, namespaces, document)).success)
     )
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.xpath
+
+import java.io.{ InputStream, StringReader }
+import java.nio.charset.Charset
+import javax.xml.stream.{ XMLInputFactory, XMLStreamReader }
+
+import scala.util.control.{ NonFatal, NoStackTrace }
+
+import net.sf.saxon.s9api.XdmNode
+
+object XmlDocument {
+  def apply(text: String): XmlDocument = new StringXmlDocument(text)
+
+  /**
+   * For materializers that already have a Saxon tree, typically the ones that used to prepare an XdmNode for xpath checks.
+   */
+  def apply(node: XdmNode): XmlDocument = new ParsedXmlDocument(node)
+
+  /**
+   * @param stream
+   *   a function that opens a new stream over the content every time it's called, so the document can be read more than once
+   * @param charset
+   *   the charset of the content
+   * @return
+   *   a document that's only parsed on demand
+   */
+  def apply(stream: () => InputStream, charset: Charset): XmlDocument = new StreamXmlDocument(stream, charset)
+}
+
+/**
+ * Raised when the content can't be read as an XML document, as opposed to the expression failing to evaluate.
+ */
+private[xpath] final class XmlDocumentParseException(cause: Throwable) extends Exception(cause.getMessage, cause) with NoStackTrace
+
+/**
+ * The document xpath checks are evaluated against.
+ *
+ * Expressions that [[StreamingXPath]] supports are evaluated while reading the content. The Saxon tree is only built when an expression needs it, and at most
+ * once.
+ */
+sealed abstract class XmlDocument {
+  private var parsed: XdmNode = _
+
+  protected def parse(): XdmNode
+
+  private[xpath] def newStreamReader(factory: XMLInputFactory): XMLStreamReader
+
+  private[xpath] def isParsed: Boolean = parsed != null
+
+  def node: XdmNode = {
+    if (parsed == null) {
+      parsed =
+        try {
+          parse()
+        } catch {
+          case NonFatal(e) => throw new XmlDocumentParseException(e)
+        }
+    }
+    parsed
+  }
+}
+
+private final class ParsedXmlDocument(parsedNode: XdmNode) extends XmlDocument {
+  override protected def parse(): XdmNode = parsedNode
+
+  // never read again as the tree already exists
+  override private[xpath] def isParsed: Boolean = true
+
+  override private[xpath] def newStreamReader(factory: XMLInputFactory): XMLStreamReader =
+    throw new UnsupportedOperationException("Document has already been parsed")
+}
+
+private final class StringXmlDocument(text: String) extends XmlDocument {
+  override protected def parse(): XdmNode = XmlParsers.parse(text)
+
+  override private[xpath] def newStreamReader(factory: XMLInputFactory): XMLStreamReader =
+    factory.createXMLStreamReader(new StringReader(text))
+}
+
+private final class StreamXmlDocument(stream: () => InputStream, charset: Charset) extends XmlDocument {
+  override protected def parse(): XdmNode = XmlParsers.parse(stream(), charset)
+
+  override private[xpath] def newStreamReader(factory: XMLInputFactory): XMLStreamReader =
+    factory.createXMLStreamReader(stream(), charset.name)
+}
@@ -20,27 +20,30 @@ import java.io.{ InputStream, StringReader }
 import java.nio.charset.Charset
 import javax.xml.transform.sax.SAXSource
 
+import scala.jdk.CollectionConverters._
+
 import io.gatling.core.util.cache.Cache
 
 import com.github.benmanes.caffeine.cache.LoadingCache
 import net.sf.saxon.Configuration
 import net.sf.saxon.lib.Validation
 import net.sf.saxon.om.TreeModel
-import net.sf.saxon.s9api.{ Processor, XPathCompiler, XPathSelector, XdmNode, XdmValue }
+import net.sf.saxon.s9api.{ Processor, XPathCompiler, XPathExecutable, XPathSelector, XdmNode, XdmValue }
 import org.xml.sax.InputSource
 
-private final class NamespacesScope(compiler: XPathCompiler, cacheMaxCapacity: Long) {
-  private val selectorCache: LoadingCache[String, ThreadLocal[XPathSelector]] =
+private final class CompiledXPath(executable: XPathExecutable, val streaming: Option[StreamingXPath]) {
+  val selector: ThreadLocal[XPathSelector] = ThreadLocal.withInitial(() => executable.load)
+}
+
+private final class NamespacesScope(compiler: XPathCompiler, namespaces: Map[String, String], cacheMaxCapacity: Long) {
+  private val selectorCache: LoadingCache[String, CompiledXPath] =
     Cache.newConcurrentLoadingCache(
       cacheMaxCapacity,
-      expression => {
-        val executable = compiler.compile(expression)
-        ThreadLocal.withInitial(() => executable.load)
-      }
+      expression => new CompiledXPath(compiler.compile(expression), StreamingXPath.compile(expression, namespaces))
     )
 
-  def evaluateXPath(expression: String, xdmNode: XdmNode): XdmValue = {
-    val xPathSelector = selectorCache.get(expression).get()
+  private def evaluateXPath(compiled: CompiledXPath, xdmNode: XdmNode): XdmValue = {
+    val xPathSelector = compiled.selector.get()
     try {
       xPathSelector.setContextItem(xdmNode)
       xPathSelector.evaluate
@@ -48,6 +51,27 @@ private final class NamespacesScope(compiler: XPathCompiler, cacheMaxCapacity: L
       xPathSelector.getUnderlyingXPathContext.setContextItem(null)
     }
   }
+
+  // once another check has built the tree, evaluating against it is cheaper than reading the document again
+  private def streaming(compiled: CompiledXPath, document: XmlDocument): Option[StreamingXPath] =
+    if (document.isParsed) None else compiled.streaming
+
+  def evaluateXPath(expression: String, xdmNode: XdmNode): XdmValue =
+    evaluateXPath(selectorCache.get(expression), xdmNode)
+
+  def extract(expression: String, document: XmlDocument, maxCount: Int): Vector[String] = {
+    val compiled = selectorCache.get(expression)
+    streaming(compiled, document)
+      .flatMap(_.extract(document, maxCount))
+      .getOrElse(evaluateXPath(compiled, document.node).asScala.view.take(maxCount).map(_.getStringValue).toVector)
+  }
+
+  def count(expression: String, document: XmlDocument): Int = {
+    val compiled = selectorCache.get(expression)
+    streaming(compiled, document)
+      .flatMap(_.count(document))
+      .getOrElse(evaluateXPath(compiled, document.node).size)
+  }
 }
 
 object XmlParsers {
@@ -81,10 +105,20 @@ final class XmlParsers(cacheMaxCapacity: Long) {
       namespaces => {
         val compiler = XmlParsers.processor.newXPathCompiler
         namespaces.foreachEntry((prefix, uri) => compiler.declareNamespace(prefix, uri))
-        new NamespacesScope(compiler, cacheMaxCapacity)
+        new NamespacesScope(compiler, namespaces, cacheMaxCapacity)
       }
     )
 
   def evaluateXPath(criterion: String, namespaces: Map[String, String], xdmNode: XdmNode): XdmValue =
     scopesByNamespacesCache.get(namespaces).evaluateXPath(criterion, xdmNode)
+
+  /**
+   * @return
+   *   the string values of the first maxCount results
+   */
+  def extract(criterion: String, namespaces: Map[String, String], document: XmlDocument, maxCount: Int): Vector[String] =
+    scopesByNamespacesCache.get(namespaces).extract(criterion, document, maxCount)
+
+  def count(criterion: String, namespaces: Map[String, String], document: XmlDocument): Int =
+    scopesByNamespacesCache.get(namespaces).count(criterion, document)
 }
@@ -24,6 +24,7 @@ object GatlingArgs {
     runDescription = None,
     noReports = false,
     reportsOnly = None,
+    mergeReports = Nil,
     resultsDirectory = None,
     launcher = None,
     buildToolVersion = None
@@ -34,6 +35,7 @@ final case class GatlingArgs(
     runDescription: Option[String],
     noReports: Boolean,
     reportsOnly: Option[String],
+    mergeReports: Seq[String],
     resultsDirectory: Option[Path],
     launcher: Option[String],
     buildToolVersion: Option[String]
@@ -25,6 +25,7 @@ object ConfigKeys {
     val PebbleFileBodiesCacheMaxCapacity = "gatling.core.pebbleFileBodiesCacheMaxCapacity"
     val FeederAdaptiveLoadModeThreshold = "gatling.core.feederAdaptiveLoadModeThreshold"
     val ShutdownTimeout = "gatling.core.shutdownTimeout"
+    val PauseTick = "gatling.core.pauseTick"
 
     object extract {
       object regex {
@@ -103,15 +104,20 @@ object ConfigKeys {
     val PooledConnectionIdleTimeout = "gatling.http.pooledConnectionIdleTimeout"
     val RequestTimeout = "gatling.http.requestTimeout"
     val EnableHostnameVerification = "gatling.http.enableHostnameVerification"
+    val PipeliningDepth = "gatling.http.pipeliningDepth"
 
     object dns {
       val QueryTimeout = "gatling.http.dns.queryTimeout"
       val MaxQueriesPerResolve = "gatling.http.dns.maxQueriesPerResolve"
+      val MinTtl = "gatling.http.dns.minTtl"
+      val MaxTtl = "gatling.http.dns.maxTtl"
+      val NegativeTtl = "gatling.http.dns.negativeTtl"
     }
   }
 
   object jms {
     val ReplyTimeoutScanPeriod = "gatling.jms.replyTimeoutScanPeriod"
+    val TrackerShards = "gatling.jms.trackerShards"
   }
 
   object data {
@@ -122,6 +128,16 @@ object ConfigKeys {
       val Light = "gatling.data.console.light"
       val WritePeriod = "gatling.data.console.writePeriod"
     }
+
+    object metrics {
+      val WritePeriod = "gatling.data.metrics.writePeriod"
+      val Percentiles = "gatling.data.metrics.percentiles"
+      val OpenMetricsBindAddress = "gatling.data.metrics.openMetrics.bindAddress"
+      val OpenMetricsPort = "gatling.data.metrics.openMetrics.port"
+      val GraphiteHost = "gatling.data.metrics.graphite.host"
+      val GraphitePort = "gatling.data.metrics.graphite.port"
+      val GraphiteRootPathPrefix = "gatling.data.metrics.graphite.rootPathPrefix"
+    }
     val EnableAnalytics = "gatling.data.enableAnalytics"
   }
 }
@@ -67,6 +67,11 @@ object GatlingConfiguration extends StrictLogging {
       pebbleFileBodiesCacheMaxCapacity = config.getLong(core.PebbleFileBodiesCacheMaxCapacity),
       feederAdaptiveLoadModeThreshold = config.getLong(core.FeederAdaptiveLoadModeThreshold) * 1048576,
       shutdownTimeout = config.getLong(core.ShutdownTimeout),
+      pauseTick = {
+        val value = config.getLong(core.PauseTick)
+        require(value > 0, s"${core.PauseTick} must be > 0")
+        value
+      },
       extract = new ExtractConfiguration(
         regex = new RegexConfiguration(
           cacheMaxCapacity = config.getLong(core.extract.regex.CacheMaxCapacity)
@@ -192,15 +197,28 @@ object GatlingConfiguration extends StrictLogging {
         }
         enable
       },
+      pipeliningDepth = {
+        val value = config.getInt(http.PipeliningDepth)
+        require(value >= 1, s"${http.PipeliningDepth} must be >= 1")
+        value
+      },
       dns = new DnsConfiguration(
         queryTimeout = config.getInt(http.dns.QueryTimeout).millis,
-        maxQueriesPerResolve = config.getInt(http.dns.MaxQueriesPerResolve)
+        maxQueriesPerResolve = config.getInt(http.dns.MaxQueriesPerResolve),
+        minTtl = config.getInt(http.dns.MinTtl).seconds,
+        maxTtl = config.getInt(http.dns.MaxTtl).seconds,
+        negativeTtl = config.getInt(http.dns.NegativeTtl).seconds
       )
     )
 
   private def jmsConfiguration(config: Config) =
     new JmsConfiguration(
-      replyTimeoutScanPeriod = config.getLong(jms.ReplyTimeoutScanPeriod).millis
+      replyTimeoutScanPeriod = config.getLong(jms.ReplyTimeoutScanPeriod).millis,
+      trackerShards = {
+        val value = config.getInt(jms.TrackerShards)
+        require(value >= 1, s"${jms.TrackerShards} must be >= 1")
+        value
+      }
     )
 
   private def dataConfiguration(config: Config) =
@@ -215,6 +233,27 @@ object GatlingConfiguration extends StrictLogging {
           value.seconds
         }
       ),
+      metrics = new MetricsDataWriterConfiguration(
+        writePeriod = {
+          val value = config.getInt(data.metrics.WritePeriod)
+          require(value > 0, s"${data.metrics.WritePeriod} must be > 0")
+          value.seconds
+        },
+        percentiles = {
+          val values = config.getDoubleList(data.metrics.Percentiles).asScala.map(_.doubleValue).toSeq
+          require(values.forall(p => p > 0 && p < 100), s"${data.metrics.Percentiles} must be in ]0, 100[")
+          values
+        },
+        openMetrics = config.getInt(data.metrics.OpenMetricsPort) match {
+          case 0    => None
+          case port => Some(new OpenMetricsConfiguration(config.getString(data.metrics.OpenMetricsBindAddress), port))
+        },
+        graphite = config.getString(data.metrics.GraphiteHost).trim match {
+          case "" => None
+          case host =>
+            Some(new GraphiteConfiguration(host, config.getInt(data.metrics.GraphitePort), config.getString(data.metrics.GraphiteRootPathPrefix)))
+        }
+      ),
       enableAnalytics = config.getBoolean(data.EnableAnalytics)
     )
 
@@ -243,7 +282,8 @@ final class CoreConfiguration(
     val rawFileBodiesInMemoryMaxSize: Long,
     val pebbleFileBodiesCacheMaxCapacity: Long,
     val feederAdaptiveLoadModeThreshold: Long,
-    val shutdownTimeout: Long
+    val shutdownTimeout: Long,
+    val pauseTick: Long
 ) {
   val charset: Charset = Charset.forName(encoding)
 }
@@ -318,22 +358,28 @@ final class HttpConfiguration(
     val pooledConnectionIdleTimeout: FiniteDuration,
     val requestTimeout: FiniteDuration,
     val enableHostnameVerification: Boolean,
+    val pipeliningDepth: Int,
     val dns: DnsConfiguration
 )
 
 final class JmsConfiguration(
-    val replyTimeoutScanPeriod: FiniteDuration
+    val replyTimeoutScanPeriod: FiniteDuration,
+    val trackerShards: Int
 )
 
 final class DnsConfiguration(
     val queryTimeout: FiniteDuration,
-    val maxQueriesPerResolve: Int
+    val maxQueriesPerResolve: Int,
+    val minTtl: FiniteDuration,
+    val maxTtl: FiniteDuration,
+    val negativeTtl: FiniteDuration
 )
 
 final class DataConfiguration(
     val zoneId: ZoneId,
     val dataWriters: Seq[DataWriterType],
     val console: ConsoleDataWriterConfiguration,
+    val metrics: MetricsDataWriterConfiguration,
     val enableAnalytics: Boolean
 ) {
   def fileDataWriterEnabled: Boolean = dataWriters.contains(DataWriterType.File)
@@ -344,6 +390,24 @@ final class ConsoleDataWriterConfiguration(
     val writePeriod: FiniteDuration
 )
 
+final class MetricsDataWriterConfiguration(
+    val writePeriod: FiniteDuration,
+    val percentiles: Seq[Double],
+    val openMetrics: Option[OpenMetricsConfiguration],
+    val graphite: Option[GraphiteConfiguration]
+)
+
+final class OpenMetricsConfiguration(
+    val bindAddress: String,
+    val port: Int
+)
+
+final class GraphiteConfiguration(
+    val host: String,
+    val port: Int,
+    val rootPathPrefix: String
+)
+
 final class GatlingConfiguration(
     // [e]
     //
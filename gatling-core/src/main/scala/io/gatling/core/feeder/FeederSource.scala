@@ -28,7 +28,7 @@ import io.gatling.core.util._
 
 import com.typesafe.scalalogging.LazyLogging
 
-private[gatling] sealed trait FeederSource[T] {
+private[gatling] trait FeederSource[T] {
   def feeder(options: FeederOptions[T], configuration: GatlingConfiguration): Feeder[Any]
 
   def name: String
@@ -47,6 +47,7 @@ object DataWritersStatsEngine {
     val dataWriters = configuration.data.dataWriters
       .map {
         case DataWriterType.Console => new ConsoleDataWriter(runMessage, scenarios, clock, configuration.data.console)
+        case DataWriterType.Metrics => new MetricsDataWriter(runMessage, scenarios, clock, configuration.data.metrics)
         case DataWriterType.File =>
           LogFileDataWriter(
             runMessage,
@@ -21,7 +21,7 @@ import java.time.format.DateTimeFormatter
 
 import scala.collection.mutable
 
-import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.commons.stats.{ KO, OK, Status }
 import io.gatling.commons.util.Clock
 import io.gatling.core.actor.Cancellable
 import io.gatling.core.config.ConsoleDataWriterConfiguration
@@ -47,12 +47,127 @@ private object RequestCounters {
 
 private[writer] final class RequestCounters(var successfulCount: Int, var failedCount: Int)
 
+private[writer] trait Ranked {
+  private[writer] var ranked: Boolean = false
+  def rank: Long
+}
+
+/**
+ * Keeps track of the entries with the highest ranks as they get incremented, so that the cost of the summary doesn't depend on the number of entries.
+ * Ranks must only ever increase.
+ */
+private[writer] final class TopRanked[T <: Ranked](capacity: Int) {
+  private val entries = new mutable.ArrayBuffer[T](capacity)
+  // lower bound of the lowest rank of the entries, so that most increments of the other entries don't have to scan them
+  private var minRank = 0L
+
+  def toSeq: Seq[T] = entries.toSeq
+
+  def onIncrement(entry: T): Unit =
+    if (!entry.ranked) {
+      if (entries.sizeIs < capacity) {
+        entries += entry
+        entry.ranked = true
+      } else if (entry.rank > minRank) {
+        val lowestIndex = indexOfLowest
+        val lowest = entries(lowestIndex)
+        if (entry.rank > lowest.rank) {
+          lowest.ranked = false
+          entries(lowestIndex) = entry
+          entry.ranked = true
+          minRank = entries(indexOfLowest).rank
+        } else {
+          minRank = lowest.rank
+        }
+      }
+    }
+
+  private def indexOfLowest: Int = {
+    var lowestIndex = 0
+    var i = 1
+    while (i < entries.size) {
+      if (entries(i).rank < entries(lowestIndex).rank) {
+        lowestIndex = i
+      }
+      i += 1
+    }
+    lowestIndex
+  }
+}
+
+private[writer] final class RequestEntry(val id: Int, val path: String) extends Ranked {
+  val counters: RequestCounters = RequestCounters.empty
+  override def rank: Long = counters.successfulCount.toLong + counters.failedCount
+}
+
+private[writer] final class RequestsCounters(maxRanked: Int) {
+  // keyed by name first so that the request path only gets built the first time a request is recorded
+  private val entries = mutable.HashMap.empty[String, mutable.HashMap[List[String], RequestEntry]]
+  private val top = new TopRanked[RequestEntry](maxRanked)
+  private var _size = 0
+
+  def size: Int = _size
+
+  /**
+   * @return
+   *   the requests with the highest counts, in the order they were first recorded
+   */
+  def ranked: Seq[RequestEntry] = top.toSeq.sortBy(_.id)
+
+  @SuppressWarnings(Array("org.wartremover.warts.ListAppend"))
+  def record(groupHierarchy: List[String], name: String, status: Status): Unit = {
+    val entry = entries
+      .getOrElseUpdate(name, mutable.HashMap.empty)
+      .getOrElseUpdate(
+        groupHierarchy, {
+          val entry = new RequestEntry(_size, (groupHierarchy :+ name).mkString(" / "))
+          _size += 1
+          entry
+        }
+      )
+
+    status match {
+      case OK => entry.counters.successfulCount += 1
+      case KO => entry.counters.failedCount += 1
+    }
+    top.onIncrement(entry)
+  }
+}
+
+private[writer] final class ErrorEntry(val id: Int, val message: String) extends Ranked {
+  var count: Int = 0
+  override def rank: Long = count
+}
+
+private[writer] final class ErrorsCounters(maxRanked: Int) {
+  private val entries = mutable.HashMap.empty[String, ErrorEntry]
+  private val top = new TopRanked[ErrorEntry](maxRanked)
+  private var _total = 0
+
+  def size: Int = entries.size
+
+  def total: Int = _total
+
+  /**
+   * @return
+   *   the most frequent errors, sorted by decreasing count
+   */
+  def ranked: Seq[ErrorEntry] = top.toSeq.sortBy(entry => (-entry.count, entry.id))
+
+  def record(message: String): Unit = {
+    val entry = entries.getOrElseUpdate(message, new ErrorEntry(entries.size, message))
+    entry.count += 1
+    _total += 1
+    top.onIncrement(entry)
+  }
+}
+
 private[writer] final class ConsoleData(val startUpTime: Long, val dateTimeFormatter: DateTimeFormatter, val timer: Cancellable) extends DataWriterData {
   var complete: Boolean = false
   val usersCounters: mutable.Map[String, UserCounters] = mutable.Map.empty
   val globalRequestCounters: RequestCounters = RequestCounters.empty
-  val requestsCounters: mutable.Map[String, RequestCounters] = mutable.LinkedHashMap.empty
-  val errorsCounters: mutable.Map[String, Int] = mutable.LinkedHashMap.empty
+  val requestsCounters: RequestsCounters = new RequestsCounters(ConsoleSummary.MaxDisplayedRequests)
+  val errorsCounters: ErrorsCounters = new ErrorsCounters(ConsoleSummary.MaxDisplayedErrors)
 }
 
 private[gatling] final class ConsoleDataWriter(
@@ -112,30 +227,23 @@ private[gatling] final class ConsoleDataWriter(
     }
   }
 
-  @SuppressWarnings(Array("org.wartremover.warts.ListAppend"))
   private def onResponseMessage(response: DataWriterMessage.LoadEvent.Response, data: ConsoleData): Unit = {
     import data._
     import response._
 
-    val requestPath = (groupHierarchy :+ response.name).mkString(" / ")
-    val requestCounters = requestsCounters.getOrElseUpdate(requestPath, RequestCounters.empty)
+    requestsCounters.record(groupHierarchy, response.name, status)
 
     status match {
       case OK =>
         globalRequestCounters.successfulCount += 1
-        requestCounters.successfulCount += 1
       case KO =>
         globalRequestCounters.failedCount += 1
-        requestCounters.failedCount += 1
-        val errorMessage = message.getOrElse("<no-message>")
-        errorsCounters(errorMessage) = errorsCounters.getOrElse(errorMessage, 0) + 1
+        errorsCounters.record(message.getOrElse("<no-message>"))
     }
   }
 
-  private def onErrorMessage(error: DataWriterMessage.LoadEvent.Error, data: ConsoleData): Unit = {
-    import data._
-    errorsCounters(error.message) = errorsCounters.getOrElse(error.message, 0) + 1
-  }
+  private def onErrorMessage(error: DataWriterMessage.LoadEvent.Error, data: ConsoleData): Unit =
+    data.errorsCounters.record(error.message)
 
   override def onCrash(cause: String, data: ConsoleData): Unit = {}
 
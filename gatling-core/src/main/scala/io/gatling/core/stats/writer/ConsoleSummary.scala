@@ -30,6 +30,9 @@ import io.gatling.core.stats.writer.ConsoleStatsFormat._
 import io.gatling.shared.util.NumberHelper._
 
 private[gatling] object ConsoleSummary {
+  // the summary only details the requests and errors with the highest counts, so that its cost doesn't depend on their number
+  val MaxDisplayedRequests: Int = 100
+  val MaxDisplayedErrors: Int = 20
 
   def formatSubTitle(title: String): String =
     s"---- $title ".rightPad(ConsoleWidth, "-")
@@ -38,8 +41,8 @@ private[gatling] object ConsoleSummary {
       runDuration: Long,
       usersCounters: mutable.Map[String, UserCounters],
       globalRequestCounters: RequestCounters,
-      requestsCounters: mutable.Map[String, RequestCounters],
-      errorsCounters: mutable.Map[String, Int],
+      requestsCounters: RequestsCounters,
+      errorsCounters: ErrorsCounters,
       lightOutput: Boolean,
       time: TemporalAccessor,
       dateTimeFormatter: DateTimeFormatter
@@ -77,8 +80,19 @@ private[gatling] object ConsoleSummary {
 
     def writeDetailedRequestsCounter(sb: jl.StringBuilder): jl.StringBuilder = {
       if (!lightOutput) {
-        requestsCounters.foreachEntry((actionName, requestCounters) => writeRequestsCounter(sb, actionName, requestCounters).append(Eol))
-        if (requestsCounters.nonEmpty) {
+        val rankedRequests = requestsCounters.ranked
+        rankedRequests.foreach(request => writeRequestsCounter(sb, request.path, request.counters).append(Eol))
+
+        val otherRequestsCount = requestsCounters.size - rankedRequests.size
+        if (otherRequestsCount > 0) {
+          val otherRequestsCounters = new RequestCounters(
+            globalRequestCounters.successfulCount - rankedRequests.sumBy(_.counters.successfulCount),
+            globalRequestCounters.failedCount - rankedRequests.sumBy(_.counters.failedCount)
+          )
+          writeRequestsCounter(sb, s"$otherRequestsCount other requests", otherRequestsCounters).append(Eol)
+        }
+
+        if (requestsCounters.size > 0) {
           sb.setLength(sb.length - Eol.length)
         }
       }
@@ -86,13 +100,19 @@ private[gatling] object ConsoleSummary {
     }
 
     def writeErrors(sb: jl.StringBuilder): jl.StringBuilder = {
-      if (errorsCounters.nonEmpty) {
-        val errorsTotal = errorsCounters.values.sum
+      if (errorsCounters.size > 0) {
+        val errorsTotal = errorsCounters.total
 
         sb.append(formatSubTitle("Errors")).append(Eol)
 
-        errorsCounters.toSeq.sortBy(-_._2).foreach { case (message, count) =>
-          writeError(sb, new ErrorStats(message, count, errorsTotal)).append(Eol)
+        val rankedErrors = errorsCounters.ranked
+        rankedErrors.foreach { error =>
+          writeError(sb, new ErrorStats(error.message, error.count, errorsTotal)).append(Eol)
+        }
+
+        val otherErrorsCount = errorsCounters.size - rankedErrors.size
+        if (otherErrorsCount > 0) {
+          writeError(sb, new ErrorStats(s"$otherErrorsCount other errors", errorsTotal - rankedErrors.sumBy(_.count), errorsTotal)).append(Eol)
         }
       }
       sb
@@ -17,7 +17,7 @@
 package io.gatling.core.stats.writer
 
 private[core] object DataWriterType {
-  private val AllTypes = Seq(Console, File)
+  private val AllTypes = Seq(Console, File, Metrics)
     .map(t => t.name -> t)
     .toMap
 
@@ -25,6 +25,7 @@ private[core] object DataWriterType {
 
   private[stats] object Console extends DataWriterType("console")
   private[core] object File extends DataWriterType("file")
+  private[stats] object Metrics extends DataWriterType("metrics")
 }
 
 sealed abstract class DataWriterType(val name: String)
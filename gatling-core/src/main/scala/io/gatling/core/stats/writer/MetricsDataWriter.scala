@@ -0,0 +1,226 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import scala.collection.mutable
+
+import io.gatling.commons.stats.Status
+import io.gatling.commons.util.Clock
+import io.gatling.core.actor.Cancellable
+import io.gatling.core.config.MetricsDataWriterConfiguration
+
+private[writer] final case class SeriesKey(group: String, name: String, status: Status)
+
+/**
+ * Counts since the beginning of the run, and histogram of the current window
+ */
+private[writer] final class Series(val key: SeriesKey) {
+  val window = new ResponseTimeHistogram
+  var totalCount: Long = 0
+  var totalSum: Long = 0
+
+  def record(value: Int): Unit = {
+    window.record(value)
+    totalCount += 1
+    totalSum += value.max(0)
+  }
+}
+
+/**
+ * Series indexed on the group hierarchy, name and status as they come in the events, so recording doesn't allocate any key. The group path is only joined
+ * once, when the series gets created.
+ */
+private[writer] final class SeriesRegistry(newKey: (List[String], String, Status) => SeriesKey) {
+  private val index = mutable.HashMap.empty[List[String], mutable.HashMap[String, mutable.HashMap[Status, Series]]]
+  // in creation order
+  val series: mutable.ArrayBuffer[Series] = mutable.ArrayBuffer.empty
+
+  def get(groupHierarchy: List[String], name: String, status: Status): Series = {
+    val byStatus = index.getOrElseUpdate(groupHierarchy, mutable.HashMap.empty).getOrElseUpdate(name, mutable.HashMap.empty)
+    val existing = byStatus.getOrElse(status, null)
+    if (existing != null) {
+      existing
+    } else {
+      val created = new Series(newKey(groupHierarchy, name, status))
+      byStatus.put(status, created)
+      series += created
+      created
+    }
+  }
+}
+
+private[writer] final class SeriesSample(
+    val key: SeriesKey,
+    val windowCount: Long,
+    val totalCount: Long,
+    val totalSum: Long,
+    val min: Int,
+    val max: Int,
+    val percentiles: Array[Int]
+)
+
+private[writer] final class UserSample(val scenario: String, val activeCount: Long, val doneCount: Long)
+
+/**
+ * Immutable view of the metrics at the end of a window, shared with the exporters' threads
+ */
+private[writer] final class MetricsSnapshot(
+    val timestamp: Long,
+    val windowSeconds: Double,
+    val percentiles: Seq[Double],
+    val users: Seq[UserSample],
+    val requests: Seq[SeriesSample],
+    val allRequests: Seq[SeriesSample],
+    val groups: Seq[SeriesSample],
+    val errorCount: Long
+)
+
+private[writer] final class MetricsAggregator(scenarios: Seq[ShortScenarioDescription], percentiles: Seq[Double], windowSeconds: Double) {
+  private val usersCounters = mutable.LinkedHashMap.empty[String, UserCounters]
+  scenarios.foreach(scenario => usersCounters.put(scenario.name, new UserCounters(scenario.totalUserCount)))
+  private val requests = new SeriesRegistry((groupHierarchy, name, status) => SeriesKey(groupHierarchy.mkString(" / "), name, status))
+  // groups are identified by their hierarchy, their own name being the last element
+  private val groups = new SeriesRegistry((groupHierarchy, name, status) => SeriesKey(groupHierarchy.init.mkString(" / "), name, status))
+  private var errorCount = 0L
+
+  private val percentilesArray = percentiles.toArray
+  // the all requests series are rebuilt at each window by merging the requests ones
+  private val allRequestsWindows = mutable.LinkedHashMap.empty[Status, ResponseTimeHistogram]
+
+  def recordUser(scenario: String, start: Boolean): Unit =
+    usersCounters.getOrElseUpdate(scenario, new UserCounters(None)) match {
+      case counters if start => counters.userStart()
+      case counters          => counters.userDone()
+    }
+
+  def recordResponse(groupHierarchy: List[String], name: String, status: Status, responseTime: Int): Unit =
+    requests.get(groupHierarchy, name, status).record(responseTime)
+
+  def recordGroup(groupHierarchy: List[String], status: Status, duration: Int): Unit =
+    groups.get(groupHierarchy, groupHierarchy.last, status).record(duration)
+
+  def recordError(): Unit = errorCount += 1
+
+  private def sample(key: SeriesKey, histogram: ResponseTimeHistogram, totalCount: Long, totalSum: Long): SeriesSample =
+    new SeriesSample(
+      key,
+      histogram.count,
+      totalCount,
+      totalSum,
+      histogram.min,
+      histogram.max,
+      percentilesArray.map(histogram.percentile)
+    )
+
+  /**
+   * Close the current window and start a new one
+   */
+  def snapshot(timestamp: Long): MetricsSnapshot = {
+    allRequestsWindows.valuesIterator.foreach(_.reset())
+    val allRequestsTotals = mutable.LinkedHashMap.empty[Status, (Long, Long)]
+
+    val requestSamples = requests.series.map { series =>
+      val status = series.key.status
+      allRequestsWindows.getOrElseUpdate(status, new ResponseTimeHistogram).merge(series.window)
+      val (count, sum) = allRequestsTotals.getOrElse(status, (0L, 0L))
+      allRequestsTotals.put(status, (count + series.totalCount, sum + series.totalSum))
+      sample(series.key, series.window, series.totalCount, series.totalSum)
+    }.toSeq
+
+    val allRequestsSamples = allRequestsWindows.map { case (status, histogram) =>
+      val (count, sum) = allRequestsTotals(status)
+      sample(SeriesKey("", "", status), histogram, count, sum)
+    }.toSeq
+
+    val groupSamples = groups.series.map(series => sample(series.key, series.window, series.totalCount, series.totalSum)).toSeq
+
+    requests.series.foreach(_.window.reset())
+    groups.series.foreach(_.window.reset())
+
+    new MetricsSnapshot(
+      timestamp,
+      windowSeconds,
+      percentiles,
+      usersCounters.map { case (scenario, counters) => new UserSample(scenario, counters.activeCount, counters.doneCount) }.toSeq,
+      requestSamples,
+      allRequestsSamples,
+      groupSamples,
+      errorCount
+    )
+  }
+}
+
+private[writer] final class MetricsData(
+    val aggregator: MetricsAggregator,
+    val openMetricsServer: Option[OpenMetricsServer],
+    val graphiteSender: Option[GraphiteSender],
+    val timer: Cancellable
+) extends DataWriterData
+
+/**
+ * Aggregates the events per window and exposes the results live, so long runs can be monitored without waiting for the final report.
+ */
+private[gatling] final class MetricsDataWriter(
+    runMessage: RunMessage,
+    scenarios: Seq[ShortScenarioDescription],
+    clock: Clock,
+    configuration: MetricsDataWriterConfiguration
+) extends DataWriter[MetricsData]("metrics-data-writer") {
+
+  override def onInit(): MetricsData = {
+    val openMetricsServer = configuration.openMetrics.map(OpenMetricsServer(_))
+    val graphiteSender = configuration.graphite.map(new GraphiteSender(_, runMessage.simulationId))
+    val timer = scheduler.scheduleAtFixedRate(configuration.writePeriod) {
+      self ! DataWriterMessage.Flush
+    }
+
+    new MetricsData(
+      new MetricsAggregator(scenarios, configuration.percentiles, configuration.writePeriod.toMillis / 1000.0),
+      openMetricsServer,
+      graphiteSender,
+      timer
+    )
+  }
+
+  override def onFlush(data: MetricsData): Unit = {
+    val snapshot = data.aggregator.snapshot(clock.nowMillis)
+    data.openMetricsServer.foreach(_.publish(snapshot))
+    data.graphiteSender.foreach(_.send(snapshot))
+  }
+
+  override def onMessage(message: DataWriterMessage.LoadEvent, data: MetricsData): Unit = message match {
+    case user: DataWriterMessage.LoadEvent.User => data.aggregator.recordUser(user.scenario, user.start)
+    case response: DataWriterMessage.LoadEvent.Response =>
+      data.aggregator.recordResponse(response.groupHierarchy, response.name, response.status, (response.endTimestamp - response.startTimestamp).toInt)
+    case group: DataWriterMessage.LoadEvent.Group => data.aggregator.recordGroup(group.groupHierarchy, group.status, group.duration)
+    case _: DataWriterMessage.LoadEvent.Error     => data.aggregator.recordError()
+  }
+
+  private def close(data: MetricsData): Unit = {
+    data.timer.cancel()
+    data.openMetricsServer.foreach(_.close())
+    data.graphiteSender.foreach(_.close())
+  }
+
+  override def onCrash(cause: String, data: MetricsData): Unit = close(data)
+
+  override def onStop(data: MetricsData): Unit = {
+    // push the last partial window
+    onFlush(data)
+    close(data)
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import java.io.{ IOException, OutputStream }
+import java.net.{ InetSocketAddress, Socket }
+import java.nio.charset.StandardCharsets.UTF_8
+
+import io.gatling.commons.stats.{ KO, OK, Status }
+import io.gatling.core.config.{ GraphiteConfiguration, OpenMetricsConfiguration }
+
+import com.sun.net.httpserver.{ HttpExchange, HttpServer }
+import com.typesafe.scalalogging.StrictLogging
+
+private[writer] object OpenMetricsFormat {
+  val ContentType = "application/openmetrics-text; version=1.0.0; charset=utf-8"
+
+  private def escape(labelValue: String): String =
+    labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n")
+
+  private def labels(pairs: (String, String)*): String =
+    pairs.map { case (name, value) => s"""$name="${escape(value)}"""" }.mkString("{", ",", "}")
+
+  private def seriesLabels(key: SeriesKey, nameLabel: String): Seq[(String, String)] =
+    Seq("group" -> key.group, nameLabel -> key.name, "status" -> key.status.name)
+
+  private def header(sb: java.lang.StringBuilder, name: String, metricType: String, help: String): Unit =
+    sb.append("# TYPE ").append(name).append(' ').append(metricType).append('\n').append("# HELP ").append(name).append(' ').append(help).append('\n')
+
+  private def sample(sb: java.lang.StringBuilder, name: String, labels: String, value: Any): Unit =
+    sb.append(name).append(labels).append(' ').append(value).append('\n')
+
+  private def renderSeries(
+      sb: java.lang.StringBuilder,
+      snapshot: MetricsSnapshot,
+      samples: Seq[SeriesSample],
+      prefix: String,
+      what: String,
+      timeName: String,
+      seriesLabels: SeriesKey => Seq[(String, String)]
+  ): Unit =
+    if (samples.nonEmpty) {
+      header(sb, prefix, "counter", s"Number of $what since the start of the run")
+      samples.foreach(s => sample(sb, s"${prefix}_total", labels(seriesLabels(s.key): _*), s.totalCount))
+
+      header(sb, s"${prefix}_rate", "gauge", s"Number of $what per second over the last window")
+      samples.foreach(s => sample(sb, s"${prefix}_rate", labels(seriesLabels(s.key): _*), s.windowCount / snapshot.windowSeconds))
+
+      val summaryName = s"${prefix}_${timeName}_milliseconds"
+      header(sb, summaryName, "summary", s"${timeName.capitalize.replace('_', ' ')} of the $what, quantiles over the last window")
+      samples.foreach { s =>
+        val sampleLabels = seriesLabels(s.key)
+        snapshot.percentiles.zip(s.percentiles).foreach { case (percentile, value) =>
+          sample(sb, summaryName, labels(sampleLabels :+ ("quantile" -> (percentile / 100).toString): _*), value)
+        }
+        sample(sb, s"${summaryName}_count", labels(sampleLabels: _*), s.totalCount)
+        sample(sb, s"${summaryName}_sum", labels(sampleLabels: _*), s.totalSum)
+      }
+
+      for ((bound, f) <- Seq[(String, SeriesSample => Int)]("min" -> (_.min), "max" -> (_.max))) {
+        val name = s"${prefix}_${timeName}_${bound}_milliseconds"
+        header(sb, name, "gauge", s"${bound.capitalize} ${timeName.replace('_', ' ')} of the $what over the last window")
+        samples.foreach(s => sample(sb, name, labels(seriesLabels(s.key): _*), f(s)))
+      }
+    }
+
+  def render(snapshot: MetricsSnapshot): String = {
+    val sb = new java.lang.StringBuilder
+
+    if (snapshot.users.nonEmpty) {
+      header(sb, "gatling_users_active", "gauge", "Number of active virtual users")
+      snapshot.users.foreach(u => sample(sb, "gatling_users_active", labels("scenario" -> u.scenario), u.activeCount))
+      header(sb, "gatling_users_done", "counter", "Number of terminated virtual users")
+      snapshot.users.foreach(u => sample(sb, "gatling_users_done_total", labels("scenario" -> u.scenario), u.doneCount))
+    }
+
+    renderSeries(sb, snapshot, snapshot.requests, "gatling_requests", "responses", "response_time", seriesLabels(_, "request"))
+    renderSeries(sb, snapshot, snapshot.allRequests, "gatling_all_requests", "responses", "response_time", key => Seq("status" -> key.status.name))
+    renderSeries(sb, snapshot, snapshot.groups, "gatling_groups", "group executions", "duration", seriesLabels(_, "name"))
+
+    header(sb, "gatling_errors", "counter", "Number of errors outside of requests since the start of the run")
+    sample(sb, "gatling_errors_total", "", snapshot.errorCount)
+
+    sb.append("# EOF\n").toString
+  }
+}
+
+private[writer] object OpenMetricsServer {
+  def apply(configuration: OpenMetricsConfiguration): OpenMetricsServer = {
+    val server = HttpServer.create(new InetSocketAddress(configuration.bindAddress, configuration.port), 0)
+    val openMetricsServer = new OpenMetricsServer(server)
+    server.createContext("/metrics", openMetricsServer.handle)
+    server.start()
+    openMetricsServer
+  }
+}
+
+/**
+ * Serves the last snapshot on GET /metrics
+ */
+private[writer] final class OpenMetricsServer private (server: HttpServer) extends StrictLogging {
+  @volatile private var snapshot: Option[MetricsSnapshot] = None
+
+  def port: Int = server.getAddress.getPort
+
+  def publish(snapshot: MetricsSnapshot): Unit =
+    this.snapshot = Some(snapshot)
+
+  private def handle(exchange: HttpExchange): Unit =
+    try {
+      if (exchange.getRequestMethod == "GET") {
+        val body = snapshot.fold("# EOF\n")(OpenMetricsFormat.render).getBytes(UTF_8)
+        exchange.getResponseHeaders.set("Content-Type", OpenMetricsFormat.ContentType)
+        exchange.sendResponseHeaders(200, body.length)
+        val os = exchange.getResponseBody
+        os.write(body)
+        os.close()
+      } else {
+        exchange.sendResponseHeaders(405, -1)
+      }
+    } catch {
+      case e: IOException => logger.debug("Failed to serve metrics", e)
+    } finally {
+      exchange.close()
+    }
+
+  def close(): Unit = server.stop(0)
+}
+
+private[writer] object GraphiteFormat {
+  private val UnsafeChars = "[^A-Za-z0-9_-]".r
+
+  private def sanitize(segment: String): String =
+    UnsafeChars.replaceAllIn(segment, "_")
+
+  private def statusSegment(status: Status): String = status match {
+    case OK => "ok"
+    case KO => "ko"
+  }
+
+  def render(snapshot: MetricsSnapshot, rootPath: String): String = {
+    val sb = new java.lang.StringBuilder
+    val timestamp = snapshot.timestamp / 1000
+
+    def line(path: String, value: Any): Unit =
+      sb.append(path).append(' ').append(value).append(' ').append(timestamp).append('\n')
+
+    def series(path: String, s: SeriesSample): Unit = {
+      line(s"$path.count", s.windowCount)
+      if (s.windowCount > 0) {
+        line(s"$path.min", s.min)
+        line(s"$path.max", s.max)
+        snapshot.percentiles.zip(s.percentiles).foreach { case (percentile, value) =>
+          line(s"$path.percentiles${sanitize(BigDecimal(percentile).bigDecimal.stripTrailingZeros.toPlainString)}", value)
+        }
+      }
+    }
+
+    def seriesPath(key: SeriesKey): String =
+      (key.group.split(" / ").filter(_.nonEmpty).map(sanitize) :+ sanitize(key.name) :+ statusSegment(key.status)).mkString(s"$rootPath.", ".", "")
+
+    snapshot.users.foreach { u =>
+      val path = s"$rootPath.users.${sanitize(u.scenario)}"
+      line(s"$path.active", u.activeCount)
+      line(s"$path.done", u.doneCount)
+    }
+    snapshot.requests.foreach(s => series(seriesPath(s.key), s))
+    snapshot.allRequests.foreach(s => series(s"$rootPath.allRequests.${statusSegment(s.key.status)}", s))
+    snapshot.groups.foreach(s => series(seriesPath(s.key), s))
+    line(s"$rootPath.errors.total", snapshot.errorCount)
+
+    sb.toString
+  }
+}
+
+/**
+ * Pushes the snapshots with the plaintext protocol, reconnecting on the next window when the connection is lost
+ */
+private[writer] final class GraphiteSender(configuration: GraphiteConfiguration, simulationId: String) extends StrictLogging {
+  private val ConnectTimeout = 1000
+  private val rootPath = Seq(configuration.rootPathPrefix, simulationId).filter(_.nonEmpty).mkString(".")
+  private var socket: Socket = _
+  private var os: OutputStream = _
+  private var failing = false
+
+  private def connect(): Unit = {
+    socket = new Socket
+    socket.connect(new InetSocketAddress(configuration.host, configuration.port), ConnectTimeout)
+    os = socket.getOutputStream
+  }
+
+  def send(snapshot: MetricsSnapshot): Unit =
+    try {
+      if (socket == null) {
+        connect()
+      }
+      os.write(GraphiteFormat.render(snapshot, rootPath).getBytes(UTF_8))
+      os.flush()
+      if (failing) {
+        logger.info(s"Pushing metrics to Graphite ${configuration.host}:${configuration.port} again")
+        failing = false
+      }
+    } catch {
+      case e: IOException =>
+        if (!failing) {
+          logger.warn(s"Failed to push metrics to Graphite ${configuration.host}:${configuration.port}, will retry on next window: ${e.getMessage}")
+          failing = true
+        }
+        close()
+    }
+
+  def close(): Unit =
+    if (socket != null) {
+      try {
+        socket.close()
+      } catch {
+        case _: IOException =>
+      }
+      socket = null
+      os = null
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import java.{ util => ju }
+
+private[writer] object ResponseTimeHistogram {
+  // values below 2^SubBucketBits are recorded exactly, larger ones with a relative error below 2^(1 - SubBucketBits), ie < 1.6%
+  private val SubBucketBits = 7
+  private val SubBucketCount = 1 << SubBucketBits
+  private val BucketCount = bucketIndex(Int.MaxValue) + 1
+
+  private[writer] def bucketIndex(value: Int): Int =
+    if (value < SubBucketCount) {
+      value
+    } else {
+      val shift = 32 - Integer.numberOfLeadingZeros(value) - SubBucketBits
+      (shift << (SubBucketBits - 1)) + (value >>> shift)
+    }
+
+  // highest value recorded in a given bucket
+  private[writer] def highestEquivalentValue(index: Int): Int =
+    if (index < SubBucketCount) {
+      index
+    } else {
+      val shift = (index >> (SubBucketBits - 1)) - 1
+      val subBucket = index - (shift << (SubBucketBits - 1))
+      (((subBucket + 1).toLong << shift) - 1).min(Int.MaxValue).toInt
+    }
+}
+
+/**
+ * Fixed size log-linear histogram of response times in milliseconds, so memory doesn't grow with the number of recorded values, and histograms can be merged
+ * by adding their buckets.
+ */
+private[writer] final class ResponseTimeHistogram {
+  import ResponseTimeHistogram._
+
+  private val counts = new Array[Long](BucketCount)
+  private var _count = 0L
+  private var _sum = 0L
+  private var _min = Int.MaxValue
+  private var _max = 0
+
+  def count: Long = _count
+  def sum: Long = _sum
+  def min: Int = if (_count == 0) 0 else _min
+  def max: Int = _max
+
+  def record(value: Int): Unit = {
+    val v = value.max(0)
+    counts(bucketIndex(v)) += 1
+    _count += 1
+    _sum += v
+    _min = _min.min(v)
+    _max = _max.max(v)
+  }
+
+  def merge(other: ResponseTimeHistogram): Unit =
+    if (other._count > 0) {
+      var i = 0
+      while (i < BucketCount) {
+        counts(i) += other.counts(i)
+        i += 1
+      }
+      _count += other._count
+      _sum += other._sum
+      _min = _min.min(other._min)
+      _max = _max.max(other._max)
+    }
+
+  /**
+   * @param percentile
+   *   in ]0, 100[
+   * @return
+   *   the highest value equivalent to the one at the given rank, capped with the recorded max
+   */
+  def percentile(percentile: Double): Int =
+    if (_count == 0) {
+      0
+    } else {
+      val rank = math.max(1L, math.ceil(percentile / 100 * _count).toLong)
+      var cumulatedCount = 0L
+      var i = 0
+      while (cumulatedCount < rank) {
+        cumulatedCount += counts(i)
+        i += 1
+      }
+      highestEquivalentValue(i - 1).min(_max)
+    }
+
+  def reset(): Unit =
+    if (_count > 0) {
+      ju.Arrays.fill(counts, 0L)
+      _count = 0
+      _sum = 0
+      _min = Int.MaxValue
+      _max = 0
+    }
+}
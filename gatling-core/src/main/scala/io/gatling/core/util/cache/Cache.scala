@@ -18,7 +18,7 @@ package io.gatling.core.util.cache
 
 import java.util.concurrent.ConcurrentMap
 
-import scala.collection.immutable.Queue
+import scala.collection.immutable.VectorMap
 
 import com.github.benmanes.caffeine.cache.{ Caffeine, LoadingCache }
 
@@ -34,31 +34,34 @@ object Cache {
       .maximumSize(maxSize)
       .build(key => f(key))
 
-  def newImmutableCache[K, V](maxCapacity: Int): Cache[K, V] = new Cache[K, V](Queue.empty, Map.empty, maxCapacity)
+  def newImmutableCache[K, V](maxCapacity: Int): Cache[K, V] = new Cache[K, V](VectorMap.empty, maxCapacity)
 }
 
-class Cache[K, V](queue: Queue[K], map: Map[K, V], maxCapacity: Int) {
+/**
+ * A persistent cache evicting the oldest entries first, where all operations are effectively constant time.
+ *
+ * Being immutable, it can be shared by Sessions: writes through a Session never show in the Sessions it was derived from.
+ *
+ * @param maxCapacity
+ *   the maximum number of entries, first inserted ones are evicted first
+ */
+final class Cache[K, V] private (map: VectorMap[K, V], maxCapacity: Int) {
   def put(key: K, value: V): Cache[K, V] =
-    if (map.get(key).contains(value) || maxCapacity == 0) {
+    if (maxCapacity <= 0 || map.get(key).contains(value)) {
       this
-    } else if (map.sizeIs == maxCapacity) {
-      val (removedKey, newQueue) = queue.dequeue
-      val newMap = map - removedKey + (key -> value)
-      new Cache(newQueue.enqueue(key), newMap, maxCapacity)
     } else {
-      val newQueue = queue.enqueue(key)
-      val newMap = map + (key -> value)
-      new Cache(newQueue, newMap, maxCapacity)
+      val updated = map.updated(key, value)
+      new Cache(if (updated.sizeIs > maxCapacity) updated - updated.head._1 else updated, maxCapacity)
     }
 
   def remove(key: K): Cache[K, V] =
     if (map.contains(key)) {
-      val newQueue = queue.filter(_ != key)
-      val newMap = map - key
-      new Cache(newQueue, newMap, maxCapacity)
+      new Cache(map - key, maxCapacity)
     } else {
       this
     }
 
   def get(key: K): Option[V] = map.get(key)
+
+  def size: Int = map.size
 }
@@ -18,27 +18,29 @@ package io.gatling.core.util.cache
 
 import io.gatling.core.session.Session
 
+/**
+ * Stores a per virtual user [[Cache]] in the Session.
+ *
+ * The cache is persistent, so the Session is only copied when the cache actually changes.
+ */
 class SessionCacheHandler[K, V](cacheName: String, maxCapacity: Int) {
   val enabled: Boolean = maxCapacity > 0
 
   private[cache] def getCache(session: Session): Option[Cache[K, V]] =
     session.attributes.get(cacheName).map(_.asInstanceOf[Cache[K, V]])
 
-  private[cache] def getOrCreateCache(session: Session): Cache[K, V] =
-    getCache(session) match {
-      case Some(cache) => cache
-      case _           => Cache.newImmutableCache[K, V](maxCapacity)
-    }
-
-  def addEntry(session: Session, key: K, value: V): Session = {
-    val cache = getOrCreateCache(session)
-    val newCache = cache.put(key, value)
-    if (newCache eq cache) {
-      session
+  def addEntry(session: Session, key: K, value: V): Session =
+    if (enabled) {
+      val cache = getCache(session).getOrElse(Cache.newImmutableCache[K, V](maxCapacity))
+      val newCache = cache.put(key, value)
+      if (newCache eq cache) {
+        session
+      } else {
+        session.set(cacheName, newCache)
+      }
     } else {
-      session.set(cacheName, newCache)
+      session
     }
-  }
 
   def getEntry(session: Session, key: => K): Option[V] =
     getCache(session).flatMap(_.get(key))
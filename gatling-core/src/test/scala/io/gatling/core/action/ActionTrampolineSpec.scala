@@ -0,0 +1,112 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.action
+
+import scala.collection.mutable
+
+import io.gatling.core.{ EmptySession, FakeEventLoop }
+import io.gatling.core.session.Session
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class ActionTrampolineSpec extends AnyFlatSpecLike with Matchers with EmptySession {
+  private final class ManualEventLoop extends FakeEventLoop {
+    val tasks: mutable.Queue[Runnable] = mutable.Queue.empty
+
+    override def execute(command: Runnable): Unit = tasks += command
+  }
+
+  private final class RecordingAction(val name: String, record: mutable.Buffer[String], next: Option[Action]) extends Action {
+    override protected def execute(session: Session): Unit = {
+      record += s"$name-start"
+      next.foreach(_ ! session)
+      record += s"$name-end"
+    }
+  }
+
+  private final class CountingAction extends Action {
+    var next: Action = this
+    var count = 0
+
+    override def name: String = "counting"
+    override protected def execute(session: Session): Unit = {
+      count += 1
+      next ! session
+    }
+  }
+
+  "ActionTrampoline" should "run the next action once the current one is done instead of nesting it" in {
+    val record = mutable.Buffer.empty[String]
+    val second = new RecordingAction("second", record, None)
+    val first = new RecordingAction("first", record, Some(second))
+
+    first ! emptySession
+
+    record shouldBe Seq("first-start", "first-end", "second-start", "second-end")
+  }
+
+  it should "not grow the stack with long synchronous chains" in {
+    val end = new CountingAction
+    end.next = new Action {
+      override def name: String = "end"
+      override protected def execute(session: Session): Unit = ()
+    }
+    val chain = (1 to 100000).foldLeft[Action](end) { (next, i) =>
+      new Action {
+        override def name: String = s"action-$i"
+        override protected def execute(session: Session): Unit = next ! session
+      }
+    }
+
+    chain ! emptySession
+
+    end.count shouldBe 1
+  }
+
+  it should "hand a chain that doesn't end over to the event loop" in {
+    val eventLoop = new ManualEventLoop
+    val endless = new CountingAction
+
+    endless ! emptySession.copy(eventLoop = eventLoop)
+
+    endless.count shouldBe ActionTrampoline.MaxInlineSteps
+    eventLoop.tasks should have size 1
+
+    eventLoop.tasks.dequeue().run()
+
+    endless.count shouldBe 2 * ActionTrampoline.MaxInlineSteps
+    eventLoop.tasks should have size 1
+  }
+
+  it should "run the actions sent for several users in order" in {
+    val record = mutable.Buffer.empty[String]
+    val sessions = (1L to 20L).map(userId => emptySession.copy(userId = userId))
+    val recordUser = new Action {
+      override def name: String = "record"
+      override protected def execute(session: Session): Unit = record += s"user-${session.userId}"
+    }
+    val fanOut = new Action {
+      override def name: String = "fanOut"
+      override protected def execute(session: Session): Unit = sessions.foreach(recordUser ! _)
+    }
+
+    fanOut ! emptySession
+
+    record shouldBe sessions.map(session => s"user-${session.userId}")
+  }
+}
@@ -34,7 +34,7 @@ class PaceSpec extends ActorSpec with EmptySession {
 
   "pace" should "run actions with a minimum wait time" in {
     val nextActor = mockActorRef[Session]("next")
-    val pace = new Pace(interval, counterName, null, clock, new ActorDelegatingAction("next", nextActor))
+    val pace = new Pace(interval, counterName, null, clock, 1, new ActorDelegatingAction("next", nextActor))
 
     // Send session, expect response near-instantly
     pace ! emptySession
@@ -55,7 +55,7 @@ class PaceSpec extends ActorSpec with EmptySession {
   it should "run actions immediately if the minimum time has expired" in {
     val overrunTime = 1.second
     val nextActor = mockActorRef[Session]("next")
-    val pace = new Pace(interval, counterName, null, clock, new ActorDelegatingAction("next", nextActor))
+    val pace = new Pace(interval, counterName, null, clock, 1, new ActorDelegatingAction("next", nextActor))
 
     // Send session, expect response near-instantly
     pace ! emptySession
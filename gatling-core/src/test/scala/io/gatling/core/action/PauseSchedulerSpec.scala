@@ -0,0 +1,81 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.action
+
+import java.util.concurrent.TimeUnit
+
+import scala.collection.mutable
+
+import io.gatling.commons.util.Clock
+import io.gatling.core.{ EmptySession, FakeEventLoop }
+
+import io.netty.util.concurrent.ScheduledFuture
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class PauseSchedulerSpec extends AnyFlatSpecLike with Matchers with EmptySession {
+  private final class ManualEventLoop extends FakeEventLoop {
+    val scheduled: mutable.Buffer[(Runnable, Long)] = mutable.Buffer.empty
+
+    override def schedule(command: Runnable, delay: Long, unit: TimeUnit): ScheduledFuture[_] = {
+      scheduled += command -> unit.toMillis(delay)
+      null
+    }
+  }
+
+  private final class FakeClock(var nowMillis: Long) extends Clock
+
+  "PauseScheduler" should "wake up the users sleeping in the same tick with a single task" in {
+    val eventLoop = new ManualEventLoop
+    val clock = new FakeClock(1000)
+    val scheduler = new PauseScheduler(eventLoop, clock, tickMillis = 10)
+    val wokenUp = mutable.Buffer.empty[Long]
+
+    for (userId <- 1L to 3L) {
+      clock.nowMillis += 1
+      scheduler.sleep(emptySession.copy(userId = userId), 5, session => wokenUp += session.userId)
+    }
+
+    eventLoop.scheduled.map(_._2) shouldBe Seq(9L)
+    eventLoop.scheduled.head._1.run()
+    wokenUp shouldBe Seq(1L, 2L, 3L)
+  }
+
+  it should "never wake up users early" in {
+    val eventLoop = new ManualEventLoop
+    val clock = new FakeClock(1003)
+    val scheduler = new PauseScheduler(eventLoop, clock, tickMillis = 10)
+
+    scheduler.sleep(emptySession, 25, _ => ())
+    scheduler.sleep(emptySession, 27, _ => ())
+    scheduler.sleep(emptySession, 28, _ => ())
+
+    eventLoop.scheduled.map(_._2) shouldBe Seq(27L, 37L)
+  }
+
+  it should "put the users sleeping again while waking up in a new slot" in {
+    val eventLoop = new ManualEventLoop
+    val scheduler = new PauseScheduler(eventLoop, new FakeClock(1000), tickMillis = 60 * 60 * 1000)
+    var wokenUpAgain = false
+
+    scheduler.sleep(emptySession, 0, scheduler.sleep(_, 0, _ => wokenUpAgain = true))
+    eventLoop.scheduled.head._1.run()
+    eventLoop.scheduled should have size 2
+    eventLoop.scheduled.last._1.run()
+    wokenUpAgain shouldBe true
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.css
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import scala.util.Using
+
+import jodd.csselly.CSSelly
+import jodd.lagarto.dom.NodeSelector
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class StreamingCssSelectorSpec extends AnyFlatSpecLike with Matchers {
+  private val cssSelectors = new CssSelectors(Long.MaxValue)
+
+  private val Html =
+    """<!DOCTYPE html>
+      |<HTML>
+      |<head>
+      |  <title>Test</title>
+      |  <link rel="stylesheet" href="/main.css">
+      |  <script src="/app.js"></script>
+      |  <script>var markup = '<input name="csrf" value="script">';</script>
+      |</head>
+      |<body>
+      |<div id="main" class="container wide">
+      |  <p class="intro">Hello <span id="s1">world<p>implicitly closes the previous paragraph <span id="s2">!</span>
+      |  <ul class="menu">
+      |    <li class="item active"><a href="/home">Home</a>
+      |    <li class="item"><a href="/about" HREF="/duplicate">About</a>
+      |    <li><A Href="/upper">Upper</A>
+      |  </ul>
+      |  <a href="/after-list">After</a>
+      |  <div><div class="deep"><IMG SRC="/img.png"><br/><a href="/deep">Deep</a></div></div>
+      |  </span>
+      |  <form id="login" action="/login">
+      |    <input type="hidden" name="csrf" value="token1">
+      |    <input type="text" name="user" disabled>
+      |    <div class="row"><input type="hidden" name="csrf" value="token2"/></div>
+      |  </form>
+      |  <table><tr><td><a href="/cell" data-id="1">Cell</a><td><a href="/cell2" data-id="2">Cell 2</a></table>
+      |</div>
+      |<div class="footer"><a href="/footer" data-id="3">Footer</a></div>
+      |</body>
+      |</HTML>""".stripMargin
+
+  private val Queries = Seq(
+    "a" -> "href",
+    "A" -> "href",
+    "input[name=csrf]" -> "value",
+    "input[name='csrf']" -> "value",
+    "form#login input[type=hidden]" -> "value",
+    "#login .row input" -> "value",
+    "#main a" -> "href",
+    "div a" -> "href",
+    "div div a" -> "href",
+    "ul li a" -> "href",
+    ".menu .item a" -> "href",
+    "li.active a[href^='/']" -> "href",
+    "p span" -> "id",
+    "p.intro span" -> "id",
+    "span a" -> "href",
+    "table td a" -> "href",
+    "tr a[data-id]" -> "data-id",
+    "[data-id]" -> "data-id",
+    "*[id]" -> "id",
+    "script[src$='.js']" -> "src",
+    "link[rel~=stylesheet]" -> "href",
+    "img" -> "src",
+    "input" -> "disabled",
+    "div.container.wide a" -> "href",
+    "div.footer a" -> "href",
+    "body a" -> "href",
+    "html body div form input" -> "name",
+    "nothing" -> "href"
+  )
+
+  private def dom(html: String): NodeSelector = new NodeSelector(Lagarto.newLagartoDomBuilder.parse(html.toCharArray))
+
+  private def resource(file: String): String = Using.resource(getClass.getClassLoader.getResourceAsStream(file)) { is =>
+    new String(is.readAllBytes(), UTF_8)
+  }
+
+  "StreamingCssSelector" should "only support tag, id, class and attribute selectors with descendant combinators" in {
+    for (query <- Seq("input[name=csrf]", "#main", ".item", "form#login input[type=hidden]", "ul li a", "*[id]")) {
+      StreamingCssSelector.compile(CSSelly.parse(query)) shouldBe defined
+    }
+
+    for (query <- Seq("ul > li", "li + li", "li ~ li", "a:first-child", "li:nth-child(2)", "a, img")) {
+      StreamingCssSelector.compile(CSSelly.parse(query)) shouldBe empty
+    }
+  }
+
+  it should "match the same elements as the DOM, in the same order" in {
+    for ((query, attribute) <- Queries) {
+      withClue(query) {
+        val streamed = cssSelectors.extractAll[String](cssSelectors.parse(Html.toCharArray), (query, Some(attribute)))
+        streamed shouldBe cssSelectors.extractAll[String](dom(Html), (query, Some(attribute)))
+        cssSelectors.count(cssSelectors.parse(Html.toCharArray), (query, None)) shouldBe cssSelectors.count(dom(Html), (query, None))
+      }
+    }
+  }
+
+  it should "match the same elements as the DOM on a real page" in {
+    val html = resource("GatlingHomePage.html")
+    for ((query, attribute) <- Seq("a" -> "href", "div a" -> "href", "ul li a" -> "href", ".article a" -> "href", "img" -> "src", "link" -> "href")) {
+      withClue(query) {
+        val streamed = cssSelectors.extractAll[String](cssSelectors.parse(html.toCharArray), (query, Some(attribute)))
+        streamed should not be empty
+        streamed shouldBe cssSelectors.extractAll[String](dom(html), (query, Some(attribute)))
+      }
+    }
+  }
+
+  it should "stop at the requested occurrence without building the DOM" in {
+    val selector = cssSelectors.parse(Html.toCharArray)
+
+    cssSelectors.extract[String](selector, ("input[name=csrf]", Some("value")), 1) shouldBe Vector("token1")
+    cssSelectors.extract[String](selector, ("#main a", Some("href")), 2) shouldBe Vector("/home", "/about")
+    selector.asInstanceOf[LazyNodeSelector].isBuilt shouldBe false
+  }
+
+  it should "fall back to the DOM for the selectors and conversions it doesn't support" in {
+    val selector = cssSelectors.parse(Html.toCharArray)
+
+    cssSelectors.extractAll[String](selector, ("ul > li > a", Some("href"))) shouldBe Vector("/home", "/about", "/upper")
+    selector.asInstanceOf[LazyNodeSelector].isBuilt shouldBe true
+
+    cssSelectors.extractAll[String](cssSelectors.parse(Html.toCharArray), ("li.active a", None)) shouldBe Vector("Home")
+  }
+}
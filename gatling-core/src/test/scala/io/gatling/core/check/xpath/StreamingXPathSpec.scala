@@ -0,0 +1,190 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.check.xpath
+
+import java.io.{ ByteArrayInputStream, InputStream }
+import java.nio.charset.StandardCharsets.UTF_8
+import java.util.concurrent.atomic.AtomicInteger
+
+import scala.jdk.CollectionConverters._
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class StreamingXPathSpec extends AnyFlatSpecLike with Matchers {
+  private val xmlParsers = new XmlParsers(Long.MaxValue)
+
+  private val Namespaces = Map(
+    "soap" -> "http://schemas.xmlsoap.org/soap/envelope/",
+    "m" -> "http://example.com/stock",
+    "x" -> "http://example.com/extra"
+  )
+
+  private val Xml =
+    """<?xml version="1.0" encoding="UTF-8"?>
+      |<!-- leading comment -->
+      |<soap:Envelope xmlns:soap="http://schemas.xmlsoap.org/soap/envelope/" xmlns:x="http://example.com/extra">
+      |  <soap:Header><x:token x:scope="all" scope="local">abc&amp;def</x:token></soap:Header>
+      |  <soap:Body>
+      |    <m:GetQuotesResponse xmlns:m="http://example.com/stock">
+      |      <m:quote symbol="ACME" currency="USD"><m:price>12.5</m:price><m:name>Acme <![CDATA[<Corp>]]> Inc</m:name></m:quote>
+      |      <m:quote symbol="INIT" currency="EUR"><m:price>7</m:price><m:name>Initech</m:name></m:quote>
+      |      <m:quote symbol="UMB"><m:price>0.1</m:price><m:name>Umbrella<!-- split -->Corp<?pi data?>oration</m:name></m:quote>
+      |    </m:GetQuotesResponse>
+      |    <list>
+      |      <item id="1">one<item id="1.1">nested</item>tail</item>
+      |      <item id="2" type="">two &#169; &lt;2&gt;</item>
+      |      <item>three<sub/>four</item>
+      |      <other><item id="4">deep</item></other>
+      |    </list>
+      |    <empty/>
+      |    <mixed>text <b>bold</b> more <i>italic <b>both</b></i></mixed>
+      |  </soap:Body>
+      |</soap:Envelope>""".stripMargin
+
+  private val Expressions = Seq(
+    "/soap:Envelope",
+    "soap:Envelope/soap:Body/list/item",
+    "/soap:Envelope/soap:Body/list/item",
+    "//item",
+    "//item/text()",
+    "//item/@id",
+    "//item[@id]",
+    "//item[@id='2']",
+    "//item[@id=\"2\"]/@type",
+    "//item[@type='']",
+    "//list//item",
+    "//list/item/item",
+    "//other/item",
+    "/soap:Envelope//item[@id]/text()",
+    "//m:quote/@symbol",
+    "//m:quote[@currency='EUR']/m:name",
+    "//m:quote[@symbol][@currency]/m:price",
+    "//m:quote/m:name",
+    "//m:quote/m:name/text()",
+    "//m:name/text()",
+    "//x:token",
+    "//x:token/@x:scope",
+    "//x:token/@scope",
+    "//x:token[@x:scope='local']",
+    "//x:token[@scope='local']",
+    "//*",
+    "//*[@id]/@id",
+    "/*/*/*",
+    "//soap:Body/*",
+    "//mixed",
+    "//mixed/text()",
+    "//mixed//b",
+    "//empty",
+    "//empty/text()",
+    "//quote",
+    "//nothing",
+    "/list"
+  )
+
+  private def saxon(expression: String, xml: String): Vector[String] =
+    xmlParsers.evaluateXPath(expression, Namespaces, XmlParsers.parse(xml)).asScala.map(_.getStringValue).toVector
+
+  private def streaming(expression: String): StreamingXPath =
+    StreamingXPath.compile(expression, Namespaces).getOrElse(fail(s"$expression should be supported"))
+
+  "StreamingXPath" should "support child and descendant steps, attribute predicates, text() and attributes" in {
+    Expressions.foreach(streaming)
+  }
+
+  it should "not support other expressions" in {
+    for (
+      expression <- Seq(
+        "/",
+        "//item[1]",
+        "//item[last()]",
+        "//item[@id!='2']",
+        "//item[@id='1' or @id='2']",
+        "//item[text()='one']",
+        "count(//item)",
+        "//item/..",
+        "//item/.",
+        "child::item",
+        "//@id",
+        "//item//text()",
+        "//item/@*",
+        "//m:*",
+        "//*:item",
+        "//item | //other",
+        "//unknown:item",
+        "//item[@id='it''s']"
+      )
+    ) {
+      withClue(expression) {
+        StreamingXPath.compile(expression, Namespaces) shouldBe empty
+      }
+    }
+  }
+
+  it should "return the same results as Saxon, in the same order" in {
+    for (expression <- Expressions) {
+      withClue(expression) {
+        val expected = saxon(expression, Xml)
+        streaming(expression).extract(XmlDocument(Xml), Int.MaxValue) shouldBe Some(expected)
+        streaming(expression).count(XmlDocument(Xml)) shouldBe Some(expected.size)
+        xmlParsers.extract(expression, Namespaces, XmlDocument(Xml), Int.MaxValue) shouldBe expected
+      }
+    }
+  }
+
+  it should "return the first results of nested elements once they're complete" in {
+    streaming("//item").extract(XmlDocument(Xml), 1) shouldBe Some(Vector("onenestedtail"))
+    streaming("//item").extract(XmlDocument(Xml), 2) shouldBe Some(Vector("onenestedtail", "nested"))
+  }
+
+  it should "stop reading once enough results were found" in {
+    val truncated = Xml.substring(0, Xml.indexOf("<other>"))
+    val document = XmlDocument(truncated)
+
+    xmlParsers.extract("//item/@id", Namespaces, document, 2) shouldBe Vector("1", "1.1")
+    document.isParsed shouldBe false
+    an[Exception] should be thrownBy xmlParsers.extract("//item/@id", Namespaces, document, Int.MaxValue)
+  }
+
+  it should "hand documents with a DTD over to Saxon" in {
+    val xml = """<?xml version="1.0"?><!DOCTYPE root [<!ENTITY who "world">]><root><hello>&who;</hello></root>"""
+    streaming("//hello").extract(XmlDocument(xml), Int.MaxValue) shouldBe None
+    xmlParsers.extract("//hello", Namespaces, XmlDocument(xml), Int.MaxValue) shouldBe Vector("world")
+  }
+
+  it should "read from the stream and only build the tree for the expressions it doesn't support" in {
+    val opened = new AtomicInteger
+    val bytes = Xml.getBytes(UTF_8)
+    val document = XmlDocument(
+      () => {
+        opened.incrementAndGet()
+        new ByteArrayInputStream(bytes): InputStream
+      },
+      UTF_8
+    )
+
+    xmlParsers.extract("//m:quote/@symbol", Namespaces, document, 1) shouldBe Vector("ACME")
+    xmlParsers.count("//item", Namespaces, document) shouldBe 5
+    document.isParsed shouldBe false
+
+    xmlParsers.extract("//m:quote[last()]/@symbol", Namespaces, document, 1) shouldBe Vector("UMB")
+    document.isParsed shouldBe true
+    // once built, the tree is reused
+    xmlParsers.extract("//m:quote/@symbol", Namespaces, document, Int.MaxValue) shouldBe Vector("ACME", "INIT", "UMB")
+    opened.get shouldBe 3
+  }
+}
@@ -18,11 +18,8 @@ package io.gatling.core.check.xpath
 
 import java.nio.charset.StandardCharsets.UTF_8
 
-import scala.util.Using
-
 import io.gatling.ValidationValues
 
-import net.sf.saxon.s9api.XdmNode
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
@@ -31,10 +28,8 @@ class XPathExtractorSpec extends AnyFlatSpecLike with Matchers with ValidationVa
 
   private val xmlParsers = new XmlParsers(Long.MaxValue)
 
-  private def dom(file: String): XdmNode =
-    Using.resource(getClass.getClassLoader.getResourceAsStream(file)) { is =>
-      XmlParsers.parse(is, UTF_8)
-    }
+  private def dom(file: String): XmlDocument =
+    XmlDocument(() => getClass.getClassLoader.getResourceAsStream(file), UTF_8)
 
   private def testCount(expression: String, file: String, expected: Int): Unit = {
     val extractor = XPathExtractors.count(expression, namespaces, xmlParsers)
@@ -106,4 +101,15 @@ class XPathExtractorSpec extends AnyFlatSpecLike with Matchers with ValidationVa
   it should "return expected result with anywhere namespaced element" in {
     testMultiple("//foo:bar", namespaces, "test.xml", Some(List("fooBar")))
   }
+
+  "extractors" should "report documents that can't be parsed" in {
+    val document = XmlDocument("<test><unclosed></test>")
+    XPathExtractors.find("/test/unclosed/text()", namespaces, 0, xmlParsers)(document).failed should startWith("Could not parse response into a DOM Document: ")
+    XPathExtractors.count("//*[last()]", namespaces, xmlParsers)(document).failed should startWith("Could not parse response into a DOM Document: ")
+  }
+
+  it should "evaluate against an already parsed tree" in {
+    val document = XmlDocument(XmlParsers.parse("<test><a>1</a><a>2</a></test>"))
+    XPathExtractors.findAll("/test/a", namespaces, xmlParsers)(document).succeeded shouldBe Some(List("1", "2"))
+  }
 }
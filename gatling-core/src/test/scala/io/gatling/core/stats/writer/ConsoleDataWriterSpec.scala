@@ -21,6 +21,7 @@ import java.time.format.DateTimeFormatter
 
 import scala.collection.mutable
 
+import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.commons.util.StringHelper.Eol
 import io.gatling.core.config.GatlingConfiguration
 
@@ -40,6 +41,21 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
 
   private def errorsInfo(summary: ConsoleSummary) = lines(summary).slice(6, 9).mkString(Eol)
 
+  private def requestsCounters(maxRanked: Int, counts: (String, Int, Int)*): RequestsCounters = {
+    val counters = new RequestsCounters(maxRanked)
+    for ((name, successfulCount, failedCount) <- counts) {
+      for (_ <- 1 to successfulCount) counters.record(Nil, name, OK)
+      for (_ <- 1 to failedCount) counters.record(Nil, name, KO)
+    }
+    counters
+  }
+
+  private def errorsCounters(maxRanked: Int, counts: (String, Int)*): ErrorsCounters = {
+    val counters = new ErrorsCounters(maxRanked)
+    for ((message, count) <- counts; _ <- 1 to count) counters.record(message)
+    counters
+  }
+
   "console summary progress bar" should "handle it correctly when all the users are waiting" in {
     val counters = new UserCounters(Some(11))
 
@@ -47,8 +63,8 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
       10000,
       mutable.Map("request1" -> counters),
       RequestCounters.empty,
-      mutable.Map.empty,
-      mutable.Map.empty,
+      new RequestsCounters(ConsoleSummary.MaxDisplayedRequests),
+      new ErrorsCounters(ConsoleSummary.MaxDisplayedErrors),
       light,
       time,
       DateTimeFormatter.ISO_DATE_TIME
@@ -66,8 +82,8 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
       10000,
       mutable.Map("request1" -> counters),
       RequestCounters.empty,
-      mutable.Map.empty,
-      mutable.Map.empty,
+      new RequestsCounters(ConsoleSummary.MaxDisplayedRequests),
+      new ErrorsCounters(ConsoleSummary.MaxDisplayedErrors),
       light,
       time,
       DateTimeFormatter.ISO_DATE_TIME
@@ -85,8 +101,8 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
       10000,
       mutable.Map("request1" -> counters),
       RequestCounters.empty,
-      mutable.Map.empty,
-      mutable.Map.empty,
+      new RequestsCounters(ConsoleSummary.MaxDisplayedRequests),
+      new ErrorsCounters(ConsoleSummary.MaxDisplayedErrors),
       light,
       time,
       DateTimeFormatter.ISO_DATE_TIME
@@ -104,8 +120,8 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
       10000,
       mutable.Map("request1" -> counters),
       RequestCounters.empty,
-      mutable.Map.empty,
-      mutable.Map.empty,
+      new RequestsCounters(ConsoleSummary.MaxDisplayedRequests),
+      new ErrorsCounters(ConsoleSummary.MaxDisplayedErrors),
       light,
       time,
       DateTimeFormatter.ISO_DATE_TIME
@@ -115,14 +131,12 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
   }
 
   "console summary" should "display requests without errors" in {
-    val requestCounters = mutable.Map("request1" -> new RequestCounters(20, 0))
-
     val summary = ConsoleSummary(
       10000,
       mutable.Map("request1" -> new UserCounters(Some(11))),
       new RequestCounters(20, 0),
-      requestCounters,
-      mutable.Map.empty,
+      requestsCounters(ConsoleSummary.MaxDisplayedRequests, ("request1", 20, 0)),
+      new ErrorsCounters(ConsoleSummary.MaxDisplayedErrors),
       light,
       time,
       DateTimeFormatter.ISO_DATE_TIME
@@ -135,15 +149,12 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
   }
 
   it should "display requests with multiple errors" in {
-    val requestCounters = mutable.Map("request1" -> new RequestCounters(0, 20))
-
-    val errorsCounters1 = mutable.Map("error1" -> 19, "error2" -> 1)
     val summary1 = ConsoleSummary(
       10000,
       mutable.Map("request1" -> new UserCounters(Some(11))),
       new RequestCounters(0, 20),
-      requestCounters,
-      errorsCounters1,
+      requestsCounters(ConsoleSummary.MaxDisplayedRequests, ("request1", 0, 20)),
+      errorsCounters(ConsoleSummary.MaxDisplayedErrors, "error2" -> 1, "error1" -> 19),
       light,
       time,
       DateTimeFormatter.ISO_DATE_TIME
@@ -158,16 +169,14 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
   }
 
   it should "display requests with high number of errors" in {
-    val requestCounters = mutable.Map("request1" -> new RequestCounters(0, 123456))
     val loremIpsum =
       "Lorem ipsum dolor sit amet, consectetur adipisicing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ut aliquip ex ea commodo consequat. Duis aute irure dolor in reprehenderit in voluptate velit esse cillum dolore eu fugiat nulla pariatur. Excepteur sint occaecat cupidatat non proident, sunt in culpa qui officia deserunt mollit anim id est laborum."
-    val errorsCounters = mutable.Map(loremIpsum -> 123456)
     val summary = ConsoleSummary(
       10000,
       mutable.Map("request1" -> new UserCounters(Some(11))),
       new RequestCounters(0, 123456),
-      requestCounters,
-      errorsCounters,
+      requestsCounters(ConsoleSummary.MaxDisplayedRequests, ("request1", 0, 123456)),
+      errorsCounters(ConsoleSummary.MaxDisplayedErrors, loremIpsum -> 123456),
       light,
       time,
       DateTimeFormatter.ISO_DATE_TIME
@@ -180,4 +189,43 @@ class ConsoleDataWriterSpec extends AnyFlatSpecLike with Matchers {
                       |e et dolore magna aliqua. Ut enim ad minim veniam, quis nostrud exercitation ullamco laboris nisi ...""".stripMargin
     all(output.linesIterator.map(_.length).toSet) shouldBe <=(120)
   }
+
+  it should "only display the requests with the highest counts" in {
+    val summary = ConsoleSummary(
+      10000,
+      mutable.Map("request1" -> new UserCounters(Some(11))),
+      new RequestCounters(25, 5),
+      requestsCounters(2, ("request1", 3, 0), ("request2", 10, 0), ("request3", 2, 5), ("request4", 10, 0)),
+      new ErrorsCounters(ConsoleSummary.MaxDisplayedErrors),
+      lightOutput = false,
+      time,
+      DateTimeFormatter.ISO_DATE_TIME
+    )
+
+    lines(summary).slice(3, 8).mkString(Eol) shouldBe
+      """---- Requests -----------------------------------------------------------------------|---Total---|-----OK----|----KO----
+        |> Global                                                                             |        30 |        25 |         5
+        |> request2                                                                           |        10 |        10 |         0
+        |> request4                                                                           |        10 |        10 |         0
+        |> 2 other requests                                                                   |        10 |         5 |         5""".stripMargin
+  }
+
+  it should "only display the most frequent errors" in {
+    val summary = ConsoleSummary(
+      10000,
+      mutable.Map("request1" -> new UserCounters(Some(11))),
+      new RequestCounters(0, 20),
+      requestsCounters(ConsoleSummary.MaxDisplayedRequests, ("request1", 0, 20)),
+      errorsCounters(2, "error1" -> 1, "error2" -> 2, "error3" -> 12, "error4" -> 5),
+      light,
+      time,
+      DateTimeFormatter.ISO_DATE_TIME
+    )
+
+    errorsInfo(summary) + Eol + lines(summary)(9) shouldBe
+      """---- Errors ------------------------------------------------------------------------------------------------------------
+        |> error3                                                                                                     12    (60%)
+        |> error4                                                                                                      5    (25%)
+        |> 2 other errors                                                                                              3    (15%)""".stripMargin
+  }
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import java.io.{ BufferedReader, InputStreamReader }
+import java.net.{ HttpURLConnection, InetAddress, ServerSocket, URI }
+import java.nio.charset.StandardCharsets.UTF_8
+
+import scala.util.Using
+
+import io.gatling.commons.stats.{ KO, OK }
+import io.gatling.core.config.{ GraphiteConfiguration, OpenMetricsConfiguration }
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class MetricsDataWriterSpec extends AnyFlatSpecLike with Matchers {
+  private val Percentiles = Seq(50.0, 99.0)
+
+  private def aggregator: MetricsAggregator =
+    new MetricsAggregator(Seq(ShortScenarioDescription("scenario", Some(10))), Percentiles, windowSeconds = 1)
+
+  private def sampleSnapshot: MetricsSnapshot = {
+    val agg = aggregator
+    agg.recordUser("scenario", start = true)
+    agg.recordUser("scenario", start = true)
+    agg.recordUser("scenario", start = false)
+    (1 to 100).foreach(i => agg.recordResponse(Nil, "home", OK, i))
+    agg.recordResponse(List("login"), "submit", KO, 300)
+    agg.recordGroup(List("login"), KO, 350)
+    agg.recordError()
+    agg.snapshot(timestamp = 1700000000000L)
+  }
+
+  "MetricsAggregator" should "compute per window stats and cumulative counts" in {
+    val agg = aggregator
+    (1 to 100).foreach(i => agg.recordResponse(Nil, "home", OK, i))
+
+    val first = agg.snapshot(1000)
+    val home = first.requests.find(_.key == SeriesKey("", "home", OK)).get
+    home.windowCount shouldBe 100
+    home.totalCount shouldBe 100
+    home.min shouldBe 1
+    home.max shouldBe 100
+    home.percentiles.toSeq shouldBe Seq(50, 99)
+
+    agg.recordResponse(Nil, "home", OK, 500)
+    val second = agg.snapshot(2000)
+    val home2 = second.requests.find(_.key == SeriesKey("", "home", OK)).get
+    home2.windowCount shouldBe 1
+    home2.totalCount shouldBe 101
+    home2.totalSum shouldBe 5550
+    home2.percentiles.toSeq shouldBe Seq(500, 500)
+  }
+
+  it should "merge the requests into all requests series per status" in {
+    val agg = aggregator
+    (1 to 50).foreach(i => agg.recordResponse(Nil, "a", OK, i))
+    (51 to 100).foreach(i => agg.recordResponse(List("g"), "b", OK, i))
+    agg.recordResponse(Nil, "a", KO, 1000)
+
+    val snapshot = agg.snapshot(1000)
+    val allOk = snapshot.allRequests.find(_.key.status == OK).get
+    allOk.windowCount shouldBe 100
+    allOk.percentiles.toSeq shouldBe Seq(50, 99)
+    snapshot.allRequests.find(_.key.status == KO).get.max shouldBe 1000
+
+    agg.snapshot(2000).allRequests.find(_.key.status == OK).get.windowCount shouldBe 0
+  }
+
+  it should "record the events of equal group hierarchies in the same series" in {
+    val agg = aggregator
+    agg.recordResponse(List("outer", "inner"), "a", OK, 10)
+    agg.recordResponse("outer" :: List("inner"), "a", OK, 20)
+    agg.recordGroup(List("outer", "inner"), OK, 30)
+    agg.recordGroup("outer" :: List("inner"), OK, 40)
+
+    val snapshot = agg.snapshot(1000)
+    snapshot.requests.map(sample => sample.key -> sample.windowCount) shouldBe Seq(SeriesKey("outer / inner", "a", OK) -> 2)
+    snapshot.groups.map(sample => sample.key -> sample.windowCount) shouldBe Seq(SeriesKey("outer", "inner", OK) -> 2)
+  }
+
+  it should "track users and groups" in {
+    val snapshot = sampleSnapshot
+    val users = snapshot.users.find(_.scenario == "scenario").get
+    users.activeCount shouldBe 1
+    users.doneCount shouldBe 1
+    snapshot.groups.map(_.key) shouldBe Seq(SeriesKey("", "login", KO))
+    snapshot.errorCount shouldBe 1
+  }
+
+  "OpenMetricsFormat" should "render the snapshot" in {
+    val text = OpenMetricsFormat.render(sampleSnapshot)
+
+    text should include("# TYPE gatling_requests counter\n")
+    text should include("""gatling_requests_total{group="",request="home",status="OK"} 100""")
+    text should include("""gatling_requests_rate{group="",request="home",status="OK"} 100.0""")
+    text should include("""gatling_requests_response_time_milliseconds{group="",request="home",status="OK",quantile="0.99"} 99""")
+    text should include("""gatling_requests_response_time_milliseconds_count{group="login",request="submit",status="KO"} 1""")
+    text should include("""gatling_requests_response_time_max_milliseconds{group="login",request="submit",status="KO"} 300""")
+    text should include("""gatling_all_requests_total{status="OK"} 100""")
+    text should include("""gatling_groups_duration_milliseconds{group="",name="login",status="KO",quantile="0.5"} 350""")
+    text should include("""gatling_users_active{scenario="scenario"} 1""")
+    text should include("gatling_errors_total 1\n")
+    text should endWith("# EOF\n")
+  }
+
+  "OpenMetricsServer" should "serve the last published snapshot" in {
+    val server = OpenMetricsServer(new OpenMetricsConfiguration("127.0.0.1", 0))
+    try {
+      server.publish(sampleSnapshot)
+      val connection = URI.create(s"http://127.0.0.1:${server.port}/metrics").toURL.openConnection().asInstanceOf[HttpURLConnection]
+      connection.getResponseCode shouldBe 200
+      connection.getContentType shouldBe OpenMetricsFormat.ContentType
+      val body = Using.resource(connection.getInputStream)(is => new String(is.readAllBytes(), UTF_8))
+      body shouldBe OpenMetricsFormat.render(sampleSnapshot)
+    } finally {
+      server.close()
+    }
+  }
+
+  "GraphiteSender" should "push the snapshot with the plaintext protocol" in {
+    Using.resource(new ServerSocket(0, 1, InetAddress.getLoopbackAddress)) { serverSocket =>
+      val sender = new GraphiteSender(new GraphiteConfiguration("127.0.0.1", serverSocket.getLocalPort, "gatling"), "mysimulation")
+      try {
+        sender.send(sampleSnapshot)
+        Using.resource(serverSocket.accept()) { socket =>
+          val reader = new BufferedReader(new InputStreamReader(socket.getInputStream, UTF_8))
+          val lines = Iterator.continually(reader.readLine()).takeWhile(line => line != null && !line.startsWith("gatling.mysimulation.errors")).toList
+
+          lines should contain("gatling.mysimulation.users.scenario.active 1 1700000000")
+          lines should contain("gatling.mysimulation.home.ok.count 100 1700000000")
+          lines should contain("gatling.mysimulation.home.ok.percentiles99 99 1700000000")
+          lines should contain("gatling.mysimulation.login.submit.ko.max 300 1700000000")
+          lines should contain("gatling.mysimulation.allRequests.ok.percentiles50 50 1700000000")
+          lines should contain("gatling.mysimulation.login.ko.count 1 1700000000")
+        }
+      } finally {
+        sender.close()
+      }
+    }
+  }
+
+  it should "not fail when Graphite is unreachable" in {
+    val port = Using.resource(new ServerSocket(0, 1, InetAddress.getLoopbackAddress))(_.getLocalPort)
+    val sender = new GraphiteSender(new GraphiteConfiguration("127.0.0.1", port, "gatling"), "mysimulation")
+    noException should be thrownBy sender.send(sampleSnapshot)
+    sender.close()
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.core.stats.writer
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class ResponseTimeHistogramSpec extends AnyFlatSpecLike with Matchers {
+  private def histogram(values: Int*): ResponseTimeHistogram = {
+    val h = new ResponseTimeHistogram
+    values.foreach(h.record)
+    h
+  }
+
+  "bucketIndex" should "be the identity for small values" in {
+    (0 until 128).foreach(v => ResponseTimeHistogram.bucketIndex(v) shouldBe v)
+  }
+
+  it should "map each value into a bucket whose highest equivalent value is close above" in {
+    for (v <- Seq(128, 129, 255, 256, 1000, 12345, 1 << 20, Int.MaxValue - 1, Int.MaxValue)) {
+      val highest = ResponseTimeHistogram.highestEquivalentValue(ResponseTimeHistogram.bucketIndex(v))
+      highest should be >= v
+      (highest - v).toDouble / v should be < 0.016
+    }
+  }
+
+  it should "be monotonic" in {
+    val indices = (0 to 100000).map(ResponseTimeHistogram.bucketIndex)
+    indices shouldBe sorted
+  }
+
+  "percentile" should "return exact values below 128" in {
+    val h = histogram(1 to 100: _*)
+    h.percentile(50) shouldBe 50
+    h.percentile(95) shouldBe 95
+    h.percentile(99) shouldBe 99
+    h.min shouldBe 1
+    h.max shouldBe 100
+    h.count shouldBe 100
+    h.sum shouldBe 5050
+  }
+
+  it should "be accurate within 1.6% for large values" in {
+    val h = histogram(1 to 10000: _*)
+    h.percentile(50) shouldBe 5000 +- 80
+    h.percentile(99) shouldBe 9900 +- 158
+  }
+
+  it should "not exceed the max recorded value" in {
+    histogram(1000).percentile(99) shouldBe 1000
+  }
+
+  it should "be 0 when empty" in {
+    val h = histogram()
+    h.percentile(50) shouldBe 0
+    h.min shouldBe 0
+    h.max shouldBe 0
+  }
+
+  "merge" should "be equivalent to recording all the values in a single histogram" in {
+    val merged = histogram(1 to 500: _*)
+    merged.merge(histogram(501 to 1000: _*))
+    val all = histogram(1 to 1000: _*)
+
+    merged.count shouldBe all.count
+    merged.sum shouldBe all.sum
+    merged.min shouldBe all.min
+    merged.max shouldBe all.max
+    Seq(50.0, 75.0, 95.0, 99.0).foreach(p => merged.percentile(p) shouldBe all.percentile(p))
+  }
+
+  "reset" should "clear the histogram" in {
+    val h = histogram(1, 2, 3)
+    h.reset()
+    h.count shouldBe 0
+    h.percentile(50) shouldBe 0
+    h.record(7)
+    h.min shouldBe 7
+    h.percentile(50) shouldBe 7
+  }
+}
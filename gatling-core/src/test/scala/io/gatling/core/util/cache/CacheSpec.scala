@@ -59,6 +59,26 @@ class CacheSpec extends AnyFlatSpecLike with Matchers {
     cacheWithThirdValue.get("key3") shouldBe Some("value3")
   }
 
+  it should "keep evicting in insertion order after a key has been removed" in {
+    val cache = Cache.newImmutableCache[String, String](2)
+    val cacheWithTwoValues = cache.put("key", "value").put("key2", "value2").remove("key").put("key3", "value3")
+    val cacheWithThirdValue = cacheWithTwoValues.put("key4", "value4")
+
+    cacheWithThirdValue.get("key2") shouldBe None
+    cacheWithThirdValue.get("key3") shouldBe Some("value3")
+    cacheWithThirdValue.get("key4") shouldBe Some("value4")
+  }
+
+  it should "leave the original cache untouched" in {
+    val cache = Cache.newImmutableCache[String, String](1)
+    val cacheWithValue = cache.put("key", "value")
+    cacheWithValue.put("key2", "value2")
+
+    cache.get("key") shouldBe None
+    cacheWithValue.get("key") shouldBe Some("value")
+    cacheWithValue.get("key2") shouldBe None
+  }
+
   "ImmutableCache.-" should "remove a key from the cache " in {
     val cache = Cache.newImmutableCache[String, String](1)
     val cacheWithValue = cache.put("key", "value")
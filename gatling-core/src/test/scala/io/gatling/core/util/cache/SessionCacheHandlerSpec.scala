@@ -36,25 +36,35 @@ class SessionCacheHandlerSpec extends AnyFlatSpecLike with Matchers with OptionV
     sessionCacheHandler.getCache(sessionWithCache).value should be theSameInstanceAs newCache
   }
 
-  "getOrCreateCache" should "return the cache if it exists" in {
-    val newCache = Cache.newImmutableCache[String, String](2)
-    val sessionWithCache = emptySession.set("stringCache", newCache)
-    sessionCacheHandler.getOrCreateCache(sessionWithCache) should be theSameInstanceAs newCache
-  }
-
-  it should "create a new cache if it didn't exists" in {
-    emptySession.contains("stringCache") shouldBe false
-    sessionCacheHandler.getOrCreateCache(emptySession) shouldBe a[Cache[_, _]] // TODO : Can this test be improved ?
-  }
-
   "addEntry" should "add a new entry to the cache" in {
     val sessionWithNewEntry = sessionCacheHandler.addEntry(emptySession, "foo", "bar")
-    val entry = sessionCacheHandler.getOrCreateCache(sessionWithNewEntry).get("foo")
+    val entry = sessionCacheHandler.getCache(sessionWithNewEntry).value.get("foo")
 
     entry should not be empty
     entry.value shouldBe "bar"
   }
 
+  it should "return the same session when the entry is already in the cache" in {
+    val sessionWithCache = sessionCacheHandler.addEntry(emptySession, "foo", "bar")
+    sessionCacheHandler.addEntry(sessionWithCache, "foo", "bar") should be theSameInstanceAs sessionWithCache
+  }
+
+  it should "not alter the cache of the sessions the session derives from" in {
+    val sessionWithEntry = sessionCacheHandler.addEntry(emptySession, "foo", "bar")
+    val sessionWithOtherEntry = sessionCacheHandler.addEntry(sessionWithEntry, "quz", "qix")
+    sessionCacheHandler.removeEntry(sessionWithOtherEntry, "quz")
+
+    sessionCacheHandler.getEntry(sessionWithEntry, "foo").value shouldBe "bar"
+    sessionCacheHandler.getEntry(sessionWithEntry, "quz") shouldBe empty
+    sessionCacheHandler.getEntry(sessionWithOtherEntry, "foo") shouldBe empty
+    sessionCacheHandler.getEntry(sessionWithOtherEntry, "quz").value shouldBe "qix"
+  }
+
+  it should "leave the session untouched when disabled" in {
+    val disabledSessionCacheHandler = new SessionCacheHandler[String, String]("stringCache", 0)
+    disabledSessionCacheHandler.addEntry(emptySession, "foo", "bar") should be theSameInstanceAs emptySession
+  }
+
   "getEntry" should "return None if the cache does not exists" in {
     sessionCacheHandler.getEntry(emptySession, "foo") shouldBe empty
   }
@@ -42,6 +42,9 @@ public final class HttpClientConfig {
 
   private boolean soKeepAlive;
 
+  // max number of in-flight requests on a given HTTP/1.1 connection, 1 means no pipelining
+  private int http1PipeliningDepth = 1;
+
   public long getConnectTimeout() {
     return connectTimeout;
   }
@@ -123,6 +126,23 @@ public final class HttpClientConfig {
     return this;
   }
 
+  public int getHttp1PipeliningDepth() {
+    return http1PipeliningDepth;
+  }
+
+  public HttpClientConfig setHttp1PipeliningDepth(int http1PipeliningDepth) {
+    if (http1PipeliningDepth < 1) {
+      throw new IllegalArgumentException(
+          "http1PipeliningDepth must be >= 1, got " + http1PipeliningDepth);
+    }
+    this.http1PipeliningDepth = http1PipeliningDepth;
+    return this;
+  }
+
+  public boolean isHttp1PipeliningEnabled() {
+    return http1PipeliningDepth > 1;
+  }
+
   public SslContextsHolder getDefaultSslContextsHolder() {
     return defaultSslContextHolder;
   }
@@ -20,6 +20,7 @@ import io.gatling.http.client.body.RequestBody;
 import io.gatling.http.client.body.RequestBodyBuilder;
 import io.gatling.http.client.body.WritableContent;
 import io.gatling.netty.util.StringWithCachedBytes;
+import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import java.nio.charset.Charset;
 import java.util.List;
@@ -27,21 +28,17 @@ import java.util.List;
 public final class StringChunksRequestBody extends RequestBody.Base<List<StringWithCachedBytes>> {
 
   private final Charset charset;
-  private final long contentLength;
 
   public StringChunksRequestBody(List<StringWithCachedBytes> content, Charset charset) {
     super(content);
-    long contentLength = 0;
-    for (StringWithCachedBytes stringWithCachedBytes : content) {
-      contentLength += stringWithCachedBytes.bytes.length;
-    }
-    this.contentLength = contentLength;
     this.charset = charset;
   }
 
   @Override
   public WritableContent build(ByteBufAllocator alloc) {
-    return new WritableContent(StringWithCachedBytes.toByteBuf(content), contentLength);
+    // dynamic chunks are encoded directly into buffers from the allocator
+    ByteBuf bb = StringWithCachedBytes.toByteBuf(alloc, content);
+    return new WritableContent(bb, bb.readableBytes());
   }
 
   @Override
@@ -51,11 +48,16 @@ public final class StringChunksRequestBody extends RequestBody.Base<List<StringW
 
   @Override
   public byte[] getBytes() {
-    byte[] bytes = new byte[(int) contentLength];
+    int length = 0;
+    for (StringWithCachedBytes chunk : content) {
+      length += chunk.bytes().length;
+    }
+    byte[] bytes = new byte[length];
     int offset = 0;
     for (StringWithCachedBytes chunk : content) {
-      System.arraycopy(chunk.bytes, 0, bytes, offset, chunk.bytes.length);
-      offset += chunk.bytes.length;
+      byte[] chunkBytes = chunk.bytes();
+      System.arraycopy(chunkBytes, 0, bytes, offset, chunkBytes.length);
+      offset += chunkBytes.length;
     }
     return bytes;
   }
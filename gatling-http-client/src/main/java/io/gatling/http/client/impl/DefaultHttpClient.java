@@ -112,7 +112,10 @@ public final class DefaultHttpClient implements HttpClient {
           .addLast(HTTP_CLIENT_CODEC, newHttpClientCodec())
           .addLast(INFLATER_HANDLER, new CustomHttpContentDecompressor())
           .addLast(CHUNKED_WRITER_HANDLER, new ChunkedWriteHandler())
-          .addLast(APP_HTTP_HANDLER, new HttpAppHandler(DefaultHttpClient.this, channelPool));
+          .addLast(
+              APP_HTTP_HANDLER,
+              new HttpAppHandler(
+                  DefaultHttpClient.this, channelPool, config.getHttp1PipeliningDepth()));
     }
 
     private void addWsHandlers(Channel channel) {
@@ -156,7 +159,7 @@ public final class DefaultHttpClient implements HttpClient {
     }
 
     private EventLoopResources(EventLoop eventLoop) {
-      channelPool = new ChannelPool();
+      channelPool = new ChannelPool(config.isHttp1PipeliningEnabled());
       eventLoop.scheduleWithFixedDelay(
           () -> channelPool.closeIdleChannels(idleTimeoutNanos),
           POOL_CLEANER_PERIOD_MS,
@@ -1009,7 +1012,10 @@ public final class DefaultHttpClient implements HttpClient {
                         .addLast(CHUNKED_WRITER_HANDLER, new ForkedChunkedWriteHandler())
                         .addLast(
                             APP_HTTP_HANDLER,
-                            new HttpAppHandler(DefaultHttpClient.this, channelPool));
+                            new HttpAppHandler(
+                                DefaultHttpClient.this,
+                                channelPool,
+                                config.getHttp1PipeliningDepth()));
                     whenAlpn.setSuccess(null);
                     break;
 
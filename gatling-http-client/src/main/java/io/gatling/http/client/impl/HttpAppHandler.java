@@ -26,6 +26,7 @@ import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.DecoderResultProvider;
 import io.netty.handler.codec.http.*;
 import io.netty.util.ReferenceCountUtil;
+import java.util.ArrayDeque;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -35,12 +36,17 @@ final class HttpAppHandler extends ChannelDuplexHandler {
 
   private final DefaultHttpClient client;
   private final ChannelPool channelPool;
+  private final int pipeliningDepth;
+  // txs written after tx when pipelining, in the order their responses are expected
+  private final ArrayDeque<HttpTx> pipelinedTxs;
   private HttpTx tx;
   private boolean httpResponseReceived;
 
-  HttpAppHandler(DefaultHttpClient client, ChannelPool channelPool) {
+  HttpAppHandler(DefaultHttpClient client, ChannelPool channelPool, int pipeliningDepth) {
     this.client = client;
     this.channelPool = channelPool;
+    this.pipeliningDepth = pipeliningDepth;
+    this.pipelinedTxs = pipeliningDepth > 1 ? new ArrayDeque<>(pipeliningDepth - 1) : null;
   }
 
   @Override
@@ -61,6 +67,69 @@ final class HttpAppHandler extends ChannelDuplexHandler {
     return tx == null || tx.requestTimeout.isDone();
   }
 
+  private boolean isPipelining() {
+    return pipelinedTxs != null;
+  }
+
+  private boolean hasPipelinedTxs() {
+    return pipelinedTxs != null && !pipelinedTxs.isEmpty();
+  }
+
+  private int inFlight() {
+    return (tx != null ? 1 : 0) + (pipelinedTxs != null ? pipelinedTxs.size() : 0);
+  }
+
+  // RFC 9112 section 9.3.2: don't pipeline after a non-idempotent request
+  // also don't pipeline after a request that expects 100-Continue or closes the connection
+  private static boolean blocksPipelining(HttpTx tx) {
+    return tx.closeConnection
+        || tx.pendingRequestExpectingContinue != null
+        || !HttpUtils.isIdempotent(tx.request.getMethod());
+  }
+
+  private void updatePipeliningState(ChannelHandlerContext ctx) {
+    if (isPipelining()) {
+      int inFlight = inFlight();
+      boolean acceptsPipelined =
+          inFlight < pipeliningDepth && (tx == null || !blocksPipelining(tx));
+      if (acceptsPipelined) {
+        for (HttpTx pipelinedTx : pipelinedTxs) {
+          if (blocksPipelining(pipelinedTx)) {
+            acceptsPipelined = false;
+            break;
+          }
+        }
+      }
+      ChannelPool.updateHttp1PipeliningState(ctx.channel(), inFlight, acceptsPipelined);
+    }
+  }
+
+  private void failPipelinedTxs(ChannelHandlerContext ctx) {
+    if (!hasPipelinedTxs()) {
+      return;
+    }
+    // responses for these requests haven't started being received, so they can be retried
+    HttpTx pipelinedTx;
+    while ((pipelinedTx = pipelinedTxs.poll()) != null) {
+      pipelinedTx.releasePendingRequestExpectingContinue();
+      if (pipelinedTx.requestTimeout.isDone()) {
+        continue;
+      }
+      pipelinedTx.requestTimeout.cancel();
+      if (client.canRetry(pipelinedTx)) {
+        client.retry(pipelinedTx, ctx.channel().eventLoop());
+      } else {
+        try {
+          pipelinedTx.listener.onThrowable(PrematureCloseException.INSTANCE);
+        } catch (Exception e) {
+          LOGGER.error(
+              "Exception while handling HTTP/1.1 pipelined request failure, please report to Gatling maintainers",
+              e);
+        }
+      }
+    }
+  }
+
   private void releasePendingRequestExpectingContinue() {
     if (tx != null) {
       tx.releasePendingRequestExpectingContinue();
@@ -68,11 +137,14 @@ final class HttpAppHandler extends ChannelDuplexHandler {
   }
 
   private void crash(ChannelHandlerContext ctx, Throwable cause, boolean close, HttpTx tx) {
-    releasePendingRequestExpectingContinue();
+    tx.releasePendingRequestExpectingContinue();
     try {
       tx.requestTimeout.cancel();
       tx.listener.onThrowable(cause);
-      setInactive();
+      if (this.tx == tx) {
+        // when pipelining, tx might have already been replaced with the next pipelined one
+        setInactive();
+      }
 
     } catch (Exception e) {
       LOGGER.error(
@@ -88,11 +160,21 @@ final class HttpAppHandler extends ChannelDuplexHandler {
   public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
 
     HttpTx tx = (HttpTx) msg;
-    setActive(tx);
+    boolean pipelined = this.tx != null && isPipelining();
 
-    if (tx.requestTimeout.isDone()) {
-      setInactive();
-      return;
+    if (pipelined) {
+      if (tx.requestTimeout.isDone()) {
+        return;
+      }
+      LOGGER.debug("Pipelining request behind {} in-flight one(s)", inFlight());
+      pipelinedTxs.offer(tx);
+    } else {
+      setActive(tx);
+
+      if (tx.requestTimeout.isDone()) {
+        setInactive();
+        return;
+      }
     }
 
     try {
@@ -108,9 +190,19 @@ final class HttpAppHandler extends ChannelDuplexHandler {
       } else {
         request.write(ctx);
       }
+      updatePipeliningState(ctx);
 
     } catch (Exception e) {
-      exceptionCaught(ctx, e);
+      if (pipelined) {
+        // don't crash the tx whose response is being read, closing will retry it if possible
+        pipelinedTxs.remove(tx);
+        tx.releasePendingRequestExpectingContinue();
+        tx.requestTimeout.cancel();
+        tx.listener.onThrowable(e);
+        ctx.close();
+      } else {
+        exceptionCaught(ctx, e);
+      }
     }
   }
 
@@ -145,7 +237,10 @@ final class HttpAppHandler extends ChannelDuplexHandler {
       return;
     }
     tx.listener.onHttpResponse(status, response.headers());
-    tx.closeConnection = tx.closeConnection || HttpUtils.isConnectionClose(response.headers());
+    if (!tx.closeConnection && HttpUtils.isConnectionClose(response.headers())) {
+      tx.closeConnection = true;
+      updatePipeliningState(ctx);
+    }
   }
 
   private void channelReadHttpContent(ChannelHandlerContext ctx, HttpContent chunk, boolean last) {
@@ -169,8 +264,14 @@ final class HttpAppHandler extends ChannelDuplexHandler {
       tx.requestTimeout.cancel();
       setInactive();
       if (tx.closeConnection) {
+        // pipelined txs, if any, will be retried on channelInactive
         ctx.channel().close();
       } else {
+        if (hasPipelinedTxs()) {
+          // FIFO: next response is the one of the oldest pipelined request
+          setActive(pipelinedTxs.poll());
+        }
+        updatePipeliningState(ctx);
         channelPool.offer(ctx.channel());
       }
     }
@@ -241,20 +342,21 @@ final class HttpAppHandler extends ChannelDuplexHandler {
   public void channelInactive(ChannelHandlerContext ctx) {
     releasePendingRequestExpectingContinue();
 
-    if (isInactive()) {
-      return;
-    }
-
-    HttpTx tx = this.tx;
-    setInactive();
-    tx.requestTimeout.cancel();
+    if (!isInactive()) {
+      HttpTx tx = this.tx;
+      boolean httpResponseReceived = this.httpResponseReceived;
+      setInactive();
+      tx.requestTimeout.cancel();
 
-    // only retry when we haven't started receiving response
-    if (!httpResponseReceived && client.canRetry(tx)) {
-      client.retry(tx, ctx.channel().eventLoop());
-    } else {
-      crash(ctx, PrematureCloseException.INSTANCE, false, tx);
+      // only retry when we haven't started receiving response
+      if (!httpResponseReceived && client.canRetry(tx)) {
+        client.retry(tx, ctx.channel().eventLoop());
+      } else {
+        crash(ctx, PrematureCloseException.INSTANCE, false, tx);
+      }
     }
+
+    failPipelinedTxs(ctx);
   }
 
   @Override
@@ -39,6 +39,11 @@ public final class ChannelPool {
       AttributeKey.valueOf("http2Connection");
   private static final AttributeKey<Boolean> HTTP2_POOLED = AttributeKey.valueOf("http2Pooled");
   private static final AttributeKey<Boolean> CHANNEL_GOAWAY = AttributeKey.valueOf("goAway");
+  private static final AttributeKey<Boolean> HTTP1_POOLED = AttributeKey.valueOf("http1Pooled");
+  private static final AttributeKey<Integer> HTTP1_IN_FLIGHT =
+      AttributeKey.valueOf("http1InFlight");
+  private static final AttributeKey<Boolean> HTTP1_ACCEPTS_PIPELINED =
+      AttributeKey.valueOf("http1AcceptsPipelined");
 
   static final int INITIAL_CLIENT_MAP_SIZE = 1000;
   static final int INITIAL_KEY_PER_CLIENT_MAP_SIZE = 2;
@@ -47,6 +52,11 @@ public final class ChannelPool {
   private final Map<Long, Map<RemoteKey, Queue<Channel>>> channels =
       new HashMap<>(INITIAL_CLIENT_MAP_SIZE);
   private final CoalescingChannelPool coalescingChannelPool = new CoalescingChannelPool();
+  private final boolean http1Pipelining;
+
+  public ChannelPool(boolean http1Pipelining) {
+    this.http1Pipelining = http1Pipelining;
+  }
 
   private Queue<Channel> remoteChannels(ChannelPoolKey key) {
     return channels
@@ -98,6 +108,22 @@ public final class ChannelPool {
     return !channel.hasAttr(CHANNEL_GOAWAY);
   }
 
+  ////////////////////////////// HTTP1_PIPELINING
+  public static void updateHttp1PipeliningState(
+      Channel channel, int inFlight, boolean acceptsPipelined) {
+    channel.attr(HTTP1_IN_FLIGHT).set(inFlight);
+    channel.attr(HTTP1_ACCEPTS_PIPELINED).set(acceptsPipelined);
+  }
+
+  private static boolean acceptsPipelined(Channel channel) {
+    return Boolean.TRUE.equals(channel.attr(HTTP1_ACCEPTS_PIPELINED).get());
+  }
+
+  private static boolean hasHttp1InFlightRequests(Channel channel) {
+    Integer inFlight = channel.attr(HTTP1_IN_FLIGHT).get();
+    return inFlight != null && inFlight > 0;
+  }
+
   public Channel poll(ChannelPoolKey key) {
     Queue<Channel> channels = remoteChannels(key);
 
@@ -110,9 +136,16 @@ public final class ChannelPool {
         it.remove();
         break;
       } else if (isHttp1(channel)) {
-        it.remove();
-        LOGGER.debug("Retrieved HTTP/1 channel from pool for key {}", key);
-        return channel;
+        if (!http1Pipelining) {
+          it.remove();
+          LOGGER.debug("Retrieved HTTP/1 channel from pool for key {}", key);
+          return channel;
+        } else if (acceptsPipelined(channel)) {
+          // pipelined channels stay in the queue, HttpAppHandler tells if they can take more
+          LOGGER.debug("Retrieved pipelining HTTP/1 channel from pool for key {}", key);
+          touch(channel);
+          return channel;
+        }
       } else if (isNotGoAway(channel) && canOpenStream(channel)) {
         LOGGER.debug("Retrieved HTTP/2 channel from pool for key {}", key);
         touch(channel);
@@ -159,7 +192,13 @@ public final class ChannelPool {
     LOGGER.debug("Offering channel entry {} to pool", key);
 
     if (isHttp1(channel)) {
-      remoteChannels(key).offer(channel);
+      if (!http1Pipelining) {
+        remoteChannels(key).offer(channel);
+      } else if (!channel.hasAttr(HTTP1_POOLED)) {
+        channel.attr(HTTP1_POOLED).set(Boolean.TRUE);
+        // like HTTP/2, pipelined channels are never removed from the queue
+        remoteChannels(key).offer(channel);
+      }
     } else if (!channel.hasAttr(HTTP2_POOLED)) {
       channel.attr(HTTP2_POOLED).set(Boolean.TRUE);
       // we never remove from the queue, so we only offer the first time
@@ -175,7 +214,9 @@ public final class ChannelPool {
         for (Channel channel : deque) {
           boolean http2 = isHttp2(channel);
           if (isLastTouchTooOld(channel, now, idleTimeoutNanos)
-              && (!http2 || getHttp2Connection(channel).numActiveStreams() == 0)) {
+              && (http2
+                  ? getHttp2Connection(channel).numActiveStreams() == 0
+                  : !hasHttp1InFlightRequests(channel))) {
             channel.close();
             deque.remove(channel);
             if (http2) {
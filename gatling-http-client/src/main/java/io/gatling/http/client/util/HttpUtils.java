@@ -39,6 +39,7 @@ import io.gatling.shared.util.StringBuilderPool;
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
 import java.nio.charset.Charset;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -160,6 +161,15 @@ public final class HttpUtils {
     return null;
   }
 
+  public static boolean isIdempotent(HttpMethod method) {
+    return method.equals(HttpMethod.GET)
+        || method.equals(HttpMethod.HEAD)
+        || method.equals(HttpMethod.PUT)
+        || method.equals(HttpMethod.DELETE)
+        || method.equals(HttpMethod.OPTIONS)
+        || method.equals(HttpMethod.TRACE);
+  }
+
   public static boolean isConnectionClose(HttpHeaders headers) {
     return headers.contains(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE, true);
   }
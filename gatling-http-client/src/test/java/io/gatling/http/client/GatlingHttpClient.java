@@ -38,10 +38,14 @@ public class GatlingHttpClient implements AutoCloseable {
   private final InetAddressNameResolver nameResolver; // would be per request in Gatling
 
   public GatlingHttpClient(HttpClientConfig config) {
+    this(config, 0);
+  }
+
+  public GatlingHttpClient(HttpClientConfig config, int threads) {
     this.client = new DefaultHttpClient(config);
     eventLoopGroup =
         Transports.newEventLoopGroup(
-            config.isUseNativeTransport(), config.isUseIoUring(), 0, "gatling-http");
+            config.isUseNativeTransport(), config.isUseIoUring(), threads, "gatling-http");
     try {
       sslContext =
           SslContextBuilder.forClient().trustManager(InsecureTrustManagerFactory.INSTANCE).build();
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.client;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.junit.jupiter.api.Assertions.*;
+
+import io.gatling.http.client.test.HttpTest;
+import io.gatling.http.client.test.TestClient;
+import io.gatling.http.client.test.TestServer;
+import io.gatling.http.client.test.listener.TestListener;
+import io.gatling.http.client.uri.Uri;
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import org.eclipse.jetty.http.HttpHeader;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class Http1PipeliningTest extends HttpTest {
+
+  private static final int PIPELINING_DEPTH = 4;
+
+  private static TestServer server;
+
+  @BeforeAll
+  static void start() throws Throwable {
+    server = new TestServer();
+    server.start();
+  }
+
+  @AfterAll
+  static void stop() throws Throwable {
+    server.close();
+  }
+
+  private static final class PathListener extends TestListener {
+
+    private final String path;
+    private String clientPort;
+
+    private PathListener(String path) {
+      this.path = path;
+    }
+
+    @Override
+    public void onComplete0() {
+      assertEquals(200, status.code());
+      // FIFO correlation: each response must be delivered to the request that triggered it
+      assertEquals(path, headers.get("X-PathInfo"));
+      clientPort = headers.get("X-ClientPort");
+    }
+  }
+
+  private static Request request(TestClient client, String path, long delay) {
+    return client
+        .newRequestBuilder(HttpMethod.GET, Uri.create(server.getHttpUrl() + path))
+        .setHeaders(new DefaultHttpHeaders().add("X-Delay", delay))
+        .build();
+  }
+
+  // single event loop so all requests share the same channel pool
+  private static void withPipeliningClient(ClientFunction f) throws Throwable {
+    try (TestClient client =
+        new TestClient(new HttpClientConfig().setHttp1PipeliningDepth(PIPELINING_DEPTH), 1)) {
+      f.apply(client);
+    }
+  }
+
+  private static String warmUp(TestClient client) throws Exception {
+    // only connections that already completed a response are eligible to pipelining
+    PathListener warmUp = new PathListener("/warmup");
+    client.test(request(client, "/warmup", 0), 0, warmUp).get(TIMEOUT_SECONDS, SECONDS);
+    return warmUp.clientPort;
+  }
+
+  @Test
+  void pipelinedRequestsShareConnectionAndReceiveTheirOwnResponses() throws Throwable {
+    withPipeliningClient(
+        client ->
+            withServer(server)
+                .run(
+                    server -> {
+                      for (int i = 0; i < PIPELINING_DEPTH + 1; i++) {
+                        server.enqueueEcho();
+                      }
+                      String warmUpPort = warmUp(client);
+
+                      List<PathListener> listeners = new ArrayList<>();
+                      List<CompletableFuture<Void>> results = new ArrayList<>();
+                      for (int i = 0; i < PIPELINING_DEPTH; i++) {
+                        PathListener listener = new PathListener("/pipelined" + i);
+                        listeners.add(listener);
+                        // delay the first response so the other requests get pipelined behind it
+                        results.add(
+                            client.test(
+                                request(client, listener.path, i == 0 ? 200 : 0), 0, listener));
+                      }
+
+                      for (CompletableFuture<Void> result : results) {
+                        result.get(TIMEOUT_SECONDS, SECONDS);
+                      }
+                      for (PathListener listener : listeners) {
+                        assertEquals(warmUpPort, listener.clientPort);
+                      }
+                    }));
+  }
+
+  @Test
+  void pipelinedRequestsAreRetriedWhenConnectionIsClosed() throws Throwable {
+    withPipeliningClient(
+        client ->
+            withServer(server)
+                .run(
+                    server -> {
+                      server.enqueueEcho();
+                      server.enqueueResponse(
+                          (request, response, callback) -> {
+                            Thread.sleep(200);
+                            response.setStatus(200);
+                            response.getHeaders().add("X-PathInfo", "/closing");
+                            response.getHeaders().add(HttpHeader.CONNECTION, "close");
+                            response.getHeaders().add(HttpHeader.CONTENT_LENGTH, 0);
+                            callback.succeeded();
+                          });
+                      for (int i = 1; i < PIPELINING_DEPTH; i++) {
+                        server.enqueueEcho();
+                      }
+                      String warmUpPort = warmUp(client);
+
+                      List<PathListener> listeners = new ArrayList<>();
+                      List<CompletableFuture<Void>> results = new ArrayList<>();
+                      PathListener closing = new PathListener("/closing");
+                      results.add(client.test(request(client, closing.path, 0), 0, closing));
+                      for (int i = 1; i < PIPELINING_DEPTH; i++) {
+                        PathListener listener = new PathListener("/pipelined" + i);
+                        listeners.add(listener);
+                        results.add(client.test(request(client, listener.path, 0), 0, listener));
+                      }
+
+                      for (CompletableFuture<Void> result : results) {
+                        result.get(TIMEOUT_SECONDS, SECONDS);
+                      }
+                      Set<String> retryPorts = new HashSet<>();
+                      for (PathListener listener : listeners) {
+                        retryPorts.add(listener.clientPort);
+                      }
+                      assertFalse(retryPorts.contains(warmUpPort));
+                    }));
+  }
+}
@@ -28,6 +28,10 @@ public class TestClient extends GatlingHttpClient {
     super(config);
   }
 
+  public TestClient(HttpClientConfig config, int threads) {
+    super(config, threads);
+  }
+
   public CompletableFuture<Void> test(Request request, int affinity, TestListener listener) {
     super.execute(request, affinity, true, listener);
     return listener.getResult();
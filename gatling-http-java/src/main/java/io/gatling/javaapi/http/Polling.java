@@ -75,6 +75,30 @@ public final class Polling {
       this.wrapped = wrapped;
     }
 
+    /**
+     * Spread the polls of the virtual users over the period instead of having them all fire at the
+     * same time
+     *
+     * @param maxJitter the upper bound of the random offset of each virtual user in seconds, capped
+     *     to the period
+     * @return the next DSL step
+     */
+    public @NonNull Every jitter(long maxJitter) {
+      return new Every(wrapped.jitter(toScalaDuration(Duration.ofSeconds(maxJitter))));
+    }
+
+    /**
+     * Spread the polls of the virtual users over the period instead of having them all fire at the
+     * same time
+     *
+     * @param maxJitter the upper bound of the random offset of each virtual user, capped to the
+     *     period
+     * @return the next DSL step
+     */
+    public @NonNull Every jitter(@NonNull Duration maxJitter) {
+      return new Every(wrapped.jitter(toScalaDuration(maxJitter)));
+    }
+
     /**
      * Define the polling request
      *
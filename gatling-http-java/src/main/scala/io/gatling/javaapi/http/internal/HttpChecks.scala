@@ -33,7 +33,7 @@ import io.gatling.core.check.stream.BodyStreamCheckType
 import io.gatling.core.check.string.BodyStringCheckType
 import io.gatling.core.check.substring.SubstringCheckType
 import io.gatling.core.check.time.ResponseTimeCheckType
-import io.gatling.core.check.xpath.XPathCheckType
+import io.gatling.core.check.xpath.{ XPathCheckType, XmlDocument }
 import io.gatling.core.stats.message.ResponseTimings
 import io.gatling.http.{ Predef => HttpPredef }
 import io.gatling.http.check.HttpCheck
@@ -45,7 +45,6 @@ import io.gatling.javaapi.core.internal.CoreCheckType
 
 import com.fasterxml.jackson.databind.JsonNode
 import jodd.lagarto.dom.NodeSelector
-import net.sf.saxon.s9api.XdmNode
 
 object HttpChecks {
   private def toScalaCheck(javaCheck: io.gatling.javaapi.core.CheckBuilder): HttpCheck = {
@@ -58,7 +57,7 @@ object HttpChecks {
         scalaCheck.asInstanceOf[CheckBuilder[BodyStreamCheckType, () => InputStream]].build(HttpPredef.httpBodyStreamCheckMaterializer)
       case CoreCheckType.Regex     => scalaCheck.asInstanceOf[CheckBuilder[RegexCheckType, String]].build(HttpPredef.httpBodyRegexCheckMaterializer)
       case CoreCheckType.Substring => scalaCheck.asInstanceOf[CheckBuilder[SubstringCheckType, String]].build(HttpPredef.httpBodySubstringCheckMaterializer)
-      case CoreCheckType.XPath     => scalaCheck.asInstanceOf[CheckBuilder[XPathCheckType, XdmNode]].build(HttpPredef.httpBodyXPathCheckMaterializer)
+      case CoreCheckType.XPath     => scalaCheck.asInstanceOf[CheckBuilder[XPathCheckType, XmlDocument]].build(HttpPredef.httpBodyXPathCheckMaterializer)
       case CoreCheckType.Css =>
         scalaCheck.asInstanceOf[CheckBuilder[CssCheckType, NodeSelector]].build(HttpPredef.httpBodyCssCheckMaterializer(CorePredef.defaultCssSelectors))
       case CoreCheckType.JsonPath =>
@@ -429,6 +429,7 @@ public class HttpJavaCompileTest extends Simulation {
           // polling
           .exec(poll().every(10).exec(http("poll").get("/foo")))
           .exec(poll().pollerName("poll").every(10).exec(http("poll").get("/foo")))
+          .exec(poll().every(10).jitter(Duration.ofMillis(500)).exec(http("poll").get("/foo")))
           .exec(poll().pollerName("poll").stop())
           .exec(poll().stop())
           // addCookie
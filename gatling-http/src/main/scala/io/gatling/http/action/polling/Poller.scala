@@ -16,10 +16,9 @@
 
 package io.gatling.http.action.polling
 
-import java.util.concurrent.{ ScheduledFuture, TimeUnit }
-
 import scala.concurrent.duration.FiniteDuration
 
+import io.gatling.commons.util.Clock
 import io.gatling.commons.validation.{ Failure, Success }
 import io.gatling.core.action.Action
 import io.gatling.core.session.Session
@@ -36,18 +35,26 @@ import com.typesafe.scalalogging.StrictLogging
 private[polling] final class Poller(
     pollerName: String,
     period: FiniteDuration,
+    jitter: FiniteDuration,
     requestDef: HttpRequestDef,
     httpTxExecutor: HttpTxExecutor,
     httpCaches: HttpCaches,
     httpProtocol: HttpProtocol,
-    statsEngine: StatsEngine
+    statsEngine: StatsEngine,
+    clock: Clock
 ) extends StrictLogging {
   private var session: Session = _
-  private var timer: ScheduledFuture[_] = _
+  private var subscription: PollingScheduler.Subscription = _
 
   def start(session: Session): Unit = {
     this.session = session
-    timer = session.eventLoop.scheduleAtFixedRate(() => poll(), 0, period.toMillis, TimeUnit.MILLISECONDS)
+    subscription = PollingScheduler(session.eventLoop, clock).schedule(period.toMillis, jitter.toMillis, () => poll())
+    // first poll right away, the next ones are dispatched by the period's tick
+    session.eventLoop.execute { () =>
+      if (!subscription.isCancelled) {
+        poll()
+      }
+    }
   }
 
   private def poll(): Unit =
@@ -66,7 +73,7 @@ private[polling] final class Poller(
         val errorMessage = s"Failed to build polling request $pollerName: $requestNameError"
         logger.error(errorMessage)
         statsEngine.logRequestCrash(session.scenario, session.groups, pollerName, errorMessage)
-        timer.cancel(false)
+        subscription.cancel()
         session = session.markAsFailed
     }
 
@@ -85,7 +92,7 @@ private[polling] final class Poller(
     ).onComplete(result)
 
   def stop(next: Action, session: Session): Unit = {
-    timer.cancel(false)
+    subscription.cancel()
     // FIXME all state change is lost
     next ! session.remove(pollerName)
   }
@@ -26,6 +26,7 @@ import io.gatling.http.request.builder.HttpRequestBuilder
 final class PollingStartBuilder(
     pollerName: String,
     period: FiniteDuration,
+    jitter: FiniteDuration,
     requestBuilder: HttpRequestBuilder
 ) extends HttpActionBuilder {
   override def build(ctx: ScenarioContext, next: Action): Action = {
@@ -34,6 +35,7 @@ final class PollingStartBuilder(
     new PollingStart(
       pollerName,
       period,
+      jitter,
       ctx.coreComponents,
       requestDef,
       httpComponents.httpCaches,
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.polling
+
+import java.{ util => ju }
+import java.util.concurrent.{ ScheduledFuture, ThreadLocalRandom, TimeUnit }
+
+import scala.collection.mutable
+import scala.util.control.NonFatal
+
+import io.gatling.commons.util.Clock
+
+import com.typesafe.scalalogging.StrictLogging
+import io.netty.channel.EventLoop
+import io.netty.util.concurrent.FastThreadLocal
+
+private[polling] object PollingScheduler {
+  private val Schedulers = new FastThreadLocal[PollingScheduler]
+
+  // upper bound of the distinct phases of a period, so jitter doesn't bring back one task per user
+  private val MaxPhasesPerPeriod = 100
+
+  /**
+   * @param eventLoop
+   *   the event loop of the polling users, must be the current one
+   * @param clock
+   *   the clock the ticks are aligned with
+   * @return
+   *   the scheduler of the event loop
+   */
+  def apply(eventLoop: EventLoop, clock: Clock): PollingScheduler = {
+    val current = Schedulers.get
+    if (current != null && (current.eventLoop eq eventLoop) && (current.clock eq clock)) {
+      current
+    } else {
+      val scheduler = new PollingScheduler(eventLoop, clock)
+      Schedulers.set(scheduler)
+      scheduler
+    }
+  }
+
+  final class Subscription private[PollingScheduler] (private[PollingScheduler] val poll: () => Unit) {
+    private[PollingScheduler] var cancelled = false
+    private[PollingScheduler] var skipNextTick = false
+
+    def isCancelled: Boolean = cancelled
+
+    def cancel(): Unit = cancelled = true
+  }
+}
+
+/**
+ * Groups the pollers of an event loop by period: all the users polling with the same period are dispatched from a single periodic task, instead of
+ * each of them having their own in the event loop's scheduled tasks queue.
+ *
+ * Ticks are aligned on the period, so a user joining right before a tick skips it and its second poll comes between half a period and one and a half
+ * period after the first one. With jitter, users are spread over phases of the period, each phase having its own task.
+ *
+ * Not thread-safe, must only be used from its event loop.
+ */
+private[polling] final class PollingScheduler(val eventLoop: EventLoop, val clock: Clock) extends StrictLogging {
+  import PollingScheduler._
+
+  private val ticks = mutable.HashMap.empty[(Long, Long), Tick]
+
+  /**
+   * @param periodMillis
+   *   the polling period
+   * @param jitterMillis
+   *   the upper bound of the random offset of the user in the period, capped to the period, 0 to disable
+   * @param poll
+   *   the function to call on every tick, the first poll is up to the caller
+   * @return
+   *   the subscription to cancel to stop polling
+   */
+  def schedule(periodMillis: Long, jitterMillis: Long, poll: () => Unit): Subscription = {
+    require(periodMillis > 0, "periodMillis must be > 0")
+    val phaseMillis = randomPhase(periodMillis, math.min(jitterMillis, periodMillis))
+    val nowMillis = clock.nowMillis
+    val delayMillis = periodMillis - Math.floorMod(nowMillis - phaseMillis, periodMillis)
+
+    val subscription = new Subscription(poll)
+    subscription.skipNextTick = delayMillis < periodMillis / 2
+
+    val key = (periodMillis, phaseMillis)
+    val tick = ticks.getOrElseUpdate(key, new Tick(key, delayMillis))
+    tick.add(subscription)
+    subscription
+  }
+
+  private def randomPhase(periodMillis: Long, jitterMillis: Long): Long =
+    if (jitterMillis <= 0) {
+      0
+    } else {
+      val step = math.max(1, (jitterMillis + MaxPhasesPerPeriod - 1) / MaxPhasesPerPeriod)
+      ThreadLocalRandom.current.nextLong(jitterMillis) / step * step
+    }
+
+  private final class Tick(key: (Long, Long), delayMillis: Long) extends Runnable {
+    private var subscriptions = new Array[Subscription](4)
+    private var size = 0
+    private val future: ScheduledFuture[_] = eventLoop.scheduleAtFixedRate(this, delayMillis, key._1, TimeUnit.MILLISECONDS)
+
+    def add(subscription: Subscription): Unit = {
+      if (size == subscriptions.length) {
+        subscriptions = ju.Arrays.copyOf(subscriptions, size * 2)
+      }
+      subscriptions(size) = subscription
+      size += 1
+    }
+
+    override def run(): Unit = {
+      // cancelled subscriptions are dropped while iterating
+      var kept = 0
+      var i = 0
+      while (i < size) {
+        val subscription = subscriptions(i)
+        if (!subscription.cancelled) {
+          subscriptions(kept) = subscription
+          kept += 1
+          if (subscription.skipNextTick) {
+            subscription.skipNextTick = false
+          } else {
+            try {
+              subscription.poll()
+            } catch {
+              case NonFatal(e) => logger.error("Failed to poll", e)
+            }
+          }
+        }
+        i += 1
+      }
+      ju.Arrays.fill(subscriptions.asInstanceOf[Array[AnyRef]], kept, size, null)
+      size = kept
+
+      if (size == 0) {
+        future.cancel(false)
+        ticks.remove(key)
+      }
+    }
+  }
+}
@@ -33,6 +33,7 @@ import io.gatling.http.request.HttpRequestDef
 final class PollingStart(
     pollerName: String,
     period: FiniteDuration,
+    jitter: FiniteDuration,
     coreComponents: CoreComponents,
     httpRequestDef: HttpRequestDef,
     httpCaches: HttpCaches,
@@ -52,11 +53,13 @@ final class PollingStart(
     val poller = new Poller(
       pollerName,
       period,
+      jitter,
       httpRequestDef,
       httpTxExecutor,
       httpCaches,
       httpProtocol,
-      statsEngine
+      statsEngine,
+      clock
     )
 
     val newSession = session.set(pollerName, poller)
@@ -74,6 +74,7 @@ final class SseListener(stream: SseStream) extends HttpListener with StrictLoggi
 
   override def onHttpResponseBodyChunk(chunk: ByteBuf, last: Boolean): Unit =
     if (!closed) {
+      // events point to the chunk, so they have to be processed before returning
       val events = decoder.decodeStream(chunk)
       events.foreach(stream.eventReceived)
       if (last) {
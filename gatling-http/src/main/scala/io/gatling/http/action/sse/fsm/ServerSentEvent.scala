@@ -16,15 +16,36 @@
 
 package io.gatling.http.action.sse.fsm
 
+import java.nio.charset.StandardCharsets.UTF_8
+
 import io.gatling.core.json.Json
 import io.gatling.shared.util.StringBuilderPool
 
-final case class ServerSentEvent(
-    event: Option[String],
-    data: Option[String],
-    id: Option[String],
-    retry: Option[Int]
-) {
+import io.netty.buffer.ByteBuf
+
+object ServerSentEvent {
+  def apply(
+      event: Option[String],
+      data: Option[String],
+      id: Option[String],
+      retry: Option[Int]
+  ): ServerSentEvent =
+    new Decoded(event, data, id, retry)
+
+  private final class Decoded(
+      override val event: Option[String],
+      override val data: Option[String],
+      override val id: Option[String],
+      override val retry: Option[Int]
+  ) extends ServerSentEvent
+}
+
+sealed abstract class ServerSentEvent {
+  def event: Option[String]
+  def data: Option[String]
+  def id: Option[String]
+  def retry: Option[Int]
+
   lazy val asJsonString: String = {
     val sb = StringBuilderPool.DEFAULT.get().append('{')
     event.foreach { value =>
@@ -56,4 +77,62 @@ final case class ServerSentEvent(
     sb.setLength(sb.length - 1)
     sb.append('}').toString
   }
+
+  override def equals(obj: Any): Boolean =
+    obj match {
+      case other: ServerSentEvent => event == other.event && data == other.data && id == other.id && retry == other.retry
+      case _                      => false
+    }
+
+  override def hashCode(): Int = (event, data, id, retry).##
+
+  override def toString: String = s"ServerSentEvent($event,$data,$id,$retry)"
+}
+
+/**
+ * An event as emitted by [[SseStreamDecoder]]: fields are only decoded on first access.
+ *
+ * @param buf
+ *   the bytes the event was parsed from, only valid until the decoder is fed the next chunk
+ * @param origin
+ *   the index of the first byte of the event in buf, other offsets are relative to it
+ * @param dataOffsets
+ *   start and end offset pairs of the data lines
+ */
+private[fsm] final class LazyServerSentEvent(
+    buf: ByteBuf,
+    origin: Int,
+    eventStart: Int,
+    eventEnd: Int,
+    dataOffsets: Array[Int],
+    idStart: Int,
+    idEnd: Int,
+    override val retry: Option[Int]
+) extends ServerSentEvent {
+  private def decode(start: Int, end: Int): String =
+    buf.toString(origin + start, end - start, UTF_8)
+
+  override lazy val event: Option[String] =
+    if (eventStart < 0) None else Some(decode(eventStart, eventEnd))
+
+  override lazy val id: Option[String] =
+    if (idStart < 0) None else Some(decode(idStart, idEnd))
+
+  override lazy val data: Option[String] =
+    dataOffsets.length match {
+      case 0 => None
+      case 2 => Some(decode(dataOffsets(0), dataOffsets(1)))
+      case _ =>
+        // multiple data lines are joined with LF
+        val sb = new java.lang.StringBuilder
+        var i = 0
+        while (i < dataOffsets.length) {
+          if (i > 0) {
+            sb.append('\n')
+          }
+          sb.append(decode(dataOffsets(i), dataOffsets(i + 1)))
+          i += 2
+        }
+        Some(sb.toString)
+    }
 }
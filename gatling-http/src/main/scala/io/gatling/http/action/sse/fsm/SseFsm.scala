@@ -87,6 +87,7 @@ final class SseFsm(
   private var currentState: SseState = _
   private var currentTimeout: ScheduledFuture[Unit] = _
   private[fsm] val unmatchedInboundMessageBuffer = new BoundedMutableDequeue[SseInboundMessage](httpProtocol.ssePart.unmatchedInboundMessageBufferSize)
+  private[fsm] val bufferUnmatchedInboundMessages = httpProtocol.ssePart.unmatchedInboundMessageBufferSize != 0
 
   private[fsm] def scheduleTimeout(dur: FiniteDuration): Unit = {
     currentTimeout = eventLoop.schedule(
@@ -172,6 +172,7 @@ final class SseStream(
   }
 
   def eventReceived(event: ServerSentEvent): Unit = {
+    // the only field that outlives the chunk, as it's sent back on reconnect
     if (event.id.isDefined) {
       lastEventId = event.id
     }
@@ -16,181 +16,202 @@
 
 package io.gatling.http.action.sse.fsm
 
-import java.nio.CharBuffer
+import java.nio.charset.StandardCharsets.US_ASCII
+import java.util.Arrays
 
-import io.gatling.netty.util.Utf8ByteBufCharsetDecoder
-
-import io.netty.buffer.ByteBuf
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import io.netty.util.ByteProcessor
 
 object SseStreamDecoder {
-  private val BOM = '\uFEFF'
-  private val LF = 0x0a
-  private val CR = 0x0d
-
-  private val EventHeader = "event:".toCharArray
-  private val DataHeader = "data:".toCharArray
-  private val IdHeader = "id:".toCharArray
-  private val RetryHeader = "retry:".toCharArray
+  private val Bom = Array(0xef.toByte, 0xbb.toByte, 0xbf.toByte)
+  private val LF: Byte = 0x0a
+  private val CR: Byte = 0x0d
+  private val Colon: Byte = ':'
+  private val Space: Byte = ' '
+
+  private val EventHeader = "event:".getBytes(US_ASCII)
+  private val DataHeader = "data:".getBytes(US_ASCII)
+  private val IdHeader = "id:".getBytes(US_ASCII)
+  private val RetryHeader = "retry:".getBytes(US_ASCII)
+
+  private val NoDataOffsets = new Array[Int](0)
 }
 
-final class SseStreamDecoder extends Utf8ByteBufCharsetDecoder {
+/**
+ * Parses the stream on the raw bytes: lines and field names are located without decoding, and events only hold offsets in the chunk, see
+ * [[LazyServerSentEvent]]. Events must be consumed before the next call to [[decodeStream]].
+ */
+final class SseStreamDecoder {
   import SseStreamDecoder._
 
-  private[this] var pendingEvent: Option[String] = None
-  private[this] var pendingData: String = null
-  private[this] var pendingDataBuilder: StringBuilder = null
-  private[this] var pendingId: Option[String] = None
-  private[this] var pendingRetry: Option[Int] = None
+  // bytes of the event still being received when a chunk ends, the next chunk gets appended
+  private[this] val pending: ByteBuf = Unpooled.buffer(0)
+  private[this] var bomChecked = false
+  private[this] var previousChunkEndedWithCr = false
+
+  // current event, offsets are relative to its first byte so they survive being moved into pending
+  private[this] var origin = 0
+  private[this] var lineStart = 0
+  private[this] var eventStart = -1
+  private[this] var eventEnd = -1
+  private[this] var idStart = -1
+  private[this] var idEnd = -1
+  private[this] var retry = -1
+  private[this] var dataOffsets = new Array[Int](8)
+  private[this] var dataOffsetsLength = 0
 
   private[this] val pendingEvents = collection.mutable.ArrayBuffer.empty[ServerSentEvent]
-  private[this] var firstEvent = true
-  private[this] var previousBufferLastCharWasCr = false
-  private[this] var position = 0
-
-  private var charArray: Array[Char] = _
 
-  override protected def allocateCharBuffer(l: Int): CharBuffer = {
-    charArray = new Array[Char](l)
-    CharBuffer.wrap(charArray)
+  private def resetEvent(): Unit = {
+    eventStart = -1
+    eventEnd = -1
+    idStart = -1
+    idEnd = -1
+    retry = -1
+    dataOffsetsLength = 0
   }
 
-  private def parseLine(lineStart: Int, lineEnd: Int): Unit = {
-    val lineLength = lineEnd - lineStart
-
-    def onFieldHeaderMatch(fieldHeader: Array[Char]): Option[String] = {
-      val fieldHeaderLength = fieldHeader.length
+  private def flushEvent(source: ByteBuf): Unit =
+    if (eventStart >= 0 || dataOffsetsLength > 0 || idStart >= 0 || retry >= 0) {
+      // non-empty event (eg not just a comment)
+      pendingEvents += new LazyServerSentEvent(
+        buf = source,
+        origin = origin,
+        eventStart = eventStart,
+        eventEnd = eventEnd,
+        dataOffsets = if (dataOffsetsLength == 0) NoDataOffsets else Arrays.copyOf(dataOffsets, dataOffsetsLength),
+        idStart = idStart,
+        idEnd = idEnd,
+        retry = if (retry >= 0) Some(retry) else None
+      )
+      resetEvent()
+    }
 
-      if (lineLength < fieldHeaderLength) {
-        None
-      } else if (
-        (0 until fieldHeaderLength).forall { i =>
-          charArray(lineStart + i) == fieldHeader(i)
-        }
-      ) {
-        val nextPos = lineStart + fieldHeaderLength
-        val valueStart =
-          if (charArray(nextPos) == ' ') {
-            // white space after colon, trim it
-            nextPos + 1
-          } else {
-            nextPos
-          }
+  private def addDataLine(start: Int, end: Int): Unit = {
+    if (dataOffsetsLength == dataOffsets.length) {
+      dataOffsets = Arrays.copyOf(dataOffsets, dataOffsetsLength * 2)
+    }
+    dataOffsets(dataOffsetsLength) = start
+    dataOffsets(dataOffsetsLength + 1) = end
+    dataOffsetsLength += 2
+  }
 
-        Some(new String(charArray, valueStart, lineEnd - valueStart))
+  // returns the absolute index of the field value, or -1 if the line is not this field
+  private def valueStart(source: ByteBuf, start: Int, end: Int, fieldHeader: Array[Byte]): Int = {
+    val fieldHeaderLength = fieldHeader.length
+    if (end - start < fieldHeaderLength) {
+      -1
+    } else {
+      var i = 0
+      while (i < fieldHeaderLength && source.getByte(start + i) == fieldHeader(i)) {
+        i += 1
+      }
+      if (i < fieldHeaderLength) {
+        -1
       } else {
-        None
+        val nextPos = start + fieldHeaderLength
+        // white space after colon, trim it
+        if (nextPos < end && source.getByte(nextPos) == Space) nextPos + 1 else nextPos
       }
     }
+  }
 
-    if (lineLength == 0) {
+  private def parseRetry(source: ByteBuf, start: Int, end: Int): Int = {
+    var value = 0L
+    var i = start
+    while (i < end && value <= Int.MaxValue) {
+      val b = source.getByte(i)
+      value = if (b >= '0' && b <= '9') value * 10 + (b - '0') else Long.MaxValue
+      i += 1
+    }
+    // ignored unless only made of ASCII digits, as per spec
+    if (start < end && value <= Int.MaxValue) value.toInt else retry
+  }
+
+  private def parseLine(source: ByteBuf, start: Int, end: Int): Unit =
+    if (start == end) {
       // empty line, flushing event
-      if (pendingEvent.isDefined || pendingData != null || pendingDataBuilder != null || pendingId.isDefined || pendingRetry.isDefined) {
-        // non-empty event (eg just a comment)
-        val data =
-          if (pendingDataBuilder != null) {
-            Some(pendingDataBuilder.toString)
-          } else if (pendingData != null) {
-            Some(pendingData)
+      flushEvent(source)
+    } else if (source.getByte(start) != Colon) {
+      // not a comment
+      var value = valueStart(source, start, end, DataHeader)
+      if (value >= 0) {
+        addDataLine(value - origin, end - origin)
+      } else {
+        value = valueStart(source, start, end, EventHeader)
+        if (value >= 0) {
+          eventStart = value - origin
+          eventEnd = end - origin
+        } else {
+          value = valueStart(source, start, end, IdHeader)
+          if (value >= 0) {
+            idStart = value - origin
+            idEnd = end - origin
           } else {
-            None
+            value = valueStart(source, start, end, RetryHeader)
+            if (value >= 0) {
+              retry = parseRetry(source, value, end)
+            }
           }
-        pendingEvents += ServerSentEvent(
-          event = pendingEvent,
-          data = data,
-          id = pendingId,
-          retry = pendingRetry
-        )
-
-        pendingEvent = None
-        pendingData = null
-        pendingDataBuilder = null
-        pendingId = None
-        pendingRetry = None
-      }
-    } else if (charArray(lineStart) == ':') {
-      // comment, skipping
-    } else {
-      // parse real line
-      onFieldHeaderMatch(EventHeader) match {
-        case None =>
-          onFieldHeaderMatch(DataHeader) match {
-            case None =>
-              onFieldHeaderMatch(IdHeader) match {
-                case None =>
-                  onFieldHeaderMatch(RetryHeader) match {
-                    case None =>
-                    case res  => pendingRetry = res.map(_.toInt)
-                  }
-                case res => pendingId = res
-              }
-            case Some(newDataLine) =>
-              if (pendingDataBuilder != null) {
-                pendingDataBuilder.append('\n').append(newDataLine)
-              } else if (pendingData != null) {
-                // 2nd data line: promote to builder
-                pendingDataBuilder = new StringBuilder(pendingData).append('\n').append(newDataLine)
-                pendingData = null
-              } else {
-                // 1st data line: keep as plain String (no extra allocations)
-                pendingData = newDataLine
-              }
-          }
-        case res => pendingEvent = res
+        }
       }
     }
-  }
 
-  private def parseChars(): Unit = {
-    if (firstEvent) {
-      if (charArray(position) == BOM) {
-        position += 1
-      }
-      firstEvent = false
-    } else if (previousBufferLastCharWasCr && charArray(position) == LF) {
-      // last buffer ended with a terminated line
+  private def parseLines(source: ByteBuf): Unit = {
+    val sourceEnd = source.writerIndex
+    var i = origin + lineStart
+    if (previousChunkEndedWithCr && i < sourceEnd && source.getByte(i) == LF) {
+      // last chunk ended with a terminated line
       // but we were actually in the middle of a CRLF pair
-      position += 1
+      i += 1
     }
+    previousChunkEndedWithCr = false
 
-    // scanning actual content
-    var i = position
-    val sbLength = charBuffer.position()
-
-    while (i < sbLength) {
-      charArray(i) match {
-        case CR =>
-          parseLine(position, i)
-          if (i < sbLength - 1 && charArray(i + 1) == LF) {
-            // skip next LF
-            i += 2
-          } else {
-            i += 1
-          }
-          position = i
-
-        case LF =>
-          parseLine(position, i)
-          i += 1
-          position = i
-
-        case _ =>
-          i += 1
+    var currentLineStart = i
+    while (i < sourceEnd) {
+      val eol = source.forEachByte(i, sourceEnd - i, ByteProcessor.FIND_CRLF)
+      if (eol < 0) {
+        i = sourceEnd
+      } else {
+        parseLine(source, currentLineStart, eol)
+        val crlf = source.getByte(eol) == CR && eol + 1 < sourceEnd && source.getByte(eol + 1) == LF
+        previousChunkEndedWithCr = eol + 1 == sourceEnd && source.getByte(eol) == CR
+        i = if (crlf) eol + 2 else eol + 1
+        if (currentLineStart == eol) {
+          // event boundary
+          origin = i
+        }
+        currentLineStart = i
       }
     }
+    lineStart = currentLineStart - origin
+  }
+
+  private def skipBom(source: ByteBuf): Boolean = {
+    val readable = source.writerIndex - origin
+    val length = math.min(readable, Bom.length)
+    var i = 0
+    while (i < length && source.getByte(origin + i) == Bom(i)) {
+      i += 1
+    }
+    if (i == Bom.length) {
+      origin += Bom.length
+      bomChecked = true
+    } else if (i < readable) {
+      bomChecked = true
+    }
+    // otherwise, wait for more bytes
+    bomChecked
   }
 
-  private def translateCharBuffer(): Unit = {
-    val sbLength = charBuffer.position()
-    previousBufferLastCharWasCr = charArray(sbLength - 1) == CR
-    if (position >= sbLength) {
-      // all read, clear
-      charBuffer.position(0)
-    } else if (position > 0) {
-      // partially read, translate
-      System.arraycopy(charArray, position, charArray, 0, sbLength - position)
-      charBuffer.position(sbLength - position)
+  private def keepRemaining(source: ByteBuf): Unit = {
+    val sourceEnd = source.writerIndex
+    if (source eq pending) {
+      pending.readerIndex(origin)
+    } else if (origin < sourceEnd) {
+      pending.clear()
+      pending.writeBytes(source, origin, sourceEnd - origin)
     }
-    position = 0
   }
 
   private def flushEvents(): Seq[ServerSentEvent] = {
@@ -201,15 +222,21 @@ final class SseStreamDecoder extends Utf8ByteBufCharsetDecoder {
 
   def decodeStream(buf: ByteBuf): Seq[ServerSentEvent] =
     if (buf.isReadable) {
-      ensureCapacity(buf.readableBytes)
-      if (buf.nioBufferCount == 1) {
-        decodePartial(buf.internalNioBuffer(buf.readerIndex, buf.readableBytes), false)
-      } else {
-        buf.nioBuffers.foreach(decodePartial(_, false))
-      }
+      // events from the previous chunk are no longer in use, their bytes can be moved
+      val source =
+        if (pending.isReadable) {
+          pending.discardReadBytes()
+          pending.writeBytes(buf, buf.readerIndex, buf.readableBytes)
+          pending
+        } else {
+          buf
+        }
+      origin = source.readerIndex
 
-      parseChars()
-      translateCharBuffer()
+      if (bomChecked || skipBom(source)) {
+        parseLines(source)
+      }
+      keepRemaining(source)
       flushEvents()
     } else {
       Nil
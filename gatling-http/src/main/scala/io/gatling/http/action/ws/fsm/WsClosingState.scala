@@ -19,8 +19,10 @@ package io.gatling.http.action.ws.fsm
 import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.core.action.Action
 import io.gatling.core.session.Session
+import io.gatling.netty.util.Utf8ByteBufCharsetDecoder
 
 import com.typesafe.scalalogging.StrictLogging
+import io.netty.buffer.ByteBuf
 
 final class WsClosingState(fsm: WsFsm, actionName: String, session: Session, next: Action, closeStart: Long) extends WsState(fsm) with StrictLogging {
   override def onTimeout(): NextWsState = {
@@ -31,14 +33,14 @@ final class WsClosingState(fsm: WsFsm, actionName: String, session: Session, nex
     NextWsState(new WsClosedState(fsm), () => next ! newSession)
   }
 
-  override def onTextFrameReceived(message: String, timestamp: Long): NextWsState = {
-    fsm.wsLogger.registerInboundMessage(message, timestamp)
+  override def onTextFrameReceived(content: ByteBuf, timestamp: Long): NextWsState = {
+    fsm.wsLogger.registerInboundMessage(Utf8ByteBufCharsetDecoder.decodeUtf8(content), timestamp)
     logUnmatchedServerMessage(session)
     NextWsState(this)
   }
 
-  override def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): NextWsState = {
-    fsm.wsLogger.registerInboundMessage(message, timestamp)
+  override def onBinaryFrameReceived(content: ByteBuf, timestamp: Long): NextWsState = {
+    fsm.wsLogger.registerInboundMessage(content, timestamp)
     logUnmatchedServerMessage(session)
     NextWsState(this)
   }
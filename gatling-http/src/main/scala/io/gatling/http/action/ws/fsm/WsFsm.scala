@@ -32,6 +32,7 @@ import io.gatling.http.engine.HttpEngine
 import io.gatling.http.protocol.HttpProtocol
 
 import com.typesafe.scalalogging.StrictLogging
+import io.netty.buffer.ByteBuf
 import io.netty.channel.EventLoop
 import io.netty.handler.codec.http.cookie.Cookie
 import io.netty.handler.codec.http.websocketx.WebSocketCloseStatus
@@ -51,6 +52,7 @@ final class WsFsm(
   private var currentState: WsState = new WsInitState(this)
   private var currentTimeout: ScheduledFuture[Unit] = _
   private[fsm] val unmatchedInboundMessageBuffer = new BoundedMutableDequeue[WsInboundMessage](httpProtocol.wsPart.unmatchedInboundMessageBufferSize)
+  private[fsm] val bufferUnmatchedInboundMessages = httpProtocol.wsPart.unmatchedInboundMessageBufferSize != 0
 
   private[fsm] def scheduleTimeout(dur: FiniteDuration): Unit = {
     currentTimeout = eventLoop.schedule(
@@ -111,11 +113,19 @@ final class WsFsm(
     execute(currentState.onSendBinaryFrame(actionName, message, checkSequences, session, next))
   }
 
-  def onTextFrameReceived(message: String, timestamp: Long): Unit =
-    execute(currentState.onTextFrameReceived(message, timestamp))
-
-  def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): Unit =
-    execute(currentState.onBinaryFrameReceived(message, timestamp))
+  /**
+   * @param content
+   *   the frame payload, only valid during this call, states must decode or copy it if they need it afterwards
+   */
+  def onTextFrameReceived(content: ByteBuf, timestamp: Long): Unit =
+    execute(currentState.onTextFrameReceived(content, timestamp))
+
+  /**
+   * @param content
+   *   the frame payload, only valid during this call, states must copy it if they need it afterwards
+   */
+  def onBinaryFrameReceived(content: ByteBuf, timestamp: Long): Unit =
+    execute(currentState.onBinaryFrameReceived(content, timestamp))
 
   def onWebSocketClosed(code: Int, reason: String, timestamp: Long): Unit =
     execute(currentState.onWebSocketClosed(code, reason, timestamp))
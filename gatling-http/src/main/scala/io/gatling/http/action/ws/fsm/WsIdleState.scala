@@ -25,9 +25,10 @@ import io.gatling.http.action.ws.WsInboundMessage
 import io.gatling.http.check.ws.{ WsFrameCheck, WsFrameCheckSequence }
 import io.gatling.http.client.WebSocket
 import io.gatling.http.engine.response.HttpTracing
+import io.gatling.netty.util.{ ByteBufUtils, Utf8ByteBufCharsetDecoder }
 
 import com.typesafe.scalalogging.StrictLogging
-import io.netty.buffer.Unpooled
+import io.netty.buffer.{ ByteBuf, Unpooled }
 import io.netty.handler.codec.http.websocketx.{ BinaryWebSocketFrame, CloseWebSocketFrame, TextWebSocketFrame, WebSocketCloseStatus }
 
 final class WsIdleState(fsm: WsFsm, session: Session, webSocket: WebSocket, protected val remainingReconnects: Int) extends WsState(fsm) with StrictLogging {
@@ -120,8 +121,12 @@ final class WsIdleState(fsm: WsFsm, session: Session, webSocket: WebSocket, prot
     }
   }
 
-  override def onTextFrameReceived(message: String, timestamp: Long): NextWsState = {
-    unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, message))
+  override def onTextFrameReceived(content: ByteBuf, timestamp: Long): NextWsState = {
+    // most pushed frames are dropped here, only decode if something reads them
+    lazy val message = Utf8ByteBufCharsetDecoder.decodeUtf8(content)
+    if (bufferUnmatchedInboundMessages) {
+      unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, message))
+    }
     wsLogger.registerInboundMessage(message, timestamp)
     // try to auto reply or log the message
     if (!autoReplyTextFrames(message, webSocket)) {
@@ -130,9 +135,11 @@ final class WsIdleState(fsm: WsFsm, session: Session, webSocket: WebSocket, prot
     NextWsState(this)
   }
 
-  override def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): NextWsState = {
-    unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Binary(timestamp, message))
-    wsLogger.registerInboundMessage(message, timestamp)
+  override def onBinaryFrameReceived(content: ByteBuf, timestamp: Long): NextWsState = {
+    if (bufferUnmatchedInboundMessages) {
+      unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Binary(timestamp, ByteBufUtils.byteBuf2Bytes(content)))
+    }
+    wsLogger.registerInboundMessage(content, timestamp)
     // server push message, just log
     logUnmatchedServerMessage(session)
     NextWsState(this)
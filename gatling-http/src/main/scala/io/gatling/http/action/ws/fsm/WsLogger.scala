@@ -24,6 +24,7 @@ import io.gatling.http.util._
 import io.gatling.shared.util.StringBuilderPool
 
 import com.typesafe.scalalogging.Logger
+import io.netty.buffer.ByteBuf
 
 object WsLogger {
   private val loggingStringBuilderPool = new StringBuilderPool
@@ -103,14 +104,15 @@ final class WsLogger {
 
   private var inboundMessages: List[(Long, String)] = Nil
 
-  def registerInboundMessage(message: String, timestamp: Long): Unit =
+  // by-name so frames are only decoded when debug is enabled
+  def registerInboundMessage(message: => String, timestamp: Long): Unit =
     if (HttpTracing.IS_HTTP_DEBUG_ENABLED) {
       inboundMessages = (timestamp, message) :: inboundMessages
     }
 
-  def registerInboundMessage(message: Array[Byte], timestamp: Long): Unit =
+  def registerInboundMessage(content: ByteBuf, timestamp: Long): Unit =
     if (HttpTracing.IS_HTTP_DEBUG_ENABLED) {
-      inboundMessages = (timestamp, s"<<<BINARY CONTENT length=${message.length}>>>") :: inboundMessages
+      inboundMessages = (timestamp, s"<<<BINARY CONTENT length=${content.readableBytes}>>>") :: inboundMessages
     }
 
   def logCheck(
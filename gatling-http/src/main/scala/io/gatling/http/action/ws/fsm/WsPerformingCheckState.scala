@@ -25,8 +25,10 @@ import io.gatling.core.session.Session
 import io.gatling.http.action.ws.WsInboundMessage
 import io.gatling.http.check.ws.{ WsFrameCheck, WsFrameCheckSequence }
 import io.gatling.http.client.WebSocket
+import io.gatling.netty.util.{ ByteBufUtils, Utf8ByteBufCharsetDecoder }
 
 import com.typesafe.scalalogging.StrictLogging
+import io.netty.buffer.ByteBuf
 
 final case class WsPerformingCheckState(
     fsm: WsFsm,
@@ -88,7 +90,9 @@ final case class WsPerformingCheckState(
     )
   }
 
-  override def onTextFrameReceived(message: String, timestamp: Long): NextWsState = {
+  override def onTextFrameReceived(content: ByteBuf, timestamp: Long): NextWsState = {
+    // decoded at most once, and only if the pending check, the auto reply, the buffer or the debug logs need it
+    lazy val message = Utf8ByteBufCharsetDecoder.decodeUtf8(content)
     wsLogger.registerInboundMessage(message, timestamp)
     if (autoReplyTextFrames(message, webSocket)) {
       NextWsState(this)
@@ -99,7 +103,9 @@ final case class WsPerformingCheckState(
 
         case _ =>
           logger.debug(s"Received unmatched text frame $message")
-          unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, message))
+          if (bufferUnmatchedInboundMessages) {
+            unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Text(timestamp, message))
+          }
           // server unmatched message, just log
           logUnmatchedServerMessage(session)
           NextWsState(this)
@@ -107,15 +113,17 @@ final case class WsPerformingCheckState(
     }
   }
 
-  override def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): NextWsState = {
-    wsLogger.registerInboundMessage(message, timestamp)
+  override def onBinaryFrameReceived(content: ByteBuf, timestamp: Long): NextWsState = {
+    wsLogger.registerInboundMessage(content, timestamp)
     currentCheck match {
       case WsFrameCheck.Binary(_, matchConditions, checks, _, _) =>
-        tryApplyingChecks(message, timestamp, matchConditions, checks)
+        tryApplyingChecks(ByteBufUtils.byteBuf2Bytes(content), timestamp, matchConditions, checks)
 
       case _ =>
         logger.debug("Received unmatched binary frame")
-        unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Binary(timestamp, message))
+        if (bufferUnmatchedInboundMessages) {
+          unmatchedInboundMessageBuffer.addOne(WsInboundMessage.Binary(timestamp, ByteBufUtils.byteBuf2Bytes(content)))
+        }
         // server unmatched message, just log
         logUnmatchedServerMessage(session)
         NextWsState(this)
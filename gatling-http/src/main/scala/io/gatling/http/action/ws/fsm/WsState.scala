@@ -24,6 +24,7 @@ import io.gatling.http.check.ws._
 import io.gatling.http.client.WebSocket
 
 import com.typesafe.scalalogging.StrictLogging
+import io.netty.buffer.ByteBuf
 import io.netty.handler.codec.http.cookie.Cookie
 import io.netty.handler.codec.http.websocketx.{ TextWebSocketFrame, WebSocketCloseStatus }
 
@@ -63,10 +64,10 @@ abstract class WsState(fsm: WsFsm) extends StrictLogging {
   ): NextWsState =
     onIllegalState(s"Unexpected onSendBinaryFrame in $stateName state", fsm.clock.nowMillis)
 
-  def onTextFrameReceived(message: String, timestamp: Long): NextWsState =
+  def onTextFrameReceived(content: ByteBuf, timestamp: Long): NextWsState =
     onIllegalState(s"Unexpected onTextFrameReceived in $stateName state", timestamp)
 
-  def onBinaryFrameReceived(message: Array[Byte], timestamp: Long): NextWsState =
+  def onBinaryFrameReceived(content: ByteBuf, timestamp: Long): NextWsState =
     onIllegalState(s"Unexpected onBinaryFrameReceived in $stateName state", timestamp)
 
   def onWebSocketClosed(code: Int, reason: String, timestamp: Long): NextWsState =
@@ -122,12 +123,17 @@ abstract class WsState(fsm: WsFsm) extends StrictLogging {
         fsm.onSendBinaryFrame(actionName, message, checkSequences, session, next)
     }
 
-  protected def autoReplyTextFrames(message: String, webSocket: WebSocket): Boolean =
-    fsm.httpProtocol.wsPart.autoReplyTextFrames(message) match {
-      case Some(reply) =>
-        logger.debug(s"Auto Reply to message '$message' with '$reply'")
-        webSocket.sendFrame(new TextWebSocketFrame(reply))
-        true
+  protected def autoReplyTextFrames(message: => String, webSocket: WebSocket): Boolean =
+    fsm.httpProtocol.wsPart.autoReplyTextFrames match {
+      case Some(autoReply) =>
+        autoReply(message) match {
+          case Some(reply) =>
+            logger.debug(s"Auto Reply to message '$message' with '$reply'")
+            webSocket.sendFrame(new TextWebSocketFrame(reply))
+            true
+          case _ =>
+            false
+        }
       case _ =>
         false
     }
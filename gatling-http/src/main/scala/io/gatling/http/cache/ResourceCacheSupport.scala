@@ -17,6 +17,7 @@
 package io.gatling.http.cache
 
 import java.util.concurrent.ConcurrentMap
+import java.util.concurrent.atomic.LongAdder
 
 import scala.jdk.FunctionConverters._
 
@@ -29,6 +30,7 @@ import io.gatling.http.request.HttpRequest
 
 private[cache] final case class InferredPageResources(expire: String, requests: List[HttpRequest])
 private[cache] final case class InferredResourcesCacheKey(protocol: HttpProtocol, uri: Uri)
+private[cache] final case class InferredResourcesContentCacheKey(uri: Uri, bodyHash: Long)
 
 private[cache] trait ResourceCacheSupport {
   def configuration: GatlingConfiguration
@@ -38,6 +40,12 @@ private[cache] trait ResourceCacheSupport {
     Cache.newConcurrentCache[Uri, List[ConcurrentResource]](configuration.http.fetchedCssCacheMaxCapacity)
   private val inferredResourcesCache: ConcurrentMap[InferredResourcesCacheKey, InferredPageResources] =
     Cache.newConcurrentCache[InferredResourcesCacheKey, InferredPageResources](configuration.http.fetchedHtmlCacheMaxCapacity)
+  // for pages without Last-Modified nor ETag, typically dynamic pages that are identical for all the users
+  // resources are stored before filtering, as they only depend on the page, not on the protocol
+  private val inferredResourcesContentCache: ConcurrentMap[InferredResourcesContentCacheKey, List[ConcurrentResource]] =
+    Cache.newConcurrentCache[InferredResourcesContentCacheKey, List[ConcurrentResource]](configuration.http.fetchedHtmlCacheMaxCapacity)
+  private val inferredResourcesContentCacheHits = new LongAdder
+  private val inferredResourcesContentCacheMisses = new LongAdder
 
   def isCssCached(uri: Uri): Boolean = cssContentCache.get(uri) != null
 
@@ -68,4 +76,22 @@ private[cache] trait ResourceCacheSupport {
         inferredResources
     }
   }
+
+  def inferredResourcesContentCacheHitCount: Long = inferredResourcesContentCacheHits.sum
+
+  def inferredResourcesContentCacheMissCount: Long = inferredResourcesContentCacheMisses.sum
+
+  def computeInferredResourcesByContentIfAbsent(uri: Uri, bodyHash: Long, parseResources: () => List[ConcurrentResource]): List[ConcurrentResource] = {
+    val cacheKey = InferredResourcesContentCacheKey(uri, bodyHash)
+    inferredResourcesContentCache.get(cacheKey) match {
+      case null =>
+        inferredResourcesContentCacheMisses.increment()
+        val inferredResources = parseResources()
+        inferredResourcesContentCache.put(cacheKey, inferredResources)
+        inferredResources
+      case inferredResources =>
+        inferredResourcesContentCacheHits.increment()
+        inferredResources
+    }
+  }
 }
@@ -45,7 +45,6 @@ import io.gatling.http.response.Response
 
 import com.fasterxml.jackson.databind.JsonNode
 import jodd.lagarto.dom.NodeSelector
-import net.sf.saxon.s9api.XdmNode
 
 trait HttpCheckSupport {
   @implicitNotFound("Could not find a CheckMaterializer. This check might not be valid for HTTP.")
@@ -99,7 +98,7 @@ trait HttpCheckSupport {
   implicit val httpBodyRegexCheckMaterializer: CheckMaterializer[RegexCheckType, HttpCheck, Response, String] = HttpBodyRegexCheckMaterializer.Instance
   implicit val httpBodySubstringCheckMaterializer: CheckMaterializer[SubstringCheckType, HttpCheck, Response, String] =
     HttpBodySubstringCheckMaterializer.Instance
-  implicit val httpBodyXPathCheckMaterializer: CheckMaterializer[XPathCheckType, HttpCheck, Response, XdmNode] =
+  implicit val httpBodyXPathCheckMaterializer: CheckMaterializer[XPathCheckType, HttpCheck, Response, XmlDocument] =
     HttpBodyXPathCheckMaterializer.Instance
   implicit def httpBodyCssCheckMaterializer(implicit selectors: CssSelectors): CheckMaterializer[CssCheckType, HttpCheck, Response, NodeSelector] =
     HttpBodyCssCheckMaterializer.instance(selectors)
@@ -20,10 +20,10 @@ import io.gatling.core.check.CheckMaterializer
 import io.gatling.core.check.bytes.BodyBytesCheckType
 import io.gatling.http.check.{ HttpCheck, HttpCheckMaterializer }
 import io.gatling.http.check.HttpCheckBuilders.ResponseBodyLengthPreparer
-import io.gatling.http.check.HttpCheckScope.Body
+import io.gatling.http.check.HttpCheckScope.Chunks
 import io.gatling.http.response.Response
 
 object HttpBodyLengthCheckMaterializer {
   val Instance: CheckMaterializer[BodyBytesCheckType, HttpCheck, Response, Int] =
-    new HttpCheckMaterializer[BodyBytesCheckType, Int](Body, ResponseBodyLengthPreparer)
+    new HttpCheckMaterializer[BodyBytesCheckType, Int](Chunks, ResponseBodyLengthPreparer)
 }
@@ -24,13 +24,14 @@ import scala.util.control.NonFatal
 import io.gatling.commons.util.{ Clock, Hex }
 import io.gatling.commons.util.Throwables._
 import io.gatling.http.client.{ HttpListener, Request }
-import io.gatling.http.engine.response.ResponseProcessor
+import io.gatling.http.engine.response.{ HttpTracing, ResponseProcessor }
 import io.gatling.http.engine.tx.HttpTx
 import io.gatling.http.response.{ HttpFailure, HttpResult, Response, ResponseBody }
-import io.gatling.http.util.HttpHelper.{ extractCharsetFromContentType, isCss, isHtml }
+import io.gatling.http.util.HttpHelper.{ extractCharsetFromContentType, isCss, isHtml, isRedirect }
+import io.gatling.netty.util.XxHash64
 
 import com.typesafe.scalalogging.StrictLogging
-import io.netty.buffer.ByteBuf
+import io.netty.buffer.{ ByteBuf, CompositeByteBuf }
 import io.netty.handler.codec.http.{ EmptyHttpHeaders, HttpHeaderNames, HttpHeaders, HttpResponseStatus }
 
 object GatlingHttpListener extends StrictLogging {
@@ -58,14 +59,19 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
   private var finalClientRequest = tx.request.clientRequest
   private var init = false
   private var done = false
-  private var storeHtmlOrCss: Boolean = _
+  // when false, chunks are only counted and left to be released by the client as soon as they've been processed
+  private var storeBody: Boolean = _
   private var requestStartTimestamp: Long = _
   private var requestEndTimestamp: Long = _
   private var isHttp2: Boolean = _
   private var status: HttpResponseStatus = _
   private var headers: HttpHeaders = EmptyHttpHeaders.INSTANCE
   private var bodyLength = 0
-  private var chunks: List[ByteBuf] = Nil
+  // first chunk as is, then a composite aggregating all the chunks so the body can be decoded in one go
+  private var content: ByteBuf = _
+  private var compositeContent: CompositeByteBuf = _
+  // hashed as the chunks come, so a page whose resources were already inferred doesn't have to be decoded and parsed again
+  private var bodyHash: XxHash64 = _
   private val digests = checksumAlgorithms.map(algorithm => algorithm -> algorithm.digest).toMap
 
   override def onSend(): Unit =
@@ -139,7 +145,29 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
       requestEndTimestamp = clock.nowMillis
       this.status = status
       this.headers = headers
-      storeHtmlOrCss = httpProtocol.responsePart.inferHtmlResources && (isHtml(headers) || isCss(headers))
+      storeBody =
+        if (followRedirect && isRedirect(status)) {
+          // redirect will be followed, neither the checks nor the transformer will ever see this body
+          HttpTracing.IS_HTTP_DEBUG_ENABLED
+        } else {
+          storeForResourceInference(status, headers) || storeBodyParts
+        }
+    }
+
+  // resources are only inferred from 200 responses, from the main page if it's HTML and from the fetched resources if they're CSS
+  private def storeForResourceInference(status: HttpResponseStatus, headers: HttpHeaders): Boolean =
+    if (httpProtocol.responsePart.inferHtmlResources && status == HttpResponseStatus.OK) {
+      if (tx.resourceTx.isEmpty) {
+        val html = isHtml(headers)
+        if (html) {
+          bodyHash = new XxHash64
+        }
+        html
+      } else {
+        isCss(headers)
+      }
+    } else {
+      false
     }
 
   override def onHttpResponseBodyChunk(chunk: ByteBuf, last: Boolean): Unit =
@@ -149,9 +177,13 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
       val chunkLength = chunk.readableBytes
       if (chunkLength > 0) {
         bodyLength += chunkLength
-        if (storeBodyParts || storeHtmlOrCss) {
+        if (storeBody) {
           // beware, we have to retain!
-          chunks = chunk.retain() :: chunks
+          storeChunk(chunk.retain())
+        }
+
+        if (bodyHash != null) {
+          bodyHash.update(chunk)
         }
 
         if (digests.nonEmpty)
@@ -171,6 +203,18 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
       }
     }
 
+  private def storeChunk(chunk: ByteBuf): Unit =
+    if (content == null) {
+      content = chunk
+    } else {
+      if (compositeContent == null) {
+        // no max components so chunks never get consolidated into a copy
+        compositeContent = chunk.alloc.compositeBuffer(Int.MaxValue).addComponent(true, content)
+        content = compositeContent
+      }
+      compositeContent.addComponent(true, chunk)
+    }
+
   private def buildResponse: HttpResult =
     if (status == null) {
       buildFailure("How come we're trying to build a response with no status?!")
@@ -182,8 +226,7 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
 
         val checksums = digests.view.mapValues(md => Hex.toHexString(md.digest)).to(Map)
 
-        val chunksOrderedByArrival = chunks.reverse
-        val body = ResponseBody(bodyLength, chunksOrderedByArrival, resolveCharset(headers, defaultCharset))
+        val body = ResponseBody(bodyLength, content, resolveCharset(headers, defaultCharset))
 
         Response(
           finalClientRequest,
@@ -193,7 +236,8 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
           headers,
           body,
           checksums,
-          isHttp2
+          isHttp2,
+          if (bodyHash == null) None else Some(bodyHash.digest())
         )
       } catch {
         case NonFatal(t) => buildFailure(t)
@@ -223,10 +267,13 @@ final class GatlingHttpListener(tx: HttpTx, clock: Clock, responseProcessor: Res
       errorMessage
     )
 
-  private def releaseChunks(): Unit = {
-    chunks.foreach(_.release())
-    chunks = Nil
-  }
+  private def releaseChunks(): Unit =
+    if (content != null) {
+      // releasing the composite releases its components
+      content.release()
+      content = null
+      compositeContent = null
+    }
 
   override def onThrowable(throwable: Throwable): Unit =
     if (!done) {
@@ -39,6 +39,7 @@ private[gatling] final class HttpClientFactory(
       .setDefaultCharset(configuration.core.charset)
       .setEnableHostnameVerification(httpConfig.enableHostnameVerification)
       .setChannelPoolIdleTimeout(httpConfig.pooledConnectionIdleTimeout.toMillis)
+      .setHttp1PipeliningDepth(httpConfig.pipeliningDepth)
       .setConnectTimeout(socketConfig.connectTimeout.toMillis)
       .setSoKeepAlive(socketConfig.soKeepAlive)
       .setHandshakeTimeout(sslConfig.handshakeTimeout.toMillis)
@@ -199,15 +199,21 @@ final class HttpEngine(
   // create shared name resolvers for all the users with this protocol
   private val sharedResolverCache = new ju.concurrent.ConcurrentHashMap[EventLoop, InetAddressNameResolver]
 
+  // single cache shared by all the event loops, so that entries are only refreshed once
+  private val sharedDnsCache = new SharedDnsCache(
+    minTtl = configuration.http.dns.minTtl,
+    maxTtl = configuration.http.dns.maxTtl,
+    negativeTtl = configuration.http.dns.negativeTtl,
+    clock = clock
+  )
+
   def newSharedAsyncDnsNameResolverFactory(dnsServers: Array[InetSocketAddress]): EventLoop => InetAddressNameResolver = {
     val inProgressResolutions = new ju.concurrent.ConcurrentHashMap[String, NettyPromise[ju.List[InetAddress]]]
 
-    val sharedCache: DnsCache = new DefaultDnsCache
-
     val computer: ju.function.Function[EventLoop, InetAddressNameResolver] =
       el => {
-        val actualResolver = newAsyncDnsNameResolver(el, dnsServers, sharedCache)
-        new InflightInetAddressNameResolver(actualResolver, inProgressResolutions)
+        val actualResolver = newAsyncDnsNameResolver(el, dnsServers, sharedDnsCache.writeOnlyView)
+        new SharedDnsCacheNameResolver(sharedDnsCache, new InflightInetAddressNameResolver(actualResolver, inProgressResolutions), el, clock)
       }
 
     eventLoop => sharedResolverCache.computeIfAbsent(eventLoop, computer)
@@ -225,5 +231,8 @@ final class HttpEngine(
     httpClient.close()
     // perform close on system shutdown instead of virtual user termination as it's shared
     sharedResolverCache.values().forEach(_.close())
+    if (!sharedResolverCache.isEmpty) {
+      logger.debug(s"Shared DNS cache stats: ${sharedDnsCache.stats}")
+    }
   }
 }
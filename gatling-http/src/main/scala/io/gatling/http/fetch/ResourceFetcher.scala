@@ -72,8 +72,10 @@ private[http] final class ResourceFetcher(
   private def inferPageResources(request: Request, response: Response, session: Session, throttled: Boolean): List[HttpRequest] = {
     val htmlDocumentUri = request.getUri
 
-    def inferredResourcesRequests(): List[HttpRequest] = {
-      val inferred = new HtmlParser().getEmbeddedResources(htmlDocumentUri, response.body.chars)
+    def parseResources(): List[ConcurrentResource] =
+      new HtmlParser().getEmbeddedResources(htmlDocumentUri, response.body.chars)
+
+    def toRequests(inferred: List[ConcurrentResource]): List[HttpRequest] = {
       val filtered = applyResourceFilters(inferred, httpProtocol.responsePart.htmlResourcesInferringFilters)
       resourcesToRequests(filtered, session, httpCaches, httpProtocol, throttled, coreComponents.configuration)
     }
@@ -82,10 +84,16 @@ private[http] final class ResourceFetcher(
       case HttpResponseStatus.OK =>
         response.lastModifiedOrEtag(httpProtocol) match {
           case Some(lastModifiedOrEtag) =>
-            httpCaches.computeInferredResourcesIfAbsent(httpProtocol, htmlDocumentUri, lastModifiedOrEtag, () => inferredResourcesRequests())
+            httpCaches.computeInferredResourcesIfAbsent(httpProtocol, htmlDocumentUri, lastModifiedOrEtag, () => toRequests(parseResources()))
           case _ =>
-            // don't cache
-            inferredResourcesRequests()
+            response.bodyHash match {
+              case Some(bodyHash) =>
+                // identical content: skip decoding and parsing
+                toRequests(httpCaches.computeInferredResourcesByContentIfAbsent(htmlDocumentUri, bodyHash, () => parseResources()))
+              case _ =>
+                // don't cache
+                toRequests(parseResources())
+            }
         }
 
       case HttpResponseStatus.NOT_MODIFIED =>
@@ -103,7 +103,7 @@ object HttpProtocol extends StrictLogging {
       wsPart = HttpProtocolWsPart(
         wsBaseUrls = Nil,
         maxReconnects = 0,
-        autoReplyTextFrames = _ => None,
+        autoReplyTextFrames = None,
         unmatchedInboundMessageBufferSize = 0
       ),
       ssePart = HttpProtocolSsePart(
@@ -193,7 +193,7 @@ final case class HttpProtocolResponsePart(
 final case class HttpProtocolWsPart(
     wsBaseUrls: List[String],
     maxReconnects: Int,
-    autoReplyTextFrames: String => Option[String],
+    autoReplyTextFrames: Option[String => Option[String]],
     unmatchedInboundMessageBufferSize: Int
 )
 
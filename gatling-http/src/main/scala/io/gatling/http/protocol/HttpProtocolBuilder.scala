@@ -198,7 +198,7 @@ final case class HttpProtocolBuilder(protocol: HttpProtocol, useOpenSsl: Boolean
   def wsReconnect: HttpProtocolBuilder = wsMaxReconnects(Int.MaxValue)
   def wsMaxReconnects(max: Int): HttpProtocolBuilder = this.modify(_.protocol.wsPart.maxReconnects).setTo(max)
   def wsAutoReplyTextFrame(f: PartialFunction[String, String]): HttpProtocolBuilder =
-    this.modify(_.protocol.wsPart.autoReplyTextFrames).setTo(f.lift)
+    this.modify(_.protocol.wsPart.autoReplyTextFrames).setTo(Some(f.lift))
   def wsAutoReplySocketIo4: HttpProtocolBuilder = wsAutoReplyTextFrame { case "2" => "3" }
   def wsUnmatchedInboundMessageBufferSize(max: Int): HttpProtocolBuilder =
     this.modify(_.protocol.wsPart.unmatchedInboundMessageBufferSize).setTo(max)
@@ -176,6 +176,7 @@ final case class HttpRequestBuilder(commonAttributes: CommonAttributes, bodyAttr
       // we can't assume anything about if and how the response body will be used,
       // let's force bytes so we don't risk decoding binary content
       resolvedResponseTransformer.isDefined ||
+      // Chunks checks (checksums, body length) are computed as the chunks come and don't need them to be retained
       sortedChecks.exists(_.scope == Body)
 
     HttpRequestDef(
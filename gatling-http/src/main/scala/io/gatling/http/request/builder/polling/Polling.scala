@@ -16,7 +16,7 @@
 
 package io.gatling.http.request.builder.polling
 
-import scala.concurrent.duration.FiniteDuration
+import scala.concurrent.duration._
 
 import io.gatling.core.session._
 import io.gatling.http.action.HttpActionBuilder
@@ -32,12 +32,21 @@ object Polling {
 final class Polling(pollerName: String) {
   def pollerName(pollerName: String): Polling = new Polling(pollerName)
 
-  def every(period: FiniteDuration): PollingEveryStep = new PollingEveryStep(pollerName, period)
+  def every(period: FiniteDuration): PollingEveryStep = new PollingEveryStep(pollerName, period, Duration.Zero)
 
   def stop: HttpActionBuilder = new PollingStopBuilder(pollerName)
 }
 
-final class PollingEveryStep(pollerName: String, period: FiniteDuration) {
+final class PollingEveryStep(pollerName: String, period: FiniteDuration, jitter: FiniteDuration) {
+
+  /**
+   * Spread the polls of the users over the period, instead of having them all fire at the same time.
+   *
+   * @param maxJitter
+   *   the upper bound of the random offset of each user, capped to the period
+   */
+  def jitter(maxJitter: FiniteDuration): PollingEveryStep = new PollingEveryStep(pollerName, period, maxJitter)
+
   def exec(requestBuilder: HttpRequestBuilder): HttpActionBuilder =
-    new PollingStartBuilder(pollerName, period, requestBuilder)
+    new PollingStartBuilder(pollerName, period, jitter, requestBuilder)
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.resolver
+
+import java.{ util => ju }
+import java.net.InetAddress
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.{ AtomicBoolean, LongAccumulator, LongAdder }
+
+import scala.concurrent.duration._
+
+import io.gatling.commons.util.Clock
+
+import io.netty.channel.EventLoop
+import io.netty.handler.codec.dns.DnsRecord
+import io.netty.resolver.dns.{ DnsCache, DnsCacheEntry }
+
+private[http] object SharedDnsCache {
+  // start refreshing an entry once this ratio of its TTL has elapsed
+  private val RefreshAheadRatio = 0.8
+
+  private final class Record(address: InetAddress, cause: Throwable, val refreshTimestamp: Long, val expirationTimestamp: Long) extends DnsCacheEntry {
+    override def address(): InetAddress = address
+    override def cause(): Throwable = cause
+    override def toString: String = s"Record(address=$address, cause=$cause, expirationTimestamp=$expirationTimestamp)"
+  }
+
+  final class Entry private[SharedDnsCache] (private[SharedDnsCache] val records: Array[Record]) {
+    // computed once so that cache hits don't allocate
+    val addresses: ju.List[InetAddress] = {
+      val addresses = new ju.ArrayList[InetAddress](records.length)
+      records.foreach(record => if (record.address != null) addresses.add(record.address))
+      ju.Collections.unmodifiableList(addresses)
+    }
+    val cause: Throwable = if (addresses.isEmpty) records(0).cause else null
+    private[SharedDnsCache] val expirationTimestamp: Long = records.iterator.map(_.expirationTimestamp).min
+    // refresh is driven by the most recent record so that records about to expire on their own don't trigger refresh storms
+    private[SharedDnsCache] val refreshTimestamp: Long = records.iterator.map(_.refreshTimestamp).max
+    private[SharedDnsCache] val refreshing = new AtomicBoolean
+  }
+
+  final class Stats(val hits: Long, val misses: Long, val refreshes: Long, val resolutions: Long, val meanResolutionTime: Long, val maxResolutionTime: Long) {
+    override def toString: String =
+      s"hits=$hits misses=$misses refreshes=$refreshes resolutions=$resolutions meanResolutionTime=${meanResolutionTime}ms maxResolutionTime=${maxResolutionTime}ms"
+  }
+}
+
+/**
+ * A DNS cache shared by all the event loops, where reads are lock-free and don't allocate.
+ *
+ * Unlike Netty's DefaultDnsCache, expiration doesn't rely on tasks scheduled on the event loops but on timestamps checked on read. Entries are meant to be
+ * refreshed in the background before they expire, so that TTL expiration doesn't cause resolution storms, see [[SharedDnsCacheNameResolver]].
+ *
+ * @param minTtl
+ *   floor applied to the records' TTL
+ * @param maxTtl
+ *   ceiling applied to the records' TTL
+ * @param negativeTtl
+ *   TTL of failed resolutions, zero means that failures are not cached
+ */
+private[http] final class SharedDnsCache(minTtl: FiniteDuration, maxTtl: FiniteDuration, negativeTtl: FiniteDuration, clock: Clock) {
+  import SharedDnsCache._
+
+  require(minTtl <= maxTtl, s"minTtl ($minTtl) must be lower than maxTtl ($maxTtl)")
+
+  private val entries = new ConcurrentHashMap[String, Entry]
+  private val hits = new LongAdder
+  private val misses = new LongAdder
+  private val refreshes = new LongAdder
+  private val resolutions = new LongAdder
+  private val resolutionTime = new LongAdder
+  private val maxResolutionTime = new LongAccumulator(Math.max, 0)
+
+  /**
+   * @return
+   *   the live entry for this hostname, or null if there's none
+   */
+  def get(hostname: String): Entry = {
+    val entry = entries.get(hostname)
+    if (entry == null) {
+      misses.increment()
+      null
+    } else {
+      val now = clock.nowMillis
+      if (entry.expirationTimestamp > now) {
+        hits.increment()
+        entry
+      } else {
+        val liveRecords = entry.records.filter(_.expirationTimestamp > now)
+        if (liveRecords.isEmpty) {
+          entries.remove(hostname, entry)
+          misses.increment()
+          null
+        } else {
+          val liveEntry = new Entry(liveRecords)
+          entries.replace(hostname, entry, liveEntry)
+          hits.increment()
+          liveEntry
+        }
+      }
+    }
+  }
+
+  /**
+   * @return
+   *   true if the entry is due for refresh and the caller is in charge of performing it
+   */
+  def tryStartRefresh(entry: Entry): Boolean = {
+    val start = entry.refreshTimestamp <= clock.nowMillis && entry.refreshing.compareAndSet(false, true)
+    if (start) {
+      refreshes.increment()
+    }
+    start
+  }
+
+  /**
+   * To be called whatever the outcome of the refresh: a successful refresh doesn't necessarily replace the entry, eg when the records come with additionals.
+   */
+  def refreshCompleted(entry: Entry): Unit =
+    entry.refreshing.set(false)
+
+  def recordResolution(timeMillis: Long): Unit = {
+    resolutions.increment()
+    resolutionTime.add(timeMillis)
+    maxResolutionTime.accumulate(timeMillis)
+  }
+
+  def stats: Stats = {
+    val resolutionsCount = resolutions.sum
+    new Stats(
+      hits = hits.sum,
+      misses = misses.sum,
+      refreshes = refreshes.sum,
+      resolutions = resolutionsCount,
+      meanResolutionTime = if (resolutionsCount == 0) 0 else resolutionTime.sum / resolutionsCount,
+      maxResolutionTime = maxResolutionTime.get
+    )
+  }
+
+  private def cacheRecord(hostname: String, record: Record): Unit =
+    entries.compute(
+      hostname,
+      (_, existing) =>
+        if (existing == null) {
+          new Entry(Array(record))
+        } else {
+          val now = clock.nowMillis
+          // drop expired records, failures and previous record for the same address
+          val kept = existing.records.filter(r => r.expirationTimestamp > now && r.address != null && r.address != record.address)
+          if (record.address == null && kept.nonEmpty) {
+            // a failed refresh must not evict addresses that are still live
+            existing
+          } else {
+            new Entry(kept :+ record)
+          }
+        }
+    )
+
+  private def ttlMillis(originalTtlSeconds: Long): Long =
+    (originalTtlSeconds.seconds max minTtl min maxTtl).toMillis
+
+  /**
+   * The view to be passed to Netty's DnsNameResolvers: it never returns cached values so the resolvers always perform actual queries, reads are performed
+   * upstream by [[SharedDnsCacheNameResolver]].
+   */
+  val writeOnlyView: DnsCache = new DnsCache {
+    override def clear(): Unit = entries.clear()
+
+    override def clear(hostname: String): Boolean = entries.remove(hostname) != null
+
+    override def get(hostname: String, additionals: Array[DnsRecord]): ju.List[_ <: DnsCacheEntry] = null
+
+    override def cache(hostname: String, additionals: Array[DnsRecord], address: InetAddress, originalTtl: Long, loop: EventLoop): DnsCacheEntry = {
+      val ttl = ttlMillis(originalTtl)
+      val now = clock.nowMillis
+      val record = new Record(address, null, now + (ttl * RefreshAheadRatio).toLong, now + ttl)
+      if (additionals.isEmpty && ttl > 0) {
+        cacheRecord(hostname, record)
+      }
+      record
+    }
+
+    override def cache(hostname: String, additionals: Array[DnsRecord], cause: Throwable, loop: EventLoop): DnsCacheEntry = {
+      val now = clock.nowMillis
+      // failures are not refreshed ahead
+      val expirationTimestamp = now + negativeTtl.toMillis
+      val record = new Record(null, cause, expirationTimestamp, expirationTimestamp)
+      if (additionals.isEmpty && negativeTtl > Duration.Zero) {
+        cacheRecord(hostname, record)
+      }
+      record
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.resolver
+
+import java.{ util => ju }
+import java.net.InetAddress
+
+import io.gatling.commons.util.Clock
+import io.gatling.http.client.HttpListener
+import io.gatling.http.client.resolver.InetAddressNameResolver
+
+import com.typesafe.scalalogging.StrictLogging
+import io.netty.channel.EventLoop
+import io.netty.util.concurrent.{ Future, Promise }
+
+/**
+ * Serves resolutions from the [[SharedDnsCache]] and only delegates to the actual resolver on cache miss.
+ *
+ * When a cached entry is about to expire, the first caller triggers a background refresh, but still gets the cached value.
+ *
+ * @param cache
+ *   the cache shared by all the event loops
+ * @param resolver
+ *   the actual resolver for this event loop, that never reads from the cache but writes its results into it
+ */
+private[http] final class SharedDnsCacheNameResolver(
+    cache: SharedDnsCache,
+    resolver: InetAddressNameResolver,
+    eventLoop: EventLoop,
+    clock: Clock
+) extends InetAddressNameResolver
+    with StrictLogging {
+  override def resolveAll(inetHost: String, promise: Promise[ju.List[InetAddress]], listener: HttpListener): Future[ju.List[InetAddress]] = {
+    val entry = cache.get(inetHost)
+    if (entry != null) {
+      if (cache.tryStartRefresh(entry)) {
+        refresh(inetHost, entry)
+      }
+      if (entry.cause == null) {
+        promise.trySuccess(entry.addresses)
+      } else {
+        promise.tryFailure(entry.cause)
+      }
+      promise
+    } else {
+      val start = clock.nowMillis
+      resolver
+        .resolveAll(inetHost, promise, listener)
+        .addListener((_: Future[ju.List[InetAddress]]) => cache.recordResolution(clock.nowMillis - start))
+    }
+  }
+
+  private def refresh(inetHost: String, entry: SharedDnsCache.Entry): Unit = {
+    logger.debug(s"Refreshing DNS entry for $inetHost ahead of expiration")
+    val start = clock.nowMillis
+    // no listener as the refresh is not performed on behalf of a request
+    resolver
+      .resolveAll(inetHost, eventLoop.newPromise[ju.List[InetAddress]], null)
+      .addListener { (future: Future[ju.List[InetAddress]]) =>
+        cache.recordResolution(clock.nowMillis - start)
+        if (!future.isSuccess) {
+          logger.debug(s"Failed to refresh DNS entry for $inetHost", future.cause)
+        }
+        cache.refreshCompleted(entry)
+      }
+  }
+
+  override def close(): Unit = resolver.close()
+}
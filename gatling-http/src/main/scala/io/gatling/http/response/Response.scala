@@ -39,6 +39,10 @@ final case class HttpFailure(
     errorMessage: String
 ) extends HttpResult
 
+/**
+ * @param bodyHash
+ *   XXH64 of the body bytes, only computed for HTML pages when inferring resources, so identical pages are only parsed once
+ */
 final case class Response(
     request: Request,
     startTimestamp: Long,
@@ -47,7 +51,8 @@ final case class Response(
     headers: HttpHeaders,
     body: ResponseBody,
     checksums: Map[ChecksumAlgorithm, String],
-    isHttp2: Boolean
+    isHttp2: Boolean,
+    bodyHash: Option[Long]
 ) extends HttpResult {
   val isRedirect: Boolean = HttpHelper.isRedirect(status)
 
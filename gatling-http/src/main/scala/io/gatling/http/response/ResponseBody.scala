@@ -16,11 +16,10 @@
 
 package io.gatling.http.response
 
-import java.io.{ InputStream, SequenceInputStream }
+import java.io.InputStream
 import java.nio.charset.Charset
 import java.nio.charset.StandardCharsets.UTF_8
 
-import scala.jdk.CollectionConverters._
 import scala.util.control.NonFatal
 
 import io.gatling.commons.util.FastByteArrayInputStream
@@ -30,11 +29,11 @@ import com.typesafe.scalalogging.LazyLogging
 import io.netty.buffer.{ ByteBuf, ByteBufInputStream }
 
 object ResponseBody {
-  def apply(bodyLength: Int, chunks: List[ByteBuf], charset: Charset): ResponseBody =
-    chunks match {
-      case Nil          => NoResponseBody(bodyLength)
-      case chunk :: Nil => new ByteBufResponseBody(bodyLength, chunk, charset)
-      case _            => new ByteBufsResponseBody(bodyLength, chunks, charset)
+  def apply(bodyLength: Int, content: ByteBuf, charset: Charset): ResponseBody =
+    if (content == null) {
+      NoResponseBody(bodyLength)
+    } else {
+      new ByteBufResponseBody(bodyLength, content, charset)
     }
 }
 
@@ -47,48 +46,32 @@ sealed trait ResponseBody {
   def stream: InputStream
 }
 
-private[gatling] final class ByteBufResponseBody(override val length: Int, chunk: ByteBuf, override val charset: Charset)
+/**
+ * A body backed by the (possibly composite) buffer that aggregates the received chunks.
+ *
+ * The content is decoded once, on first access to either chars or string, and string is built from the decoded chars, so that a body consumed by several
+ * checks is never decoded twice. The buffer is released by the listener as soon as the checks have been performed, so content that hasn't been materialized by
+ * then is no longer available.
+ */
+private[gatling] final class ByteBufResponseBody(override val length: Int, content: ByteBuf, override val charset: Charset)
     extends ResponseBody
     with LazyLogging {
-  override lazy val string: String =
-    try {
-      byteBuf2String(charset, chunk.duplicate)
-    } catch {
-      case NonFatal(e) =>
-        logger.error(s"Response body is not valid ${charset.name} bytes", e)
-        ""
-    }
-
   override lazy val chars: Array[Char] =
-    byteBuf2Chars(charset, chunk.duplicate)
-
-  override lazy val bytes: Array[Byte] =
-    byteBuf2Bytes(chunk.duplicate)
-
-  override def stream: InputStream =
-    new ByteBufInputStream(chunk.duplicate)
-}
-
-private[gatling] final class ByteBufsResponseBody(override val length: Int, chunks: Seq[ByteBuf], override val charset: Charset)
-    extends ResponseBody
-    with LazyLogging {
-  override lazy val string: String =
     try {
-      byteBuf2String(charset, chunks.map(_.duplicate): _*)
+      byteBuf2Chars(charset, content.duplicate)
     } catch {
       case NonFatal(e) =>
         logger.error(s"Response body is not valid ${charset.name} bytes", e)
-        ""
+        Array.emptyCharArray
     }
 
-  override lazy val chars: Array[Char] =
-    byteBuf2Chars(charset, chunks.map(_.duplicate): _*)
+  override lazy val string: String = new String(chars)
 
   override lazy val bytes: Array[Byte] =
-    byteBufs2Bytes(chunks.map(_.duplicate): _*)
+    byteBuf2Bytes(content.duplicate)
 
   override def stream: InputStream =
-    new SequenceInputStream(chunks.map(chunk => new ByteBufInputStream(chunk.duplicate)).iterator.asJavaEnumeration)
+    new ByteBufInputStream(content.duplicate)
 }
 
 object NoResponseBody {
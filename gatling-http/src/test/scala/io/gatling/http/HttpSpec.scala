@@ -36,7 +36,7 @@ import io.gatling.core.structure.{ ScenarioBuilder, ScenarioContext }
 import io.gatling.http.cache.DnsCacheSupport
 import io.gatling.http.client.resolver.InetAddressNameResolver
 import io.gatling.http.client.util.MimeTypes
-import io.gatling.http.protocol.HttpProtocolBuilder
+import io.gatling.http.protocol.{ HttpComponents, HttpProtocol, HttpProtocolBuilder }
 import io.gatling.netty.util.Transports
 
 import io.netty.channel._
@@ -69,7 +69,14 @@ abstract class HttpSpec extends ActorSpec with BeforeAndAfter with EmptySession
       sb: ScenarioBuilder,
       timeout: FiniteDuration = 10.seconds,
       protocolCustomizer: HttpProtocolBuilder => HttpProtocolBuilder = identity
-  )(implicit configuration: GatlingConfiguration): Session = {
+  )(implicit configuration: GatlingConfiguration): Session =
+    runScenarioWithHttpComponents(sb, timeout, protocolCustomizer)._1
+
+  def runScenarioWithHttpComponents(
+      sb: ScenarioBuilder,
+      timeout: FiniteDuration,
+      protocolCustomizer: HttpProtocolBuilder => HttpProtocolBuilder
+  )(implicit configuration: GatlingConfiguration): (Session, HttpComponents) = {
     val protocols = Protocol.indexByType(Seq(protocolCustomizer(httpProtocol)))
     val coreComponents =
       new CoreComponents(actorSystem, eventLoopGroup, null, None, NoopStatsEngine, clock, null, configuration)
@@ -80,7 +87,7 @@ abstract class HttpSpec extends ActorSpec with BeforeAndAfter with EmptySession
     action ! emptySession
       .copy(eventLoop = eventLoopGroup.next())
       .set(DnsCacheSupport.DnsNameResolverAttributeName, InetAddressNameResolver.JAVA_RESOLVER)
-    nextActor.expectMsgType[Session](timeout)
+    (nextActor.expectMsgType[Session](timeout), protocolComponentsRegistry.components(HttpProtocol.HttpProtocolKey))
   }
 
   def sendFile(name: String): ChannelProcessor = ctx => {
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.polling
+
+import java.util.concurrent.TimeUnit
+
+import scala.collection.mutable
+
+import io.gatling.commons.util.Clock
+import io.gatling.core.FakeEventLoop
+
+import io.netty.util.concurrent.ScheduledFuture
+import org.mockito.Mockito._
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+import org.scalatestplus.mockito.MockitoSugar
+
+object PollingSchedulerSpec {
+  private final case class Scheduled(task: Runnable, initialDelayMillis: Long, periodMillis: Long, future: ScheduledFuture[_])
+}
+
+class PollingSchedulerSpec extends AnyFlatSpecLike with Matchers with MockitoSugar {
+  import PollingSchedulerSpec._
+
+  private final class ManualEventLoop extends FakeEventLoop {
+    val scheduled: mutable.Buffer[Scheduled] = mutable.Buffer.empty
+
+    override def scheduleAtFixedRate(command: Runnable, initialDelay: Long, period: Long, unit: TimeUnit): ScheduledFuture[_] = {
+      val future = mock[ScheduledFuture[AnyRef]]
+      scheduled += Scheduled(command, unit.toMillis(initialDelay), unit.toMillis(period), future)
+      future
+    }
+  }
+
+  private final class FakeClock(var nowMillis: Long) extends Clock
+
+  "PollingScheduler" should "dispatch the pollers with the same period from a single periodic task" in {
+    val eventLoop = new ManualEventLoop
+    val scheduler = new PollingScheduler(eventLoop, new FakeClock(10250))
+    val polls = mutable.Buffer.empty[Int]
+
+    for (i <- 1 to 3) {
+      scheduler.schedule(1000, 0, () => polls += i)
+    }
+
+    eventLoop.scheduled should have size 1
+    eventLoop.scheduled.head.periodMillis shouldBe 1000
+    eventLoop.scheduled.head.initialDelayMillis shouldBe 750
+    eventLoop.scheduled.head.task.run()
+    polls shouldBe Seq(1, 2, 3)
+    eventLoop.scheduled.head.task.run()
+    polls shouldBe Seq(1, 2, 3, 1, 2, 3)
+  }
+
+  it should "align the ticks on the period" in {
+    val eventLoop = new ManualEventLoop
+    val scheduler = new PollingScheduler(eventLoop, new FakeClock(10000))
+
+    scheduler.schedule(1000, 0, () => ())
+
+    eventLoop.scheduled.head.initialDelayMillis shouldBe 1000
+  }
+
+  it should "skip the first tick of the pollers joining less than half a period before it" in {
+    val eventLoop = new ManualEventLoop
+    val clock = new FakeClock(10000)
+    val scheduler = new PollingScheduler(eventLoop, clock)
+    val polls = mutable.Buffer.empty[Int]
+
+    scheduler.schedule(1000, 0, () => polls += 1)
+    clock.nowMillis = 10600
+    scheduler.schedule(1000, 0, () => polls += 2)
+
+    val tick = eventLoop.scheduled.head.task
+    tick.run()
+    polls shouldBe Seq(1)
+    tick.run()
+    polls shouldBe Seq(1, 1, 2)
+  }
+
+  it should "have one task per period" in {
+    val eventLoop = new ManualEventLoop
+    val scheduler = new PollingScheduler(eventLoop, new FakeClock(10000))
+
+    scheduler.schedule(1000, 0, () => ())
+    scheduler.schedule(2000, 0, () => ())
+    scheduler.schedule(1000, 0, () => ())
+
+    eventLoop.scheduled.map(_.periodMillis) shouldBe Seq(1000, 2000)
+  }
+
+  it should "stop dispatching cancelled pollers and cancel the task once it has none" in {
+    val eventLoop = new ManualEventLoop
+    val scheduler = new PollingScheduler(eventLoop, new FakeClock(10000))
+    val polls = mutable.Buffer.empty[Int]
+
+    val subscription1 = scheduler.schedule(1000, 0, () => polls += 1)
+    val subscription2 = scheduler.schedule(1000, 0, () => polls += 2)
+    subscription1.cancel()
+    eventLoop.scheduled.head.task.run()
+    polls shouldBe Seq(2)
+
+    subscription2.cancel()
+    eventLoop.scheduled.head.task.run()
+    polls shouldBe Seq(2)
+    verify(eventLoop.scheduled.head.future).cancel(false)
+
+    scheduler.schedule(1000, 0, () => ())
+    eventLoop.scheduled should have size 2
+  }
+
+  it should "spread jittered pollers over a bounded number of phases" in {
+    val eventLoop = new ManualEventLoop
+    val scheduler = new PollingScheduler(eventLoop, new FakeClock(10000))
+
+    for (_ <- 1 to 10000) {
+      scheduler.schedule(1000, 1000, () => ())
+    }
+
+    eventLoop.scheduled.size should (be > 1 and be <= 100)
+    all(eventLoop.scheduled.map(_.periodMillis)) shouldBe 1000
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.polling
+
+import java.util.concurrent.atomic.AtomicInteger
+
+import scala.concurrent.duration._
+
+import io.gatling.commons.validation._
+import io.gatling.core.CoreDsl
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.http.{ HttpDsl, HttpSpec }
+
+import io.netty.channel.ChannelFutureListener
+import io.netty.handler.codec.http.{ DefaultFullHttpResponse, HttpHeaderNames => NettyHttpHeaderNames, HttpMethod, HttpResponseStatus, HttpVersion }
+
+class PollingSpec extends HttpSpec with CoreDsl with HttpDsl {
+  override implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
+
+  // ticks are covered by PollingSchedulerSpec, the period here is long enough for the first poll, done right away, to be the only one
+  "Polling" should "poll until stopped and remove the poller from the session" in {
+    val polls = new AtomicInteger
+    val handler: Handler = { case HttpRequest(HttpMethod.GET, "/poll") =>
+      polls.incrementAndGet()
+      val response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK)
+      response.headers.set(NettyHttpHeaderNames.CONTENT_LENGTH, 0)
+      ctx => ctx.channel.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE)
+    }
+
+    runWithHttpServer(handler) { _ =>
+      val session = runScenario(
+        scenario("Polling")
+          .exec(poll.pollerName("poller").every(1.hour).exec(http("poll").get("/poll")))
+          .asLongAs(_ => (polls.get == 0).success)(pause(10.milliseconds))
+          .exec(poll.pollerName("poller").stop)
+      )
+
+      session.isFailed shouldBe false
+      session.contains("poller") shouldBe false
+      polls.get shouldBe 1
+    }
+  }
+}
@@ -64,28 +64,87 @@ class SseStreamDecoderSpec extends AnyFlatSpecLike with Matchers {
     )
   )
 
-  private def decodeChunks(splitPos: Int) = {
-    val (chunk1, chunk2) = bytes.splitAt(splitPos)
-    val chunks = Seq(Unpooled.wrappedBuffer(chunk1), Unpooled.wrappedBuffer(chunk2))
-    try {
-      val decoder = new SseStreamDecoder
-      chunks.flatMap(decoder.decodeStream)
-    } finally {
-      chunks.foreach(_.release())
+  // events are only valid while their chunk is being processed, so read them right away like SseListener does
+  private def materialize(event: ServerSentEvent): ServerSentEvent =
+    ServerSentEvent(event = event.event, data = event.data, id = event.id, retry = event.retry)
+
+  private def decodeChunks(decoder: SseStreamDecoder, chunks: Seq[Array[Byte]]): Seq[ServerSentEvent] =
+    chunks.flatMap { chunk =>
+      val buf = Unpooled.wrappedBuffer(chunk)
+      try {
+        decoder.decodeStream(buf).map(materialize)
+      } finally {
+        buf.release()
+      }
     }
+
+  private def decodeChunks(splitPos: Int): Seq[ServerSentEvent] = {
+    val (chunk1, chunk2) = bytes.splitAt(splitPos)
+    decodeChunks(new SseStreamDecoder, Seq(chunk1, chunk2))
   }
 
+  private def decodeByteByByte(input: Array[Byte]): Seq[ServerSentEvent] =
+    decodeChunks(new SseStreamDecoder, input.toSeq.map(Array(_)))
+
   "SseStreamDecoder" should "be able to decode split UTF-8 chars" in {
     (0 until bytes.length).foreach { splitPos =>
       (splitPos, decodeChunks(splitPos)) shouldBe (splitPos, expected)
     }
   }
 
-  private def decode(input: String): Seq[ServerSentEvent] = {
-    val buf = Unpooled.wrappedBuffer(input.getBytes(UTF_8))
+  private def decode(input: String): Seq[ServerSentEvent] =
+    decodeChunks(new SseStreamDecoder, Seq(input.getBytes(UTF_8)))
+
+  it should "be able to decode a stream fed byte by byte" in {
+    decodeByteByByte(bytes) shouldBe expected
+  }
+
+  it should "support CRLF and CR line terminators, even when split between chunks" in {
+    val input = "event: first\r\ndata: line1\r\ndata: line2\r\n\r\nid: 2\rdata: second\r\r: comment\n\ndata: third\n\n"
+    val inputBytes = input.getBytes(UTF_8)
+    val expectedEvents = Seq(
+      ServerSentEvent(event = Some("first"), data = Some("line1\nline2"), id = None, retry = None),
+      ServerSentEvent(event = None, data = Some("second"), id = Some("2"), retry = None),
+      ServerSentEvent(event = None, data = Some("third"), id = None, retry = None)
+    )
+
+    decode(input) shouldBe expectedEvents
+    decodeByteByByte(inputBytes) shouldBe expectedEvents
+    (0 until inputBytes.length).foreach { splitPos =>
+      val (chunk1, chunk2) = inputBytes.splitAt(splitPos)
+      (splitPos, decodeChunks(new SseStreamDecoder, Seq(chunk1, chunk2))) shouldBe (splitPos, expectedEvents)
+    }
+  }
+
+  it should "join multiple data: lines split between many chunks" in {
+    val input = s"data: {\"foo\": \"加特林\",\ndata: \"bar\": \"$longString\"}\nretry: 1000\n\n"
+    val expectedEvents = Seq(
+      ServerSentEvent(event = None, data = Some(s"{\"foo\": \"加特林\",\n\"bar\": \"$longString\"}"), id = None, retry = Some(1000))
+    )
+
+    decodeByteByByte(input.getBytes(UTF_8)) shouldBe expectedEvents
+    decodeChunks(new SseStreamDecoder, input.getBytes(UTF_8).grouped(7).toSeq) shouldBe expectedEvents
+  }
+
+  it should "skip a BOM, even when split between chunks" in {
+    val input = "\uFEFFdata: first\n\n".getBytes(UTF_8)
+    val expectedEvents = Seq(ServerSentEvent(event = None, data = Some("first"), id = None, retry = None))
+
+    decodeByteByByte(input) shouldBe expectedEvents
+  }
+
+  it should "ignore retry values that are not made of digits" in {
+    decode("retry: 10s\ndata: first\n\n") shouldBe Seq(ServerSentEvent(event = None, data = Some("first"), id = None, retry = None))
+  }
+
+  it should "only decode fields when they are read" in {
+    val input = "event: first\ndata: value\n\n".getBytes(UTF_8)
+    val buf = Unpooled.wrappedBuffer(input)
     try {
-      val decoder = new SseStreamDecoder
-      decoder.decodeStream(buf)
+      val events = new SseStreamDecoder().decodeStream(buf)
+      // the event still points to the received bytes
+      buf.setByte(input.lastIndexOf('v'.toByte), 'V')
+      events.map(_.data) shouldBe Seq(Some("Value"))
     } finally {
       buf.release()
     }
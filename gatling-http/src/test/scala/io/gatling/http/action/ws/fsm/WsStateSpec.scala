@@ -0,0 +1,186 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.action.ws.fsm
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import scala.collection.mutable
+
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.EmptySession
+import io.gatling.core.Predef._
+import io.gatling.core.action.Action
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.session.Session
+import io.gatling.core.stats.StatsEngine
+import io.gatling.http.Predef._
+import io.gatling.http.action.ws.WsInboundMessage
+import io.gatling.http.check.ws.WsFrameCheck
+import io.gatling.http.client.WebSocket
+import io.gatling.http.protocol.HttpProtocol
+import io.gatling.internal.quicklens._
+
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import io.netty.handler.codec.http.websocketx.{ TextWebSocketFrame, WebSocketFrame }
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+import org.scalatestplus.mockito.MockitoSugar
+
+class WsStateSpec extends AnyFlatSpecLike with Matchers with MockitoSugar with EmptySession {
+  private val configuration = GatlingConfiguration.loadForTest()
+
+  private final class RecordingWebSocket extends WebSocket {
+    val sent: mutable.Buffer[WebSocketFrame] = mutable.Buffer.empty
+
+    override def sendFrame(frame: WebSocketFrame): Unit = sent += frame
+  }
+
+  private final class RecordingAction extends Action {
+    val sessions: mutable.Buffer[Session] = mutable.Buffer.empty
+
+    override def name: String = "next"
+    override def !(session: Session): Unit = sessions += session
+    override protected def execute(session: Session): Unit = sessions += session
+  }
+
+  private def fsm(autoReplyTextFrames: Option[String => Option[String]], unmatchedInboundMessageBufferSize: Int): WsFsm = {
+    val httpProtocol = HttpProtocol(configuration)
+      .modify(_.wsPart.autoReplyTextFrames)
+      .setTo(autoReplyTextFrames)
+      .modify(_.wsPart.unmatchedInboundMessageBufferSize)
+      .setTo(unmatchedInboundMessageBufferSize)
+    new WsFsm("ws", null, Nil, None, mock[StatsEngine], null, httpProtocol, null, new DefaultClock, new WsLogger)
+  }
+
+  private def performingCheck(fsm: WsFsm, webSocket: WebSocket, check: WsFrameCheck, next: Action): WsPerformingCheckState =
+    WsPerformingCheckState(
+      fsm,
+      webSocket = webSocket,
+      currentCheck = check,
+      remainingChecks = Nil,
+      checkSequenceStart = 0,
+      remainingCheckSequences = Nil,
+      remainingReconnects = 0,
+      session = emptySession,
+      next = Left(next),
+      actionName = "action",
+      requestMessage = None
+    )
+
+  // frame contents are only borrowed by the fsm, the client releases them right after
+  private def receive(content: ByteBuf)(f: ByteBuf => NextWsState): NextWsState =
+    try {
+      f(content)
+    } finally {
+      content.release()
+    }
+
+  private def text(message: String): ByteBuf = Unpooled.copiedBuffer(message, UTF_8)
+
+  private def binary(bytes: Byte*): ByteBuf = Unpooled.copiedBuffer(bytes.toArray)
+
+  private def sentTexts(webSocket: RecordingWebSocket): Seq[String] =
+    webSocket.sent.collect { case frame: TextWebSocketFrame => frame.text }.toSeq
+
+  private val pingPong: Option[String => Option[String]] = Some(message => if (message == "ping") Some("pong") else None)
+
+  "WsPerformingCheckState" should "pass text frames to the pending text check" in {
+    val next = new RecordingAction
+    val state = performingCheck(fsm(None, 0), new RecordingWebSocket, ws.checkTextMessage("check").check(bodyString.saveAs("text")), next)
+
+    val nextState = receive(text("hello"))(state.onTextFrameReceived(_, 1))
+    nextState.afterStateUpdate()
+
+    nextState.state shouldBe a[WsIdleState]
+    next.sessions.map(_.attributes.get("text")) shouldBe Seq(Some("hello"))
+  }
+
+  it should "pass binary frames to the pending binary check" in {
+    val next = new RecordingAction
+    val state = performingCheck(fsm(None, 0), new RecordingWebSocket, ws.checkBinaryMessage("check").check(bodyBytes.saveAs("bytes")), next)
+
+    val nextState = receive(binary(1, 2, 3))(state.onBinaryFrameReceived(_, 1))
+    nextState.afterStateUpdate()
+
+    nextState.state shouldBe a[WsIdleState]
+    next.sessions.map(_.attributes.get("bytes").map(_.asInstanceOf[Array[Byte]].toSeq)) shouldBe Seq(Some(Seq[Byte](1, 2, 3)))
+  }
+
+  it should "auto reply to text frames instead of passing them to the pending check" in {
+    val webSocket = new RecordingWebSocket
+    val next = new RecordingAction
+    val state = performingCheck(fsm(pingPong, 0), webSocket, ws.checkTextMessage("check").check(bodyString.saveAs("text")), next)
+
+    val nextState = receive(text("ping"))(state.onTextFrameReceived(_, 1))
+    nextState.afterStateUpdate()
+
+    nextState.state should be theSameInstanceAs state
+    next.sessions shouldBe empty
+    sentTexts(webSocket) shouldBe Seq("pong")
+  }
+
+  it should "buffer the frames that don't match the pending check" in {
+    val wsFsm = fsm(None, 10)
+    val next = new RecordingAction
+    val state = performingCheck(wsFsm, new RecordingWebSocket, ws.checkBinaryMessage("check").check(bodyBytes.saveAs("bytes")), next)
+
+    receive(text("hello"))(state.onTextFrameReceived(_, 1)).state should be theSameInstanceAs state
+
+    next.sessions shouldBe empty
+    wsFsm.collectUnmatchedInboundMessages() shouldBe List(WsInboundMessage.Text(1, "hello"))
+  }
+
+  "WsIdleState" should "auto reply to the text frames the function returns a reply for" in {
+    val webSocket = new RecordingWebSocket
+    val state = new WsIdleState(fsm(pingPong, 0), emptySession, webSocket, 0)
+
+    receive(text("ping"))(state.onTextFrameReceived(_, 1))
+    receive(text("other"))(state.onTextFrameReceived(_, 2))
+
+    sentTexts(webSocket) shouldBe Seq("pong")
+  }
+
+  it should "not reply to text frames when auto reply is disabled" in {
+    val webSocket = new RecordingWebSocket
+    val state = new WsIdleState(fsm(None, 0), emptySession, webSocket, 0)
+
+    receive(text("ping"))(state.onTextFrameReceived(_, 1))
+
+    webSocket.sent shouldBe empty
+  }
+
+  it should "buffer the last unmatched frames, copied out of the released frame contents" in {
+    val wsFsm = fsm(None, 2)
+    val state = new WsIdleState(wsFsm, emptySession, new RecordingWebSocket, 0)
+
+    receive(text("a"))(state.onTextFrameReceived(_, 1))
+    receive(binary(1, 2))(state.onBinaryFrameReceived(_, 2))
+    receive(text("c"))(state.onTextFrameReceived(_, 3))
+
+    wsFsm.collectUnmatchedInboundMessages() shouldBe List(WsInboundMessage.Binary(2, Array[Byte](1, 2)), WsInboundMessage.Text(3, "c"))
+  }
+
+  it should "not buffer unmatched frames when the buffer size is 0" in {
+    val wsFsm = fsm(None, 0)
+    val state = new WsIdleState(wsFsm, emptySession, new RecordingWebSocket, 0)
+
+    receive(text("a"))(state.onTextFrameReceived(_, 1))
+    receive(binary(1, 2))(state.onBinaryFrameReceived(_, 2))
+
+    wsFsm.collectUnmatchedInboundMessages() shouldBe empty
+  }
+}
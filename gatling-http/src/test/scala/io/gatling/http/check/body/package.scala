@@ -46,6 +46,7 @@ package object body {
       checksums = null,
       startTimestamp = 0,
       endTimestamp = 0,
-      isHttp2 = false
+      isHttp2 = false,
+      bodyHash = None
     )
 }
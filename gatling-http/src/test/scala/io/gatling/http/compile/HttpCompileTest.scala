@@ -335,6 +335,7 @@ class HttpCompileTest extends Simulation {
     // polling
     .exec(poll.every(10).exec(http("poll").get("/foo")))
     .exec(poll.pollerName("poll").every(10).exec(http("poll").get("/foo")))
+    .exec(poll.every(10).jitter(500.milliseconds).exec(http("poll").get("/foo")))
     .exec(poll.pollerName("poll").stop)
     .exec(poll.stop)
     // rendezVous
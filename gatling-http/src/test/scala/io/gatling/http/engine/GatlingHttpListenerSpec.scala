@@ -0,0 +1,132 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.engine
+
+import java.nio.charset.StandardCharsets.UTF_8
+
+import io.gatling.commons.util.DefaultClock
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.http.engine.response.ResponseProcessor
+import io.gatling.http.engine.tx.{ HttpTx, ResourceTx }
+import io.gatling.http.protocol.HttpProtocol
+import io.gatling.http.request.{ HttpRequest, HttpRequestConfig }
+import io.gatling.http.response.{ HttpResult, Response }
+import io.gatling.internal.quicklens._
+
+import io.netty.buffer.UnpooledByteBufAllocator
+import io.netty.handler.codec.http.{ DefaultHttpHeaders, HttpHeaderNames, HttpHeaders, HttpHeaderValues, HttpResponseStatus }
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+object GatlingHttpListenerSpec {
+  private final case class Served(peakDirectMemory: Long, remainingDirectMemory: Long, response: Response)
+}
+
+class GatlingHttpListenerSpec extends AnyFlatSpecLike with Matchers {
+  import GatlingHttpListenerSpec._
+
+  private implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
+
+  private val BodyLength = 50 * 1024 * 1024
+  private val ChunkSize = 64 * 1024
+
+  private val configBase = HttpRequestConfig(
+    checks = Nil,
+    responseTransformer = None,
+    throttled = false,
+    silent = None,
+    followRedirect = true,
+    checksumAlgorithms = Nil,
+    storeBodyParts = false,
+    defaultCharset = UTF_8,
+    explicitResources = Nil,
+    httpProtocol = HttpProtocol(configuration)
+  )
+
+  private val html = new DefaultHttpHeaders().add(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.TEXT_HTML)
+
+  /**
+   * Stand-in for a server sending a 50MB body: chunks are released once the listener has processed them, like the client does.
+   */
+  private def serve(requestConfig: HttpRequestConfig, status: HttpResponseStatus, headers: HttpHeaders, root: Boolean): Served = {
+    val allocator = new UnpooledByteBufAllocator(true)
+    var peakDirectMemory = 0L
+    var result: HttpResult = null
+
+    val responseProcessor = new ResponseProcessor {
+      override def onComplete(result0: HttpResult): Unit = {
+        // checks run here, this is where the retained body is at its largest
+        peakDirectMemory = math.max(peakDirectMemory, allocator.metric.usedDirectMemory)
+        result = result0
+      }
+    }
+
+    val tx = HttpTx(
+      null,
+      request = HttpRequest("request", null, requestConfig),
+      next = null,
+      resourceTx = if (root) None else Some(ResourceTx(null, "resource", null)),
+      redirectCount = 0
+    )
+
+    val listener = new GatlingHttpListener(tx, new DefaultClock, responseProcessor)
+    listener.onSend()
+    listener.onHttpResponse(status, headers)
+
+    var remaining = BodyLength
+    while (remaining > 0) {
+      val chunk = allocator.directBuffer(ChunkSize)
+      chunk.writerIndex(ChunkSize)
+      remaining -= ChunkSize
+      listener.onHttpResponseBodyChunk(chunk, remaining == 0)
+      peakDirectMemory = math.max(peakDirectMemory, allocator.metric.usedDirectMemory)
+      chunk.release()
+    }
+
+    result match {
+      case response: Response => Served(peakDirectMemory, allocator.metric.usedDirectMemory, response)
+      case other              => fail(s"Expected a Response, got $other")
+    }
+  }
+
+  "GatlingHttpListener" should "not retain the body when no check needs it" in {
+    val retained = serve(configBase.copy(storeBodyParts = true), HttpResponseStatus.OK, new DefaultHttpHeaders, root = true)
+    val released = serve(configBase, HttpResponseStatus.OK, new DefaultHttpHeaders, root = true)
+
+    retained.peakDirectMemory shouldBe >=(BodyLength.toLong)
+    released.peakDirectMemory shouldBe <=(ChunkSize.toLong)
+    released.response.body.length shouldBe BodyLength
+    retained.remainingDirectMemory shouldBe 0
+    released.remainingDirectMemory shouldBe 0
+  }
+
+  it should "not retain the body of a redirect that will be followed" in {
+    val redirect = new DefaultHttpHeaders().add(HttpHeaderNames.LOCATION, "/other")
+    val served = serve(configBase.copy(storeBodyParts = true), HttpResponseStatus.FOUND, redirect, root = true)
+
+    served.peakDirectMemory shouldBe <=(ChunkSize.toLong)
+    served.response.body.length shouldBe BodyLength
+  }
+
+  it should "only retain the HTML body of a main request when inferring resources from a 200 response" in {
+    val inferringConfig = configBase.modify(_.httpProtocol.responsePart.inferHtmlResources).setTo(true)
+
+    serve(inferringConfig, HttpResponseStatus.OK, html, root = true).peakDirectMemory shouldBe >=(BodyLength.toLong)
+    serve(inferringConfig, HttpResponseStatus.NOT_FOUND, html, root = true).peakDirectMemory shouldBe <=(ChunkSize.toLong)
+    serve(inferringConfig, HttpResponseStatus.OK, html, root = false).peakDirectMemory shouldBe <=(ChunkSize.toLong)
+  }
+}
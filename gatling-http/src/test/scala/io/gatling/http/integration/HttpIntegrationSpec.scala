@@ -18,6 +18,8 @@ package io.gatling.http.integration
 
 import java.nio.charset.StandardCharsets
 
+import scala.concurrent.duration._
+
 import io.gatling.core.CoreDsl
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.http.{ HttpDsl, HttpSpec }
@@ -123,4 +125,44 @@ class HttpIntegrationSpec extends HttpSpec with CoreDsl with HttpDsl {
       verifyRequestTo("/resourceTest/bad_resource.png", 0)
     }
   }
+
+  it should "only parse identical pages without Last-Modified nor ETag once when inferring resources" in {
+    val page = """<html><head><link rel="stylesheet" href="/resourceTest/stylesheet.css"></head>
+                 |<body><img src="/resourceTest/img.png"><script src="/resourceTest/script.js"></script></body></html>""".stripMargin
+
+    val handler: Handler = {
+      case HttpRequest(HttpMethod.GET, "/dynamic") =>
+        val bytes = page.getBytes(StandardCharsets.UTF_8)
+        val response = new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.wrappedBuffer(bytes))
+        response
+          .headers()
+          .set(NettyHttpHeaderName.CONTENT_TYPE, "text/html; charset=utf-8")
+          .set(NettyHttpHeaderName.CONTENT_LENGTH, bytes.length)
+
+        ctx => ctx.channel.writeAndFlush(response).addListener(ChannelFutureListener.CLOSE)
+
+      case HttpRequest(HttpMethod.GET, path) =>
+        sendFile(path.drop(1)) // Drop leading slash in path
+    }
+
+    runWithHttpServer(handler) { implicit httpServer =>
+      val (session, httpComponents) = runScenarioWithHttpComponents(
+        scenario("Identical dynamic pages")
+          .repeat(3)(
+            exec(http("/dynamic").get("/dynamic"))
+          ),
+        10.seconds,
+        _.inferHtmlResources().disableCaching
+      )
+
+      session.isFailed shouldBe false
+
+      verifyRequestTo("/dynamic", 3)
+      verifyRequestTo("/resourceTest/stylesheet.css", 3)
+      verifyRequestTo("/resourceTest/img.png", 3)
+      verifyRequestTo("/resourceTest/script.js", 3)
+      httpComponents.httpCaches.inferredResourcesContentCacheMissCount shouldBe 1
+      httpComponents.httpCaches.inferredResourcesContentCacheHitCount shouldBe 2
+    }
+  }
 }
@@ -20,6 +20,7 @@ import scala.jdk.CollectionConverters._
 
 import io.gatling.ValidationValues
 import io.gatling.commons.util.DefaultClock
+import io.gatling.commons.validation._
 import io.gatling.core.EmptySession
 import io.gatling.core.Predef._
 import io.gatling.core.config.GatlingConfiguration
@@ -283,6 +284,43 @@ class HttpRequestBuilderSpec extends AnyFlatSpecLike with Matchers with Validati
     )
   }
 
+  "body parts" should "not be stored when no check needs the body" in {
+    httpRequestDef(
+      _.check(status.is(200))
+        .check(header("HEADER").is("VALUE"))
+        .check(bodyLength.gt(0))
+        .check(md5.notNull)
+    ).build(sessionBase)
+      .map(_.requestConfig.storeBodyParts)
+      .succeeded shouldBe false
+  }
+
+  it should "be stored when a check needs the body" in {
+    httpRequestDef(_.check(bodyString.notNull))
+      .build(sessionBase)
+      .map(_.requestConfig.storeBodyParts)
+      .succeeded shouldBe true
+  }
+
+  it should "be stored when a protocol check needs the body" in {
+    httpRequestDef(
+      identity,
+      http(configuration)
+        .baseUrl("https://gatling.io")
+        .check(substring("foo").exists)
+        .build
+    ).build(sessionBase)
+      .map(_.requestConfig.storeBodyParts)
+      .succeeded shouldBe true
+  }
+
+  it should "be stored when there's a response transformer" in {
+    httpRequestDef(_.transformResponse((response, _) => response.success))
+      .build(sessionBase)
+      .map(_.requestConfig.storeBodyParts)
+      .succeeded shouldBe true
+  }
+
   // Not possible to check prior of default over protocol, as only default added value is status
   // and the presence of a status (for same scope priority) remove the default one.
 }
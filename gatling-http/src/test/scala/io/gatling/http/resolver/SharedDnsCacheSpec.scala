@@ -0,0 +1,184 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.resolver
+
+import java.{ util => ju }
+import java.net.{ InetAddress, UnknownHostException }
+
+import scala.concurrent.duration._
+
+import io.gatling.commons.util.Clock
+import io.gatling.http.client.HttpListener
+import io.gatling.http.client.resolver.InetAddressNameResolver
+
+import io.netty.channel.EventLoop
+import io.netty.handler.codec.dns.DnsRecord
+import io.netty.util.concurrent.{ Future, ImmediateEventExecutor, Promise }
+import org.mockito.Mockito.when
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+import org.scalatestplus.mockito.MockitoSugar
+
+object SharedDnsCacheSpec {
+  private final class FakeClock extends Clock {
+    var value: Long = 0
+
+    override def nowMillis: Long = value
+  }
+
+  private val NoAdditionals = Array.empty[DnsRecord]
+  private val Address1 = InetAddress.getByAddress("foo", Array[Byte](10, 0, 0, 1))
+  private val Address2 = InetAddress.getByAddress("foo", Array[Byte](10, 0, 0, 2))
+}
+
+class SharedDnsCacheSpec extends AnyFlatSpecLike with Matchers with MockitoSugar {
+  import SharedDnsCacheSpec._
+
+  private def newCache(minTtl: FiniteDuration = Duration.Zero, maxTtl: FiniteDuration = 1.day, negativeTtl: FiniteDuration = Duration.Zero) = {
+    val clock = new FakeClock
+    (new SharedDnsCache(minTtl, maxTtl, negativeTtl, clock), clock)
+  }
+
+  "SharedDnsCache" should "never return cached values from its write only view" in {
+    val (cache, _) = newCache()
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 60, null)
+    cache.writeOnlyView.get("foo", NoAdditionals) shouldBe null
+    cache.get("foo").addresses should contain only Address1
+  }
+
+  it should "merge records for different addresses" in {
+    val (cache, _) = newCache()
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 60, null)
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address2, 60, null)
+    cache.get("foo").addresses should contain theSameElementsInOrderAs Seq(Address1, Address2)
+  }
+
+  it should "expire entries according to their TTL" in {
+    val (cache, clock) = newCache()
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 60, null)
+    clock.value = 59.seconds.toMillis
+    cache.get("foo") should not be null
+    clock.value = 60.seconds.toMillis
+    cache.get("foo") shouldBe null
+  }
+
+  it should "apply the TTL floor" in {
+    val (cache, clock) = newCache(minTtl = 30.seconds)
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 0, null)
+    clock.value = 29.seconds.toMillis
+    cache.get("foo") should not be null
+  }
+
+  it should "apply the TTL ceiling" in {
+    val (cache, clock) = newCache(maxTtl = 10.seconds)
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 3600, null)
+    clock.value = 10.seconds.toMillis
+    cache.get("foo") shouldBe null
+  }
+
+  it should "not cache failures when negative TTL is zero" in {
+    val (cache, _) = newCache()
+    cache.writeOnlyView.cache("foo", NoAdditionals, new UnknownHostException("foo"), null)
+    cache.get("foo") shouldBe null
+  }
+
+  it should "cache failures for the negative TTL" in {
+    val (cache, clock) = newCache(negativeTtl = 5.seconds)
+    cache.writeOnlyView.cache("foo", NoAdditionals, new UnknownHostException("foo"), null)
+    val entry = cache.get("foo")
+    entry.addresses shouldBe empty
+    entry.cause shouldBe an[UnknownHostException]
+    clock.value = 5.seconds.toMillis
+    cache.get("foo") shouldBe null
+  }
+
+  it should "not let a failed refresh evict live addresses" in {
+    val (cache, _) = newCache(negativeTtl = 5.seconds)
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 60, null)
+    cache.writeOnlyView.cache("foo", NoAdditionals, new UnknownHostException("foo"), null)
+    cache.get("foo").addresses should contain only Address1
+  }
+
+  it should "only start refreshing once an entry is close to expiration, and only once" in {
+    val (cache, clock) = newCache()
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 100, null)
+    cache.tryStartRefresh(cache.get("foo")) shouldBe false
+    clock.value = 80.seconds.toMillis
+    val entry = cache.get("foo")
+    cache.tryStartRefresh(entry) shouldBe true
+    cache.tryStartRefresh(entry) shouldBe false
+    cache.refreshCompleted(entry)
+    cache.tryStartRefresh(entry) shouldBe true
+  }
+
+  it should "replace the entry once refreshed" in {
+    val (cache, clock) = newCache()
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 100, null)
+    clock.value = 80.seconds.toMillis
+    cache.tryStartRefresh(cache.get("foo")) shouldBe true
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 100, null)
+    cache.tryStartRefresh(cache.get("foo")) shouldBe false
+    clock.value = 150.seconds.toMillis
+    cache.get("foo") should not be null
+  }
+
+  it should "count hits, misses, refreshes and resolutions" in {
+    val (cache, clock) = newCache()
+    cache.get("foo")
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 100, null)
+    cache.recordResolution(10)
+    cache.recordResolution(30)
+    cache.get("foo")
+    clock.value = 90.seconds.toMillis
+    cache.tryStartRefresh(cache.get("foo"))
+
+    val stats = cache.stats
+    stats.hits shouldBe 2
+    stats.misses shouldBe 1
+    stats.refreshes shouldBe 1
+    stats.resolutions shouldBe 2
+    stats.meanResolutionTime shouldBe 20
+    stats.maxResolutionTime shouldBe 30
+  }
+
+  "SharedDnsCacheNameResolver" should "refresh again an entry whose successful refresh didn't replace it" in {
+    val (cache, clock) = newCache()
+    cache.writeOnlyView.cache("foo", NoAdditionals, Address1, 100, null)
+
+    var refreshes = 0
+    // succeeds without writing into the cache, like when the records come with additionals
+    val resolver = new InetAddressNameResolver {
+      override def resolveAll(inetHost: String, promise: Promise[ju.List[InetAddress]], listener: HttpListener): Future[ju.List[InetAddress]] = {
+        refreshes += 1
+        promise.setSuccess(ju.Collections.singletonList(Address1))
+      }
+      override def close(): Unit = {}
+    }
+
+    val eventLoop = mock[EventLoop]
+    when(eventLoop.newPromise[ju.List[InetAddress]]()).thenAnswer(_ => ImmediateEventExecutor.INSTANCE.newPromise[ju.List[InetAddress]]())
+    val sharedResolver = new SharedDnsCacheNameResolver(cache, resolver, eventLoop, clock)
+
+    clock.value = 80.seconds.toMillis
+    sharedResolver.resolveAll("foo", ImmediateEventExecutor.INSTANCE.newPromise[ju.List[InetAddress]](), null).getNow should contain only Address1
+    refreshes shouldBe 1
+
+    clock.value = 85.seconds.toMillis
+    sharedResolver.resolveAll("foo", ImmediateEventExecutor.INSTANCE.newPromise[ju.List[InetAddress]](), null).getNow should contain only Address1
+    refreshes shouldBe 2
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.http.response
+
+import java.nio.charset.StandardCharsets.{ ISO_8859_1, UTF_8 }
+
+import scala.io.Source
+
+import io.netty.buffer.{ ByteBuf, Unpooled }
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class ResponseBodySpec extends AnyFlatSpecLike with Matchers {
+  private def composite(parts: Array[Byte]*): ByteBuf = {
+    val buf = Unpooled.compositeBuffer(Int.MaxValue)
+    parts.foreach(part => buf.addComponent(true, Unpooled.wrappedBuffer(part)))
+    buf
+  }
+
+  "ResponseBody" should "be empty when there's no content" in {
+    val body = ResponseBody(0, null, UTF_8)
+    body.string shouldBe empty
+    body.bytes shouldBe empty
+  }
+
+  it should "decode a composite content split in the middle of a multi bytes character" in {
+    val bytes = "héllo wörld".getBytes(UTF_8)
+    val content = composite(bytes.take(2), bytes.slice(2, 8), bytes.drop(8))
+    try {
+      val body = ResponseBody(bytes.length, content, UTF_8)
+      body.string shouldBe "héllo wörld"
+      body.chars shouldBe "héllo wörld".toCharArray
+      body.bytes shouldBe bytes
+      Source.fromInputStream(body.stream, UTF_8.name).mkString shouldBe "héllo wörld"
+    } finally {
+      content.release()
+    }
+  }
+
+  it should "decode chars without decoding the string first" in {
+    val bytes = "héllo wörld".getBytes(UTF_8)
+    val content = composite(bytes.take(2), bytes.drop(2))
+    try {
+      val body = ResponseBody(bytes.length, content, UTF_8)
+      body.chars shouldBe "héllo wörld".toCharArray
+      body.string shouldBe "héllo wörld"
+    } finally {
+      content.release()
+    }
+  }
+
+  it should "decode the content only once for both chars and string" in {
+    val bytes = "héllo wörld".getBytes(UTF_8)
+
+    // the content gets released after the first access, so the other one can only be built from what was already decoded
+    val charsFirstContent = Unpooled.wrappedBuffer(bytes)
+    val charsFirst = ResponseBody(bytes.length, charsFirstContent, UTF_8)
+    charsFirst.chars shouldBe "héllo wörld".toCharArray
+    charsFirstContent.release()
+    charsFirst.string shouldBe "héllo wörld"
+
+    val stringFirstContent = Unpooled.wrappedBuffer(bytes)
+    val stringFirst = ResponseBody(bytes.length, stringFirstContent, UTF_8)
+    stringFirst.string shouldBe "héllo wörld"
+    stringFirstContent.release()
+    stringFirst.chars shouldBe "héllo wörld".toCharArray
+  }
+
+  it should "decode with a non UTF-8 charset" in {
+    val bytes = "héllo".getBytes(ISO_8859_1)
+    val content = composite(bytes.take(2), bytes.drop(2))
+    try {
+      ResponseBody(bytes.length, content, ISO_8859_1).string shouldBe "héllo"
+    } finally {
+      content.release()
+    }
+  }
+
+  it should "not consume the content when reading it" in {
+    val bytes = "foo".getBytes(UTF_8)
+    val content = Unpooled.wrappedBuffer(bytes)
+    try {
+      val body = ResponseBody(bytes.length, content, UTF_8)
+      body.bytes shouldBe bytes
+      body.stream.readAllBytes() shouldBe bytes
+      content.readableBytes shouldBe bytes.length
+    } finally {
+      content.release()
+    }
+  }
+}
@@ -42,4 +42,26 @@ public final class JdbcDsl {
         io.gatling.jdbc.Predef.jdbcFeeder(
             url, username, password, sql, io.gatling.core.Predef.configuration()));
   }
+
+  /**
+   * Boostrap a feeder that read a stock of data from a database, with queue and circular strategies
+   * streaming the records with the given number of rows per database round trip
+   *
+   * @param url the database url
+   * @param username the credentials username
+   * @param password the credentials password
+   * @param sql the SQL query
+   * @param fetchSize the number of rows fetched per database round trip
+   * @return a FeederBuilder
+   */
+  public static @NonNull FeederBuilder<Object> jdbcFeeder(
+      @NonNull String url,
+      @NonNull String username,
+      @NonNull String password,
+      @NonNull String sql,
+      int fetchSize) {
+    return new FeederBuilder.Impl<>(
+        io.gatling.jdbc.Predef.jdbcFeeder(
+            url, username, password, sql, fetchSize, io.gatling.core.Predef.configuration()));
+  }
 }
@@ -17,10 +17,15 @@
 package io.gatling.jdbc
 
 import io.gatling.core.config.GatlingConfiguration
-import io.gatling.core.feeder.{ FeederBuilderBase, InMemoryFeederSource, SourceFeederBuilder }
-import io.gatling.jdbc.feeder.JdbcFeederSource
+import io.gatling.core.feeder.{ FeederBuilderBase, SourceFeederBuilder }
+import io.gatling.jdbc.feeder.{ JdbcFeederSource, JdbcStreamingFeederSource }
 
 object Predef {
   def jdbcFeeder(url: String, username: String, password: String, sql: String)(implicit configuration: GatlingConfiguration): FeederBuilderBase[Any] =
-    SourceFeederBuilder(InMemoryFeederSource(JdbcFeederSource(url, username, password, sql), s"jdbc($sql)"), configuration)
+    jdbcFeeder(url, username, password, sql, JdbcFeederSource.DefaultFetchSize)
+
+  def jdbcFeeder(url: String, username: String, password: String, sql: String, fetchSize: Int)(implicit
+      configuration: GatlingConfiguration
+  ): FeederBuilderBase[Any] =
+    SourceFeederBuilder(new JdbcStreamingFeederSource(url, username, password, sql, fetchSize), configuration)
 }
@@ -16,33 +16,83 @@
 
 package io.gatling.jdbc.feeder
 
-import java.sql.DriverManager
+import java.sql.{ Connection, DriverManager, PreparedStatement, ResultSet }
 import java.sql.ResultSet.{ CONCUR_READ_ONLY, TYPE_FORWARD_ONLY }
 
-import scala.annotation.tailrec
 import scala.util.Using
 
-import io.gatling.core.feeder.Record
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.feeder.{ ArrayBasedMap, Feeder, FeederOptions, FeederSource, FeederStrategy, InMemoryFeeder, Record }
 
 object JdbcFeederSource {
+  val DefaultFetchSize: Int = 1000
+
+  private[feeder] def openConnection(url: String, username: String, password: String): Connection = {
+    val connection = DriverManager.getConnection(url, username, password)
+    // some drivers, eg PostgreSQL, only honor the fetch size and stream with a cursor when not in auto-commit mode
+    connection.setAutoCommit(false)
+    connection.setReadOnly(true)
+    connection
+  }
+
+  private[feeder] def prepareStatement(connection: Connection, sql: String, fetchSize: Int): PreparedStatement = {
+    val preparedStatement = connection.prepareStatement(sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY)
+    preparedStatement.setFetchSize(fetchSize)
+    preparedStatement
+  }
+
+  // labels are shared by all the records of a given result set
+  private[feeder] def columnLabels(resultSet: ResultSet): Array[String] = {
+    val metadata = resultSet.getMetaData
+    Array.tabulate(metadata.getColumnCount)(i => metadata.getColumnLabel(i + 1))
+  }
+
+  private[feeder] def readRecord(resultSet: ResultSet, columnLabels: Array[String]): Record[Any] =
+    ArrayBasedMap(columnLabels, Array.tabulate[Any](columnLabels.length)(i => resultSet.getObject(i + 1)))
+
+  private[feeder] def withResultSet[T](url: String, username: String, password: String, sql: String, fetchSize: Int)(f: ResultSet => T): T =
+    Using.Manager { use =>
+      val connection = use(openConnection(url, username, password))
+      val preparedStatement = use(prepareStatement(connection, sql, fetchSize))
+      f(use(preparedStatement.executeQuery))
+    }.get
+
   def apply(url: String, username: String, password: String, sql: String): Vector[Record[Any]] =
-    Using.resource(DriverManager.getConnection(url, username, password)) { connection =>
-      val preparedStatement = connection.prepareStatement(sql, TYPE_FORWARD_ONLY, CONCUR_READ_ONLY)
-      val resultSet = preparedStatement.executeQuery
-      val metadata = resultSet.getMetaData
-      val columnCount = metadata.getColumnCount
+    withResultSet(url, username, password, sql, DefaultFetchSize) { resultSet =>
+      val labels = columnLabels(resultSet)
+      val records = Vector.newBuilder[Record[Any]]
+      while (resultSet.next) {
+        records += readRecord(resultSet, labels)
+      }
+      records.result()
+    }
+}
 
-      val columnLabels = for (i <- 1 to columnCount) yield metadata.getColumnLabel(i)
+/**
+ * Queue and circular strategies stream the records through a forward-only cursor, see [[StreamingJdbcFeeder]], so the table is never loaded in memory. Random
+ * and shuffle strategies need all the records at hand and load them.
+ */
+private[jdbc] final class JdbcStreamingFeederSource(url: String, username: String, password: String, sql: String, fetchSize: Int) extends FeederSource[Any] {
+  require(fetchSize > 0, s"JDBC feeder fetchSize must be strictly positive, got $fetchSize")
 
-      @SuppressWarnings(Array("org.wartremover.warts.SeqApply"))
-      def computeRecord: Record[Any] =
-        (1 to columnCount).view.map(i => columnLabels(i - 1) -> resultSet.getObject(i)).to(Map)
+  override def feeder(options: FeederOptions[Any], configuration: GatlingConfiguration): Feeder[Any] =
+    options.strategy match {
+      case FeederStrategy.Queue    => StreamingJdbcFeeder(url, username, password, sql, fetchSize, circular = false, options.conversion)
+      case FeederStrategy.Circular => StreamingJdbcFeeder(url, username, password, sql, fetchSize, circular = true, options.conversion)
+      case strategy =>
+        val records = JdbcFeederSource(url, username, password, sql)
+        require(records.nonEmpty, "Feeder must not be empty")
+        InMemoryFeeder(records, options.conversion, strategy)
+    }
 
-      @tailrec
-      def loadRec(records: Vector[Record[Any]]): Vector[Record[Any]] =
-        if (!resultSet.next) records
-        else loadRec(records :+ computeRecord)
+  override def name: String = s"jdbc($sql)"
 
-      loadRec(Vector.empty)
+  override def recordsCount(options: FeederOptions[Any], configuration: GatlingConfiguration): Int =
+    JdbcFeederSource.withResultSet(url, username, password, sql, fetchSize) { resultSet =>
+      var count = 0
+      while (resultSet.next) {
+        count += 1
+      }
+      count
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.feeder
+
+import java.util.concurrent.ArrayBlockingQueue
+
+import scala.util.Using
+import scala.util.control.NonFatal
+
+import io.gatling.core.feeder.{ CloseableFeeder, Record }
+
+private[feeder] object StreamingJdbcFeeder {
+  private case object End
+  private final case class ReadFailure(e: Throwable)
+
+  def apply(
+      url: String,
+      username: String,
+      password: String,
+      sql: String,
+      fetchSize: Int,
+      circular: Boolean,
+      conversion: Option[Record[Any] => Record[Any]]
+  ): CloseableFeeder[Any] = {
+    val feeder = new StreamingJdbcFeeder(url, username, password, sql, fetchSize, circular)
+    try {
+      require(feeder.hasNext, "Feeder must not be empty")
+    } catch {
+      case NonFatal(e) =>
+        feeder.close()
+        throw e
+    }
+
+    conversion match {
+      case Some(f) =>
+        new CloseableFeeder[Any] {
+          override def hasNext: Boolean = feeder.hasNext
+          override def next(): Record[Any] = f(feeder.next())
+          override def close(): Unit = feeder.close()
+        }
+      case _ => feeder
+    }
+  }
+}
+
+/**
+ * Reads the result set on a dedicated thread, so the virtual users don't wait on the database round trips, into a buffer bounded to one fetch. In circular
+ * mode, the query is executed again once the result set is exhausted.
+ */
+private final class StreamingJdbcFeeder(url: String, username: String, password: String, sql: String, fetchSize: Int, circular: Boolean)
+    extends CloseableFeeder[Any] {
+  import StreamingJdbcFeeder._
+
+  private val buffer = new ArrayBlockingQueue[AnyRef](fetchSize)
+  @volatile private var closed = false
+  private var nextRecord: Record[Any] = _
+  private var ended = false
+
+  private val reader = new Thread(() => read(), "gatling-jdbc-feeder")
+  reader.setDaemon(true)
+  reader.start()
+
+  private def readResultSet(connection: java.sql.Connection): Int =
+    Using.Manager { use =>
+      val resultSet = use(use(JdbcFeederSource.prepareStatement(connection, sql, fetchSize)).executeQuery)
+      val columnLabels = JdbcFeederSource.columnLabels(resultSet)
+      var count = 0
+      while (!closed && resultSet.next) {
+        buffer.put(JdbcFeederSource.readRecord(resultSet, columnLabels))
+        count += 1
+      }
+      count
+    }.get
+
+  private def read(): Unit =
+    try {
+      Using.resource(JdbcFeederSource.openConnection(url, username, password)) { connection =>
+        // an empty pass stops the loop so an empty table doesn't spin in circular mode
+        while (readResultSet(connection) > 0 && circular && !closed) {
+          connection.commit()
+        }
+      }
+      buffer.put(End)
+    } catch {
+      case _: InterruptedException => // closed
+      case NonFatal(e) =>
+        if (!closed) {
+          buffer.put(ReadFailure(e))
+        }
+    }
+
+  override def hasNext: Boolean = {
+    if (nextRecord == null && !ended) {
+      buffer.take() match {
+        case End =>
+          ended = true
+        case ReadFailure(e) =>
+          ended = true
+          throw e
+        case record =>
+          nextRecord = record.asInstanceOf[Record[Any]]
+      }
+    }
+    nextRecord != null
+  }
+
+  override def next(): Record[Any] =
+    if (hasNext) {
+      val record = nextRecord
+      nextRecord = null
+      record
+    } else {
+      throw new NoSuchElementException(s"JDBC feeder for query $sql is exhausted")
+    }
+
+  override def close(): Unit = {
+    closed = true
+    reader.interrupt()
+  }
+}
@@ -32,4 +32,5 @@ and id not in (select usr_id from usr_role where role_id='ROLE_ADMIN')
 and (select count(*) from usr_account where usr_id=id) >=2"""
   )
 
+  private val streamed = jdbcFeeder("jdbc:postgresql:gatling", "gatling", "gatling", "select login from usr", fetchSize = 500).circular
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jdbc.feeder
+
+import io.gatling.core.config.GatlingConfiguration
+import io.gatling.core.feeder.CloseableFeeder
+import io.gatling.jdbc.JdbcSpec
+import io.gatling.jdbc.Predef._
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class JdbcStreamingFeederSourceSpec extends AnyFlatSpecLike with Matchers with JdbcSpec {
+  private implicit val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
+
+  private val Customers = List(
+    Map("USER_ID" -> 1, "FIRST_NAME" -> "Foo", "LAST_NAME" -> "Bar"),
+    Map("USER_ID" -> 2, "FIRST_NAME" -> "Toto", "LAST_NAME" -> "Titi")
+  )
+
+  "jdbcFeeder" should "stream records in queue mode" in withDatabase("streaming-queue", "feeder.sql") { url =>
+    jdbcFeeder(url, Username, Password, "SELECT * FROM CUSTOMERS ORDER BY USER_ID").queue.apply().toList shouldBe Customers
+  }
+
+  it should "stream more records than the fetch size" in withDatabase("streaming-large", "feeder.sql") { url =>
+    val feeder = jdbcFeeder(url, Username, Password, "SELECT X FROM SYSTEM_RANGE(1, 10000)", fetchSize = 100).apply()
+
+    feeder.map(_("X")).toList shouldBe (1L to 10000L).toList
+  }
+
+  it should "restart from the first record in circular mode" in withDatabase("streaming-circular", "feeder.sql") { url =>
+    val feeder = jdbcFeeder(url, Username, Password, "SELECT * FROM CUSTOMERS ORDER BY USER_ID", fetchSize = 1).circular.apply()
+
+    feeder.take(5).toList shouldBe Customers ++ Customers ++ Customers.take(1)
+    feeder.asInstanceOf[CloseableFeeder[Any]].close()
+  }
+
+  it should "apply transformations to streamed records" in withDatabase("streaming-transform", "feeder.sql") { url =>
+    val feeder = jdbcFeeder(url, Username, Password, "SELECT * FROM CUSTOMERS ORDER BY USER_ID")
+      .transform { case ("FIRST_NAME", name: String) => name.toUpperCase }
+      .apply()
+
+    feeder.map(_("FIRST_NAME")).toList shouldBe List("FOO", "TOTO")
+  }
+
+  it should "load records for the random strategy" in withDatabase("streaming-random", "feeder.sql") { url =>
+    val records = jdbcFeeder(url, Username, Password, "SELECT * FROM CUSTOMERS").random.apply().take(10).toList
+
+    records should have size 10
+    all(records) should (be(Customers.head) or be(Customers(1)))
+  }
+
+  it should "load records for the shuffle strategy" in withDatabase("streaming-shuffle", "feeder.sql") { url =>
+    jdbcFeeder(url, Username, Password, "SELECT * FROM CUSTOMERS").shuffle.apply().toList should contain theSameElementsAs Customers
+  }
+
+  it should "count records without loading them" in withDatabase("streaming-count", "feeder.sql") { url =>
+    jdbcFeeder(url, Username, Password, "SELECT X FROM SYSTEM_RANGE(1, 1234)", fetchSize = 10).recordsCount shouldBe 1234
+  }
+
+  it should "fail when the query returns no record" in withDatabase("streaming-empty", "feeder.sql") { url =>
+    an[IllegalArgumentException] should be thrownBy jdbcFeeder(url, Username, Password, "SELECT * FROM CUSTOMERS WHERE USER_ID < 0").circular.apply()
+  }
+
+  it should "propagate query failures" in withDatabase("streaming-failure", "feeder.sql") { url =>
+    a[java.sql.SQLException] should be thrownBy jdbcFeeder(url, Username, Password, "SELECT * FROM UNKNOWN_TABLE").apply()
+  }
+}
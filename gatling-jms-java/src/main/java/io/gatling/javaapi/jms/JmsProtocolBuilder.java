@@ -160,4 +160,28 @@ public final class JmsProtocolBuilder implements ProtocolBuilder {
   public @NonNull JmsProtocolBuilder listenerThreadCount(int threadCount) {
     return new JmsProtocolBuilder(wrapped.listenerThreadCount(threadCount));
   }
+
+  /**
+   * Send messages from dedicated threads, so the virtual users' threads don't block on the broker.
+   * At most maxInFlightPerDestination messages are being sent to a given destination, the extra
+   * ones are queued.
+   *
+   * @param senderThreadCount the number of sender threads
+   * @param maxInFlightPerDestination the maximum number of in-flight messages per destination
+   * @return a new instance
+   */
+  public @NonNull JmsProtocolBuilder useAsyncSend(
+      int senderThreadCount, int maxInFlightPerDestination) {
+    return new JmsProtocolBuilder(
+        wrapped.useAsyncSend(senderThreadCount, maxInFlightPerDestination));
+  }
+
+  /**
+   * Send messages synchronously, the default
+   *
+   * @return a new instance
+   */
+  public @NonNull JmsProtocolBuilder useSyncSend() {
+    return new JmsProtocolBuilder(wrapped.useSyncSend());
+  }
 }
@@ -27,14 +27,13 @@ import io.gatling.core.check.jmespath.JmesPathCheckType
 import io.gatling.core.check.jsonpath.JsonPathCheckType
 import io.gatling.core.check.string.BodyStringCheckType
 import io.gatling.core.check.substring.SubstringCheckType
-import io.gatling.core.check.xpath.XPathCheckType
+import io.gatling.core.check.xpath.{ XPathCheckType, XmlDocument }
 import io.gatling.javaapi.core.internal.CoreCheckType
 import io.gatling.jms.{ JmsCheck, Predef => JmsPredef }
 import io.gatling.jms.check.JmsPropertyCheckType
 
 import com.fasterxml.jackson.databind.JsonNode
 import jakarta.jms.Message
-import net.sf.saxon.s9api.XdmNode
 
 object JmsChecks {
   private def toScalaCheck(javaCheck: io.gatling.javaapi.core.CheckBuilder): JmsCheck = {
@@ -48,7 +47,7 @@ object JmsChecks {
         scalaCheck.asInstanceOf[CheckBuilder[BodyStringCheckType, String]].build(JmsPredef.jmsBodyStringCheckMaterializer(CorePredef.configuration))
       case CoreCheckType.Substring =>
         scalaCheck.asInstanceOf[CheckBuilder[SubstringCheckType, String]].build(JmsPredef.jmsSubstringCheckMaterializer(CorePredef.configuration))
-      case CoreCheckType.XPath => scalaCheck.asInstanceOf[CheckBuilder[XPathCheckType, XdmNode]].build(JmsPredef.jmsXPathMaterializer)
+      case CoreCheckType.XPath => scalaCheck.asInstanceOf[CheckBuilder[XPathCheckType, XmlDocument]].build(JmsPredef.jmsXPathMaterializer)
       case CoreCheckType.JsonPath =>
         scalaCheck
           .asInstanceOf[CheckBuilder[JsonPathCheckType, JsonNode]]
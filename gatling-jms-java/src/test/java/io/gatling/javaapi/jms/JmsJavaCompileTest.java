@@ -62,7 +62,9 @@ public class JmsJavaCompileTest extends Simulation {
           .replyTimeout(1)
           .messageMatcher(HEADER_MATCHER)
           .matchByCorrelationId()
-          .matchByMessageId();
+          .matchByMessageId()
+          .useAsyncSend(4, 100)
+          .useSyncSend();
 
   private ScenarioBuilder scn =
       scenario("scn")
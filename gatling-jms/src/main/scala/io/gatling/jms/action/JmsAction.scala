@@ -16,19 +16,21 @@
 
 package io.gatling.jms.action
 
+import scala.util.control.NonFatal
+
 import io.gatling.commons.validation._
 import io.gatling.core.action.RequestAction
 import io.gatling.core.actor.ActorRef
 import io.gatling.core.controller.throttle.Throttler
 import io.gatling.core.session._
 import io.gatling.core.util.NameGen
-import io.gatling.jms.client.{ JmsConnection, JmsConnectionPool, JmsProducer }
+import io.gatling.jms.client.{ JmsConnection, JmsConnectionPool, JmsProducer, JmsSendLimiter, JmsSenderPool }
 import io.gatling.jms.protocol.JmsProtocol
 import io.gatling.jms.request._
 
-import jakarta.jms.Message
+import jakarta.jms.{ Destination, Message }
 
-final class Around(before: () => Unit, after: () => Unit) {
+final class Around(val before: () => Unit, val after: () => Unit, val failed: Throwable => Unit) {
   def apply(f: => Any): Unit = {
     before()
     f
@@ -62,11 +64,47 @@ abstract class JmsAction(
         jmsType.foreach(message.setJMSType)
       }
       around <- aroundSend(reqName, session, message)
-    } yield throttler match {
-      case Some(th) => th ! Throttler.Command.ThrottledRequest(session.scenario, () => around(producer.send(message)))
-      case _        => around(producer.send(message))
+    } yield {
+      val send: () => Unit =
+        protocol.asyncSend match {
+          case Some(asyncSend) =>
+            val limiter = jmsConnection.sendLimiter(resolvedJmsDestination, asyncSend.maxInFlightPerDestination)
+            val senderPool = jmsConnection.senderPool(asyncSend.senderThreadCount)
+            () => sendAsync(session, resolvedJmsDestination, message, around, limiter, senderPool)
+          case _ =>
+            () => around(producer.send(message))
+        }
+
+      throttler match {
+        case Some(th) => th ! Throttler.Command.ThrottledRequest(session.scenario, send)
+        case _        => send()
+      }
     }
 
+  // the send is performed on a sender thread with its own producer, then the virtual user is resumed on its event loop
+  private def sendAsync(
+      session: Session,
+      destination: Destination,
+      message: Message,
+      around: Around,
+      limiter: JmsSendLimiter,
+      senderPool: JmsSenderPool
+  ): Unit = {
+    around.before()
+    limiter.submit { () =>
+      senderPool.execute { () =>
+        try {
+          jmsConnection.producer(destination, protocol.deliveryMode).producer.send(message)
+          session.eventLoop.execute(() => around.after())
+        } catch {
+          case NonFatal(e) => session.eventLoop.execute(() => around.failed(e))
+        } finally {
+          limiter.release()
+        }
+      }
+    }
+  }
+
   private def resolveProperties(
       properties: Map[Expression[String], Expression[Any]],
       session: Session
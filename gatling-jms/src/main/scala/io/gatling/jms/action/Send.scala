@@ -16,8 +16,9 @@
 
 package io.gatling.jms.action
 
-import io.gatling.commons.stats.OK
+import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.commons.util.Clock
+import io.gatling.commons.util.Throwables._
 import io.gatling.commons.validation._
 import io.gatling.core.action._
 import io.gatling.core.actor.ActorRef
@@ -48,7 +49,8 @@ final class Send(
 
   override protected def aroundSend(requestName: String, session: Session, message: Message): Validation[Around] =
     new Around(
-      before = () => {
+      before = () => (),
+      after = () => {
         if (logger.underlying.isDebugEnabled) {
           logMessage(s"Message sent JMSMessageID=${message.getJMSMessageID}", message)
         }
@@ -57,6 +59,10 @@ final class Send(
         statsEngine.logResponse(session.scenario, session.groups, requestName, now, now, OK, None, None)
         next ! session
       },
-      after = () => ()
+      failed = e => {
+        val now = clock.nowMillis
+        statsEngine.logResponse(session.scenario, session.groups, requestName, now, now, KO, None, Some(e.detailedMessage))
+        next ! session.markAsFailed
+      }
     ).success
 }
@@ -26,14 +26,13 @@ import io.gatling.core.check.jmespath.JmesPathCheckType
 import io.gatling.core.check.jsonpath.JsonPathCheckType
 import io.gatling.core.check.string.BodyStringCheckType
 import io.gatling.core.check.substring.SubstringCheckType
-import io.gatling.core.check.xpath.{ XPathCheckType, XmlParsers }
+import io.gatling.core.check.xpath.{ XPathCheckType, XmlDocument }
 import io.gatling.core.json.JsonParsers
 import io.gatling.jms.JmsCheck
 import io.gatling.jms.client.CachingMessage
 
 import com.fasterxml.jackson.databind.JsonNode
 import jakarta.jms.{ BytesMessage, Message, TextMessage }
-import net.sf.saxon.s9api.XdmNode
 
 final class JmsCheckMaterializer[T, P](override val preparer: Preparer[Message, P]) extends CheckMaterializer[T, JmsCheck, Message, P](identity)
 
@@ -87,14 +86,15 @@ object JmsCheckMaterializer {
   def jsonPath(jsonParsers: JsonParsers): CheckMaterializer[JsonPathCheckType, JmsCheck, Message, JsonNode] =
     new JmsCheckMaterializer(jsonPreparer(jsonParsers))
 
-  val Xpath: CheckMaterializer[XPathCheckType, JmsCheck, Message, XdmNode] = {
+  val Xpath: CheckMaterializer[XPathCheckType, JmsCheck, Message, XmlDocument] = {
     val errorMapper: String => String = "Could not parse response into a DOM Document: " + _
 
-    val preparer: Preparer[Message, XdmNode] =
+    // parsed on demand, parse errors are reported with the same message by the extractors
+    val preparer: Preparer[Message, XmlDocument] =
       message =>
         safely(errorMapper) {
           message match {
-            case tm: TextMessage => XmlParsers.parse(tm.getText).success
+            case tm: TextMessage => XmlDocument(tm.getText).success
             case _               => "Unsupported message type".failure
           }
         }
@@ -34,7 +34,6 @@ import io.gatling.jms.JmsCheck
 
 import com.fasterxml.jackson.databind.JsonNode
 import jakarta.jms.Message
-import net.sf.saxon.s9api.XdmNode
 
 trait JmsCheckSupport {
   def simpleCheck(f: Message => Boolean): JmsCheck =
@@ -89,7 +88,7 @@ trait JmsCheckSupport {
   ): CheckMaterializer[SubstringCheckType, JmsCheck, Message, String] =
     JmsCheckMaterializer.substring(configuration.core.charset)
 
-  implicit val jmsXPathMaterializer: CheckMaterializer[XPathCheckType, JmsCheck, Message, XdmNode] =
+  implicit val jmsXPathMaterializer: CheckMaterializer[XPathCheckType, JmsCheck, Message, XmlDocument] =
     JmsCheckMaterializer.Xpath
 
   implicit def jmsJsonPathCheckMaterializer(implicit
@@ -20,7 +20,7 @@ import java.util.concurrent.ConcurrentHashMap
 
 import io.gatling.commons.model.Credentials
 import io.gatling.commons.util.Clock
-import io.gatling.core.actor.{ ActorRef, ActorSystem }
+import io.gatling.core.actor.ActorSystem
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session._
 import io.gatling.core.stats.StatsEngine
@@ -57,12 +57,23 @@ final class JmsConnection(
   def producer(destination: Destination, deliveryMode: Int): JmsProducer =
     producerPool.producer(destination, deliveryMode)
 
+  private val senderPools = new ConcurrentHashMap[Int, JmsSenderPool]
+
+  def senderPool(threadCount: Int): JmsSenderPool =
+    senderPools.computeIfAbsent(threadCount, new JmsSenderPool(_))
+
+  private val sendLimiters = new ConcurrentHashMap[SendLimiterKey, JmsSendLimiter]
+
+  def sendLimiter(destination: Destination, maxInFlight: Int): JmsSendLimiter =
+    sendLimiters.computeIfAbsent(SendLimiterKey(destination, maxInFlight), key => new JmsSendLimiter(key.maxInFlight))
+
   private val trackerPool = new JmsTrackerPool(sessionPool, system, statsEngine, clock, configuration)
 
-  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): ActorRef[JmsTracker.Command] =
+  def tracker(destination: Destination, selector: Option[String], listenerThreadCount: Int, messageMatcher: JmsMessageMatcher): ShardedJmsTracker =
     trackerPool.tracker(destination, selector, listenerThreadCount, messageMatcher)
 
   def close(): Unit = {
+    senderPools.values.forEach(_.close())
     producerPool.close()
     sessionPool.close()
     connection.close()
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+
+import jakarta.jms.Destination
+
+private[client] final case class SendLimiterKey(destination: Destination, maxInFlight: Int)
+
+/**
+ * Bounds the number of in-flight asynchronous sends for a given destination.
+ *
+ * Sends that can't be submitted immediately are queued and submitted by the thread releasing a permit.
+ */
+final class JmsSendLimiter(maxInFlight: Int) {
+  private val inFlight = new AtomicInteger
+  private val pending = new ConcurrentLinkedQueue[Runnable]
+
+  private def tryAcquire(): Boolean = {
+    var current = inFlight.get
+    while (current < maxInFlight) {
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true
+      }
+      current = inFlight.get
+    }
+    false
+  }
+
+  def submit(send: Runnable): Unit =
+    if (pending.isEmpty && tryAcquire()) {
+      send.run()
+    } else {
+      pending.offer(send)
+      drain()
+    }
+
+  def release(): Unit = {
+    inFlight.decrementAndGet()
+    drain()
+  }
+
+  private def drain(): Unit =
+    while (!pending.isEmpty && tryAcquire()) {
+      val task = pending.poll()
+      if (task == null) {
+        // raced with another drainer
+        inFlight.decrementAndGet()
+      } else {
+        task.run()
+      }
+    }
+
+  def inFlightCount: Int = inFlight.get
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import java.util.concurrent.{ ExecutorService, Executors, ThreadFactory }
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * Dedicated threads for asynchronous sends, so that blocking on the broker doesn't stall the virtual users' event loops.
+ *
+ * As JMS sessions and producers are pinned per thread, each sender thread gets its own.
+ */
+final class JmsSenderPool(threadCount: Int) {
+  private val executor: ExecutorService = {
+    val threadFactory: ThreadFactory = {
+      val counter = new AtomicInteger
+      runnable => {
+        val thread = new Thread(runnable, s"gatling-jms-sender-${counter.incrementAndGet()}")
+        thread.setDaemon(true)
+        thread
+      }
+    }
+    Executors.newFixedThreadPool(threadCount, threadFactory)
+  }
+
+  def execute(send: Runnable): Unit = executor.execute(send)
+
+  def close(): Unit = executor.shutdownNow()
+}
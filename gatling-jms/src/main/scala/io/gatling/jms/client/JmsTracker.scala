@@ -16,6 +16,8 @@
 
 package io.gatling.jms.client
 
+import java.{ util => ju }
+
 import scala.collection.mutable
 import scala.concurrent.duration._
 
@@ -39,6 +41,11 @@ object JmsTracker {
   sealed trait Command
 
   object Command {
+    // commands that relate to a given message, used for routing to the shard in charge
+    sealed trait MatchIdCommand extends Command {
+      def matchId: String
+    }
+
     final case class MessageSent(
         matchId: String,
         sent: Long,
@@ -47,13 +54,21 @@ object JmsTracker {
         session: Session,
         next: Action,
         requestName: String
-    ) extends Command
+    ) extends MatchIdCommand {
+      private[JmsTracker] def deadline: Long = sent + replyTimeoutInMs
+    }
 
     final case class MessageReceived(
         matchId: String,
         received: Long,
         message: Message
-    ) extends Command
+    ) extends MatchIdCommand
+
+    final case class SendFailed(
+        matchId: String,
+        failed: Long,
+        errorMessage: String
+    ) extends MatchIdCommand
 
     case object TimeoutScan extends Command
   }
@@ -61,6 +76,9 @@ object JmsTracker {
 
 /**
  * Bookkeeping actor to correlate request and response JMS messages Once a message is correlated, it publishes to the Gatling core DataWriter
+ *
+ * Messages with a reply timeout are also stored in a queue per timeout value. The timeout being fixed, each queue is ordered by deadline, so timeout scans
+ * only visit expired messages. Entries are removed from their queue as soon as the reply is received or the send fails.
  */
 private final class JmsTracker private (actorName: String, statsEngine: StatsEngine, clock: Clock, replyTimeoutScanPeriod: FiniteDuration)
     extends Actor[JmsTracker.Command](actorName) {
@@ -68,7 +86,8 @@ private final class JmsTracker private (actorName: String, statsEngine: StatsEng
   import JmsTracker.Command._
 
   private val sentMessages = mutable.HashMap.empty[String, MessageSent]
-  private val timedOutMessages = mutable.ArrayBuffer.empty[MessageSent]
+  // insertion ordered so the head is the next message to time out, keyed by matchId so replied messages can be dropped
+  private val pendingTimeouts = mutable.HashMap.empty[Long, ju.LinkedHashMap[String, MessageSent]]
   private var periodicTimeoutScanTriggered = false
 
   private def triggerPeriodicTimeoutScan(): Unit =
@@ -79,11 +98,18 @@ private final class JmsTracker private (actorName: String, statsEngine: StatsEng
       }
     }
 
+  private def cancelTimeout(messageSent: MessageSent): Unit =
+    if (messageSent.replyTimeoutInMs > 0) {
+      pendingTimeouts.get(messageSent.replyTimeoutInMs).foreach(_.remove(messageSent.matchId))
+    }
+
   override def init(): Behavior[JmsTracker.Command] = {
     // message was sent; add the timestamps to the map
     case messageSent: MessageSent =>
-      sentMessages += messageSent.matchId -> messageSent
+      // matchId reused while the former message is still pending: the former one is dropped
+      sentMessages.put(messageSent.matchId, messageSent).foreach(cancelTimeout)
       if (messageSent.replyTimeoutInMs > 0) {
+        pendingTimeouts.getOrElseUpdate(messageSent.replyTimeoutInMs, new ju.LinkedHashMap).put(messageSent.matchId, messageSent)
         triggerPeriodicTimeoutScan()
       }
       stay
@@ -91,25 +117,37 @@ private final class JmsTracker private (actorName: String, statsEngine: StatsEng
     // message was received; publish stats and remove from the hashmap
     case MessageReceived(matchId, received, message) =>
       // if key is missing, message was already acked and is a dup, or request timedout
-      sentMessages.remove(matchId).foreach { case MessageSent(_, sent, _, checks, session, next, requestName) =>
-        processMessage(session, sent, received, checks, message, next, requestName)
+      sentMessages.remove(matchId).foreach { messageSent =>
+        cancelTimeout(messageSent)
+        processMessage(messageSent.session, messageSent.sent, received, messageSent.checks, message, messageSent.next, messageSent.requestName)
+      }
+      stay
+
+    // asynchronous send failed, no reply will ever come
+    case SendFailed(matchId, failed, errorMessage) =>
+      sentMessages.remove(matchId).foreach { messageSent =>
+        cancelTimeout(messageSent)
+        executeNext(messageSent.session.markAsFailed, messageSent.sent, failed, KO, messageSent.next, messageSent.requestName, Some(errorMessage))
       }
       stay
 
     case TimeoutScan =>
       val now = clock.nowMillis
-      sentMessages.valuesIterator.foreach { message =>
-        val replyTimeoutInMs = message.replyTimeoutInMs
-        if (replyTimeoutInMs > 0 && (now - message.sent) > replyTimeoutInMs) {
-          timedOutMessages += message
+      pendingTimeouts.values.foreach { pending =>
+        val it = pending.values.iterator
+        var expired = true
+        // messages sent from different threads might be slightly out of order, a late one is caught by the next scan
+        while (expired && it.hasNext) {
+          val message = it.next()
+          expired = message.deadline < now
+          if (expired) {
+            it.remove()
+            sentMessages.remove(message.matchId)
+            val errorMessage = s"Reply timeout after ${message.replyTimeoutInMs} ms"
+            executeNext(message.session.markAsFailed, message.sent, now, KO, message.next, message.requestName, Some(errorMessage))
+          }
         }
       }
-
-      for (MessageSent(matchId, sent, replyTimeoutInMs, _, session, next, requestName) <- timedOutMessages) {
-        sentMessages.remove(matchId)
-        executeNext(session.markAsFailed, sent, now, KO, next, requestName, Some(s"Reply timeout after $replyTimeoutInMs ms"))
-      }
-      timedOutMessages.clear()
       stay
   }
 
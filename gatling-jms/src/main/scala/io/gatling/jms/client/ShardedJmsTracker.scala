@@ -0,0 +1,37 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import io.gatling.core.actor.ActorRef
+
+/**
+ * Spreads the messages of a given reply destination across several [[JmsTracker]] actors based on their matchId, so that tracking isn't bottlenecked by a
+ * single actor.
+ */
+final class ShardedJmsTracker(shards: Array[ActorRef[JmsTracker.Command]]) {
+  private def shard(matchId: String): ActorRef[JmsTracker.Command] =
+    if (shards.length == 1) {
+      shards(0)
+    } else {
+      val h = matchId.hashCode
+      // spread the high bits as matchIds can differ only by their suffix
+      shards(Math.floorMod(h ^ (h >>> 16), shards.length))
+    }
+
+  def !(command: JmsTracker.Command.MatchIdCommand): Unit =
+    shard(command.matchId) ! command
+}
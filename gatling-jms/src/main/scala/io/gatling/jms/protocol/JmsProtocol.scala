@@ -43,13 +43,22 @@ object JmsProtocol {
   }
 }
 
+/**
+ * @param senderThreadCount
+ *   the number of dedicated threads performing the sends
+ * @param maxInFlightPerDestination
+ *   the maximum number of messages being sent to a given destination, extra ones are queued
+ */
+final case class JmsAsyncSend(senderThreadCount: Int, maxInFlightPerDestination: Int)
+
 final case class JmsProtocol(
     connectionFactory: ConnectionFactory,
     credentials: Option[Credentials],
     deliveryMode: Int,
     replyTimeout: Option[FiniteDuration],
     listenerThreadCount: Int,
-    messageMatcher: JmsMessageMatcher
+    messageMatcher: JmsMessageMatcher,
+    asyncSend: Option[JmsAsyncSend]
 ) extends Protocol {
   type Components = JmsComponents
 }
@@ -27,7 +27,8 @@ import jakarta.jms.{ ConnectionFactory, DeliveryMode }
  * your JMS provider documentation for information on the values to set here.
  */
 case object JmsProtocolBuilderBase {
-  def connectionFactory(cf: ConnectionFactory): JmsProtocolBuilder = JmsProtocolBuilder(cf, None, DeliveryMode.NON_PERSISTENT, MessageIdMessageMatcher, 1, None)
+  def connectionFactory(cf: ConnectionFactory): JmsProtocolBuilder =
+    JmsProtocolBuilder(cf, None, DeliveryMode.NON_PERSISTENT, MessageIdMessageMatcher, 1, None, None)
 }
 
 final case class JmsProtocolBuilder(
@@ -36,7 +37,8 @@ final case class JmsProtocolBuilder(
     deliveryMode: Int,
     messageMatcher: JmsMessageMatcher,
     listenerThreadCount: Int,
-    replyTimeout: Option[FiniteDuration]
+    replyTimeout: Option[FiniteDuration],
+    asyncSend: Option[JmsAsyncSend]
 ) {
   def credentials(user: String, password: String): JmsProtocolBuilder = copy(creds = Some(Credentials(user, password)))
   def usePersistentDeliveryMode: JmsProtocolBuilder = copy(deliveryMode = DeliveryMode.PERSISTENT)
@@ -46,6 +48,12 @@ final case class JmsProtocolBuilder(
   def messageMatcher(matcher: JmsMessageMatcher): JmsProtocolBuilder = copy(messageMatcher = matcher)
   def replyTimeout(timeout: FiniteDuration): JmsProtocolBuilder = copy(replyTimeout = Some(timeout))
   def listenerThreadCount(threadCount: Int): JmsProtocolBuilder = copy(listenerThreadCount = threadCount)
+  def useAsyncSend(senderThreadCount: Int, maxInFlightPerDestination: Int): JmsProtocolBuilder = {
+    require(senderThreadCount > 0, "senderThreadCount must be strictly positive")
+    require(maxInFlightPerDestination > 0, "maxInFlightPerDestination must be strictly positive")
+    copy(asyncSend = Some(JmsAsyncSend(senderThreadCount, maxInFlightPerDestination)))
+  }
+  def useSyncSend: JmsProtocolBuilder = copy(asyncSend = None)
 
   def build: JmsProtocol = JmsProtocol(
     credentials = creds,
@@ -53,6 +61,7 @@ final case class JmsProtocolBuilder(
     messageMatcher = messageMatcher,
     replyTimeout = replyTimeout,
     listenerThreadCount = listenerThreadCount,
-    connectionFactory = connectionFactory
+    connectionFactory = connectionFactory,
+    asyncSend = asyncSend
   )
 }
@@ -16,15 +16,19 @@
 
 package io.gatling.jms.action
 
+import scala.collection.mutable
+import scala.concurrent.Promise
+import scala.concurrent.duration.FiniteDuration
+
 import io.gatling.commons.stats.{ KO, OK }
 import io.gatling.commons.util.DefaultClock
 import io.gatling.core.{ CoreDsl, EmptySession }
 import io.gatling.core.action.ActorDelegatingAction
-import io.gatling.core.actor.ActorSpec
+import io.gatling.core.actor.{ ActorRef, ActorSpec }
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.core.session.Session
 import io.gatling.jms._
-import io.gatling.jms.client.JmsTracker
+import io.gatling.jms.client.{ JmsTracker, ShardedJmsTracker }
 
 class JmsTrackerSpec extends ActorSpec with CoreDsl with JmsDsl with MockMessage with EmptySession {
   override val configuration: GatlingConfiguration = GatlingConfiguration.loadForTest()
@@ -99,4 +103,109 @@ class JmsTrackerSpec extends ActorSpec with CoreDsl with JmsDsl with MockMessage
     nextSession1 shouldBe newSession
     nextSession2 shouldBe newSession.logGroupRequestTimings(25, 50).markAsFailed
   }
+
+  it should "pass KO to next actor when reply times out" in {
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val tracker = actorSystem.actorOf(JmsTracker.actor("jms-tracker", statsEngine, clock, configuration))
+
+    val sent = clock.nowMillis - 2000
+    tracker ! JmsTracker.Command.MessageSent("1", sent, 1000, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "timeout")
+    tracker ! JmsTracker.Command.TimeoutScan
+
+    val nextSession = nextActor.expectMsgType[Session]()
+
+    nextSession shouldBe emptySession.markAsFailed
+    statsEngine.messages.collect { case response: MockStatsEngine.Message.Response => response.message } shouldBe Seq(Some("Reply timeout after 1000 ms"))
+  }
+
+  it should "not time out messages whose reply was already received" in {
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val tracker = actorSystem.actorOf(JmsTracker.actor("jms-tracker", statsEngine, clock, configuration))
+
+    val sent = clock.nowMillis - 2000
+    tracker ! JmsTracker.Command.MessageSent("1", sent, 1000, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "received")
+    tracker ! JmsTracker.Command.MessageReceived("1", sent + 10, textMessage("test"))
+    tracker ! JmsTracker.Command.MessageSent("2", clock.nowMillis, 60000, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "pending")
+    tracker ! JmsTracker.Command.TimeoutScan
+
+    nextActor.expectMsgType[Session]() shouldBe emptySession
+    Thread.sleep(100)
+    nextActor.expectNoMsg()
+    statsEngine.messages.collect { case response: MockStatsEngine.Message.Response => response.status } shouldBe Seq(OK)
+  }
+
+  it should "time out messages with different reply timeouts" in {
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val tracker = actorSystem.actorOf(JmsTracker.actor("jms-tracker", statsEngine, clock, configuration))
+
+    val sent = clock.nowMillis - 2000
+    tracker ! JmsTracker.Command.MessageSent("1", sent, 1000, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "timeout")
+    tracker ! JmsTracker.Command.MessageSent("2", sent, 500, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "timeout")
+    tracker ! JmsTracker.Command.MessageSent("3", sent, 60000, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "pending")
+    tracker ! JmsTracker.Command.TimeoutScan
+
+    nextActor.expectMsgType[Session]() shouldBe emptySession.markAsFailed
+    nextActor.expectMsgType[Session]() shouldBe emptySession.markAsFailed
+    Thread.sleep(100)
+    nextActor.expectNoMsg()
+    statsEngine.messages.collect { case response: MockStatsEngine.Message.Response => response.message } should contain theSameElementsAs Seq(
+      Some("Reply timeout after 1000 ms"),
+      Some("Reply timeout after 500 ms")
+    )
+  }
+
+  it should "not time out messages whose send failed" in {
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val tracker = actorSystem.actorOf(JmsTracker.actor("jms-tracker", statsEngine, clock, configuration))
+
+    val sent = clock.nowMillis - 2000
+    tracker ! JmsTracker.Command.MessageSent("1", sent, 1000, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "sendFailed")
+    tracker ! JmsTracker.Command.SendFailed("1", sent + 10, "broker down")
+    tracker ! JmsTracker.Command.TimeoutScan
+
+    nextActor.expectMsgType[Session]() shouldBe emptySession.markAsFailed
+    Thread.sleep(100)
+    nextActor.expectNoMsg()
+    statsEngine.messages.collect { case response: MockStatsEngine.Message.Response => response.message } shouldBe Seq(Some("broker down"))
+  }
+
+  it should "pass KO to next actor when send failed" in {
+    val statsEngine = new MockStatsEngine
+    val nextActor = mockActorRef[Session]("next")
+    val tracker = actorSystem.actorOf(JmsTracker.actor("jms-tracker", statsEngine, clock, configuration))
+
+    tracker ! JmsTracker.Command.MessageSent("1", 15, 0, Nil, emptySession, new ActorDelegatingAction("next", nextActor), "sendFailed")
+    tracker ! JmsTracker.Command.SendFailed("1", 20, "broker down")
+
+    nextActor.expectMsgType[Session]() shouldBe emptySession.markAsFailed
+    val expected = MockStatsEngine.Message.Response(emptySession.scenario, Nil, "sendFailed", 15, 20, KO, None, Some("broker down"))
+    statsEngine.messages should contain(expected)
+  }
+
+  "ShardedJmsTracker" should "route the commands of a given matchId to the same shard" in {
+    val shards = Array.tabulate(4)(i => new RecordingActorRef(s"shard-$i"))
+    val tracker = new ShardedJmsTracker(shards.toArray[ActorRef[JmsTracker.Command]])
+
+    for (i <- 1 to 100) {
+      tracker ! JmsTracker.Command.SendFailed(s"ID:foo-$i", 0, "")
+      tracker ! JmsTracker.Command.MessageReceived(s"ID:foo-$i", 0, null)
+    }
+
+    shards.foreach { shard =>
+      val matchIds = shard.received.collect { case command: JmsTracker.Command.MatchIdCommand => command.matchId }
+      matchIds.groupBy(identity).values.foreach(_.size shouldBe 2)
+    }
+    shards.map(_.received.size).sum shouldBe 200
+  }
+}
+
+final class RecordingActorRef(override val name: String) extends ActorRef[JmsTracker.Command] {
+  val received: mutable.ArrayBuffer[JmsTracker.Command] = mutable.ArrayBuffer.empty
+
+  override def !(msg: JmsTracker.Command): Unit = received += msg
+  override def replyPromise[Reply](timeout: FiniteDuration): Promise[Reply] = throw new UnsupportedOperationException
 }
@@ -24,6 +24,8 @@ import io.gatling.core.{ CoreDsl, EmptySession }
 import io.gatling.core.config.GatlingConfiguration
 import io.gatling.jms.{ JmsCheck, MockMessage }
 
+import jakarta.jms.{ JMSException, TextMessage }
+import org.mockito.Mockito._
 import org.scalatest.flatspec.AnyFlatSpecLike
 import org.scalatest.matchers.should.Matchers
 
@@ -43,4 +45,14 @@ class JmsXPathCheckSpec extends AnyFlatSpecLike with Matchers with ValidationVal
   it should "return failure if message is not TextMessage" in {
     check.check(message, emptySession, new JHashMap[Any, Any]).failed.message should include("Unsupported message type")
   }
+
+  it should "return failure if the message text can't be read" in {
+    val msg = mock[TextMessage]
+    when(msg.getText) thenThrow new JMSException("boom")
+    check.check(msg, emptySession, new JHashMap[Any, Any]).failed.message should include("Could not parse response into a DOM Document: ")
+  }
+
+  it should "return failure if the message isn't a valid document" in {
+    check.check(textMessage("<ok>"), emptySession, new JHashMap[Any, Any]).failed.message should include("Could not parse response into a DOM Document: ")
+  }
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.jms.client
+
+import scala.collection.mutable
+
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class JmsSendLimiterSpec extends AnyFlatSpecLike with Matchers {
+  "JmsSendLimiter" should "send immediately while under the limit" in {
+    val limiter = new JmsSendLimiter(2)
+    val sent = mutable.ArrayBuffer.empty[Int]
+
+    limiter.submit(() => sent += 1)
+    limiter.submit(() => sent += 2)
+
+    sent shouldBe Seq(1, 2)
+    limiter.inFlightCount shouldBe 2
+  }
+
+  it should "queue sends over the limit and perform them in order once permits are released" in {
+    val limiter = new JmsSendLimiter(1)
+    val sent = mutable.ArrayBuffer.empty[Int]
+
+    limiter.submit(() => sent += 1)
+    limiter.submit(() => sent += 2)
+    limiter.submit(() => sent += 3)
+    sent shouldBe Seq(1)
+
+    limiter.release()
+    sent shouldBe Seq(1, 2)
+    limiter.inFlightCount shouldBe 1
+
+    limiter.release()
+    sent shouldBe Seq(1, 2, 3)
+
+    limiter.release()
+    limiter.inFlightCount shouldBe 0
+  }
+}
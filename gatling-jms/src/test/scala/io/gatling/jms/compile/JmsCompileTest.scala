@@ -50,6 +50,8 @@ class JmsCompileTest extends Simulation {
     .messageMatcher(HeaderMatcher)
     .matchByCorrelationId
     .matchByMessageId
+    .useAsyncSend(4, 100)
+    .useSyncSend
 
   private val scn = scenario("scn")
     // requestReply
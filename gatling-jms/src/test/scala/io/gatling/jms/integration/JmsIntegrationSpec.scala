@@ -19,6 +19,7 @@ package io.gatling.jms.integration
 import java.util.Locale
 
 import io.gatling.core.CoreDsl
+import io.gatling.core.protocol.Protocol
 import io.gatling.jms.request.JmsDestination
 
 import jakarta.jms.TextMessage
@@ -58,4 +59,43 @@ class JmsIntegrationSpec extends JmsSpec with CoreDsl {
     session("propertyValue").as[String] shouldBe "test value"
     session("jmsType").as[String] shouldBe "test jmsType"
   }
+
+  it should "send and receive JMS message with asynchronous send" in {
+    val requestQueue = JmsDestination.Queue("asyncRequest")
+
+    replier(
+      requestQueue,
+      { case (tm: TextMessage, session) =>
+        session.createTextMessage(s"<response><hello>${tm.getText.toUpperCase(Locale.ROOT)}</hello></response>")
+      }
+    )
+
+    val session = runScenario(
+      scenario("Jms async upperCase")
+        .exec(
+          jms("toUpperCase").requestReply
+            .destination(requestQueue)
+            .textMessage("hi")
+            .check(xpath("/response/hello").find.saveAs("content"))
+        ),
+      protocols = Protocol.indexByType(Seq(jmsProtocol.useAsyncSend(2, 10).build))
+    )
+
+    session.isFailed shouldBe false
+    session("content").as[String] shouldBe "HI"
+  }
+
+  it should "send JMS message with asynchronous send" in {
+    val session = runScenario(
+      scenario("Jms async send")
+        .exec(
+          jms("send").send
+            .queue("asyncSend")
+            .textMessage("hi")
+        ),
+      protocols = Protocol.indexByType(Seq(jmsProtocol.useAsyncSend(2, 10).build))
+    )
+
+    session.isFailed shouldBe false
+  }
 }
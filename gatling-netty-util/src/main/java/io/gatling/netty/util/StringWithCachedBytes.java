@@ -16,27 +16,30 @@
 
 package io.gatling.netty.util;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+
 import io.gatling.shared.util.StringBuilderPool;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.util.List;
 
 public final class StringWithCachedBytes {
 
-  public static ByteBuf toByteBuf(List<StringWithCachedBytes> chunks) {
+  public static ByteBuf toByteBuf(ByteBufAllocator alloc, List<StringWithCachedBytes> chunks) {
     switch (chunks.size()) {
       case 0:
         return Unpooled.EMPTY_BUFFER;
       case 1:
-        return Unpooled.wrappedBuffer(chunks.get(0).bytes);
+        return chunks.get(0).toByteBuf(alloc);
       default:
-        CompositeByteBuf comp =
-            new CompositeByteBuf(ByteBufAllocator.DEFAULT, false, chunks.size());
+        CompositeByteBuf comp = alloc.compositeBuffer(chunks.size());
         for (StringWithCachedBytes chunk : chunks) {
-          comp.addComponent(true, Unpooled.wrappedBuffer(chunk.bytes));
+          comp.addComponent(true, chunk.toByteBuf(alloc));
         }
         return comp;
     }
@@ -50,12 +53,44 @@ public final class StringWithCachedBytes {
     return sb.toString();
   }
 
+  // for dynamic values that are only used once: bytes are not computed upfront,
+  // so the string can be encoded directly into the target buffer
+  public static StringWithCachedBytes uncached(String string, Charset charset) {
+    return new StringWithCachedBytes(string, charset, null);
+  }
+
   public final String string;
-  public final byte[] bytes;
+  private final Charset charset;
+  private byte[] bytes;
 
   public StringWithCachedBytes(String string, Charset charset) {
+    this(string, charset, string.getBytes(charset));
+  }
+
+  private StringWithCachedBytes(String string, Charset charset, byte[] bytes) {
     this.string = string;
-    this.bytes = string.getBytes(charset);
+    this.charset = charset;
+    this.bytes = bytes;
+  }
+
+  public byte[] bytes() {
+    if (bytes == null) {
+      bytes = string.getBytes(charset);
+    }
+    return bytes;
+  }
+
+  private ByteBuf toByteBuf(ByteBufAllocator alloc) {
+    if (bytes != null) {
+      // cached bytes are shared, wrap them instead of copying
+      return Unpooled.wrappedBuffer(bytes);
+    } else if (string.isEmpty()) {
+      return Unpooled.EMPTY_BUFFER;
+    } else if (charset.equals(UTF_8)) {
+      return ByteBufUtil.writeUtf8(alloc, string);
+    } else {
+      return ByteBufUtil.encodeString(alloc, CharBuffer.wrap(string), charset);
+    }
   }
 
   @Override
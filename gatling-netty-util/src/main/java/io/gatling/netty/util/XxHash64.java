@@ -0,0 +1,153 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Streaming <a href="https://github.com/Cyan4973/xxHash">XXH64</a>, with a zero seed, so content that's received chunk by chunk can be hashed as it
+ * comes, without aggregating it first.
+ *
+ * <p>Not thread-safe.
+ */
+public final class XxHash64 {
+
+  private static final long PRIME64_1 = 0x9E3779B185EBCA87L;
+  private static final long PRIME64_2 = 0xC2B2AE3D27D4EB4FL;
+  private static final long PRIME64_3 = 0x165667B19E3779F9L;
+  private static final long PRIME64_4 = 0x85EBCA77C2B2AE63L;
+  private static final long PRIME64_5 = 0x27D4EB2F165667C5L;
+
+  private static final int STRIPE_LENGTH = 32;
+
+  private static long round(long acc, long input) {
+    acc += input * PRIME64_2;
+    acc = Long.rotateLeft(acc, 31);
+    return acc * PRIME64_1;
+  }
+
+  private static long mergeRound(long acc, long val) {
+    acc ^= round(0, val);
+    return acc * PRIME64_1 + PRIME64_4;
+  }
+
+  private static long getLongLE(byte[] bytes, int i) {
+    return (bytes[i] & 0xFFL)
+        | (bytes[i + 1] & 0xFFL) << 8
+        | (bytes[i + 2] & 0xFFL) << 16
+        | (bytes[i + 3] & 0xFFL) << 24
+        | (bytes[i + 4] & 0xFFL) << 32
+        | (bytes[i + 5] & 0xFFL) << 40
+        | (bytes[i + 6] & 0xFFL) << 48
+        | (bytes[i + 7] & 0xFFL) << 56;
+  }
+
+  private static long getIntLE(byte[] bytes, int i) {
+    return (bytes[i] & 0xFFL)
+        | (bytes[i + 1] & 0xFFL) << 8
+        | (bytes[i + 2] & 0xFFL) << 16
+        | (bytes[i + 3] & 0xFFL) << 24;
+  }
+
+  private long v1 = PRIME64_1 + PRIME64_2;
+  private long v2 = PRIME64_2;
+  private long v3 = 0;
+  private long v4 = -PRIME64_1;
+  private long totalLength;
+  // tail of the previous chunks that doesn't fill a stripe yet
+  private final byte[] pending = new byte[STRIPE_LENGTH];
+  private int pendingLength;
+
+  /**
+   * Hashes the readable bytes of the buffer, without changing its indexes.
+   *
+   * @param buf the content to hash
+   */
+  public void update(ByteBuf buf) {
+    int index = buf.readerIndex();
+    int end = buf.writerIndex();
+    totalLength += end - index;
+
+    if (pendingLength > 0) {
+      int length = Math.min(end - index, STRIPE_LENGTH - pendingLength);
+      buf.getBytes(index, pending, pendingLength, length);
+      pendingLength += length;
+      index += length;
+      if (pendingLength < STRIPE_LENGTH) {
+        return;
+      }
+      v1 = round(v1, getLongLE(pending, 0));
+      v2 = round(v2, getLongLE(pending, 8));
+      v3 = round(v3, getLongLE(pending, 16));
+      v4 = round(v4, getLongLE(pending, 24));
+      pendingLength = 0;
+    }
+
+    for (int limit = end - STRIPE_LENGTH; index <= limit; index += STRIPE_LENGTH) {
+      v1 = round(v1, buf.getLongLE(index));
+      v2 = round(v2, buf.getLongLE(index + 8));
+      v3 = round(v3, buf.getLongLE(index + 16));
+      v4 = round(v4, buf.getLongLE(index + 24));
+    }
+
+    if (index < end) {
+      pendingLength = end - index;
+      buf.getBytes(index, pending, 0, pendingLength);
+    }
+  }
+
+  /** @return the hash of all the content passed to {@link #update(ByteBuf)} so far */
+  public long digest() {
+    long h;
+    if (totalLength >= STRIPE_LENGTH) {
+      h =
+          Long.rotateLeft(v1, 1)
+              + Long.rotateLeft(v2, 7)
+              + Long.rotateLeft(v3, 12)
+              + Long.rotateLeft(v4, 18);
+      h = mergeRound(h, v1);
+      h = mergeRound(h, v2);
+      h = mergeRound(h, v3);
+      h = mergeRound(h, v4);
+    } else {
+      h = PRIME64_5;
+    }
+    h += totalLength;
+
+    int i = 0;
+    for (; i + 8 <= pendingLength; i += 8) {
+      h ^= round(0, getLongLE(pending, i));
+      h = Long.rotateLeft(h, 27) * PRIME64_1 + PRIME64_4;
+    }
+    if (i + 4 <= pendingLength) {
+      h ^= getIntLE(pending, i) * PRIME64_1;
+      h = Long.rotateLeft(h, 23) * PRIME64_2 + PRIME64_3;
+      i += 4;
+    }
+    for (; i < pendingLength; i++) {
+      h ^= (pending[i] & 0xFFL) * PRIME64_5;
+      h = Long.rotateLeft(h, 11) * PRIME64_1;
+    }
+
+    h ^= h >>> 33;
+    h *= PRIME64_2;
+    h ^= h >>> 29;
+    h *= PRIME64_3;
+    h ^= h >>> 32;
+    return h;
+  }
+}
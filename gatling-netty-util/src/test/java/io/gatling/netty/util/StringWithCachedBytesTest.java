@@ -0,0 +1,70 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.PooledByteBufAllocator;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+public final class StringWithCachedBytesTest {
+
+  @Test
+  void toByteBufShouldConcatenateCachedAndUncachedChunks() {
+    ByteBuf buf =
+        StringWithCachedBytes.toByteBuf(
+            PooledByteBufAllocator.DEFAULT,
+            Arrays.asList(
+                new StringWithCachedBytes("{\"name\":\"", UTF_8),
+                StringWithCachedBytes.uncached("héllo", UTF_8),
+                new StringWithCachedBytes("\"}", UTF_8)));
+
+    try {
+      assertArrayEquals("{\"name\":\"héllo\"}".getBytes(UTF_8), ByteBufUtil.getBytes(buf));
+    } finally {
+      buf.release();
+    }
+  }
+
+  @Test
+  void toByteBufShouldEncodeUncachedChunksWithTheirCharset() {
+    ByteBuf buf =
+        StringWithCachedBytes.toByteBuf(
+            PooledByteBufAllocator.DEFAULT,
+            Collections.singletonList(StringWithCachedBytes.uncached("héllo", ISO_8859_1)));
+
+    try {
+      assertArrayEquals("héllo".getBytes(ISO_8859_1), ByteBufUtil.getBytes(buf));
+    } finally {
+      buf.release();
+    }
+  }
+
+  @Test
+  void uncachedChunksShouldComputeBytesLazily() {
+    StringWithCachedBytes chunk = StringWithCachedBytes.uncached("héllo", UTF_8);
+    assertArrayEquals("héllo".getBytes(UTF_8), chunk.bytes());
+    assertEquals("héllo", chunk.toString());
+  }
+}
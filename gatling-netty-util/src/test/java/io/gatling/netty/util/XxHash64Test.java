@@ -0,0 +1,88 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.netty.util;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+public final class XxHash64Test {
+
+  private static long hash(byte[] bytes) {
+    XxHash64 hash = new XxHash64();
+    hash.update(Unpooled.wrappedBuffer(bytes));
+    return hash.digest();
+  }
+
+  private static byte[] sample() {
+    byte[] bytes = new byte[256 * 4 + 3];
+    for (int i = 0; i < bytes.length - 3; i++) {
+      bytes[i] = (byte) i;
+    }
+    bytes[bytes.length - 3] = 'x';
+    bytes[bytes.length - 2] = 'y';
+    bytes[bytes.length - 1] = 'z';
+    return bytes;
+  }
+
+  @Test
+  void shouldMatchReferenceImplementation() {
+    assertEquals(0xEF46DB3751D8E999L, hash(new byte[0]));
+    assertEquals(0xD24EC4F1A98C6E5BL, hash("a".getBytes(US_ASCII)));
+    assertEquals(0x44BC2CF5AD770999L, hash("abc".getBytes(US_ASCII)));
+    assertEquals(
+        0xFBCEA83C8A378BF1L, hash("Nobody inspects the spammish repetition".getBytes(US_ASCII)));
+    assertEquals(0xE146CB31B65BC21AL, hash(sample()));
+  }
+
+  @Test
+  void shouldNotDependOnHowContentIsChunked() {
+    byte[] bytes = sample();
+    long expected = hash(bytes);
+    Random random = new Random(0);
+
+    for (int run = 0; run < 100; run++) {
+      XxHash64 hash = new XxHash64();
+      int offset = 0;
+      while (offset < bytes.length) {
+        int length = Math.min(bytes.length - offset, random.nextInt(70));
+        hash.update(Unpooled.wrappedBuffer(bytes, offset, length));
+        offset += length;
+      }
+      assertEquals(expected, hash.digest());
+    }
+  }
+
+  @Test
+  void shouldNotMoveBufferIndexes() {
+    byte[] bytes = sample();
+    ByteBuf composite =
+        Unpooled.wrappedBuffer(
+            Unpooled.wrappedBuffer(bytes, 0, 100), Unpooled.wrappedBuffer(bytes, 100, bytes.length - 100));
+
+    XxHash64 hash = new XxHash64();
+    hash.update(composite);
+
+    assertEquals(hash(bytes), hash.digest());
+    assertEquals(0, composite.readerIndex());
+    assertEquals(bytes.length, composite.readableBytes());
+  }
+}
@@ -18,10 +18,9 @@ package io.gatling.recorder.har
 
 import java.io.InputStream
 
-import scala.jdk.CollectionConverters._
+import scala.collection.mutable
 
-import com.fasterxml.jackson.core.{ JsonFactoryBuilder, StreamReadConstraints }
-import com.fasterxml.jackson.databind.{ DeserializationFeature, ObjectMapper }
+import com.fasterxml.jackson.core.{ JsonFactory, JsonFactoryBuilder, JsonParser, JsonToken, StreamReadConstraints }
 
 object HarParser {
   final case class HarEntry(startedDateTime: String, time: Option[Double], timings: Option[HarTimings], request: HarRequest, response: HarResponse)
@@ -42,94 +41,215 @@ object HarParser {
     val time: Double = blocked + dns + connect + ssl + send + waitTiming + receive
   }
 
-  private val TheObjectMapper = {
-    val jsonFactory = new JsonFactoryBuilder()
+  private val EmptyResponseContent = HarResponseContent(mimeType = None, encoding = None, text = None, comment = None)
+
+  private val TheJsonFactory: JsonFactory =
+    new JsonFactoryBuilder()
       .streamReadConstraints(StreamReadConstraints.builder.maxStringLength(Int.MaxValue).build)
       .build
 
-    new ObjectMapper(jsonFactory)
-      .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+  /**
+   * Walks the entries of the archive one at a time instead of loading the whole archive in memory. The response of an entry whose request is rejected
+   * is skipped without its content being decoded.
+   *
+   * @param is
+   *   the HAR stream, must remain open as long as the entries are consumed
+   * @param acceptRequest
+   *   if the entry should be parsed, based on its request
+   * @return
+   *   the accepted entries, lazily parsed
+   */
+  def parseHarEntries(is: InputStream, acceptRequest: HarRequest => Boolean): Iterator[HarEntry] = {
+    val parser = TheJsonFactory.createParser(is)
+    if (seekEntries(parser)) {
+      Iterator
+        .continually(parser.nextToken())
+        .takeWhile(_ == JsonToken.START_OBJECT)
+        .flatMap(_ => parseEntry(parser, acceptRequest))
+    } else {
+      Iterator.empty
+    }
+  }
+
+  private def seekEntries(parser: JsonParser): Boolean =
+    parser.nextToken() == JsonToken.START_OBJECT &&
+      seekField(parser, "log") && parser.currentToken == JsonToken.START_OBJECT &&
+      seekField(parser, "entries") && parser.currentToken == JsonToken.START_ARRAY
+
+  // moves the parser to the value of the field, skipping the fields before it
+  private def seekField(parser: JsonParser, name: String): Boolean = {
+    var found = false
+    while (!found && parser.nextToken() == JsonToken.FIELD_NAME) {
+      found = parser.currentName == name
+      parser.nextToken()
+      if (!found) {
+        parser.skipChildren()
+      }
+    }
+    found
+  }
+
+  // the value of each field must be fully consumed by f
+  private def foreachField(parser: JsonParser)(f: String => Unit): Unit =
+    if (parser.currentToken == JsonToken.START_OBJECT) {
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        val name = parser.currentName
+        parser.nextToken()
+        f(name)
+      }
+    } else {
+      parser.skipChildren()
+    }
+
+  private def foreachElement[T](parser: JsonParser)(f: => T): Seq[T] =
+    if (parser.currentToken == JsonToken.START_ARRAY) {
+      val elements = mutable.ListBuffer.empty[T]
+      while (parser.nextToken() != JsonToken.END_ARRAY) {
+        elements += f
+      }
+      elements.toList
+    } else {
+      parser.skipChildren()
+      Nil
+    }
+
+  private def readString(parser: JsonParser): String = {
+    val value = parser.getValueAsString
+    parser.skipChildren()
+    value
+  }
+
+  private def readOptionalDouble(parser: JsonParser): Option[Double] =
+    if (parser.currentToken == JsonToken.VALUE_NULL) {
+      None
+    } else {
+      val value = parser.getValueAsDouble
+      parser.skipChildren()
+      Some(value)
+    }
+
+  private def readDouble(parser: JsonParser): Double =
+    readOptionalDouble(parser).getOrElse(0d)
+
+  private def readInt(parser: JsonParser): Int = {
+    val value = parser.getValueAsInt
+    parser.skipChildren()
+    value
   }
 
-  def parseHarEntries(is: InputStream): List[HarEntry] = {
-    val javaModel = TheObjectMapper.readValue(is, classOf[HarJavaModel.HarHttpArchive])
-
-    Option(javaModel.getLog.getEntries)
-      .map {
-        _.asScala.map { entry =>
-          HarEntry(
-            startedDateTime = entry.getStartedDateTime,
-            time = Option(entry.getTime),
-            timings = Option(entry.getTimings).map(timings =>
-              HarTimings(
-                blocked = timings.getBlocked,
-                dns = timings.getDns,
-                connect = timings.getConnect,
-                ssl = timings.getSsl,
-                send = timings.getSend,
-                waitTiming = timings.getWait,
-                receive = timings.getReceive
-              )
-            ),
-            request = HarRequest(
-              httpVersion = entry.getRequest.getHttpVersion,
-              method = entry.getRequest.getMethod,
-              url = entry.getRequest.getUrl,
-              headers = Option(entry.getRequest.getHeaders)
-                .map(
-                  _.asScala
-                    .map(header =>
-                      HarHeader(
-                        name = header.getName,
-                        value = header.getValue
-                      )
-                    )
-                    .toSeq
-                )
-                .getOrElse(Nil),
-              postData = Option(entry.getRequest.getPostData).map(postData =>
-                HarRequestPostData(
-                  text = Option(postData.getText),
-                  params = Option(postData.getParams)
-                    .map(
-                      _.asScala
-                        .map(param =>
-                          HarRequestPostParam(
-                            name = param.getName,
-                            value = param.getValue
-                          )
-                        )
-                        .toSeq
-                    )
-                    .getOrElse(Nil)
-                )
-              )
-            ),
-            response = HarResponse(
-              status = entry.getResponse.getStatus,
-              headers = Option(entry.getResponse.getHeaders)
-                .map(
-                  _.asScala
-                    .map(header =>
-                      HarHeader(
-                        name = header.getName,
-                        value = header.getValue
-                      )
-                    )
-                    .toSeq
-                )
-                .getOrElse(Nil),
-              statusText = entry.getResponse.getStatusText,
-              content = HarResponseContent(
-                mimeType = Option(entry.getResponse.getContent.getMimeType),
-                encoding = Option(entry.getResponse.getContent.getEncoding),
-                text = Option(entry.getResponse.getContent.getText),
-                comment = Option(entry.getResponse.getContent.getComment)
-              )
-            )
-          )
-        }.toList
+  private def parseEntry(parser: JsonParser, acceptRequest: HarRequest => Boolean): Option[HarEntry] = {
+    var startedDateTime: String = null
+    var time: Option[Double] = None
+    var timings: Option[HarTimings] = None
+    var request: HarRequest = null
+    var accepted = true
+    var response: HarResponse = null
+
+    foreachField(parser) {
+      case "startedDateTime" => startedDateTime = readString(parser)
+      case "time"            => time = readOptionalDouble(parser)
+      case "timings"         => timings = if (parser.currentToken == JsonToken.START_OBJECT) Some(parseTimings(parser)) else None
+      case "request" =>
+        request = parseRequest(parser)
+        accepted = acceptRequest(request)
+      case "response" if accepted => response = parseResponse(parser)
+      case _                      => parser.skipChildren()
+    }
+
+    // request is expected before response so the content of rejected responses is never decoded,
+    // but JSON doesn't guarantee fields order, so a response parsed before its request can still be rejected here
+    if (request != null && response != null && accepted) {
+      Some(HarEntry(startedDateTime, time, timings, request, response))
+    } else {
+      None
+    }
+  }
+
+  private def parseTimings(parser: JsonParser): HarTimings = {
+    var blocked, dns, connect, ssl, send, waitTiming, receive = 0d
+    foreachField(parser) {
+      case "blocked" => blocked = readDouble(parser)
+      case "dns"     => dns = readDouble(parser)
+      case "connect" => connect = readDouble(parser)
+      case "ssl"     => ssl = readDouble(parser)
+      case "send"    => send = readDouble(parser)
+      case "wait"    => waitTiming = readDouble(parser)
+      case "receive" => receive = readDouble(parser)
+      case _         => parser.skipChildren()
+    }
+    HarTimings(blocked, dns, connect, ssl, send, waitTiming, receive)
+  }
+
+  private def parseHeaders(parser: JsonParser): Seq[HarHeader] =
+    foreachElement(parser) {
+      var name, value: String = null
+      foreachField(parser) {
+        case "name"  => name = readString(parser)
+        case "value" => value = readString(parser)
+        case _       => parser.skipChildren()
       }
-      .getOrElse(Nil)
+      HarHeader(name, value)
+    }
+
+  private def parseRequest(parser: JsonParser): HarRequest = {
+    var httpVersion, method, url: String = null
+    var headers: Seq[HarHeader] = Nil
+    var postData: Option[HarRequestPostData] = None
+    foreachField(parser) {
+      case "httpVersion" => httpVersion = readString(parser)
+      case "method"      => method = readString(parser)
+      case "url"         => url = readString(parser)
+      case "headers"     => headers = parseHeaders(parser)
+      case "postData"    => postData = if (parser.currentToken == JsonToken.START_OBJECT) Some(parsePostData(parser)) else None
+      case _             => parser.skipChildren()
+    }
+    HarRequest(httpVersion, method, url, headers, postData)
+  }
+
+  private def parsePostData(parser: JsonParser): HarRequestPostData = {
+    var text: Option[String] = None
+    var params: Seq[HarRequestPostParam] = Nil
+    foreachField(parser) {
+      case "text" => text = Option(readString(parser))
+      case "params" =>
+        params = foreachElement(parser) {
+          var name, value: String = null
+          foreachField(parser) {
+            case "name"  => name = readString(parser)
+            case "value" => value = readString(parser)
+            case _       => parser.skipChildren()
+          }
+          HarRequestPostParam(name, value)
+        }
+      case _ => parser.skipChildren()
+    }
+    HarRequestPostData(text, params)
+  }
+
+  private def parseResponse(parser: JsonParser): HarResponse = {
+    var status = 0
+    var headers: Seq[HarHeader] = Nil
+    var statusText: String = null
+    var content = EmptyResponseContent
+    foreachField(parser) {
+      case "status"     => status = readInt(parser)
+      case "headers"    => headers = parseHeaders(parser)
+      case "statusText" => statusText = readString(parser)
+      case "content"    => content = parseResponseContent(parser)
+      case _            => parser.skipChildren()
+    }
+    HarResponse(status, headers, statusText, content)
+  }
+
+  private def parseResponseContent(parser: JsonParser): HarResponseContent = {
+    var mimeType, encoding, text, comment: String = null
+    foreachField(parser) {
+      case "mimeType" => mimeType = readString(parser)
+      case "encoding" => encoding = readString(parser)
+      case "text"     => text = readString(parser)
+      case "comment"  => comment = readString(parser)
+      case _          => parser.skipChildren()
+    }
+    HarResponseContent(Option(mimeType), Option(encoding), Option(text), Option(comment))
   }
 }
@@ -36,36 +36,32 @@ import io.netty.util.AsciiString
 final case class HttpTransaction(request: HttpRequest, response: HttpResponse)
 
 private[recorder] object HarReader {
-  def readFile(path: Path, filters: Option[Filters]): List[HttpTransaction] =
-    Using.resource(new BufferedInputStream(new FileInputStream(path.toFile)))(readStream(_, filters))
-
-  private[har] def readStream(is: InputStream, filters: Option[Filters]): List[HttpTransaction] = {
-    val harEntries = HarParser.parseHarEntries(is)
-    val filteredHarEntries = harEntries
-      .filter(entry => filters.forall(_.accept(entry.request.url) && Filters.BrowserNoiseFilters.accept(entry.request.url)))
-    buildHttpTransactions(filteredHarEntries)
-  }
+  def readFile[T](path: Path, filters: Option[Filters])(f: Iterator[HttpTransaction] => T): T =
+    Using.resource(new BufferedInputStream(new FileInputStream(path.toFile)))(is => f(readStream(is, filters)))
+
+  /**
+   * @return
+   *   the transactions, in the order of the archive, built as they're consumed while the stream is open
+   */
+  private[har] def readStream(is: InputStream, filters: Option[Filters]): Iterator[HttpTransaction] =
+    HarParser
+      .parseHarEntries(is, isRecordable(filters))
+      // filter out cancelled requests
+      .filter(_.response.status != 0)
+      .map(buildHttpTransaction)
 
   private def parseMillisFromIso8601DateTime(time: String): Long =
     ZonedDateTime.parse(time).toInstant.toEpochMilli
 
-  private def buildHttpTransactions(harEntries: List[HarEntry]): List[HttpTransaction] =
-    harEntries.iterator
-      // filter out cancelled requests
-      .filter(_.response.status != 0)
+  private def isRecordable(filters: Option[Filters])(request: HarRequest): Boolean =
+    request.url != null &&
+      filters.forall(_.accept(request.url) && Filters.BrowserNoiseFilters.accept(request.url)) &&
       // filter out all non-HTTP protocols (eg: ws://)
-      .filter(_.request.url.toLowerCase(Locale.ROOT).startsWith("http"))
+      request.url.toLowerCase(Locale.ROOT).startsWith("http") &&
       // filter out CONNECT (if HAR was generated with a proxy such as Charles) and Upgrade requests (WebSockets)
-      .filter(entry =>
-        entry.request.method != HttpMethod.CONNECT.name && !entry.request.headers.exists(header =>
-          AsciiString.contentEqualsIgnoreCase(header.name, HttpHeaderValues.UPGRADE)
-        )
-      )
-      .filter(entry => isValidURL(entry.request.url))
-      .map(buildHttpTransaction)
-      .toList
-      // Chrome can mess up with request order
-      .sortBy(_.request.timestamp)
+      request.method != HttpMethod.CONNECT.name &&
+      !request.headers.exists(header => AsciiString.contentEqualsIgnoreCase(header.name, HttpHeaderValues.UPGRADE)) &&
+      isValidURL(request.url)
 
   private def isValidURL(url: String): Boolean = Try(new URI(url)).isSuccess
 
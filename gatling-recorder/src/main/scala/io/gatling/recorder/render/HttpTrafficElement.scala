@@ -18,6 +18,7 @@ package io.gatling.recorder.render
 
 import java.nio.charset.Charset
 import java.nio.charset.StandardCharsets.UTF_8
+import java.nio.file.Path
 import java.util.Base64
 
 import scala.concurrent.duration.FiniteDuration
@@ -39,10 +40,12 @@ private[recorder] sealed trait RequestBody extends Product with Serializable
 private[recorder] final case class RequestBodyParams(params: List[(String, String)]) extends RequestBody
 @SuppressWarnings(Array("org.wartremover.warts.ArrayEquals"))
 private[recorder] final case class RequestBodyBytes(bytes: Array[Byte]) extends RequestBody
+private[recorder] final case class RequestBodyFile(path: Path) extends RequestBody
 
 private[recorder] sealed trait ResponseBody extends Product with Serializable
 @SuppressWarnings(Array("org.wartremover.warts.ArrayEquals"))
 private[recorder] final case class ResponseBodyBytes(bytes: Array[Byte]) extends ResponseBody
+private[recorder] final case class ResponseBodyFile(path: Path) extends ResponseBody
 
 private[recorder] sealed trait HttpTrafficElement extends Product with Serializable
 private[recorder] final case class PauseElement(duration: FiniteDuration) extends HttpTrafficElement
@@ -17,7 +17,7 @@
 package io.gatling.recorder.render
 
 import java.io.{ BufferedOutputStream, IOException }
-import java.nio.file.{ Files, Path }
+import java.nio.file.{ Files, Path, StandardCopyOption }
 import java.util.Locale
 
 import scala.annotation.tailrec
@@ -58,19 +58,26 @@ private[render] class DumpedBodies(
     bodiesClassPathLocation: String,
     bodiesFolderPath: Path
 ) {
-  def forRequest(request: RequestElement, bytes: Array[Byte]): DumpedBody =
-    make(request, bytes, "request")
+  def forRequest(request: RequestElement, body: RequestBody): Option[DumpedBody] =
+    body match {
+      case RequestBodyBytes(bytes) => Some(make(request, "request")(Files.write(_, bytes)))
+      case RequestBodyFile(path)   => Some(make(request, "request")(Files.copy(path, _, StandardCopyOption.REPLACE_EXISTING)))
+      case _: RequestBodyParams    => None
+    }
 
-  def forResponse(request: RequestElement, bytes: Array[Byte]): DumpedBody =
-    make(request, bytes, "response")
+  def forResponse(request: RequestElement, body: ResponseBody): DumpedBody =
+    body match {
+      case ResponseBodyBytes(bytes) => make(request, "response")(Files.write(_, bytes))
+      case ResponseBodyFile(path)   => make(request, "response")(Files.copy(path, _, StandardCopyOption.REPLACE_EXISTING))
+    }
 
-  private def make(request: RequestElement, bytes: Array[Byte], suffix: String): DumpedBody = {
+  private def make(request: RequestElement, suffix: String)(write: Path => Unit): DumpedBody = {
     val fileName = s"${request.id.toString.leftPad(4, "0")}_$suffix.${request.responseFileExtension}"
 
     new DumpedBody(
       bodiesClassPathLocation + "/" + fileName,
       bodiesFolderPath.resolve(fileName),
-      bytes
+      write
     )
   }
 }
@@ -78,9 +85,44 @@ private[render] class DumpedBodies(
 private[render] class DumpedBody(
     val classPathLocation: String,
     val filePath: Path,
-    val bytes: Array[Byte]
+    val write: Path => Unit
 )
 
+private[render] object SpilledBodies {
+  // HAR bodies above this size are kept on disk until they get dumped so a large archive doesn't have to fit in memory
+  private val SpillThreshold = 64 * 1024
+}
+
+/**
+ * Temporary folder holding the large bodies of the elements built from a HAR file until the simulation gets rendered.
+ */
+private[render] final class SpilledBodies extends AutoCloseable {
+  import SpilledBodies._
+
+  private val folderPath = Files.createTempDirectory("gatling-recorder-bodies")
+
+  private def spill(bytes: Array[Byte]): Path =
+    Files.write(Files.createTempFile(folderPath, "body", ".bin"), bytes)
+
+  def spillLargeBodies(element: RequestElement): RequestElement =
+    element.copy(
+      body = element.body.map {
+        case RequestBodyBytes(bytes) if bytes.length > SpillThreshold => RequestBodyFile(spill(bytes))
+        case body                                                     => body
+      },
+      responseBody = element.responseBody.map {
+        case ResponseBodyBytes(bytes) if bytes.length > SpillThreshold => ResponseBodyFile(spill(bytes))
+        case body                                                      => body
+      }
+    )
+
+  override def close(): Unit =
+    Using.resource(Files.list(folderPath)) { paths =>
+      paths.forEach(Files.delete(_))
+      Files.delete(folderPath)
+    }
+}
+
 private[recorder] class HttpTrafficConverter(config: RecorderConfiguration) extends StrictLogging {
   private val simulationFile: Path = {
     val sourcesFolderPath = config.core.pkg.split("\\.").foldLeft(config.core.simulationsFolder)(_.resolve(_))
@@ -91,28 +133,32 @@ private[recorder] class HttpTrafficConverter(config: RecorderConfiguration) exte
   def simulationFileExists: Boolean = Files.exists(simulationFile)
 
   private def dumpBody(body: DumpedBody): Unit =
-    Using.resource(new BufferedOutputStream(Files.newOutputStream(body.filePath))) { fw =>
-      try {
-        fw.write(body.bytes)
-      } catch {
-        case e: IOException => logger.error(s"Failed to dump body ${body.filePath}", e)
-      }
+    try {
+      body.write(body.filePath)
+    } catch {
+      case e: IOException => logger.error(s"Failed to dump body ${body.filePath}", e)
     }
 
   // RecorderController
   def renderHarFile(harFile: Path): Validation[Unit] =
     safely(error => s"Error while processing HAR file: $error") {
-      val transactions = HarReader.readFile(harFile, config.filters.filters)
-
-      if (transactions.isEmpty) {
-        "the selected file doesn't contain any valid HTTP requests".failure
-      } else {
-        val scenarioElements = transactions.map { case HttpTransaction(request, response) =>
-          val element = RequestElement(request, response, config)
-          TimedScenarioElement(request.timestamp, response.timestamp, element)
+      Using.resource(new SpilledBodies) { spilledBodies =>
+        val scenarioElements = HarReader.readFile(harFile, config.filters.filters) { transactions =>
+          transactions
+            .map { case HttpTransaction(request, response) =>
+              val element = spilledBodies.spillLargeBodies(RequestElement(request, response, config))
+              TimedScenarioElement(request.timestamp, response.timestamp, element)
+            }
+            .toList
+            // Chrome can mess up with request order
+            .sortBy(_.sendTime)
         }
 
-        renderHttpTraffic(HttpTraffic(scenarioElements, tags = Nil, config)).success
+        if (scenarioElements.isEmpty) {
+          "the selected file doesn't contain any valid HTTP requests".failure
+        } else {
+          renderHttpTraffic(HttpTraffic(scenarioElements, tags = Nil, config)).success
+        }
       }
     }
 
@@ -165,8 +211,9 @@ private[recorder] class HttpTrafficConverter(config: RecorderConfiguration) exte
     val requestBodies: Map[Int, DumpedBody] = {
       for {
         request <- requestElements
-        bytes <- request.body.collect { case RequestBodyBytes(bytes) => bytes }.toList
-      } yield request.id -> dumpedBodies.forRequest(request, bytes)
+        body <- request.body.toList
+        dumpedBody <- dumpedBodies.forRequest(request, body).toList
+      } yield request.id -> dumpedBody
     }.toMap
 
     val responseBodies: Map[Int, DumpedBody] =
@@ -174,8 +221,8 @@ private[recorder] class HttpTrafficConverter(config: RecorderConfiguration) exte
         {
           for {
             request <- requestElements
-            bytes <- request.responseBody.collect { case ResponseBodyBytes(bytes) => bytes }.toList
-          } yield request.id -> dumpedBodies.forResponse(request, bytes)
+            body <- request.responseBody.toList
+          } yield request.id -> dumpedBodies.forResponse(request, body)
         }.toMap
       } else {
         Map.empty
@@ -20,7 +20,7 @@ import java.nio.charset.StandardCharsets.UTF_8
 
 import scala.util.Using
 
-import io.gatling.core.filter.Filters
+import io.gatling.core.filter.{ AllowList, DenyList, Filters }
 
 import io.netty.handler.codec.http.{ HttpHeaderNames, HttpHeaderValues }
 import org.scalatest.flatspec.AnyFlatSpecLike
@@ -30,7 +30,8 @@ import org.scalatest.matchers.should.Matchers
 class HarReaderSpec extends AnyFlatSpecLike with Matchers {
   private def readHar(file: String, filters: Option[Filters]): Seq[HttpTransaction] =
     Using.resource(getClass.getClassLoader.getResourceAsStream("har/" + file)) { is =>
-      HarReader.readStream(is, filters)
+      // Chrome can mess up with request order
+      HarReader.readStream(is, filters).toList.sortBy(_.request.timestamp)
     }
 
   private def testGet(file: String): Unit = {
@@ -147,4 +148,10 @@ class HarReaderSpec extends AnyFlatSpecLike with Matchers {
   it should "work with Charles 4.2" in {
     testRedirectAfterPost("charles42/redirect-post.har")
   }
+
+  "Parsing with filters" should "skip the rejected entries" in {
+    val transactions = readHar("chrome61/form.har", Some(new Filters(new DenyList(Seq(".*\\.cgi")), AllowList.Empty)))
+    transactions should have size 1
+    transactions.head.request.method shouldBe "GET"
+  }
 }
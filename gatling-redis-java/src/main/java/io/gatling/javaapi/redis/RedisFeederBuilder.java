@@ -67,6 +67,18 @@ public final class RedisFeederBuilder implements Supplier<Iterator<Map<String, O
     return new RedisFeederBuilder(wrapped.RPOPLPUSH());
   }
 
+  /**
+   * Fetch records in batches of the given size, one round trip per batch, the next batch being
+   * fetched in the background while the current one is consumed. Beware that with destructive
+   * commands, records prefetched but not consumed when the simulation ends are lost.
+   *
+   * @param batchSize the number of records per batch
+   * @return a new RedisFeederBuilder instance
+   */
+  public @NonNull RedisFeederBuilder prefetch(int batchSize) {
+    return new RedisFeederBuilder(wrapped.prefetch(batchSize));
+  }
+
   @Override
   public Iterator<Map<String, Object>> get() {
     return toJavaFeeder(wrapped.apply());
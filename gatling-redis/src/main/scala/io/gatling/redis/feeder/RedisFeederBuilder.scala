@@ -16,7 +16,9 @@
 
 package io.gatling.redis.feeder
 
-import io.gatling.core.feeder.{ Feeder, NamedFeederBuilder }
+import java.util.concurrent.{ Callable, ExecutionException, ExecutorService, Executors, Future }
+
+import io.gatling.core.feeder.{ CloseableFeeder, Feeder, NamedFeederBuilder, Record }
 
 import com.redis.{ RedisClient, RedisClientPool }
 
@@ -26,36 +28,139 @@ import com.redis.{ RedisClient, RedisClientPool }
  * Originally contributed by Krishnen Chedambarum. RPOPLPUSH added by Shoaib Khan
  */
 object RedisFeederBuilder {
-  // Function for executing Redis command
-  private type RedisCommand = (RedisClient, String, String) => Option[String]
+  // Redis command, either issued once per record or once per batch of records
+  sealed abstract class RedisCommand {
+    private[feeder] def fetchOne(client: RedisClient, keySrc: String, keyDest: String): Option[String]
+
+    // an empty batch means there's no more record
+    private[feeder] def fetchBatch(client: RedisClient, keySrc: String, keyDest: String, count: Int): List[String]
+  }
 
-  private val LPOP: RedisCommand = (redisClient, keySrc, _) => redisClient.lpop(keySrc)
+  // commands with no count variant in the client are sent in a MULTI/EXEC pipeline so the batch costs a single round trip
+  private def pipelined(client: RedisClient, count: Int)(command: RedisClient#PipelineClient => Any): List[String] =
+    client
+      .pipeline { pipeline =>
+        var i = 0
+        while (i < count) {
+          command(pipeline)
+          i += 1
+        }
+      }
+      .getOrElse(Nil)
+      .collect { case Some(value: String) => value }
 
-  private val SPOP: RedisCommand = (redisClient, keySrc, _) => redisClient.spop(keySrc)
+  private val LPOP: RedisCommand = new RedisCommand {
+    override private[feeder] def fetchOne(client: RedisClient, keySrc: String, keyDest: String): Option[String] =
+      client.lpop(keySrc)
 
-  private val SRANDMEMBER: RedisCommand = (redisClient, keySrc, _) => redisClient.srandmember(keySrc)
+    override private[feeder] def fetchBatch(client: RedisClient, keySrc: String, keyDest: String, count: Int): List[String] =
+      pipelined(client, count)(_.lpop(keySrc))
+  }
+
+  private val SPOP: RedisCommand = new RedisCommand {
+    override private[feeder] def fetchOne(client: RedisClient, keySrc: String, keyDest: String): Option[String] =
+      client.spop(keySrc)
+
+    override private[feeder] def fetchBatch(client: RedisClient, keySrc: String, keyDest: String, count: Int): List[String] =
+      client.spop[String](keySrc, count).fold(List.empty[String])(_.iterator.flatten.toList)
+  }
 
-  private val RPOPLPUSH: RedisCommand = (redisClient, keySrc, keyDest) => redisClient.rpoplpush(keySrc, keyDest)
+  private val SRANDMEMBER: RedisCommand = new RedisCommand {
+    override private[feeder] def fetchOne(client: RedisClient, keySrc: String, keyDest: String): Option[String] =
+      client.srandmember(keySrc)
+
+    // negative count so members can be repeated, like with successive single SRANDMEMBER
+    override private[feeder] def fetchBatch(client: RedisClient, keySrc: String, keyDest: String, count: Int): List[String] =
+      client.srandmember[String](keySrc, -count).fold(List.empty[String])(_.flatten)
+  }
+
+  private val RPOPLPUSH: RedisCommand = new RedisCommand {
+    override private[feeder] def fetchOne(client: RedisClient, keySrc: String, keyDest: String): Option[String] =
+      client.rpoplpush(keySrc, keyDest)
+
+    override private[feeder] def fetchBatch(client: RedisClient, keySrc: String, keyDest: String, count: Int): List[String] =
+      pipelined(client, count)(_.rpoplpush(keySrc, keyDest))
+  }
 
   def apply(clientPool: RedisClientPool, keySrc: String, keyDest: String): RedisFeederBuilder =
-    new RedisFeederBuilder(clientPool, RedisFeederBuilder.LPOP, keySrc, keyDest)
+    new RedisFeederBuilder(clientPool, RedisFeederBuilder.LPOP, keySrc, keyDest, prefetchBatchSize = 0)
 }
 
-final case class RedisFeederBuilder(clientPool: RedisClientPool, command: RedisFeederBuilder.RedisCommand, keySrc: String, keyDest: String)
-    extends NamedFeederBuilder {
+final case class RedisFeederBuilder(
+    clientPool: RedisClientPool,
+    command: RedisFeederBuilder.RedisCommand,
+    keySrc: String,
+    keyDest: String,
+    prefetchBatchSize: Int
+) extends NamedFeederBuilder {
   def LPOP: RedisFeederBuilder = copy(command = RedisFeederBuilder.LPOP)
   def SPOP: RedisFeederBuilder = copy(command = RedisFeederBuilder.SPOP)
   def SRANDMEMBER: RedisFeederBuilder = copy(command = RedisFeederBuilder.SRANDMEMBER)
   def RPOPLPUSH: RedisFeederBuilder = copy(command = RedisFeederBuilder.RPOPLPUSH)
 
-  override def apply(): Feeder[Any] = {
-    def next: Option[Map[String, String]] = clientPool.withClient { client =>
-      val value = command(client, keySrc, keyDest)
-      value.map(value => Map(keySrc -> value))
+  def prefetch(batchSize: Int): RedisFeederBuilder = {
+    require(batchSize > 0, s"prefetch batchSize must be strictly positive, got $batchSize")
+    copy(prefetchBatchSize = batchSize)
+  }
+
+  override def apply(): Feeder[Any] =
+    if (prefetchBatchSize > 0) {
+      new PrefetchingRedisFeeder(() => clientPool.withClient(command.fetchBatch(_, keySrc, keyDest, prefetchBatchSize)), keySrc)
+    } else {
+      def next: Option[Map[String, String]] = clientPool.withClient { client =>
+        val value = command.fetchOne(client, keySrc, keyDest)
+        value.map(value => Map(keySrc -> value))
+      }
+
+      Iterator.continually(next).takeWhile(_.isDefined).map(_.get)
     }
 
-    Iterator.continually(next).takeWhile(_.isDefined).map(_.get)
+  override val name: String = "redis"
+}
+
+/**
+ * Double buffering: the next batch is fetched in the background as soon as the current one starts being consumed, so at most 2 batches are held in memory and
+ * the feeding virtual users only wait on Redis when they drain a batch faster than a round trip.
+ *
+ * Beware that with destructive commands, records that were prefetched but not consumed when the simulation ends are lost.
+ */
+private final class PrefetchingRedisFeeder(fetchBatch: () => List[String], key: String) extends CloseableFeeder[Any] {
+  private val executor: ExecutorService = Executors.newSingleThreadExecutor { runnable =>
+    val thread = new Thread(runnable, s"gatling-redis-feeder-$key")
+    thread.setDaemon(true)
+    thread
   }
+  private val fetchTask: Callable[List[String]] = () => fetchBatch()
+  private var current: Iterator[String] = Iterator.empty
+  private var pending: Future[List[String]] = executor.submit(fetchTask)
+  private var exhausted = false
 
-  override val name: String = "redis"
+  override def hasNext: Boolean =
+    current.hasNext || (!exhausted && {
+      val batch =
+        try {
+          pending.get()
+        } catch {
+          case e: ExecutionException => throw e.getCause
+        }
+      if (batch.isEmpty) {
+        exhausted = true
+        pending = null
+        executor.shutdown()
+        false
+      } else {
+        current = batch.iterator
+        pending = executor.submit(fetchTask)
+        true
+      }
+    })
+
+  override def next(): Record[Any] =
+    if (hasNext) {
+      Map(key -> current.next())
+    } else {
+      throw new NoSuchElementException(s"Redis key $key has no more records")
+    }
+
+  override def close(): Unit = executor.shutdownNow()
 }
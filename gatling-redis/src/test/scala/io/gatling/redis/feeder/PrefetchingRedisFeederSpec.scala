@@ -0,0 +1,107 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.redis.feeder
+
+import scala.util.Using
+
+import io.gatling.core.feeder.CloseableFeeder
+import io.gatling.redis.Predef._
+
+import com.redis.RedisClientPool
+import org.scalatest.concurrent.Eventually
+import org.scalatest.flatspec.AnyFlatSpecLike
+import org.scalatest.matchers.should.Matchers
+
+class PrefetchingRedisFeederSpec extends AnyFlatSpecLike with Matchers with Eventually {
+  private val Key = "key"
+  private val KeyDest = "key2"
+
+  private def withStandIn(f: (RedisStandIn, RedisClientPool) => Any): Unit =
+    Using.resource(new RedisStandIn) { standIn =>
+      val clientPool = new RedisClientPool("localhost", standIn.port)
+      try {
+        f(standIn, clientPool)
+      } finally {
+        clientPool.close()
+      }
+    }
+
+  private def values(n: Int): Seq[String] = (1 to n).map(i => s"v$i")
+
+  "prefetching redis feeder" should "pop all the list records in order with one round trip per batch" in withStandIn { (standIn, clientPool) =>
+    standIn.rpush(Key, values(25): _*)
+
+    val feeder = redisFeeder(clientPool, Key).prefetch(10).apply()
+
+    feeder.toList shouldBe values(25).map(v => Map(Key -> v))
+    standIn.list(Key) shouldBe empty
+    // 3 batches to drain the list, plus the empty one telling it's exhausted
+    standIn.roundTripCount shouldBe 4
+  }
+
+  it should "fetch the next batch in the background before the current one runs dry" in withStandIn { (standIn, clientPool) =>
+    standIn.rpush(Key, values(30): _*)
+
+    val feeder = redisFeeder(clientPool, Key).prefetch(10).apply()
+
+    feeder.next() shouldBe Map(Key -> "v1")
+    eventually {
+      standIn.list(Key) should have size 10
+    }
+    feeder.asInstanceOf[CloseableFeeder[Any]].close()
+  }
+
+  it should "pop all the set members with SPOP" in withStandIn { (standIn, clientPool) =>
+    standIn.sadd(Key, values(25): _*)
+
+    val feeder = redisFeeder(clientPool, Key).SPOP.prefetch(10).apply()
+
+    feeder.toList.map(_(Key)) should contain theSameElementsAs values(25)
+    standIn.set(Key) shouldBe empty
+    standIn.roundTripCount shouldBe 4
+  }
+
+  it should "keep on feeding set members with SRANDMEMBER" in withStandIn { (standIn, clientPool) =>
+    standIn.sadd(Key, values(3): _*)
+
+    val feeder = redisFeeder(clientPool, Key).SRANDMEMBER.prefetch(2).apply()
+
+    val records = feeder.take(10).toList
+    records should have size 10
+    all(records.map(_(Key))) should (be("v1") or be("v2") or be("v3"))
+    standIn.set(Key) should have size 3
+    feeder.asInstanceOf[CloseableFeeder[Any]].close()
+  }
+
+  it should "move records to the destination with RPOPLPUSH" in withStandIn { (standIn, clientPool) =>
+    standIn.rpush(Key, values(5): _*)
+
+    val feeder = redisFeeder(clientPool, Key, KeyDest).RPOPLPUSH.prefetch(2).apply()
+
+    feeder.toList shouldBe values(5).reverse.map(v => Map(Key -> v))
+    standIn.list(Key) shouldBe empty
+    standIn.list(KeyDest) shouldBe values(5)
+  }
+
+  it should "be empty when the key doesn't exist" in withStandIn { (_, clientPool) =>
+    redisFeeder(clientPool, Key).prefetch(10).apply().hasNext shouldBe false
+  }
+
+  it should "reject non positive batch sizes" in withStandIn { (_, clientPool) =>
+    an[IllegalArgumentException] should be thrownBy redisFeeder(clientPool, Key).prefetch(0)
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2011-2026 GatlingCorp (https://gatling.io)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.gatling.redis.feeder
+
+import java.io.{ BufferedInputStream, BufferedOutputStream, InputStream, OutputStream }
+import java.net.{ InetAddress, ServerSocket, Socket, SocketException }
+import java.nio.charset.StandardCharsets.UTF_8
+import java.util.concurrent.ThreadLocalRandom
+import java.util.concurrent.atomic.AtomicInteger
+
+import scala.collection.mutable
+import scala.util.Using
+
+/**
+ * Minimal server speaking the Redis protocol, supporting just the commands used by the feeder, so it can be tested without a Redis instance.
+ */
+final class RedisStandIn extends AutoCloseable {
+  private val serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress)
+  private val lists = mutable.Map.empty[String, mutable.ArrayDeque[String]]
+  private val sets = mutable.Map.empty[String, mutable.LinkedHashSet[String]]
+  private val roundTrips = new AtomicInteger
+
+  val port: Int = serverSocket.getLocalPort
+
+  private val acceptor = new Thread(() => accept(), "redis-stand-in")
+  acceptor.setDaemon(true)
+  acceptor.start()
+
+  def list(key: String): Seq[String] = synchronized(lists.get(key).fold(Seq.empty[String])(_.toSeq))
+  def set(key: String): Set[String] = synchronized(sets.get(key).fold(Set.empty[String])(_.toSet))
+  def rpush(key: String, values: String*): Unit = synchronized(lists.getOrElseUpdate(key, mutable.ArrayDeque.empty) ++= values)
+  def sadd(key: String, values: String*): Unit = synchronized(sets.getOrElseUpdate(key, mutable.LinkedHashSet.empty) ++= values)
+
+  // a MULTI/EXEC transaction counts as a single round trip
+  def roundTripCount: Int = roundTrips.get
+
+  private def accept(): Unit =
+    try {
+      while (true) {
+        val socket = serverSocket.accept()
+        val handler = new Thread(() => serve(socket), "redis-stand-in-connection")
+        handler.setDaemon(true)
+        handler.start()
+      }
+    } catch {
+      case _: SocketException => // closed
+    }
+
+  private def serve(socket: Socket): Unit =
+    Using.resource(socket) { socket =>
+      val in = new BufferedInputStream(socket.getInputStream)
+      val out = new BufferedOutputStream(socket.getOutputStream)
+      var transaction: mutable.ArrayBuffer[Seq[String]] = null
+      try {
+        while (true) {
+          val command = readCommand(in)
+          command.head.toUpperCase match {
+            case "MULTI" =>
+              transaction = mutable.ArrayBuffer.empty
+              writeStatus(out, "OK")
+            case "EXEC" =>
+              roundTrips.incrementAndGet()
+              out.write(s"*${transaction.size}\r\n".getBytes(UTF_8))
+              transaction.foreach(execute(_, out))
+              transaction = null
+            case "DISCARD" =>
+              transaction = null
+              writeStatus(out, "OK")
+            case _ if transaction != null =>
+              transaction += command
+              writeStatus(out, "QUEUED")
+            case _ =>
+              roundTrips.incrementAndGet()
+              execute(command, out)
+          }
+          out.flush()
+        }
+      } catch {
+        case _: SocketException | _: NoSuchElementException => // client disconnected
+      }
+    }
+
+  private def readLine(in: InputStream): String = {
+    val sb = new StringBuilder
+    var c = in.read()
+    while (c != '\r') {
+      if (c == -1) throw new NoSuchElementException
+      sb += c.toChar
+      c = in.read()
+    }
+    in.read() // \n
+    sb.toString
+  }
+
+  private def readCommand(in: InputStream): Seq[String] = {
+    val argCount = readLine(in).drop(1).toInt
+    Seq.fill(argCount) {
+      val length = readLine(in).drop(1).toInt
+      val bytes = in.readNBytes(length)
+      in.readNBytes(2) // \r\n
+      new String(bytes, UTF_8)
+    }
+  }
+
+  private def writeStatus(out: OutputStream, status: String): Unit =
+    out.write(s"+$status\r\n".getBytes(UTF_8))
+
+  private def writeBulk(out: OutputStream, value: Option[String]): Unit =
+    value match {
+      case Some(v) =>
+        val bytes = v.getBytes(UTF_8)
+        out.write(s"$$${bytes.length}\r\n".getBytes(UTF_8))
+        out.write(bytes)
+        out.write("\r\n".getBytes(UTF_8))
+      case _ => out.write("$-1\r\n".getBytes(UTF_8))
+    }
+
+  private def writeArray(out: OutputStream, values: Seq[String]): Unit = {
+    out.write(s"*${values.size}\r\n".getBytes(UTF_8))
+    values.foreach(v => writeBulk(out, Some(v)))
+  }
+
+  private def execute(command: Seq[String], out: OutputStream): Unit = synchronized {
+    command.map(_.toUpperCase).head match {
+      case "LPOP" =>
+        writeBulk(out, lists.get(command(1)).flatMap(_.removeHeadOption()))
+      case "RPOPLPUSH" =>
+        val value = lists.get(command(1)).flatMap(_.removeLastOption())
+        value.foreach(v => lists.getOrElseUpdate(command(2), mutable.ArrayDeque.empty).prepend(v))
+        writeBulk(out, value)
+      case "SPOP" =>
+        val set = sets.getOrElse(command(1), mutable.LinkedHashSet.empty[String])
+        if (command.sizeIs > 2) {
+          val popped = set.take(command(2).toInt).toList
+          set --= popped
+          writeArray(out, popped)
+        } else {
+          val popped = set.headOption
+          popped.foreach(set -= _)
+          writeBulk(out, popped)
+        }
+      case "SRANDMEMBER" =>
+        val members = sets.get(command(1)).fold(IndexedSeq.empty[String])(_.toIndexedSeq)
+        def random: String = members(ThreadLocalRandom.current.nextInt(members.size))
+        if (command.sizeIs > 2) {
+          // only negative counts are supported, allowing repeated members
+          writeArray(out, if (members.isEmpty) Nil else List.fill(-command(2).toInt)(random))
+        } else {
+          writeBulk(out, Option.when(members.nonEmpty)(random))
+        }
+      case _ =>
+        writeStatus(out, "OK")
+    }
+  }
+
+  override def close(): Unit = serverSocket.close()
+}